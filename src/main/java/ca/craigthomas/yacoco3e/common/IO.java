@@ -127,15 +127,13 @@ public class IO
     }
 
     /**
-     * Copies an array of bytes to an array of shorts.
+     * Copies an array of bytes to the start of another array of bytes.
      *
      * @param source the source byte array
-     * @param target the target short array
-     * @return true if the source was not null, false otherwise
+     * @param target the target byte array
+     * @return true if the source fit into the target, false otherwise
      */
-    public static boolean copyByteArrayToShortArray(byte[] source, short[] target) {
-        int byteCounter = 0;
-
+    public static boolean copyByteArray(byte[] source, byte[] target) {
         if (source == null || target == null) {
             return false;
         }
@@ -144,10 +142,7 @@ public class IO
             return false;
         }
 
-        for (byte data : source) {
-            target[byteCounter] = data;
-            byteCounter++;
-        }
+        System.arraycopy(source, 0, target, 0, source.length);
         return true;
     }
 }
@@ -6,8 +6,6 @@ package ca.craigthomas.yacoco3e.components;
 
 import ca.craigthomas.yacoco3e.datatypes.*;
 
-import java.util.function.Function;
-
 import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.*;
 
 /**
@@ -18,12 +16,18 @@ import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.*;
  */
 public class BranchInstruction extends Instruction
 {
-    protected Function<IOController, Boolean> operation;
+    @FunctionalInterface
+    public interface BranchInterface
+    {
+        boolean apply(IOController io);
+    }
+
+    protected BranchInterface operation;
 
     public BranchInstruction(int opcode,
                              int ticks,
                              String mnemonic,
-                             Function<IOController, Boolean> operation
+                             BranchInterface operation
     ) {
         this.opcodeValue = opcode;
         this.mnemonic = mnemonic;
@@ -32,12 +36,11 @@ public class BranchInstruction extends Instruction
         this.addressingMode = AddressingMode.IMMEDIATE;
         this.isByteSized = true;
         this.isValidInstruction = true;
-        this.addressRead = new UnsignedWord();
     }
 
-    public int call(IOController io) {
-        if (operation.apply(io).equals(true)) {
-            io.regs.pc.add(byteRead.isNegative() ? byteRead.getSigned() : byteRead.get());
+    public int call(IOController io, DecodeContext context) {
+        if (operation.apply(io)) {
+            io.regs.addPC((byte) context.byteRead);
         }
         return ticks;
     }
@@ -46,124 +49,124 @@ public class BranchInstruction extends Instruction
      * Branches to the specified address, pushing the value of the PC onto the S
      * stack before branching.
      */
-    public static Boolean branchToSubroutine(IOController io) {
-        io.pushStack(Register.S, io.regs.pc);
+    public static boolean branchToSubroutine(IOController io) {
+        io.pushStackWord(Register.S, io.regs.getPC());
         return true;
     }
 
     /**
      * Branch always will always return true when called.
      */
-    public static Boolean branchAlways(IOController io) {
+    public static boolean branchAlways(IOController io) {
         return true;
     }
 
     /**
      * Branch never will always return false when called.
      */
-    public static Boolean branchNever(IOController io) {
+    public static boolean branchNever(IOController io) {
         return false;
     }
 
     /**
      * Branch on high will return true if carry is not set, and zero is not set.
      */
-    public static Boolean branchOnHigh(IOController io) {
-        return !io.regs.cc.isMasked(CC_C) && !io.regs.cc.isMasked(CC_Z);
+    public static boolean branchOnHigh(IOController io) {
+        return !io.regs.isCCMasked(CC_C) && !io.regs.isCCMasked(CC_Z);
     }
 
     /**
      * Branch on lower will return true if carry is set or zero is set.
      */
-    public static Boolean branchOnLower(IOController io) {
-        return io.regs.cc.isMasked(CC_C) || io.regs.cc.isMasked(CC_Z);
+    public static boolean branchOnLower(IOController io) {
+        return io.regs.isCCMasked(CC_C) || io.regs.isCCMasked(CC_Z);
     }
 
     /**
      * Branch on carry clear will return true if carry is not set.
      */
-    public static Boolean branchOnCarryClear(IOController io) {
-        return !io.regs.cc.isMasked(CC_C);
+    public static boolean branchOnCarryClear(IOController io) {
+        return !io.regs.isCCMasked(CC_C);
     }
 
     /**
      * Branch on carry set will return true if carry is set.
      */
-    public static Boolean branchOnCarrySet(IOController io) {
-        return io.regs.cc.isMasked(CC_C);
+    public static boolean branchOnCarrySet(IOController io) {
+        return io.regs.isCCMasked(CC_C);
     }
 
     /**
      * Branch on not equal will return true if the zero flag is set.
      */
-    public static Boolean branchOnNotEqual(IOController io) {
-        return !io.regs.cc.isMasked(CC_Z);
+    public static boolean branchOnNotEqual(IOController io) {
+        return !io.regs.isCCMasked(CC_Z);
     }
 
     /**
      * Branch on equal will return true if the zero flag is set.
      */
-    public static Boolean branchOnEqual(IOController io) {
-        return io.regs.cc.isMasked(CC_Z);
+    public static boolean branchOnEqual(IOController io) {
+        return io.regs.isCCMasked(CC_Z);
     }
 
     /**
      * Branch on overflow clear will return true if the overflow flag is clear.
      */
-    public static Boolean branchOnOverflowClear(IOController io) {
-        return !io.regs.cc.isMasked(CC_V);
+    public static boolean branchOnOverflowClear(IOController io) {
+        return !io.regs.isCCMasked(CC_V);
     }
 
     /**
      * Branch on overflow set will return true if the overflow flag is set.
      */
-    public static Boolean branchOnOverflowSet(IOController io) {
-        return io.regs.cc.isMasked(CC_V);
+    public static boolean branchOnOverflowSet(IOController io) {
+        return io.regs.isCCMasked(CC_V);
     }
 
     /**
      * Branch on plus will return true if the negative flag is clear.
      */
-    public static Boolean branchOnPlus(IOController io) {
-        return !io.regs.cc.isMasked(CC_N);
+    public static boolean branchOnPlus(IOController io) {
+        return !io.regs.isCCMasked(CC_N);
     }
 
     /**
      * Branch on minus will return true if the negative flag is set.
      */
-    public static Boolean branchOnMinus(IOController io) {
-        return io.regs.cc.isMasked(CC_N);
+    public static boolean branchOnMinus(IOController io) {
+        return io.regs.isCCMasked(CC_N);
     }
 
     /**
      * Branch on greater than equal to zero will return true if the negative and overflow
      * flags are both set or both clear.
      */
-    public static Boolean branchOnGreaterThanEqualZero(IOController io) {
-        return io.regs.cc.isMasked(CC_N) == io.regs.cc.isMasked(CC_V);
+    public static boolean branchOnGreaterThanEqualZero(IOController io) {
+        return io.regs.isCCMasked(CC_N) == io.regs.isCCMasked(CC_V);
     }
 
     /**
      * Branch on less than zero will return true if the negative and overflow are not equal.
      */
-    public static Boolean branchOnLessThanZero(IOController io) {
-        return io.regs.cc.isMasked(CC_N) != io.regs.cc.isMasked(CC_V);
+    public static boolean branchOnLessThanZero(IOController io) {
+        return io.regs.isCCMasked(CC_N) != io.regs.isCCMasked(CC_V);
     }
 
     /**
      * Branch on greater than zero will return true if the zero flag is clear,
      * and if negative and overflow are both set or both clear.
      */
-    public static Boolean branchOnGreaterThanZero(IOController io) {
-        return !io.regs.cc.isMasked(CC_Z) && (io.regs.cc.isMasked(CC_N) == io.regs.cc.isMasked(CC_V));
+    public static boolean branchOnGreaterThanZero(IOController io) {
+        return !io.regs.isCCMasked(CC_Z) && (io.regs.isCCMasked(CC_N) == io.regs.isCCMasked(CC_V));
     }
 
     /**
      * Branch on less than equal to zero will return true if the zero flag is set,
      * or if overflow and negative are not equal.
      */
-    public static Boolean branchOnLessThanEqualZero(IOController io) {
-        return io.regs.cc.isMasked(CC_Z) || (io.regs.cc.isMasked(CC_N) != io.regs.cc.isMasked(CC_V));
+    public static boolean branchOnLessThanEqualZero(IOController io) {
+        return io.regs.isCCMasked(CC_Z) || (io.regs.isCCMasked(CC_N) != io.regs.isCCMasked(CC_V));
     }
 
 }
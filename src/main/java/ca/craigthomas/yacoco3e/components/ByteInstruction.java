@@ -20,7 +20,7 @@ public class ByteInstruction extends Instruction
     @FunctionalInterface
     public interface ByteInterface
     {
-        void apply(IOController io, UnsignedByte memoryByte, UnsignedWord address);
+        void apply(IOController io, int memoryByte, int address);
     }
     protected ByteInterface operation;
 
@@ -37,39 +37,38 @@ public class ByteInstruction extends Instruction
         this.operation = operation;
         this.isByteSized = true;
         this.isValidInstruction = true;
-        this.addressRead = new UnsignedWord();
     }
 
-    public int call(IOController io) {
-        operation.apply(io, byteRead, addressRead);
-        return ticks + ((addressingMode == INDEXED) ? numBytesRead : 0);
+    public int call(IOController io, DecodeContext context) {
+        operation.apply(io, context.byteRead, context.addressRead);
+        return ticks + ((addressingMode == INDEXED) ? context.indexedCycles : 0);
     }
 
     /**
      * Applies the two's compliment value to the contents in the specified
      * memory address.
      */
-    public static void negate(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V | CC_C));
-        io.regs.cc.or(memoryByte.get() == 0x80 ? CC_V : 0);
-        io.regs.cc.or(memoryByte.get() != 0x00 ? CC_C : 0);
-        memoryByte.set(0x100 - memoryByte.get());
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.writeByte(address, memoryByte);
+    public static void negate(IOController io, int memoryByte, int address) {
+        int result = (0x100 - memoryByte) & 0xFF;
+        io.regs.andCC(~(CC_N | CC_Z | CC_V | CC_C));
+        io.regs.orCC(memoryByte == 0x80 ? CC_V : 0);
+        io.regs.orCC(memoryByte != 0x00 ? CC_C : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.write8(address, result);
     }
 
     /**
      * Inverts all bits in the byte. Returns the complimented value as the
      * result.
      */
-    public static void compliment(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        memoryByte.compliment();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(CC_C);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.writeByte(address, memoryByte);
+    public static void compliment(IOController io, int memoryByte, int address) {
+        int result = memoryByte ^ 0xFF;
+        io.regs.andCC(~(CC_N | CC_Z | CC_V));
+        io.regs.orCC(CC_C);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.write8(address, result);
     }
 
     /**
@@ -78,126 +77,108 @@ public class ByteInstruction extends Instruction
      * The lowest bit of the byte is shifted into the condition code carry
      * bit.
      */
-    public static void logicalShiftRight(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit0 = memoryByte.isMasked(0x1);
-        memoryByte.shiftRight();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bit0 ? CC_C : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.writeByte(address, memoryByte);
+    public static void logicalShiftRight(IOController io, int memoryByte, int address) {
+        int result = memoryByte >> 1;
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((memoryByte & 0x1) != 0 ? CC_C : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.write8(address, result);
     }
 
     /**
      * Rotates the bits of a byte one place to the right. Will rotate the
      * carry bit into the highest bit of the byte if set.
      */
-    public static void rotateRight(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bitZero = memoryByte.isMasked(0x1);
-        memoryByte.shiftRight();
-        memoryByte.or(io.regs.cc.isMasked(CC_C) ? 0x80 : 0x0);
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bitZero ? CC_C : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.writeByte(address, memoryByte);
+    public static void rotateRight(IOController io, int memoryByte, int address) {
+        int result = (memoryByte >> 1) | (io.regs.isCCMasked(CC_C) ? 0x80 : 0x0);
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((memoryByte & 0x1) != 0 ? CC_C : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.write8(address, result);
     }
 
     /**
      * Shifts the bits of a byte one place to the right. Will maintain a copy
      * of bit 7 in the 7th bit. Bit 0 will be shifted into the carry bit.
      */
-    public static void arithmeticShiftRight(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = memoryByte.isMasked(0x80);
-        boolean bit0 = memoryByte.isMasked(0x1);
-        memoryByte.shiftRight();
-        memoryByte.or(bit7 ? 0x80 : 0);
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bit0 ? CC_C : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.writeByte(address, memoryByte);
+    public static void arithmeticShiftRight(IOController io, int memoryByte, int address) {
+        int result = (memoryByte >> 1) | (memoryByte & 0x80);
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((memoryByte & 0x1) != 0 ? CC_C : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.write8(address, result);
     }
 
     /**
      * Shifts the bits of a byte one place to the left. Bit 0 will be filled
      * with a zero, while bit 7 will be shifted into the carry bit.
      */
-    public static void arithmeticShiftLeft(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = memoryByte.isMasked(0x80);
-        boolean bit6 = memoryByte.isMasked(0x40);
-
-        memoryByte.shiftLeft();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V | CC_C));
-        io.regs.cc.or(bit7 ? CC_C : 0);
-        io.regs.cc.or(bit7 ^ bit6 ? CC_V : 0);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.writeByte(address, memoryByte);
+    public static void arithmeticShiftLeft(IOController io, int memoryByte, int address) {
+        boolean bit7 = (memoryByte & 0x80) != 0;
+        boolean bit6 = (memoryByte & 0x40) != 0;
+        int result = (memoryByte << 1) & 0xFF;
+
+        io.regs.andCC(~(CC_N | CC_Z | CC_V | CC_C));
+        io.regs.orCC(bit7 ? CC_C : 0);
+        io.regs.orCC(bit7 ^ bit6 ? CC_V : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.write8(address, result);
     }
 
     /**
      * Rotates the bits of a byte one place to the left. Will rotate the
      * carry bit into the lowest bit of the byte if set.
      */
-    public static void rotateLeft(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = memoryByte.isMasked(0x80);
-        boolean bit6 = memoryByte.isMasked(0x40);
-        boolean carry = io.regs.cc.isMasked(CC_C);
-
-        memoryByte.shiftLeft();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C | CC_V));
-        io.regs.cc.or(bit7 ? CC_C : 0);
-        memoryByte.or(carry ? 1 : 0);
-        io.regs.cc.or(CC_V);
-        if (bit7 == bit6) {
-            io.regs.cc.and(~CC_V);
-        }
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.writeByte(address, memoryByte);
+    public static void rotateLeft(IOController io, int memoryByte, int address) {
+        boolean bit7 = (memoryByte & 0x80) != 0;
+        boolean bit6 = (memoryByte & 0x40) != 0;
+        int result = ((memoryByte << 1) & 0xFF) | (io.regs.isCCMasked(CC_C) ? 1 : 0);
+
+        io.regs.andCC(~(CC_N | CC_Z | CC_C | CC_V));
+        io.regs.orCC(bit7 ? CC_C : 0);
+        io.regs.orCC(bit7 ^ bit6 ? CC_V : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.write8(address, result);
     }
 
     /**
      * Decrements the byte value by one.
      */
-    public static void decrement(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(memoryByte.isZero() ? CC_V : 0);
-        memoryByte.add(0xFF);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.writeByte(address, memoryByte);
+    public static void decrement(IOController io, int memoryByte, int address) {
+        int result = (memoryByte - 1) & 0xFF;
+        io.regs.andCC(~(CC_N | CC_Z | CC_V));
+        io.regs.orCC(memoryByte == 0 ? CC_V : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
+        io.write8(address, result);
     }
 
     /**
      * Increments the byte value by one.
      */
-    public static void increment(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        boolean wasNegative = memoryByte.isNegative();
-        memoryByte.add(1);
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        io.regs.cc.or(memoryByte.isNegative() != wasNegative ? CC_V : 0);
-        io.writeByte(address, memoryByte);
+    public static void increment(IOController io, int memoryByte, int address) {
+        int result = (memoryByte + 1) & 0xFF;
+        io.regs.setIncrementFlags8(memoryByte, result);
+        io.write8(address, result);
     }
 
     /**
      * Tests the byte for zero condition or negative condition.
      */
-    public static void testByte(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
+    public static void testByte(IOController io, int memoryByte, int address) {
+        io.regs.setLogicFlags8(memoryByte);
     }
 
     /**
      * Clears the specified byte.
      */
-    public static void clear(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        memoryByte.set(0);
-        io.regs.cc.and(~(CC_N | CC_C | CC_V));
-        io.regs.cc.or(CC_Z);
-        io.writeByte(address, memoryByte);
+    public static void clear(IOController io, int memoryByte, int address) {
+        io.regs.andCC(~(CC_N | CC_C | CC_V));
+        io.regs.orCC(CC_Z);
+        io.write8(address, 0);
     }
 }
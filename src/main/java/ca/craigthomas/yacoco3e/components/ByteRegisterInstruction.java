@@ -20,7 +20,7 @@ public class ByteRegisterInstruction extends Instruction
     @FunctionalInterface
     public interface ByteRegisterInterface
     {
-        void apply(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address);
+        int apply(IOController io, int registerByte, int memoryByte, int address);
     }
 
     private final ByteRegisterInterface operation;
@@ -41,21 +41,25 @@ public class ByteRegisterInstruction extends Instruction
         this.register = register;
         this.isByteSized = true;
         this.isValidInstruction = true;
-        this.addressRead = new UnsignedWord();
     }
 
-    public int call(IOController io) throws MalformedInstructionException {
+    /**
+     * Applies the operation to the register. Each operation returns the new
+     * value for the register, which is written back once the operation
+     * completes.
+     */
+    public int call(IOController io, DecodeContext context) throws MalformedInstructionException {
         switch(register) {
             case A:
-                operation.apply(io, io.regs.a, byteRead, addressRead);
+                io.regs.setA(operation.apply(io, io.regs.getA(), context.byteRead, context.addressRead));
                 break;
 
             case B:
-                operation.apply(io, io.regs.b, byteRead, addressRead);
+                io.regs.setB(operation.apply(io, io.regs.getB(), context.byteRead, context.addressRead));
                 break;
 
             case CC:
-                operation.apply(io, io.regs.cc, byteRead, addressRead);
+                io.regs.setCC(operation.apply(io, io.regs.getCC(), context.byteRead, context.addressRead));
                 break;
 
             default:
@@ -63,82 +67,76 @@ public class ByteRegisterInstruction extends Instruction
                         "Register " + register + " unsupported for ByteRegisterInstruction"
                 );
         }
-        return (addressingMode == INDEXED) ? ticks + numBytesRead : ticks;
+        return (addressingMode == INDEXED) ? ticks + context.indexedCycles : ticks;
+    }
+
+    /**
+     * Sets the negative and zero flags based on the value of the result.
+     * The caller is responsible for clearing the flags first.
+     */
+    private static void setNZ(IOController io, int result) {
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_N : 0);
     }
 
     /**
      * Loads the specified register with the value. The byte2 values is from the
      * memory location to be loaded into the register.
      */
-    public static void loadByteRegister(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z));
-        io.regs.cc.or(memoryByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryByte.isNegative() ? CC_N : 0);
-        registerByte.set(memoryByte);
+    public static int loadByteRegister(IOController io, int registerByte, int memoryByte, int address) {
+        io.regs.setLogicFlags8(memoryByte);
+        return memoryByte;
     }
 
     /**
      * Stores the byte register in the memory location.
      */
-    public static void storeByteRegister(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.writeByte(address, registerByte);
-        io.regs.cc.and(~(CC_V | CC_N | CC_Z));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int storeByteRegister(IOController io, int registerByte, int memoryByte, int address) {
+        io.write8(address, registerByte);
+        io.regs.setLogicFlags8(registerByte);
+        return registerByte;
     }
 
     /**
      * Performs a logical OR of the byte register and the value.
      */
-    public static void logicalOr(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.or(memoryByte);
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int logicalOr(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte | memoryByte;
+        io.regs.setLogicFlags8(result);
+        return result;
     }
 
     /**
      * Performs a logical OR on the memory result and the condition code register.
      */
-    public static void logicalOrCC(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.or(memoryByte);
+    public static int logicalOrCC(IOController io, int registerByte, int memoryByte, int address) {
+        return registerByte | memoryByte;
     }
 
     /**
      * Performs a logical AND of the byte register and the value.
      */
-    public static void logicalAnd(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.and(memoryByte);
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int logicalAnd(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte & memoryByte;
+        io.regs.setLogicFlags8(result);
+        return result;
     }
 
     /**
      * Performs a logical AND on the memory result and the condition code register.
      * Will return the condition code register.
      */
-    public static void logicalAndCC(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(memoryByte);
+    public static int logicalAndCC(IOController io, int registerByte, int memoryByte, int address) {
+        return registerByte & memoryByte;
     }
 
     /**
      * Adds the specified value to the specified register.
      */
-    public static void addByte(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int result = registerByte.get() + memoryByte.get();
-        boolean half_carry = (registerByte.get() & 0xF) + (memoryByte.get() & 0xF) >= 0x10;
-        boolean overflow = ((registerByte.get() ^ memoryByte.get() ^ 0x80) & (registerByte.get() ^ result) & 0x80) > 0;
-        boolean carry = (result & 0x100) > 0;
-
-        registerByte.set(result);
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C | CC_H));
-        io.regs.cc.or(half_carry ? CC_H : 0);
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int addByte(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte + memoryByte;
+        io.regs.setAddFlags8(registerByte, memoryByte, result);
+        return result & 0xFF;
     }
 
     /**
@@ -146,213 +144,172 @@ public class ByteRegisterInstruction extends Instruction
      * plus the value of the carry bit (0 or 1). Stores the result in the
      * specified register.
      */
-    public static void addWithCarry(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int carryBit = io.regs.cc.isMasked(CC_C) ? 1 : 0;
-        int result = registerByte.get() + memoryByte.get() + carryBit;
-        boolean half_carry = (registerByte.get() & 0xF) + (memoryByte.get() & 0xF) + (carryBit & 0xF) >= 0x10;
-        boolean overflow = ((registerByte.get() ^ memoryByte.get() ^ 0x80) & (registerByte.get() ^ result) & 0x80) > 0;
-        boolean carry = (result & 0x100) > 0;
-
-        registerByte.set(result);
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C | CC_H));
-        io.regs.cc.or(half_carry ? CC_H : 0);
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int addWithCarry(IOController io, int registerByte, int memoryByte, int address) {
+        int carryBit = io.regs.isCCMasked(CC_C) ? 1 : 0;
+        int result = registerByte + memoryByte + carryBit;
+        io.regs.setAddFlags8(registerByte, memoryByte, result);
+        return result & 0xFF;
     }
 
     /**
      * Logically AND the register byte with a memory byte and tests the byte for zero
      * condition or negative condition. Register contents are left unchanged.
      */
-    public static void bitTest(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        UnsignedByte value = new UnsignedByte(registerByte.get());
-        value.and(memoryByte.get());
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(value.isZero() ? CC_Z : 0);
-        io.regs.cc.or(value.isNegative() ? CC_N : 0);
+    public static int bitTest(IOController io, int registerByte, int memoryByte, int address) {
+        io.regs.setLogicFlags8(registerByte & memoryByte);
+        return registerByte;
     }
 
     /**
      * Compares the two bytes and sets the appropriate register sets.
      */
-    public static void compareByte(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int result = registerByte.get() - memoryByte.get();
-        UnsignedByte resultByte = new UnsignedByte(result);
-        boolean overflow = ((registerByte.get() ^ memoryByte.get()) & (registerByte.get() ^ result) & 0x80) > 0;
-        boolean carry = registerByte.get() < memoryByte.get();
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(resultByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(resultByte.isNegative() ? CC_N : 0);
+    public static int compareByte(IOController io, int registerByte, int memoryByte, int address) {
+        io.regs.setSubtractFlags8(registerByte, memoryByte, registerByte - memoryByte);
+        return registerByte;
     }
 
     /**
      * Performs a correction to the A register to transform the value into
      * a proper BCD form.
      */
-    public static void decimalAdditionAdjust(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int fullByte = registerByte.get();
-        int mostSignificantNibble = fullByte & 0xF0;
-        int leastSignificantNibble = fullByte & 0x0F;
+    public static int decimalAdditionAdjust(IOController io, int registerByte, int memoryByte, int address) {
+        int mostSignificantNibble = registerByte & 0xF0;
+        int leastSignificantNibble = registerByte & 0x0F;
         int adjustment = 0;
-        boolean carryPreviouslySet = io.regs.cc.isMasked(CC_C);
+        boolean carryPreviouslySet = io.regs.isCCMasked(CC_C);
 
         if (carryPreviouslySet || mostSignificantNibble > 0x90 || (mostSignificantNibble > 0x80 && leastSignificantNibble > 0x09)) {
             adjustment |= 0x60;
         }
 
-        if (io.regs.cc.isMasked(CC_H) || leastSignificantNibble > 0x09) {
+        if (io.regs.isCCMasked(CC_H) || leastSignificantNibble > 0x09) {
             adjustment |= 0x06;
         }
 
-        UnsignedByte result = new UnsignedByte(adjustment);
-        io.regs.cc.and(~(CC_C | CC_N | CC_Z));
-        if (((io.regs.a.get() + result.get()) & 0x100) > 0) {
-            io.regs.cc.or(CC_C);
+        int result = registerByte + adjustment;
+        io.regs.andCC(~(CC_C | CC_N | CC_Z));
+        if ((result & 0x100) > 0) {
+            io.regs.orCC(CC_C);
         }
-        io.regs.a.set(new UnsignedByte(io.regs.a.get() + result.get()));
-        io.regs.cc.or(io.regs.a.isZero() ? CC_Z : 0);
-        io.regs.cc.or(io.regs.a.isNegative() ? CC_N : 0);
+        result &= 0xFF;
+        setNZ(io, result);
+        return result;
     }
 
 
     /**
      * Subtracts the byte value from the specified register.
      */
-    public static void subtractByte(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int result = registerByte.get() - memoryByte.get();
-        boolean overflow = ((registerByte.get() ^ memoryByte.get()) & (registerByte.get() ^ result) & 0x80) > 0;
-        boolean carry = registerByte.get() < memoryByte.get();
-
-        registerByte.set(result);
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int subtractByte(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte - memoryByte;
+        io.regs.setSubtractFlags8(registerByte, memoryByte, result);
+        return result & 0xFF;
     }
 
     /**
      * Subtracts the byte value and the carry from the specified value.
      */
-    public static void subtractByteWithCarry(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        int carryBit = io.regs.cc.isMasked(CC_C) ? 1 : 0;
-        int result = registerByte.get() - memoryByte.get() - carryBit;
-        boolean overflow = ((registerByte.get() ^ memoryByte.get() ^ 0x80) & (registerByte.get() ^ result) & 0x80) > 0;
-        boolean carry = registerByte.get() < (memoryByte.get() + carryBit);
-
-        registerByte.set(result);
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int subtractByteWithCarry(IOController io, int registerByte, int memoryByte, int address) {
+        int carryBit = io.regs.isCCMasked(CC_C) ? 1 : 0;
+        int result = registerByte - memoryByte - carryBit;
+        boolean overflow = ((registerByte ^ memoryByte ^ 0x80) & (registerByte ^ result) & 0x80) > 0;
+        boolean carry = registerByte < (memoryByte + carryBit);
+        result &= 0xFF;
+
+        io.regs.andCC(~(CC_N | CC_V | CC_Z | CC_C));
+        io.regs.orCC(carry ? CC_C : 0);
+        io.regs.orCC(overflow ? CC_V : 0);
+        setNZ(io, result);
+        return result;
     }
 
     /**
      * Performs an exclusive OR of the register and the byte value.
      */
-    public static void exclusiveOr(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.set(new UnsignedByte(registerByte.get() ^ memoryByte.get()));
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int exclusiveOr(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte ^ memoryByte;
+        io.regs.setLogicFlags8(result);
+        return result;
     }
 
     /**
      * Extends bit 8 of the B register into the register.
      */
-    public static void signExtend(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.set(io.regs.b.isMasked(0x80) ? 0xFF : 0x00);
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int signExtend(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (io.regs.getB() & 0x80) != 0 ? 0xFF : 0x00;
+        io.regs.setLogicFlags8(result);
+        return result;
     }
 
     /**
      * Clears the specified register.
      */
-    public static void clear(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.set(0);
-        io.regs.cc.and(~(CC_N | CC_C | CC_V));
-        io.regs.cc.or(CC_Z);
+    public static int clear(IOController io, int registerByte, int memoryByte, int address) {
+        io.regs.andCC(~(CC_N | CC_C | CC_V));
+        io.regs.orCC(CC_Z);
+        return 0;
     }
 
     /**
      * Increments the register value by one.
      */
-    public static void increment(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(registerByte.isMasked(0x7F) ? CC_V : 0);
-        registerByte.add(1);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int increment(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (registerByte + 1) & 0xFF;
+        io.regs.setIncrementFlags8(registerByte, result);
+        return result;
     }
 
     /**
      * Decrements the byte value by one.
      */
-    public static void decrement(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(registerByte.isMasked(0x80) ? CC_V : 0);
-        registerByte.add(0xFF);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int decrement(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (registerByte - 1) & 0xFF;
+        io.regs.setDecrementFlags8(registerByte, result);
+        return result;
     }
 
     /**
      * Rotates the bits of a register one place to the left. Will rotate the
      * carry bit into the lowest bit of the byte if set.
      */
-    public static void rotateLeft(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = registerByte.isMasked(0x80);
-        boolean bit6 = registerByte.isMasked(0x40);
-        boolean carry = io.regs.cc.isMasked(CC_C);
-
-        registerByte.shiftLeft();
-        registerByte.or(carry ? 1 : 0);
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C | CC_V));
-        io.regs.cc.or(bit7 ? CC_C : 0);
-        io.regs.cc.or(bit7 ^ bit6 ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int rotateLeft(IOController io, int registerByte, int memoryByte, int address) {
+        boolean bit7 = (registerByte & 0x80) != 0;
+        boolean bit6 = (registerByte & 0x40) != 0;
+        int result = ((registerByte << 1) & 0xFF) | (io.regs.isCCMasked(CC_C) ? 1 : 0);
+
+        io.regs.andCC(~(CC_N | CC_Z | CC_C | CC_V));
+        io.regs.orCC(bit7 ? CC_C : 0);
+        io.regs.orCC(bit7 ^ bit6 ? CC_V : 0);
+        setNZ(io, result);
+        return result;
     }
 
     /**
      * Shifts the bits of a register one place to the left. Bit 0 will be filled
      * with a zero, while bit 7 will be shifted into the carry bit.
      */
-    public static void arithmeticShiftLeft(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = registerByte.isMasked(0x80);
-        boolean bit6 = registerByte.isMasked(0x40);
-
-        registerByte.shiftLeft();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V | CC_C));
-        io.regs.cc.or(bit7 ? CC_C : 0);
-        io.regs.cc.or(bit7 ^ bit6 ? CC_V : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int arithmeticShiftLeft(IOController io, int registerByte, int memoryByte, int address) {
+        boolean bit7 = (registerByte & 0x80) != 0;
+        boolean bit6 = (registerByte & 0x40) != 0;
+        int result = (registerByte << 1) & 0xFF;
+
+        io.regs.andCC(~(CC_N | CC_Z | CC_V | CC_C));
+        io.regs.orCC(bit7 ? CC_C : 0);
+        io.regs.orCC(bit7 ^ bit6 ? CC_V : 0);
+        setNZ(io, result);
+        return result;
     }
 
     /**
      * Rotates the bits of a register one place to the right. Will rotate the
      * carry bit into the highest bit of the byte if set.
      */
-    public static void rotateRight(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bitZero = registerByte.isMasked(0x1);
-        registerByte.shiftRight();
-        registerByte.or(io.regs.cc.isMasked(CC_C) ? 0x80 : 0x0);
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bitZero ? CC_C : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int rotateRight(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (registerByte >> 1) | (io.regs.isCCMasked(CC_C) ? 0x80 : 0x0);
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((registerByte & 0x1) != 0 ? CC_C : 0);
+        setNZ(io, result);
+        return result;
     }
 
     /**
@@ -361,58 +318,54 @@ public class ByteRegisterInstruction extends Instruction
      * The lowest bit of the byte is shifted into the condition code carry
      * bit.
      */
-    public static void logicalShiftRight(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit0 = registerByte.isMasked(0x1);
-        registerByte.shiftRight();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bit0 ? CC_C : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
+    public static int logicalShiftRight(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte >> 1;
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((registerByte & 0x1) != 0 ? CC_C : 0);
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        return result;
     }
 
     /**
      * Shifts the bits of a register one place to the right. Will maintain a copy
      * of bit 7 in the 7th bit. Bit 0 will be shifted into the carry bit.
      */
-    public static void arithmeticShiftRight(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        boolean bit7 = registerByte.isMasked(0x80);
-        boolean bit0 = registerByte.isMasked(0x1);
-        registerByte.shiftRight();
-        registerByte.or(bit7 ? 0x80 : 0);
-        io.regs.cc.and(~(CC_N | CC_Z | CC_C));
-        io.regs.cc.or(bit0 ? CC_C : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int arithmeticShiftRight(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (registerByte >> 1) | (registerByte & 0x80);
+        io.regs.andCC(~(CC_N | CC_Z | CC_C));
+        io.regs.orCC((registerByte & 0x1) != 0 ? CC_C : 0);
+        setNZ(io, result);
+        return result;
     }
 
     /**
      * Inverts all bits in the register.
      */
-    public static void compliment(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        registerByte.compliment();
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(CC_C);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
+    public static int compliment(IOController io, int registerByte, int memoryByte, int address) {
+        int result = registerByte ^ 0xFF;
+        io.regs.andCC(~(CC_N | CC_Z | CC_V));
+        io.regs.orCC(CC_C);
+        setNZ(io, result);
+        return result;
     }
 
     /**
      * Tests the register for zero condition or negative condition.
      */
-    public static void testByte(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V));
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
+    public static int testByte(IOController io, int registerByte, int memoryByte, int address) {
+        io.regs.setLogicFlags8(registerByte);
+        return registerByte;
     }
 
     /**
      * Applies the two's compliment value to the contents in the register.
      */
-    public static void negate(IOController io, UnsignedByte registerByte, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(~(CC_N | CC_Z | CC_V | CC_C));
-        io.regs.cc.or(registerByte.get() == 0x80 ? CC_V : 0);
-        io.regs.cc.or(registerByte.get() != 0x00 ? CC_C : 0);
-        registerByte.set(0x100 - registerByte.get());
-        io.regs.cc.or(registerByte.isNegative() ? CC_N : 0);
-        io.regs.cc.or(registerByte.isZero() ? CC_Z : 0);
+    public static int negate(IOController io, int registerByte, int memoryByte, int address) {
+        int result = (0x100 - registerByte) & 0xFF;
+        io.regs.andCC(~(CC_N | CC_Z | CC_V | CC_C));
+        io.regs.orCC(registerByte == 0x80 ? CC_V : 0);
+        io.regs.orCC(registerByte != 0x00 ? CC_C : 0);
+        setNZ(io, result);
+        return result;
     }
 }
@@ -17,6 +17,15 @@ public class CPU
     private final IOController io;
     public Instruction instruction;
 
+    /* The operands decoded for the current instruction */
+    public final DecodeContext decodeContext;
+
+    /* Whether decoded instructions are looked up in the memory's DecodeCache */
+    private boolean decodeCacheEnabled;
+
+    /* Counts executed instructions, or null if profiling is off */
+    private Profiler profiler;
+
     /* Interrupt request flags */
     protected boolean fireIRQ;
     protected boolean fireFIRQ;
@@ -24,18 +33,155 @@ public class CPU
 
     public CPU(IOController ioController) {
         io = ioController;
+        decodeContext = new DecodeContext();
+        decodeCacheEnabled = true;
     }
 
     /**
      * Executes the instruction as indicated by the operand. Will return the
-     * total number of ticks taken to execute the instruction.
+     * total number of ticks taken to execute the instruction. When the decode
+     * cache is enabled, the instruction at the physical address of the
+     * program counter is decoded once and then re-used until the memory it
+     * was decoded from is written to. If a profiler is attached, the
+     * instruction is recorded with it.
      *
      * @return the number of ticks taken up by the instruction
      */
     public int executeInstruction() throws MalformedInstructionException {
-        UnsignedWord op = io.readWord(io.regs.pc);
-        instruction = InstructionTable.get(op);
-        return instruction.execute(io);
+        int pc = io.regs.getPC();
+        int ticks;
+        if (!decodeCacheEnabled) {
+            instruction = InstructionTable.get(io.read16(pc));
+            ticks = instruction.execute(io, decodeContext);
+        } else {
+            int physicalAddress = io.memory.getCodeAddress(pc);
+            DecodedInstruction decoded = lookupDecoded(pc, physicalAddress);
+            if (decoded == null) {
+                ticks = instruction.execute(io, decodeContext);
+            } else {
+                instruction = decoded.instruction;
+                ticks = instruction.executeDecoded(io, decodeContext, decoded);
+            }
+        }
+
+        if (profiler != null) {
+            profiler.record(pc, instruction, ticks);
+        }
+        return ticks;
+    }
+
+    /**
+     * Executes the instruction at the program counter, together with the
+     * instruction after it if the two form a FusedInstruction idiom. Fused
+     * pairs are only formed from DecodeCache entries, so with the decode
+     * cache off this is the same as executeInstruction. The second
+     * instruction of a pair is not started if the first uses up the budget.
+     *
+     * @param budget the number of cycles that may still be executed
+     * @return the number of ticks taken up by the instruction or pair
+     */
+    public int executeFusedInstruction(int budget) throws MalformedInstructionException {
+        if (!decodeCacheEnabled) {
+            return executeInstruction();
+        }
+
+        int pc = io.regs.getPC();
+        int physicalAddress = io.memory.getCodeAddress(pc);
+        DecodedInstruction decoded = lookupDecoded(pc, physicalAddress);
+        if (decoded == null) {
+            return instruction.execute(io, decodeContext);
+        }
+
+        if (!decoded.fusionChecked) {
+            decoded.fused = fuse(decoded, pc, physicalAddress);
+            decoded.fusionChecked = true;
+        }
+
+        /* A pair whose second instruction was overwritten is re-checked next time */
+        FusedInstruction fused = decoded.fused;
+        if (fused != null) {
+            if (io.memory.decodeCache.get(fused.secondAddress) == fused.second) {
+                return fused.execute(this, io, budget);
+            }
+            decoded.fusionChecked = false;
+        }
+        instruction = decoded.instruction;
+        return instruction.executeDecoded(io, decodeContext, decoded);
+    }
+
+    /**
+     * Returns the cached decoding of the instruction at the program counter,
+     * decoding and caching it first if needed. Returns null if the
+     * instruction cannot be cached, in which case the instruction field
+     * holds the instruction to execute directly.
+     *
+     * @param pc the program counter
+     * @param physicalAddress the physical address of the program counter
+     * @return the decoded instruction, or null
+     */
+    private DecodedInstruction lookupDecoded(int pc, int physicalAddress) {
+        DecodeCache cache = io.memory.decodeCache;
+        DecodedInstruction decoded = cache.get(physicalAddress);
+        if (decoded == null) {
+            instruction = InstructionTable.get(io.read16(pc));
+            decoded = instruction.decode(io, pc);
+            if (decoded != null) {
+                cache.put(physicalAddress, decoded);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Decodes the instruction after the one given, and returns the fused
+     * pair they make up if they form a recognized idiom and both lie in the
+     * same physical page.
+     *
+     * @param decoded the first instruction of the possible pair
+     * @param pc the address of the first instruction
+     * @param physicalAddress the physical address of the first instruction
+     * @return the fused pair, or null if the instructions cannot be fused
+     */
+    private FusedInstruction fuse(DecodedInstruction decoded, int pc, int physicalAddress) {
+        int nextPC = (pc + decoded.length) & 0xFFFF;
+        int nextAddress = physicalAddress + decoded.length;
+        if ((pc & 0x1FFF) + decoded.length >= 0x2000) {
+            return null;
+        }
+
+        DecodedInstruction next = lookupDecoded(nextPC, nextAddress);
+        if (next == null || !FusedInstruction.canFuse(decoded.instruction, next.instruction)) {
+            return null;
+        }
+        return new FusedInstruction(decoded, next, nextAddress);
+    }
+
+    /**
+     * Turns the decode cache on or off. With the cache off, every
+     * instruction is fetched and decoded from memory as it executes.
+     *
+     * @param enabled true if the decode cache should be used
+     */
+    public void setDecodeCacheEnabled(boolean enabled) {
+        decodeCacheEnabled = enabled;
+    }
+
+    public boolean isDecodeCacheEnabled() {
+        return decodeCacheEnabled;
+    }
+
+    /**
+     * Attaches a profiler that records every instruction executed by
+     * executeInstruction. Pass null to stop profiling.
+     *
+     * @param profiler the profiler to record instructions with
+     */
+    public void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
     }
 
     /**
@@ -44,17 +190,10 @@ public class CPU
      * stored at $FFF8.
      */
     public void interruptRequest() {
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.cc.or(CC_I);
-        io.regs.pc.set(io.readWord(0xFFF8));
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        io.regs.orCC(CC_I);
+        io.regs.setPC(io.read16(0xFFF8));
     }
 
     /**
@@ -63,12 +202,11 @@ public class CPU
      * $FFF6.
      */
     public void fastInterruptRequest() {
-        io.regs.cc.and(~CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.cc.or(CC_F);
-        io.regs.cc.or(CC_I);
-        io.regs.pc.set(io.readWord(0xFFF6));
+        io.regs.andCC(~CC_E);
+        io.pushRegisters(Register.S, 0x81);
+        io.regs.orCC(CC_F);
+        io.regs.orCC(CC_I);
+        io.regs.setPC(io.read16(0xFFF6));
     }
 
     /**
@@ -77,18 +215,11 @@ public class CPU
      * stored at $FFFC.
      */
     public void nonMaskableInterruptRequest() {
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.cc.or(CC_I);
-        io.regs.cc.or(CC_F);
-        io.regs.pc.set(io.readWord(0xFFFC));
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        io.regs.orCC(CC_I);
+        io.regs.orCC(CC_F);
+        io.regs.setPC(io.read16(0xFFFC));
     }
 
     /**
@@ -116,6 +247,15 @@ public class CPU
         }
     }
 
+    /**
+     * Returns true if any interrupt has been scheduled but not yet serviced.
+     *
+     * @return true if an interrupt is pending
+     */
+    public boolean isInterruptPending() {
+        return fireIRQ | fireFIRQ | fireNMI;
+    }
+
     /**
      * Schedules an IRQ interrupt to occur.
      */
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * The DecodeCache stores DecodedInstructions keyed by the physical address
+ * of their first byte. Physical addresses cover RAM, followed by the system
+ * ROM, followed by the cartridge ROM, so the same virtual address always
+ * maps to the right entry regardless of how the MMU is configured. Storage
+ * is allocated one 8K page at a time, the first time code executes from
+ * that page. An entry never spans two pages, so a write only ever needs to
+ * check the page it lands in. A counter of invalidations lets anything
+ * that relies on the cached entries - such as the idle loop detector -
+ * tell when code has been overwritten.
+ */
+public class DecodeCache
+{
+    /* The most bytes that any single instruction can be decoded from */
+    public static final int MAX_SPAN = 5;
+
+    private static final int PAGE_SIZE = 0x2000;
+
+    private final DecodedInstruction [][] pages;
+
+    /* The number of times any cached code has been invalidated */
+    private int codeWrites;
+
+    /**
+     * Creates a cache that can hold entries for the given number of
+     * physical addresses.
+     *
+     * @param physicalSize the size of the physical address space
+     */
+    public DecodeCache(int physicalSize) {
+        pages = new DecodedInstruction[(physicalSize + PAGE_SIZE - 1) / PAGE_SIZE][];
+    }
+
+    /**
+     * Returns the entry that starts at the physical address, or null if
+     * there is none.
+     *
+     * @param physicalAddress the physical address of the instruction
+     * @return the cached entry, or null
+     */
+    public DecodedInstruction get(int physicalAddress) {
+        DecodedInstruction [] page = pages[physicalAddress >> 13];
+        return (page == null) ? null : page[physicalAddress & 0x1FFF];
+    }
+
+    /**
+     * Stores an entry at the physical address. The caller must ensure that
+     * the entry's span does not cross into the next page.
+     *
+     * @param physicalAddress the physical address of the instruction
+     * @param decoded the decoded instruction to store
+     */
+    public void put(int physicalAddress, DecodedInstruction decoded) {
+        DecodedInstruction [] page = pages[physicalAddress >> 13];
+        if (page == null) {
+            page = new DecodedInstruction[PAGE_SIZE];
+            pages[physicalAddress >> 13] = page;
+        }
+        page[physicalAddress & 0x1FFF] = decoded;
+    }
+
+    /**
+     * Drops every entry that was decoded from the byte at the physical
+     * address. Pages that have never held code are skipped with a single
+     * check, so writes to data and video memory stay cheap.
+     *
+     * @param physicalAddress the physical address that was written
+     */
+    public void invalidate(int physicalAddress) {
+        DecodedInstruction [] page = pages[physicalAddress >> 13];
+        if (page == null) {
+            return;
+        }
+
+        int offset = physicalAddress & 0x1FFF;
+        int start = Math.max(0, offset - MAX_SPAN + 1);
+        for (int i = start; i <= offset; i++) {
+            DecodedInstruction decoded = page[i];
+            if (decoded != null && i + decoded.span > offset) {
+                page[i] = null;
+                codeWrites++;
+            }
+        }
+    }
+
+    /**
+     * Drops every entry in the cache.
+     */
+    public void clear() {
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = null;
+        }
+        codeWrites++;
+    }
+
+    /**
+     * Returns a counter that changes every time any cached code is
+     * invalidated.
+     *
+     * @return the number of code invalidations so far
+     */
+    public int getCodeWrites() {
+        return codeWrites;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * The DecodeContext holds the operands decoded for the instruction that is
+ * currently executing. Each CPU owns exactly one DecodeContext, which keeps
+ * the Instruction objects themselves free of mutable state so that they can
+ * be shared between CPUs running on different threads.
+ */
+public class DecodeContext
+{
+    /* The byte read at the effective address */
+    protected int byteRead;
+
+    /* The word read at the effective address */
+    protected int wordRead;
+
+    /* The effective address of the operand */
+    protected int addressRead;
+
+    /* The number of operand bytes consumed after the opcode */
+    protected int numBytesRead;
+
+    /* The extra cycles taken by the indexed addressing mode, if any */
+    protected int indexedCycles;
+
+    /**
+     * Clears all the decoded operand values.
+     */
+    public void clear() {
+        byteRead = 0;
+        wordRead = 0;
+        addressRead = 0;
+        numBytesRead = 0;
+        indexedCycles = 0;
+    }
+
+    public int getByteRead() {
+        return byteRead;
+    }
+
+    public int getWordRead() {
+        return wordRead;
+    }
+
+    public int getAddressRead() {
+        return addressRead;
+    }
+
+    public int getNumBytesRead() {
+        return numBytesRead;
+    }
+
+    public int getIndexedCycles() {
+        return indexedCycles;
+    }
+}
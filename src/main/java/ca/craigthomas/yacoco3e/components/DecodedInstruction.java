@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * A DecodedInstruction stores everything about an instruction that can be
+ * worked out from its bytes alone - which Instruction it is, how long it is,
+ * and the operand bytes that follow the opcode. For indexed instructions
+ * this includes the postbyte and any constant offset. Values that depend on
+ * register or memory contents are still computed each time it executes.
+ */
+public class DecodedInstruction
+{
+    /* The instruction that the opcode maps to */
+    final Instruction instruction;
+
+    /* The number of bytes the program counter advances past */
+    final int length;
+
+    /* The number of bytes that were read to decode the instruction */
+    final int span;
+
+    /* The immediate value, direct page offset, extended address or indexed offset */
+    final int operand;
+
+    /* The indexed addressing postbyte */
+    final int postByte;
+
+    /* The fused pair that starts with this instruction, once checked for */
+    FusedInstruction fused;
+    boolean fusionChecked;
+
+    DecodedInstruction(Instruction instruction, int length, int span, int operand, int postByte) {
+        this.instruction = instruction;
+        this.length = length;
+        this.span = span;
+        this.operand = operand;
+        this.postByte = postByte;
+    }
+
+    public Instruction getInstruction() {
+        return instruction;
+    }
+
+    public int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which parts of physical RAM have been written to, at two levels
+ * of detail - one bit for each 8K page, and one bit for each 256 byte
+ * block. Memory marks the bits on every write, which costs two ORs into
+ * long words. Consumers such as video refresh or save states can then
+ * find the pages and blocks that changed since they last cleared them,
+ * instead of rescanning all of RAM.
+ *
+ * There is a single map for each Memory, so consumers that clear it
+ * should only clear the parts they have dealt with.
+ */
+public class DirtyMap
+{
+    /* The size of a page and a block, as a shift of the address */
+    public static final int PAGE_SHIFT = 13;
+    public static final int BLOCK_SHIFT = 8;
+
+    /* The number of blocks in each page */
+    public static final int BLOCKS_PER_PAGE = 1 << (PAGE_SHIFT - BLOCK_SHIFT);
+
+    private final long [] pages;
+    private final long [] blocks;
+    private final int pageCount;
+    private final int blockCount;
+
+    /**
+     * Creates a map covering the given number of bytes of RAM, with
+     * nothing marked dirty.
+     *
+     * @param size the size of RAM in bytes
+     */
+    public DirtyMap(int size) {
+        pageCount = size >> PAGE_SHIFT;
+        blockCount = size >> BLOCK_SHIFT;
+        pages = new long[(pageCount + 63) >> 6];
+        blocks = new long[(blockCount + 63) >> 6];
+    }
+
+    /**
+     * Marks the page and block holding a physical address as dirty.
+     *
+     * @param physicalAddress the physical RAM address written to
+     */
+    public void mark(int physicalAddress) {
+        int block = physicalAddress >>> BLOCK_SHIFT;
+        blocks[block >>> 6] |= 1L << block;
+        int page = physicalAddress >>> PAGE_SHIFT;
+        pages[page >>> 6] |= 1L << page;
+    }
+
+    /**
+     * Marks every page and block holding a run of physical addresses as
+     * dirty.
+     *
+     * @param physicalAddress the first physical RAM address written to
+     * @param length the number of bytes written
+     */
+    public void markRange(int physicalAddress, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int lastBlock = (physicalAddress + length - 1) >>> BLOCK_SHIFT;
+        for (int block = physicalAddress >>> BLOCK_SHIFT; block <= lastBlock; block++) {
+            blocks[block >>> 6] |= 1L << block;
+            pages[block >>> 11] |= 1L << (block >>> 5);
+        }
+    }
+
+    /**
+     * Marks all of RAM as dirty, such as after it has been cleared.
+     */
+    public void markAll() {
+        for (int block = 0; block < blockCount; block += BLOCKS_PER_PAGE) {
+            markRange(block << BLOCK_SHIFT, 1 << PAGE_SHIFT);
+        }
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * Returns true if anything in the 8K page has been written to.
+     *
+     * @param page the page number (the physical address >> PAGE_SHIFT)
+     * @return true if the page is dirty
+     */
+    public boolean isPageDirty(int page) {
+        return (pages[page >>> 6] & (1L << page)) != 0;
+    }
+
+    /**
+     * Returns true if anything in the 256 byte block has been written to.
+     *
+     * @param block the block number (the physical address >> BLOCK_SHIFT)
+     * @return true if the block is dirty
+     */
+    public boolean isBlockDirty(int block) {
+        return (blocks[block >>> 6] & (1L << block)) != 0;
+    }
+
+    /**
+     * Returns true if any block holding a run of physical addresses has
+     * been written to.
+     *
+     * @param physicalAddress the first physical RAM address to check
+     * @param length the number of bytes to check
+     * @return true if any of the run is dirty
+     */
+    public boolean isDirty(int physicalAddress, int length) {
+        if (length <= 0) {
+            return false;
+        }
+        int next = nextDirtyBlock(physicalAddress >>> BLOCK_SHIFT);
+        return next != -1 && next <= (physicalAddress + length - 1) >>> BLOCK_SHIFT;
+    }
+
+    /**
+     * Returns the first dirty page at or after the given page.
+     *
+     * @param fromPage the page to start searching at
+     * @return the dirty page number, or -1 if there are none
+     */
+    public int nextDirtyPage(int fromPage) {
+        return nextSetBit(pages, pageCount, fromPage);
+    }
+
+    /**
+     * Returns the first dirty block at or after the given block.
+     *
+     * @param fromBlock the block to start searching at
+     * @return the dirty block number, or -1 if there are none
+     */
+    public int nextDirtyBlock(int fromBlock) {
+        return nextSetBit(blocks, blockCount, fromBlock);
+    }
+
+    /**
+     * Returns the number of dirty pages.
+     *
+     * @return the number of dirty pages
+     */
+    public int getDirtyPageCount() {
+        int count = 0;
+        for (long word : pages) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Marks a page, and every block in it, as clean.
+     *
+     * @param page the page number to clear
+     */
+    public void clearPage(int page) {
+        pages[page >>> 6] &= ~(1L << page);
+        int firstBlock = page * BLOCKS_PER_PAGE;
+        blocks[firstBlock >>> 6] &= ~(((1L << BLOCKS_PER_PAGE) - 1) << firstBlock);
+    }
+
+    /**
+     * Marks all of RAM as clean.
+     */
+    public void clear() {
+        Arrays.fill(pages, 0L);
+        Arrays.fill(blocks, 0L);
+    }
+
+    private static int nextSetBit(long [] bits, int count, int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        if (from >= count) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = bits[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = (index << 6) + Long.numberOfTrailingZeros(word);
+                return (bit < count) ? bit : -1;
+            }
+            if (++index == bits.length) {
+                return -1;
+            }
+            word = bits[index];
+        }
+    }
+}
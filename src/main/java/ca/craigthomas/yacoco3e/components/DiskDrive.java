@@ -119,7 +119,16 @@ public class DiskDrive
      * @param track the track to move to
      */
     public void setTrack(UnsignedByte track) {
-        currentTrack = track.get();
+        setTrack(track.get());
+    }
+
+    /**
+     * Positions the read/write head above the specified track.
+     *
+     * @param track the track to move to
+     */
+    public void setTrack(int track) {
+        currentTrack = track;
     }
 
     /**
@@ -137,7 +146,16 @@ public class DiskDrive
      * @param sector the current sector we should move to
      */
     public void setSector(UnsignedByte sector) {
-        currentSector = sector.get();
+        setSector(sector.get());
+    }
+
+    /**
+     * Sets the sector that the read/write head should be positioned above.
+     *
+     * @param sector the current sector we should move to
+     */
+    public void setSector(int sector) {
+        currentSector = sector;
     }
 
     /**
@@ -175,6 +193,16 @@ public class DiskDrive
      * @param value the value to write to the data register
      */
     public void setDataRegister(UnsignedByte value) {
+        setDataRegister(value.get());
+    }
+
+    /**
+     * Sets the contents of the data register from an 8-bit value. Depending
+     * on the command, may also write data to the disk.
+     *
+     * @param value the value to write to the data register
+     */
+    public void setDataRegister(int value) {
         dataRegisterIn.set(value);
         switch (currentCommand) {
             case WRITE_SECTOR:
@@ -314,8 +342,17 @@ public class DiskDrive
      * @param command the command to execute
      */
     public void executeCommand(UnsignedByte command) {
-        int intCommand = command.get() >> 4;
-        boolean verify = command.isMasked(0x04);
+        executeCommand(command.get());
+    }
+
+    /**
+     * Executes the command given by an 8-bit value on the disk.
+     *
+     * @param command the command to execute
+     */
+    public void executeCommand(int command) {
+        int intCommand = command >> 4;
+        boolean verify = (command & 0x04) != 0;
 
         /* Set busy flag on the status register */
         setBusy();
@@ -420,7 +457,7 @@ public class DiskDrive
             } else {
                 tracks[currentTrack].setCommand(logicalSector, DiskCommand.WRITE_SECTOR);
                 currentCommand = DiskCommand.WRITE_SECTOR;
-                dataMark = new UnsignedByte(command.isMasked(0x1) ? 0xF8 : 0xFB);
+                dataMark = new UnsignedByte((command & 0x1) != 0 ? 0xF8 : 0xFB);
                 currentSector = logicalSector;
                 setDRQ();
             }
@@ -615,6 +652,15 @@ public class DiskDrive
      * @param value the byte value to write
      */
     public void writeSector(UnsignedByte value) {
+        writeSector(value.get());
+    }
+
+    /**
+     * Writes an 8-bit value to the current sector.
+     *
+     * @param value the byte value to write
+     */
+    public void writeSector(int value) {
         /* Write the data mark (always) */
         tracks[currentTrack].writeDataMark(currentSector, dataMark);
 
@@ -689,6 +735,16 @@ public class DiskDrive
      * @param value the value to write to the track
      */
     public void writeTrack(UnsignedByte value) {
+        writeTrack(value.get());
+    }
+
+    /**
+     * Writes an 8-bit value to the current track. Works the same way as the
+     * UnsignedByte version.
+     *
+     * @param value the value to write to the track
+     */
+    public void writeTrack(int value) {
         if (tracks[currentTrack].isWriteTrackFinished()) {
             currentCommand = DiskCommand.NONE;
             setNotBusy();
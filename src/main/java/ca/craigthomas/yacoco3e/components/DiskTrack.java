@@ -50,7 +50,18 @@ public class DiskTrack
      * @param value the value to write to the sector
      */
     public void writeData(int sector, UnsignedByte value) {
-        sectors[sector].writeSectorData((byte) value.get());
+        writeData(sector, value.get());
+    }
+
+    /**
+     * Writes a single 8-bit value to the specified sector on the track.
+     * Works the same way as the UnsignedByte version.
+     *
+     * @param sector the sector number to write to
+     * @param value the value to write to the sector
+     */
+    public void writeData(int sector, int value) {
+        sectors[sector].writeSectorData((byte) value);
     }
 
     /**
@@ -182,6 +193,16 @@ public class DiskTrack
      * @param value the value to write to the track
      */
     public void writeTrack(UnsignedByte value) {
+        writeTrack(value.get());
+    }
+
+    /**
+     * Writes an 8-bit value to a track. Works the same way as the
+     * UnsignedByte version.
+     *
+     * @param value the value to write to the track
+     */
+    public void writeTrack(int value) {
         /* Check to see if no more sectors */
         if (currentSector >= sectors.length) {
             writeTrackFinished = true;
@@ -201,7 +222,7 @@ public class DiskTrack
         }
 
         /* Check to see if we have a byte that has a different interpretation */
-        byte byteValue = (byte) value.get();
+        byte byteValue = (byte) value;
         if (doubleDensity) {
             switch (byteValue) {
                 case (byte) 0xF5:
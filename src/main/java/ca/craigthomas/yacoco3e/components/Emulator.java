@@ -6,31 +6,30 @@ package ca.craigthomas.yacoco3e.components;
 
 import ca.craigthomas.yacoco3e.datatypes.*;
 import ca.craigthomas.yacoco3e.listeners.*;
+import net.java.games.input.Component;
 import net.java.games.input.Controller;
 import net.java.games.input.ControllerEnvironment;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.Timer;
 import java.util.logging.Logger;
 
 import javax.swing.UIManager.*;
 
-public class Emulator extends Thread
+public class Emulator extends Thread implements JoystickInput
 {
     /* Pre-defined constants */
     private final static long SCREEN_REFRESH_RATE = 17L;
 
     /* The main emulator components */
+    private final Machine machine;
     private Screen screen;
     private Keyboard keyboard;
-    private CPU cpu;
     private IOController io;
     private Cassette cassette;
     private Memory memory;
@@ -45,14 +44,23 @@ public class Emulator extends Thread
     private JMenuBar menuBar;
 
     Controller [] controllers;
+    private Controller leftJoystick;
+    private Controller rightJoystick;
 
     /* State variables */
-    public boolean trace;
     private boolean verbose;
+    private String traceFile;
     private volatile EmulatorStatus status;
     private Timer screenRefreshTimer;
     private TimerTask screenRefreshTimerTask;
 
+    /* Frame pacing */
+    private final FrameScheduler frameScheduler;
+    private volatile EmulatorSpeed speed;
+
+    /* Work handed over by other threads, run on the emulation thread between frames */
+    private final ConcurrentLinkedQueue<Runnable> frameBoundaryTasks;
+
     /* A logger for the emulator */
     private final static Logger LOGGER = Logger.getLogger(Emulator.class.getName());
 
@@ -62,12 +70,25 @@ public class Emulator extends Thread
         private String cartridgeROM;
         private String cassetteFile;
         private String configFile;
+        private String ramSize;
         private boolean trace;
+        private int traceSize;
+        private String traceFile;
         private boolean verbose;
         private boolean useDAC;
+        private boolean fusion;
+        private boolean idleSkip;
+        private boolean scanlineSync;
+        private boolean profile;
+        private EmulatorSpeed speed;
 
         public Builder() {
             scale = 1;
+            fusion = true;
+            idleSkip = true;
+            traceSize = TraceBuffer.DEFAULT_CAPACITY;
+            traceFile = TraceBuffer.DEFAULT_FILENAME;
+            speed = EmulatorSpeed.NORMAL;
         }
 
         public Builder setScale(int newScale) {
@@ -95,11 +116,26 @@ public class Emulator extends Thread
             return this;
         }
 
+        public Builder setTraceSize(int newTraceSize) {
+            traceSize = newTraceSize;
+            return this;
+        }
+
+        public Builder setTraceFile(String filename) {
+            traceFile = filename;
+            return this;
+        }
+
         public Builder setVerbose(boolean newVerbose) {
             verbose = newVerbose;
             return this;
         }
 
+        public Builder setRAMSize(String newRAMSize) {
+            ramSize = newRAMSize;
+            return this;
+        }
+
         public Builder setConfigFile(String newConfigFile) {
             configFile = newConfigFile;
             return this;
@@ -110,24 +146,61 @@ public class Emulator extends Thread
             return this;
         }
 
+        public Builder setFusion(boolean enabled) {
+            fusion = enabled;
+            return this;
+        }
+
+        public Builder setIdleSkip(boolean enabled) {
+            idleSkip = enabled;
+            return this;
+        }
+
+        public Builder setScanlineSync(boolean enabled) {
+            scanlineSync = enabled;
+            return this;
+        }
+
+        public Builder setProfile(boolean enabled) {
+            profile = enabled;
+            return this;
+        }
+
+        public Builder setSpeed(EmulatorSpeed newSpeed) {
+            speed = newSpeed;
+            return this;
+        }
+
         public Emulator build() {
             return new Emulator(this);
         }
     }
 
     private Emulator(Builder builder) {
-        memory = new Memory();
-        keyboard = new EmulatedKeyboard();
-        screen = new Screen(builder.scale);
-        cassette = new Cassette();
-
-        io = new IOController(memory, new RegisterSet(), keyboard, screen, cassette, builder.useDAC);
-        cpu = new CPU(io);
-        io.setCPU(cpu);
+        // Check to see if we specified a configuration file
+        ConfigFile builderConfig = ConfigFile.parseConfigFile(builder.configFile);
 
-        trace = builder.trace;
+        machine = new Machine(builder.scale, builder.useDAC, getRAMSize(builder, builderConfig));
+        memory = machine.getMemory();
+        keyboard = new EmulatedKeyboard();
+        screen = machine.getScreen();
+        cassette = machine.getCassette();
+        io = machine.getIOController();
+        io.setKeyboard(keyboard);
+        io.setJoystickInput(this);
+
+        machine.trace = builder.trace;
+        machine.setTraceCapacity(builder.traceSize);
+        traceFile = builder.traceFile;
+        machine.setFusionEnabled(builder.fusion);
+        machine.setIdleLoopDetectionEnabled(builder.idleSkip);
+        machine.setScanlineSyncEnabled(builder.scanlineSync);
+        machine.setProfilerEnabled(builder.profile);
         verbose = builder.verbose;
         status = EmulatorStatus.STOPPED;
+        frameScheduler = new FrameScheduler();
+        frameBoundaryTasks = new ConcurrentLinkedQueue<>();
+        speed = builder.speed;
 
         try {
             for (LookAndFeelInfo info : UIManager.getInstalledLookAndFeels()) {
@@ -140,9 +213,6 @@ public class Emulator extends Thread
             LOGGER.warning("Nimbus LAF not available");
         }
 
-        // Check to see if we specified a configuration file
-        ConfigFile builderConfig = ConfigFile.parseConfigFile(builder.configFile);
-
         // Set the configuration based on the command line arguments
         ConfigFile commandLineConfig = new ConfigFile(builder.systemROM, builder.cartridgeROM, builder.cassetteFile);
 
@@ -153,6 +223,32 @@ public class Emulator extends Thread
         initEmulatorJFrame();
     }
 
+    /**
+     * Works out how much RAM to install. The size given on the command
+     * line is used first, then the size in the configuration file. An
+     * unrecognized size falls back to 512K.
+     *
+     * @param builder the emulator builder
+     * @param builderConfig the configuration specified by the emulator builder
+     * @return the RAM size in bytes
+     */
+    private static int getRAMSize(Builder builder, ConfigFile builderConfig) {
+        String ramSize = builder.ramSize;
+        if (ramSize == null && builderConfig != null) {
+            ramSize = builderConfig.getRamSize();
+        }
+        if (ramSize == null) {
+            return Memory.MEM_512K;
+        }
+
+        int size = Memory.parseRAMSize(ramSize);
+        if (size < 0) {
+            LOGGER.warning("Unsupported RAM size [" + ramSize + "], using 512K");
+            return Memory.MEM_512K;
+        }
+        return size;
+    }
+
     /**
      * Loads assets into the emulator based. Will attempt to use command-line
      * specified assets first, then use configuration file specified assets.
@@ -187,32 +283,25 @@ public class Emulator extends Thread
         }
 
         if (config.hasSystemROM()) {
-            if (memory.loadROM(config.getSystemROM(), MemoryType.ROM)) {
+            if (machine.loadSystemROM(config.getSystemROM())) {
                 setStatus(EmulatorStatus.RUNNING);
             }
         }
 
         if (config.hasCartridgeROM()) {
-            if (!memory.loadROM(config.getCartridgeROM(), MemoryType.CARTRIDGE)) {
+            if (!machine.loadCartridgeROM(config.getCartridgeROM())) {
                 setStatus(EmulatorStatus.PAUSED);
             }
         }
 
         if (config.hasCassetteROM()) {
-            if (!cassette.openFile(config.getCassetteROM())) {
-                LOGGER.severe("Could not load cassette file [" + config.getCassetteROM() + "]");
-            } else {
-                LOGGER.info("Loaded cassette file [" + config.getCassetteROM() + "]");
-            }
+            machine.loadCassette(config.getCassetteROM());
         }
 
         // Load drive images
         String drive0 = config.getDrive0Image();
         if (drive0 != null) {
-            JV1Disk disk = new JV1Disk();
-            if (disk.loadFile(drive0)) {
-                io.disk[0].loadFromVirtualDisk(disk);
-            }
+            machine.loadDiskImage(0, drive0);
         }
 
         // Enumerate joystick controllers and set current joystick types
@@ -234,18 +323,15 @@ public class Emulator extends Thread
                 index++;
             }
         }
-        io.setJoystickControllers(controllers);
-        io.setLeftJoystickNumber(leftJoystickNumber);
-        io.setRightJoystickNumber(rightJoystickNumber);
+        switchLeftJoystick(leftJoystickNumber);
+        switchRightJoystick(rightJoystickNumber);
     }
 
     /**
      * Resets the emulator.
      */
     public void reset() {
-        memory.resetMemory();
-        io.reset();
-        cpu.reset();
+        machine.reset();
     }
 
     /**
@@ -267,6 +353,20 @@ public class Emulator extends Thread
         JMenuItem resetEmulatorItem = new JMenuItem("Reset", KeyEvent.VK_R);
         emulatorMenu.add(resetEmulatorItem);
 
+        JMenu speedMenuItem = new JMenu("Speed");
+        speedMenuItem.setMnemonic(KeyEvent.VK_S);
+        JRadioButtonMenuItem [] speedOptions = new JRadioButtonMenuItem[EmulatorSpeed.values().length];
+        for (EmulatorSpeed option : EmulatorSpeed.values()) {
+            JRadioButtonMenuItem speedOptionMenuItem = new JRadioButtonMenuItem(option.toString());
+            speedOptionMenuItem.setSelected(option == speed);
+            speedMenuItem.add(speedOptionMenuItem);
+            speedOptions[option.ordinal()] = speedOptionMenuItem;
+        }
+        for (EmulatorSpeed option : EmulatorSpeed.values()) {
+            speedOptions[option.ordinal()].addActionListener(new SetSpeedMenuItemActionListener(this, speedOptions, option));
+        }
+        emulatorMenu.add(speedMenuItem);
+
         emulatorMenu.addSeparator();
 
         JMenuItem quitFile = new JMenuItem("Quit", KeyEvent.VK_Q);
@@ -450,11 +550,25 @@ public class Emulator extends Thread
         debugMenu.setMnemonic(KeyEvent.VK_U);
 
         JRadioButtonMenuItem traceMenuItem = new JRadioButtonMenuItem("Trace");
-        traceMenuItem.setSelected(trace);
+        traceMenuItem.setSelected(machine.trace);
         debugMenu.add(traceMenuItem);
 
         traceMenuItem.addActionListener(new SetTraceActionListener(this, traceMenuItem));
 
+        JMenuItem saveTraceMenuItem = new JMenuItem("Save Trace", KeyEvent.VK_S);
+        saveTraceMenuItem.addActionListener(new SaveTraceMenuItemActionListener(this));
+        debugMenu.add(saveTraceMenuItem);
+
+        JRadioButtonMenuItem profileMenuItem = new JRadioButtonMenuItem("Profile");
+        profileMenuItem.setSelected(machine.isProfilerEnabled());
+        debugMenu.add(profileMenuItem);
+
+        profileMenuItem.addActionListener(new SetProfileActionListener(this, profileMenuItem));
+
+        JMenuItem profileReportMenuItem = new JMenuItem("Print Profile Report", KeyEvent.VK_R);
+        profileReportMenuItem.addActionListener(new PrintProfileReportMenuItemActionListener(this));
+        debugMenu.add(profileReportMenuItem);
+
         menuBar.add(debugMenu);
 
         attachCanvas();
@@ -510,7 +624,15 @@ public class Emulator extends Thread
      * @param newJoystickNumber the new joystick device number to use (0 for none)
      */
     public void switchLeftJoystick(int newJoystickNumber) {
-        io.setLeftJoystickNumber(newJoystickNumber);
+        if (newJoystickNumber == 0) {
+            leftJoystick = null;
+            LOGGER.info("Set left joystick to 'No Joystick'");
+        } else {
+            if (newJoystickNumber <= controllers.length) {
+                leftJoystick = controllers[newJoystickNumber - 1];
+                LOGGER.info("Set left joystick to '" + leftJoystick.getName() + "'");
+            }
+        }
     }
 
     /**
@@ -519,7 +641,83 @@ public class Emulator extends Thread
      * @param newJoystickNumber the new joystick device number to use (0 for none)
      */
     public void switchRightJoystick(int newJoystickNumber) {
-        io.setRightJoystickNumber(newJoystickNumber);
+        if (newJoystickNumber == 0) {
+            rightJoystick = null;
+            LOGGER.info("Set right joystick to 'No Joystick'");
+        } else {
+            if (newJoystickNumber <= controllers.length) {
+                rightJoystick = controllers[newJoystickNumber - 1];
+                LOGGER.info("Set right joystick to '" + rightJoystick.getName() + "'");
+            }
+        }
+    }
+
+    /**
+     * Polls the available joysticks for state data. There are only 2 things we are
+     * concerned with:
+     *
+     * Analog data:
+     *   x-axis - is usually named 'x' and will range from -1.0 to 1.0
+     *   y-axis - is usually named 'y' and will range from -1.0 to 1.0
+     *
+     * Non-analog data:
+     *   any button - when depressed will read as true, when released is false
+     *
+     * Essentially, the polling routine will read the x-axis and y-axis data
+     * and return them as floats. Any other non-analog input, if it is pressed,
+     * will trigger a fire button.
+     *
+     * @param io the IOController to report joystick state to
+     */
+    @Override
+    public void pollJoysticks(IOController io) {
+        if (leftJoystick != null) {
+            leftJoystick.poll();
+            Component [] components = leftJoystick.getComponents();
+            float x = 0.0f;
+            float y = 0.0f;
+            boolean fire = false;
+            for (Component component : components) {
+                if (component.getName().equals("x") && component.isAnalog()) {
+                    x = component.getPollData();
+                }
+                if (component.getName().equals("y") && component.isAnalog()) {
+                    y = component.getPollData();
+                }
+                if (!component.isAnalog()) {
+                    fire |= component.getPollData() == 1.0f;
+                }
+            }
+
+            // Scale output to 4.5 volts and set the current state
+            x = ((x + 1.0f) / 2.0f) * 4.5f;
+            y = ((y + 1.0f) / 2.0f) * 4.5f;
+            io.setLeftJoystickState(x, y, fire);
+        }
+
+        if (rightJoystick != null) {
+            rightJoystick.poll();
+            Component [] components = rightJoystick.getComponents();
+            float x = 0.0f;
+            float y = 0.0f;
+            boolean fire = false;
+            for (Component component : components) {
+                if (component.getName().equals("x") && component.isAnalog()) {
+                    x = component.getPollData();
+                }
+                if (component.getName().equals("y") && component.isAnalog()) {
+                    y = component.getPollData();
+                }
+                if (!component.isAnalog()) {
+                    fire |= component.getPollData() == 1.0f;
+                }
+            }
+
+            // Scale output to 4.5 volts and set the current state
+            x = ((x + 1.0f) / 2.0f) * 4.5f;
+            y = ((y + 1.0f) / 2.0f) * 4.5f;
+            io.setRightJoystickState(x, y, fire);
+        }
     }
 
     /**
@@ -550,7 +748,9 @@ public class Emulator extends Thread
         screenRefreshTimerTask = new TimerTask() {
             public void run() {
                 io.pollJoysticks();
-                screen.refreshScreen();
+                if (!machine.isScanlineSyncEnabled()) {
+                    screen.refreshScreen();
+                }
                 refreshScreen();
             }
         };
@@ -559,57 +759,73 @@ public class Emulator extends Thread
     }
 
     /**
-     * Runs the main emulator loop until the emulator is killed.
+     * Runs the main emulator loop until the emulator is killed. Each pass
+     * through the loop executes one frame's worth of CPU cycles at full
+     * speed for every multiple of the speed setting, and then sleeps until
+     * the next 60Hz frame boundary. When the speed is uncapped, frames are
+     * run back to back without sleeping.
      */
     @Override
     public void run() {
+        frameScheduler.reset();
         while (status != EmulatorStatus.KILLED) {
-            while (status == EmulatorStatus.RUNNING) {
-                if (this.trace) {
-                    System.out.print(io.regs.toString() + " | ");
+            runFrameBoundaryTasks();
+            EmulatorSpeed currentSpeed = speed;
+            if (status == EmulatorStatus.RUNNING) {
+                if (currentSpeed.isUncapped()) {
+                    runFrame();
+                    frameScheduler.reset();
+                    continue;
                 }
-
-                Instant lastInstant = Instant.now().truncatedTo(ChronoUnit.MICROS);
-                int operationTicks = 4;
-
-                if (!io.waitForIRQ) {
-                    try {
-                        operationTicks = cpu.executeInstruction();
-                    } catch (MalformedInstructionException e) {
-                        System.out.println(e.getMessage());
-                        status = EmulatorStatus.PAUSED;
-                    }
-                }
-
-                // Check to see if we should wait on execution time
-                float totalInstructionTime = 1.117f * operationTicks;
-                Instant thisInstant = Instant.now();
-                Duration duration = Duration.between(lastInstant, thisInstant);
-                long microSeconds = duration.toNanos() / 1000;
-
-                while (microSeconds <= totalInstructionTime) {
-                    thisInstant = Instant.now();
-                    duration = Duration.between(lastInstant, thisInstant);
-                    microSeconds = duration.toNanos() / 1000;
+                for (int frame = 0; frame < currentSpeed.getMultiplier(); frame++) {
+                    runFrame();
                 }
+            } else {
+                machine.clearFrameCycleBalance();
+            }
+            frameScheduler.waitForNextFrame();
+        }
+        runFrameBoundaryTasks();
+        this.shutdown();
+    }
 
-                /* Check to see if we should trace the output */
-                if (this.trace) {
-                    if (cpu.instruction != null) {
-                        System.out.print(cpu.instruction.getShortDescription());
-                        System.out.print(" (New PC: " + io.regs.pc + ")");
-                        System.out.println();
-                    }
-                }
+    /**
+     * Hands a task to the emulation thread, which runs it before the next
+     * frame. Menu actions that change or read the state of the machine
+     * should go through here, so that they never see it part way through
+     * a frame.
+     *
+     * @param task the task to run
+     */
+    public void runAtFrameBoundary(Runnable task) {
+        frameBoundaryTasks.add(task);
+    }
 
-                /* Increment timers if necessary */
-                io.timerTick(operationTicks);
+    /**
+     * Runs every task handed over by other threads since the last frame.
+     */
+    private void runFrameBoundaryTasks() {
+        Runnable task;
+        while ((task = frameBoundaryTasks.poll()) != null) {
+            task.run();
+        }
+    }
 
-                /* Fire interrupts if set */
-                cpu.serviceInterrupts();
-            }
+    /**
+     * Runs a single frame on the machine. If the machine encounters an
+     * invalid instruction, the emulator is paused.
+     */
+    private void runFrame() {
+        if (status != EmulatorStatus.RUNNING) {
+            return;
+        }
+        try {
+            machine.runFrame();
+        } catch (MalformedInstructionException e) {
+            System.out.println(e.getMessage());
+            status = EmulatorStatus.PAUSED;
+            writeTrace();
         }
-        this.shutdown();
     }
 
     /**
@@ -622,6 +838,8 @@ public class Emulator extends Thread
         screenRefreshTimerTask.cancel();
 
         io.shutdown();
+        writeProfileReport();
+        writeTrace();
 
         container.dispose();
     }
@@ -630,6 +848,82 @@ public class Emulator extends Thread
         this.status = status;
     }
 
+    public void setSpeed(EmulatorSpeed speed) {
+        this.speed = speed;
+    }
+
+    public EmulatorSpeed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Turns tracing on or off before the next frame.
+     *
+     * @param trace true if executed instructions should be traced
+     */
+    public void setTrace(boolean trace) {
+        runAtFrameBoundary(() -> machine.trace = trace);
+    }
+
+    public boolean isTrace() {
+        return machine.trace;
+    }
+
+    /**
+     * Saves the most recently traced instructions to the trace file before
+     * the next frame, if anything has been traced.
+     */
+    public void saveTrace() {
+        runAtFrameBoundary(this::writeTrace);
+    }
+
+    /**
+     * Saves the most recently traced instructions to the trace file, if
+     * anything has been traced. Must be called on the emulation thread, so
+     * that no instruction is added to the trace buffer while it is written.
+     */
+    private void writeTrace() {
+        machine.saveTrace(traceFile);
+    }
+
+    /**
+     * Turns profiling on or off before the next frame.
+     *
+     * @param profile true if executed instructions should be counted
+     */
+    public void setProfile(boolean profile) {
+        runAtFrameBoundary(() -> machine.setProfilerEnabled(profile));
+    }
+
+    public boolean isProfile() {
+        return machine.isProfilerEnabled();
+    }
+
+    /**
+     * Prints the profiler's hot spot report to stdout before the next
+     * frame, if profiling is on.
+     */
+    public void printProfileReport() {
+        runAtFrameBoundary(this::writeProfileReport);
+    }
+
+    /**
+     * Prints the profiler's hot spot report to stdout, if profiling is on.
+     * Must be called on the emulation thread.
+     */
+    private void writeProfileReport() {
+        Profiler profiler = machine.getProfiler();
+        if (profiler == null) {
+            LOGGER.info("Profiling is not enabled");
+            return;
+        }
+        System.out.println(profiler.getReport(Profiler.DEFAULT_REPORT_ROWS));
+    }
+
+    public Machine getMachine() {
+        return machine;
+    }
+
     public JFrame getContainer() {
         return container;
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of when each periodic device event is next due, measured in
+ * CPU ticks since the queue was created. Each event has a period and the
+ * time at which it last fired. It falls due once that many ticks have
+ * passed. Advancing the clock only compares the current time to the
+ * earliest deadline, so the per-instruction cost of device timing is a
+ * single comparison no matter how many events are pending.
+ *
+ * Events are fired in order of their event number when several fall due at
+ * the same time, which matches the order the devices were checked in
+ * before the queue existed.
+ */
+public class EventQueue
+{
+    /* The PIA 1 horizontal sync timer */
+    public static final int PIA1A_TIMER = 0;
+
+    /* The PIA 1 vertical sync timer */
+    public static final int PIA1B_TIMER = 1;
+
+    /* The GIME programmable timer */
+    public static final int GIME_TIMER = 2;
+
+    /* The GIME horizontal border interrupt */
+    public static final int HORIZONTAL_BORDER = 3;
+
+    /* The GIME vertical border interrupt */
+    public static final int VERTICAL_BORDER = 4;
+
+    /* The disk controller poll */
+    public static final int DISK = 5;
+
+    public static final int NUM_EVENTS = 6;
+
+    /* The period of an event that never fires */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    /* The number of ticks since the queue was created */
+    private long now;
+
+    /* The period of each event, and the time it last fired */
+    private final int [] periods;
+    private final long [] lastFired;
+
+    /* The earliest deadline of any event */
+    private long nextDeadline;
+
+    public EventQueue() {
+        periods = new int[NUM_EVENTS];
+        lastFired = new long[NUM_EVENTS];
+        Arrays.fill(periods, NEVER);
+        nextDeadline = Long.MAX_VALUE;
+    }
+
+    /**
+     * Advances the clock by the specified number of ticks.
+     *
+     * @param ticks the number of ticks that have passed
+     * @return true if at least one event is now due
+     */
+    public boolean advance(int ticks) {
+        now += ticks;
+        return now >= nextDeadline;
+    }
+
+    /**
+     * Returns the lowest numbered event that is due, and restarts its
+     * period from the current time. Call repeatedly until it returns -1 to
+     * fire every due event.
+     *
+     * @return the event that is due, or -1 if none are due
+     */
+    public int poll() {
+        if (now < nextDeadline) {
+            return -1;
+        }
+        for (int event = 0; event < NUM_EVENTS; event++) {
+            if (periods[event] != NEVER && now - lastFired[event] >= periods[event]) {
+                lastFired[event] = now;
+                updateNextDeadline();
+                return event;
+            }
+        }
+        updateNextDeadline();
+        return -1;
+    }
+
+    /**
+     * Sets the number of ticks between firings of an event. Ticks that
+     * have already passed since it last fired count towards the new period.
+     *
+     * @param event the event to change
+     * @param period the number of ticks between firings, or NEVER
+     */
+    public void setPeriod(int event, int period) {
+        periods[event] = period;
+        updateNextDeadline();
+    }
+
+    /**
+     * Returns the number of ticks that have passed since the event last fired.
+     *
+     * @param event the event to check
+     * @return the number of ticks since the event last fired
+     */
+    public int getElapsed(int event) {
+        return (int) (now - lastFired[event]);
+    }
+
+    /**
+     * Sets the number of ticks that have passed since the event last fired.
+     *
+     * @param event the event to change
+     * @param elapsed the number of ticks since the event last fired
+     */
+    public void setElapsed(int event, int elapsed) {
+        lastFired[event] = now - elapsed;
+        updateNextDeadline();
+    }
+
+    /**
+     * Returns the number of ticks until the next event is due, or 0 if an
+     * event is already due.
+     *
+     * @return the number of ticks until the next event
+     */
+    public int ticksUntilNextEvent() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, nextDeadline - now));
+    }
+
+    /**
+     * Returns the number of ticks since the queue was created.
+     *
+     * @return the current time in ticks
+     */
+    public long getNow() {
+        return now;
+    }
+
+    private void updateNextDeadline() {
+        long earliest = Long.MAX_VALUE;
+        for (int event = 0; event < NUM_EVENTS; event++) {
+            if (periods[event] != NEVER) {
+                earliest = Math.min(earliest, lastFired[event] + periods[event]);
+            }
+        }
+        nextDeadline = earliest;
+    }
+}
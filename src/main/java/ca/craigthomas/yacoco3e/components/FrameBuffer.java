@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * A rendered frame, read one pixel at a time. The core uses this to look
+ * at what the screen shows without depending on how it is drawn.
+ */
+public interface FrameBuffer
+{
+    /**
+     * Returns the width of the frame in pixels.
+     *
+     * @return the width of the frame
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the frame in pixels.
+     *
+     * @return the height of the frame
+     */
+    int getHeight();
+
+    /**
+     * Returns the colour of a pixel as 0xRRGGBB in the low 24 bits.
+     *
+     * @param x the x position of the pixel
+     * @param y the y position of the pixel
+     * @return the colour of the pixel
+     */
+    int getRGB(int x, int y);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The FrameScheduler paces emulation in whole frames. The emulator runs a
+ * full frame's worth of CPU cycles as fast as it can, and then calls
+ * waitForNextFrame to sleep until the next 60Hz boundary. Frame boundaries
+ * are tracked as absolute deadlines, so any time lost oversleeping in one
+ * frame is made up in the next. If the host falls too far behind (for
+ * example, when the machine is suspended), the schedule is resynchronized
+ * to the current time instead of running frames back to back to catch up.
+ */
+public class FrameScheduler
+{
+    /* The number of frames per second the CoCo 3 video runs at */
+    public static final int FRAMES_PER_SECOND = 60;
+
+    /* The length of a single frame in nanoseconds */
+    public static final long FRAME_NANOS = 1_000_000_000L / FRAMES_PER_SECOND;
+
+    /* How many frames we may fall behind before the schedule is reset */
+    public static final int MAX_FRAMES_BEHIND = 5;
+
+    /* The absolute time at which the current frame ends */
+    private long frameDeadline;
+
+    public FrameScheduler() {
+        reset();
+    }
+
+    /**
+     * Restarts the schedule so that the current frame ends one frame
+     * length from now. Should be called whenever emulation resumes after
+     * being paused.
+     */
+    public void reset() {
+        frameDeadline = now() + FRAME_NANOS;
+    }
+
+    /**
+     * Sleeps until the end of the current frame and advances the schedule
+     * to the next frame.
+     *
+     * @return the number of nanoseconds spent waiting
+     */
+    public long waitForNextFrame() {
+        long start = now();
+        long remaining = frameDeadline - start;
+        while (remaining > 0) {
+            sleep(remaining);
+            remaining = frameDeadline - now();
+        }
+
+        frameDeadline += FRAME_NANOS;
+
+        /* Drift correction - don't try to catch up on a large backlog */
+        long current = now();
+        if (current - frameDeadline > FRAME_NANOS * MAX_FRAMES_BEHIND) {
+            frameDeadline = current + FRAME_NANOS;
+        }
+        return current - start;
+    }
+
+    /**
+     * Returns the deadline of the current frame.
+     *
+     * @return the absolute time in nanoseconds the current frame ends
+     */
+    public long getFrameDeadline() {
+        return frameDeadline;
+    }
+
+    /**
+     * Returns the current time from a monotonic clock.
+     *
+     * @return the current time in nanoseconds
+     */
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Parks the emulator thread for the specified number of nanoseconds.
+     * The thread may wake early, in which case the caller sleeps again.
+     *
+     * @param nanos the number of nanoseconds to sleep
+     */
+    protected void sleep(long nanos) {
+        LockSupport.parkNanos(nanos);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * A pair of adjacent decoded instructions that form a common 6809 idiom,
+ * executed by the CPU as a single step. The idioms recognized are:
+ *
+ *   - a load followed by a store of the same register (LDA/STA, LDD/STD,
+ *     and block copies such as LDD ,X++ / STD ,U++)
+ *   - a compare, test or bit test followed by a conditional branch
+ *     (CMPA/BNE, TSTB/BEQ, CMPX/LBLO)
+ *
+ * The pair runs both instructions back to back, returning their combined
+ * ticks, so the timers are advanced once and interrupts are serviced once
+ * for the pair. The second instruction only runs when no timer event
+ * falls due and no interrupt is raised during the first, so interrupts
+ * are taken at exactly the same instruction boundary as they would be
+ * without fusion. Fused pairs are formed when the first instruction is found
+ * in the DecodeCache, and are only used while the second instruction's
+ * cache entry is still the one the pair was built from.
+ */
+public final class FusedInstruction
+{
+    /* The two instructions in the pair */
+    final DecodedInstruction first;
+    final DecodedInstruction second;
+
+    /* The physical address of the second instruction */
+    final int secondAddress;
+
+    FusedInstruction(DecodedInstruction first, DecodedInstruction second, int secondAddress) {
+        this.first = first;
+        this.second = second;
+        this.secondAddress = secondAddress;
+    }
+
+    /**
+     * Returns true if the two instructions form an idiom that may be fused.
+     *
+     * @param first the first instruction
+     * @param second the instruction that immediately follows it
+     * @return true if the pair can be fused
+     */
+    static boolean canFuse(Instruction first, Instruction second) {
+        String firstMnemonic = first.mnemonic;
+        String secondMnemonic = second.mnemonic;
+
+        if (firstMnemonic.startsWith("LD") && secondMnemonic.startsWith("ST")) {
+            return firstMnemonic.length() == 3 && firstMnemonic.substring(2).equals(secondMnemonic.substring(2));
+        }
+
+        if (firstMnemonic.startsWith("CMP") || firstMnemonic.startsWith("TST") || firstMnemonic.startsWith("BIT")) {
+            return second instanceof BranchInstruction && isConditional(secondMnemonic);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the branch mnemonic is a conditional branch.
+     *
+     * @param mnemonic the mnemonic of a branch instruction
+     * @return true if the branch depends on the condition codes
+     */
+    private static boolean isConditional(String mnemonic) {
+        String condition = mnemonic.startsWith("L") ? mnemonic.substring(1) : mnemonic;
+        return !condition.equals("BRA") && !condition.equals("BRN") && !condition.equals("BSR");
+    }
+
+    /**
+     * Executes the pair. The second instruction is skipped if the first one
+     * alone uses up the budget, reaches the next timer event, or raises an
+     * interrupt, so that the pair never runs past a point where single
+     * stepping would have stopped or serviced an interrupt.
+     *
+     * @param cpu the CPU executing the pair
+     * @param io the IOController object that interfaces with memory and other system devices
+     * @param budget the number of cycles that may still be executed
+     * @return the combined number of ticks taken
+     * @throws MalformedInstructionException if an instruction is not properly formed
+     */
+    int execute(CPU cpu, IOController io, int budget) throws MalformedInstructionException {
+        cpu.instruction = first.instruction;
+        int ticks = first.instruction.executeDecoded(io, cpu.decodeContext, first);
+        if (ticks >= budget || ticks >= io.ticksUntilNextEvent() || cpu.isInterruptPending()) {
+            return ticks;
+        }
+
+        cpu.instruction = second.instruction;
+        return ticks + second.instruction.executeDecoded(io, cpu.decodeContext, second);
+    }
+}
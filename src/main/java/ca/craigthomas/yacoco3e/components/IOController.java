@@ -6,25 +6,52 @@ package ca.craigthomas.yacoco3e.components;
 
 import ca.craigthomas.yacoco3e.datatypes.*;
 import ca.craigthomas.yacoco3e.datatypes.screen.ScreenMode.Mode;
-import net.java.games.input.Component;
-import net.java.games.input.Controller;
 
-import java.util.logging.Logger;
+import java.util.Arrays;
 
 import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.*;
 
 public class IOController
 {
+    /**
+     * Reads a register in the IO page. The IOController doing the read is
+     * passed in, rather than captured, so that handlers always act on the
+     * controller the access was made through.
+     */
+    @FunctionalInterface
+    public interface IOReadHandler
+    {
+        int read(IOController io, int address);
+    }
+
+    /**
+     * Writes a register in the IO page. The value is always masked to a
+     * byte before the handler is called.
+     */
+    @FunctionalInterface
+    public interface IOWriteHandler
+    {
+        void write(IOController io, int address, int value);
+    }
+
     /* The number of IO memory addresses */
     public static final int IO_ADDRESS_SIZE = 256;
 
     /* The IO memory address space */
     protected short [] ioMemory;
 
+    /* Addresses in the IO page with no device read through to memory, and ignore writes */
+    private static final IOReadHandler UNMAPPED_READ = (io, address) -> io.memory.read8(address);
+    private static final IOWriteHandler UNMAPPED_WRITE = (io, address, value) -> {};
+
+    /* The read and write handler for each address in the IO page */
+    protected final IOReadHandler [] readHandlers;
+    protected final IOWriteHandler [] writeHandlers;
+
     /* IO Devices */
     protected Memory memory;
     public RegisterSet regs;
-    protected Keyboard keyboard;
+    protected KeyboardMatrix keyboard;
     protected Screen screen;
     protected Cassette cassette;
     protected CPU cpu;
@@ -81,6 +108,18 @@ public class IOController
     /* Whether the CPU should wait for an interrupt request */
     public boolean waitForIRQ;
 
+    /* Counts reads of IO registers that change device state, such as the cassette input */
+    public int statefulReads;
+
+    /* Counts the number of times timerTick has reached any of its thresholds */
+    public int timerEvents;
+
+    /* The bytes of a stack frame being pushed or pulled, lowest address first */
+    private final int [] stackFrame = new int[12];
+
+    /* The postbyte that selects every register, as stacked on interrupt entry */
+    public static final int ENTIRE_STATE = 0xFF;
+
     /* The number of ticks to pass in 63.5 microseconds */
     public static final int TIMER_63_5_MICROS = 56;
 
@@ -98,32 +137,19 @@ public class IOController
     /* The timer tick threshold */
     public int timerTickThreshold;
 
-    /* The number of ticks that has passed for the timer */
-    public int timerTickCounter;
-
-    public int diskTickCounter;
+    /* When each of the timers and periodic device events is next due */
+    public final EventQueue events;
 
     public UnsignedWord timerResetValue;
 
     public UnsignedWord timerValue;
 
-    public int horizontalBorderTickValue;
-
-    public int verticalBorderTickValue;
-
     public volatile int tickRefreshAmount;
 
-    // Joystick controllers
-    public int leftJoystickNumber;
-    public int rightJoystickNumber;
-    public Controller [] controllers;
-    public Controller leftJoystick;
-    public Controller rightJoystick;
-
-    /* A logger for the IO controller */
-    private final static Logger LOGGER = Logger.getLogger(IOController.class.getName());
+    /* Where joystick state comes from, or null if there are no joysticks */
+    protected JoystickInput joystickInput;
 
-    public IOController(Memory memory, RegisterSet registerSet, Keyboard keyboard, Screen screen, Cassette cassette, boolean useDAC) {
+    public IOController(Memory memory, RegisterSet registerSet, KeyboardMatrix keyboard, Screen screen, Cassette cassette, boolean useDAC) {
         ioMemory = new short[IO_ADDRESS_SIZE];
         this.memory = memory;
         this.regs = registerSet;
@@ -131,10 +157,7 @@ public class IOController
         this.lowResolutionDisplayActive = false;
         this.screen = screen;
         this.cassette = cassette;
-        this.leftJoystick = null;
-        this.leftJoystickNumber = 0;
-        this.rightJoystick = null;
-        this.rightJoystickNumber = 0;
+        this.joystickInput = null;
 
         /* Screen controls */
         samControlBits = new UnsignedByte();
@@ -166,6 +189,13 @@ public class IOController
         timerTickThreshold = TIMER_63_5_MICROS;
         timerResetValue = new UnsignedWord();
         timerValue = new UnsignedWord();
+        events = new EventQueue();
+        events.setPeriod(EventQueue.PIA1A_TIMER, TIMER_63_5_MICROS);
+        events.setPeriod(EventQueue.PIA1B_TIMER, TIMER_16_6_MILLIS);
+        events.setPeriod(EventQueue.GIME_TIMER, timerTickThreshold);
+        events.setPeriod(EventQueue.HORIZONTAL_BORDER, TIMER_63_5_MICROS);
+        events.setPeriod(EventQueue.VERTICAL_BORDER, TIMER_16_6_MILLIS);
+        events.setPeriod(EventQueue.DISK, TIMER_DISK_COUNTER);
 
         /* Disks */
         diskDriveSelect = 0;
@@ -178,6 +208,16 @@ public class IOController
 
         screen.setIOController(this);
 
+        /* IO page handlers */
+        readHandlers = new IOReadHandler[IO_ADDRESS_SIZE];
+        writeHandlers = new IOWriteHandler[IO_ADDRESS_SIZE];
+        Arrays.fill(readHandlers, UNMAPPED_READ);
+        Arrays.fill(writeHandlers, UNMAPPED_WRITE);
+        registerPIAHandlers();
+        registerDiskHandlers();
+        registerGIMEHandlers();
+        registerSAMHandlers();
+
         samClockSpeed = new UnsignedByte();
         tickRefreshAmount = LOW_SPEED_CLOCK_FREQUENCY;
         waitForIRQ = false;
@@ -215,57 +255,45 @@ public class IOController
     }
 
     /**
-     * Creates a back-reference to the Keyboard.
+     * Creates a back-reference to the Keyboard, and connects it to PIA 1.
      *
      * @param keyboard the new keyboard the io controller will interface with
      */
-    public void setKeyboard(Keyboard keyboard) {
+    public void setKeyboard(KeyboardMatrix keyboard) {
         this.keyboard = keyboard;
+        pia1a.keyboard = keyboard;
+        pia1b.keyboard = keyboard;
     }
 
     /**
-     * Creates a back-reference to the list of joystick controllers.
+     * Sets where joystick state is polled from each frame.
      *
-     * @param controllers the list of controllers on the system
+     * @param joystickInput the joystick input, or null for no joysticks
      */
-    public void setJoystickControllers(Controller [] controllers) {
-        this.controllers = controllers;
+    public void setJoystickInput(JoystickInput joystickInput) {
+        this.joystickInput = joystickInput;
     }
 
     /**
-     * Sets the left joystick device based on the controller number (0 = none).
+     * Sets the position and fire button state of the left joystick.
      *
-     * @param controllerNumber the device controller number to use
+     * @param x the x-axis position, from 0.0 to 4.5 volts
+     * @param y the y-axis position, from 0.0 to 4.5 volts
+     * @param fire true if the fire button is pressed
      */
-    public void setLeftJoystickNumber(int controllerNumber) {
-        this.leftJoystickNumber = controllerNumber;
-        if (controllerNumber == 0) {
-            this.leftJoystick = null;
-            LOGGER.info("Set left joystick to 'No Joystick'");
-        } else {
-            if (controllerNumber <= controllers.length) {
-                this.leftJoystick = controllers[controllerNumber - 1];
-                LOGGER.info("Set left joystick to '" + this.leftJoystick.getName() + "'");
-            }
-        }
+    public void setLeftJoystickState(float x, float y, boolean fire) {
+        pia1a.setLeftJoystickState(x, y, fire);
     }
 
     /**
-     * Sets the right joystick device based on the controller number (0 = none).
+     * Sets the position and fire button state of the right joystick.
      *
-     * @param controllerNumber the device controller number to use
+     * @param x the x-axis position, from 0.0 to 4.5 volts
+     * @param y the y-axis position, from 0.0 to 4.5 volts
+     * @param fire true if the fire button is pressed
      */
-    public void setRightJoystickNumber(int controllerNumber) {
-        this.rightJoystickNumber = controllerNumber;
-        if (controllerNumber == 0) {
-            this.rightJoystick = null;
-            LOGGER.info("Set right joystick to 'No Joystick'");
-        } else {
-            if (controllerNumber <= controllers.length) {
-                this.rightJoystick = controllers[controllerNumber - 1];
-                LOGGER.info("Set right joystick to '" + this.rightJoystick.getName() + "'");
-            }
-        }
+    public void setRightJoystickState(float x, float y, boolean fire) {
+        pia1a.setRightJoystickState(x, y, fire);
     }
 
     /**
@@ -277,7 +305,7 @@ public class IOController
      * @return the byte value read from the physical address
      */
     public UnsignedByte readPhysicalByte(int address) {
-        return new UnsignedByte(memory.memory[address]);
+        return new UnsignedByte(memory.readPhysicalRAM(address));
     }
 
     /**
@@ -287,7 +315,7 @@ public class IOController
      * @return the UnsignedByte at that address
      */
     public UnsignedByte readByte(int address) {
-        return readByte(new UnsignedWord(address));
+        return new UnsignedByte(read8(address));
     }
 
     /**
@@ -297,11 +325,34 @@ public class IOController
      * @return an UnsignedByte from the specified location
      */
     public UnsignedByte readByte(UnsignedWord address) {
-        int intAddress = address.get();
-        if (intAddress < 0xFF00) {
-            return memory.readByte(address).copy();
+        return new UnsignedByte(read8(address.get()));
+    }
+
+    /**
+     * Reads a byte from the specified address. Reads from main memory do
+     * not allocate any intermediate objects, which makes this the preferred
+     * read path for the CPU.
+     *
+     * @param address the 16-bit address to read from
+     * @return the value of the byte read
+     */
+    public int read8(int address) {
+        address &= 0xFFFF;
+        if (address < 0xFF00) {
+            return memory.read8(address);
         }
-        return readIOByte(intAddress);
+        return readHandlers[address & 0xFF].read(this, address);
+    }
+
+    /**
+     * Reads a 16-bit word from the specified address. The high byte is read
+     * from the address, and the low byte from the address that follows it.
+     *
+     * @param address the 16-bit address to read from
+     * @return the value of the word read
+     */
+    public int read16(int address) {
+        return (read8(address) << 8) | read8(address + 1);
     }
 
     /**
@@ -317,6 +368,28 @@ public class IOController
         }
     }
 
+    /**
+     * Registers the handler called when a byte is read from an address in
+     * the IO page, replacing any handler already registered there.
+     *
+     * @param address the address in the IO page ($FF00-$FFFF)
+     * @param handler the handler to call when the address is read
+     */
+    public void registerReadHandler(int address, IOReadHandler handler) {
+        readHandlers[address & 0xFF] = handler;
+    }
+
+    /**
+     * Registers the handler called when a byte is written to an address in
+     * the IO page, replacing any handler already registered there.
+     *
+     * @param address the address in the IO page ($FF00-$FFFF)
+     * @param handler the handler to call when the address is written
+     */
+    public void registerWriteHandler(int address, IOWriteHandler handler) {
+        writeHandlers[address & 0xFF] = handler;
+    }
+
     /**
      * Reads an IO byte from memory.
      *
@@ -324,174 +397,11 @@ public class IOController
      * @return the IO byte read
      */
     public UnsignedByte readIOByte(int address) {
-        switch (address) {
-            /* PIA 1 Data Register A */
-            case 0xFF00:
-            case 0xFF04:
-            case 0xFF08:
-            case 0xFF0C:
-            case 0xFF10:
-            case 0xFF14:
-            case 0xFF18:
-            case 0xFF1C:
-                return pia1a.getRegister();
-
-            /* PIA 1 Control Register A */
-            case 0xFF01:
-            case 0xFF05:
-            case 0xFF09:
-            case 0xFF0D:
-            case 0xFF11:
-            case 0xFF15:
-            case 0xFF19:
-            case 0xFF1D:
-                return pia1a.getControlRegister();
-
-            /* PIA 1 Data Register B */
-            case 0xFF02:
-            case 0xFF06:
-            case 0xFF0A:
-            case 0xFF0E:
-            case 0xFF12:
-            case 0xFF16:
-            case 0xFF1A:
-            case 0xFF1E:
-                return pia1b.getRegister();
-
-            /* PIA 1 Control Register B */
-            case 0xFF03:
-            case 0xFF07:
-            case 0xFF0B:
-            case 0xFF0F:
-            case 0xFF13:
-            case 0xFF17:
-            case 0xFF1B:
-            case 0xFF1F:
-                return pia1b.getControlRegister();
-
-            /* PIA 2 Data Register A */
-            case 0xFF20:
-            case 0xFF24:
-            case 0xFF28:
-            case 0xFF2C:
-            case 0xFF30:
-            case 0xFF34:
-            case 0xFF38:
-            case 0xFF3C:
-                return pia2a.getRegister();
-
-            /* PIA 2 Control Register A */
-            case 0xFF21:
-            case 0xFF25:
-            case 0xFF29:
-            case 0xFF2D:
-            case 0xFF31:
-            case 0xFF35:
-            case 0xFF39:
-            case 0xFF3D:
-                return pia2a.getControlRegister();
-
-            /* PIA 2 Data Register B */
-            case 0xFF22:
-            case 0xFF2A:
-            case 0xFF2E:
-            case 0xFF32:
-            case 0xFF36:
-            case 0xFF3A:
-            case 0xFF3E:
-                return pia2b.getRegister();
-
-            /* PIA 2 Control Register B */
-            case 0xFF23:
-            case 0xFF2B:
-            case 0xFF2F:
-            case 0xFF33:
-            case 0xFF37:
-            case 0xFF3B:
-            case 0xFF3F:
-                return pia2b.getControlRegister();
-
-            /* Disk Drive Status Register */
-            case 0xFF48:
-                return disk[diskDriveSelect].getStatusRegister();
-
-            /* Disk Track Status Register */
-            case 0xFF49:
-                return new UnsignedByte(disk[diskDriveSelect].getTrack());
-
-            /* Disk Sector Status Register */
-            case 0xFF4A:
-                return new UnsignedByte(disk[diskDriveSelect].getSector());
-
-            /* Disk Data Register */
-            case 0xFF4B:
-                return new UnsignedByte(disk[diskDriveSelect].getDataRegister());
-
-            /* IRQs Enabled Register */
-            case 0xFF92:
-                return irqStatus;
-
-            /* FIRQs Enabled Register */
-            case 0xFF93:
-                return firqStatus;
-
-            /* Timer 1 */
-            case 0xFF94:
-                return timerResetValue.getHigh();
-
-            /* Timer 0 */
-            case 0xFF95:
-                return timerResetValue.getLow();
-
-            /* Video Mode Register */
-            case 0xFF98:
-                return videoModeRegister.copy();
-
-            /* Video Resolution */
-            case 0xFF99:
-                return videoResolutionRegister.copy();
-
-            /* Border Color Register */
-            case 0xFF9A:
-                return borderRegister.copy();
-
-            /* Vertical Offset Register 1 */
-            case 0xFF9D:
-                return verticalOffsetRegister1.copy();
-
-            /* Vertical Offset Register 0 */
-            case 0xFF9E:
-                return verticalOffsetRegister0.copy();
-
-            /* SAM Clock Speed R1 */
-            case 0xFFD8:
-            case 0xFFD9:
-                return new UnsignedByte();
-
-            /* Interrupt vectors */
-            case 0xFFF2:
-            case 0xFFF3:
-            case 0xFFF4:
-            case 0xFFF5:
-            case 0xFFF6:
-            case 0xFFF7:
-            case 0xFFF8:
-            case 0xFFF9:
-            case 0xFFFA:
-            case 0xFFFB:
-            case 0xFFFC:
-            case 0xFFFD:
-            case 0xFFFE:
-            case 0xFFFF:
-                return memory.readROMByte(address);
-
-            default:
-                return memory.readByte(new UnsignedWord(address));
-        }
+        return new UnsignedByte(read8(address));
     }
 
     public UnsignedWord readWord(int address) {
-        return readWord(new UnsignedWord(address));
+        return new UnsignedWord(read16(address));
     }
 
     /**
@@ -501,10 +411,7 @@ public class IOController
      * @return an UnsignedWord from the specified location
      */
     public UnsignedWord readWord(UnsignedWord address) {
-        UnsignedWord result = new UnsignedWord();
-        result.setHigh(readByte(address));
-        result.setLow(readByte(address.next()));
-        return result;
+        return new UnsignedWord(read16(address.get()));
     }
 
     /**
@@ -515,7 +422,7 @@ public class IOController
      * @param value the value to write
      */
     public void writeByte(int address, int value) {
-        writeByte(new UnsignedWord(address), new UnsignedByte(value));
+        write8(address, value);
     }
 
     /**
@@ -525,14 +432,41 @@ public class IOController
      * @param value the UnsignedByte to write
      */
     public void writeByte(UnsignedWord address, UnsignedByte value) {
-        int intAddress = address.get();
-        if (intAddress < 0xFF00) {
-            memory.writeByte(address, value);
+        write8(address.get(), value.get());
+    }
+
+    /**
+     * Writes a byte to the specified address. Writes to main memory do not
+     * allocate any intermediate objects, which makes this the preferred
+     * write path for the CPU.
+     *
+     * @param address the 16-bit address to write to
+     * @param value the byte value to write
+     */
+    public void write8(int address, int value) {
+        address &= 0xFFFF;
+        if (address < 0xFF00) {
+            memory.write8(address, value);
         } else {
-            writeIOByte(address, value);
+            value &= 0xFF;
+            ioMemory[address & 0xFF] = (short) value;
+            writeHandlers[address & 0xFF].write(this, address, value);
         }
     }
 
+    /**
+     * Writes a 16-bit word to the specified address. The high byte is
+     * written to the address, and the low byte to the address that
+     * follows it.
+     *
+     * @param address the 16-bit address to write to
+     * @param value the word value to write
+     */
+    public void write16(int address, int value) {
+        write8(address, value >> 8);
+        write8(address + 1, value);
+    }
+
     /**
      * Writes an UnsignedByte to the specified memory address.
      *
@@ -540,474 +474,298 @@ public class IOController
      * @param value the value to write
      */
     public void writeIOByte(UnsignedWord address, UnsignedByte value) {
-        int intAddress = address.get() - 0xFF00;
-        ioMemory[intAddress] = value.get();
-
-        switch (address.get()) {
-            /* PIA 1 Data Register A */
-            case 0xFF00:
-            case 0xFF04:
-            case 0xFF08:
-            case 0xFF0C:
-            case 0xFF10:
-            case 0xFF14:
-            case 0xFF18:
-            case 0xFF1C:
-                pia1a.setRegister(value);
-                break;
-
-            /* PIA 1 Control Register A */
-            case 0xFF01:
-            case 0xFF05:
-            case 0xFF09:
-            case 0xFF0D:
-            case 0xFF11:
-            case 0xFF15:
-            case 0xFF19:
-            case 0xFF1D:
-                pia1a.setControlRegister(value);
-                break;
-
-            /* PIA 1 Data Register B */
-            case 0xFF02:
-            case 0xFF06:
-            case 0xFF0A:
-            case 0xFF0E:
-            case 0xFF12:
-            case 0xFF16:
-            case 0xFF1A:
-            case 0xFF1E:
-                pia1b.setRegister(value);
-                break;
-
-            /* PIA 1 Control Register B */
-            case 0xFF03:
-            case 0xFF07:
-            case 0xFF0B:
-            case 0xFF0F:
-            case 0xFF13:
-            case 0xFF17:
-            case 0xFF1B:
-            case 0xFF1F:
-                pia1b.setControlRegister(value);
-                break;
-
-            /* PIA 2 Data Register A / Data Direction Register A */
-            case 0xFF20:
-            case 0xFF24:
-            case 0xFF28:
-            case 0xFF2C:
-            case 0xFF30:
-            case 0xFF34:
-            case 0xFF38:
-            case 0xFF3C:
-                pia2a.setRegister(value);
-                /* Bits 2-7 = digital analog values */
-                // cassette.byteInput(value);
-                break;
-
-            /* PIA 2 Control Register A */
-            case 0xFF21:
-            case 0xFF25:
-            case 0xFF29:
-            case 0xFF2D:
-            case 0xFF31:
-            case 0xFF35:
-            case 0xFF39:
-            case 0xFF3D:
-                pia2a.setControlRegister(value);
-                break;
-
-            /* PIA 2 Data Register B / Data Direction Register B */
-            case 0xFF22:
-            case 0xFF26:
-            case 0xFF2A:
-            case 0xFF2E:
-            case 0xFF32:
-            case 0xFF36:
-            case 0xFF3A:
-            case 0xFF3E:
-                pia2b.setRegister(value);
-                break;
-
-            /* PIA 2 Control Register B */
-            case 0xFF23:
-            case 0xFF27:
-            case 0xFF2B:
-            case 0xFF2F:
-            case 0xFF33:
-            case 0xFF37:
-            case 0xFF3B:
-            case 0xFF3F:
-                pia2b.setControlRegister(value);
-                break;
-
-
-            /* Disk Drive Control Register */
-            case 0xFF40:
-                /* Bit 2-0 = Disk drive select */
-                diskDriveSelect = (value.isMasked(0x1)) ? 0 : diskDriveSelect;
-                diskDriveSelect = (value.isMasked(0x2)) ? 1 : diskDriveSelect;
-                diskDriveSelect = (value.isMasked(0x4)) ? 2 : diskDriveSelect;
-
-                /* Bit 3 = Disk drive motor on */
-                if (value.isMasked(0x08)) {
-                    disk[diskDriveSelect].turnMotorOn();
-                } else {
-                    disk[diskDriveSelect].turnMotorOff();
-                }
-
-                /* Bit 4 = Write pre-compensation (ignored) */
-
-                /* Bit 5 = Density flag (ignored) */
-
-                /* Bit 6 = Disk drive select */
-                diskDriveSelect = (value.isMasked(0x40)) ? 3 : diskDriveSelect;
-
-                /* Bit 7 = Halt flag */
-                if (value.isMasked(0x80)) {
-                    disk[diskDriveSelect].enableHalt();
-                } else {
-                    disk[diskDriveSelect].disableHalt();
-                }
-                break;
-
-            /* Disk Command Register */
-            case 0xFF48:
-            case 0xFF4C:
-            case 0xFF58:
-            case 0xFF5C:
-                disk[diskDriveSelect].executeCommand(value);
-                break;
-
-            /* Track Status Register */
-            case 0xFF49:
-                disk[diskDriveSelect].setTrack(value);
-                break;
-
-            /* Sector Status Register */
-            case 0xFF4A:
-                disk[diskDriveSelect].setSector(value);
-                break;
-
-            /* Disk Data Register */
-            case 0xFF4B:
-                disk[diskDriveSelect].setDataRegister(value);
-                break;
-                
-            /* INIT 0 */
-            case 0xFF90:
-                /* Bit 1 & 0 = ROM memory mapping */
-                memory.setROMMode(new UnsignedByte(value.get() & 0x3));
-
-                /* Bit 4 = FIRQ - 0 disabled, 1 enabled */
-                firqEnabled = value.isMasked(0x10);
-
-                /* Bit 5 = IRQ - 0 disabled, 1 enabled */
-                irqEnabled = value.isMasked(0x20);
-
-                /* Bit 6 = MMU - disable or enable */
-                if (value.isMasked(0x40)) {
-                    memory.enableMMU();
-                } else {
-                    memory.disableMMU();
-                }
-
-                /* Bit 7 = set - low resolution display active, clear - high resolution display active */
-                lowResolutionDisplayActive = (value.isMasked(0x80));
-                updateVerticalOffset();
-                break;
-
-            /* INIT 1 */
-            case 0xFF91:
-                /* Bit 0 = PAR selection - Task or Executive */
-                if (value.isMasked(0x1)) {
-                    memory.enableExecutivePAR();
-                } else {
-                    memory.enableTaskPAR();
-                }
-
-                /* Bit 5 = Timer Rate - 0 is 63.5 microseconds, 1 is 70 nanoseconds */
-                timerTickThreshold = TIMER_63_5_MICROS;
-                break;
-
-            /* IRQs Enabled Register */
-            case 0xFF92:
-                irqStatus = value.copy();
-                irqStatus.and(0x3F);
-                break;
-
-            /* FIRQs Enabled Register */
-            case 0xFF93:
-                firqStatus = value.copy();
-                firqStatus.and(0x3F);
-                break;
-
-            /* Timer 1 */
-            case 0xFF94:
-                timerResetValue.setHigh(value);
-                timerResetValue.and(0x0FFF);
-                timerValue.set(timerResetValue);
-                break;
-
-            /* Timer 0 */
-            case 0xFF95:
-                timerResetValue.setLow(value);
-                timerValue.set(timerResetValue);
-                break;
-
-            /* Video Mode Register */
-            case 0xFF98:
-                videoModeRegister.set(value);
-                break;
-
-            /* Video Resolution Register */
-            case 0xFF99:
-                videoResolutionRegister.set(value);
-                break;
-
-            /* Border Color Register */
-            case 0xFF9A:
-                borderRegister.set(value);
-                break;
-
-            /* Vertical Offset Register 1 */
-            case 0xFF9D:
-                verticalOffsetRegister1.set(value);
-                updateVerticalOffset();
-                break;
-
-            /* Vertical Offset Register 0 */
-            case 0xFF9E:
-                verticalOffsetRegister0.set(value);
-                updateVerticalOffset();
-                break;
-
-            /* EXEC PAR 0 */
-            case 0xFFA0:
-                memory.setExecutivePAR(0, value);
-                break;
-
-            /* EXEC PAR 1 */
-            case 0xFFA1:
-                memory.setExecutivePAR(1, value);
-                break;
-
-            /* EXEC PAR 2 */
-            case 0xFFA2:
-                memory.setExecutivePAR(2, value);
-                break;
-
-            /* EXEC PAR 3 */
-            case 0xFFA3:
-                memory.setExecutivePAR(3, value);
-                break;
-
-            /* EXEC PAR 4 */
-            case 0xFFA4:
-                memory.setExecutivePAR(4, value);
-                break;
-
-            /* EXEC PAR 5 */
-            case 0xFFA5:
-                memory.setExecutivePAR(5, value);
-                break;
-
-            /* EXEC PAR 6 */
-            case 0xFFA6:
-                memory.setExecutivePAR(6, value);
-                break;
-
-            /* EXEC PAR 7 */
-            case 0xFFA7:
-                memory.setExecutivePAR(7, value);
-                break;
-
-            /* TASK PAR 0 */
-            case 0xFFA8:
-                memory.setTaskPAR(0, value);
-                break;
-
-            /* TASK PAR 1 */
-            case 0xFFA9:
-                memory.setTaskPAR(1, value);
-                break;
-
-            /* TASK PAR 2 */
-            case 0xFFAA:
-                memory.setTaskPAR(2, value);
-                break;
-
-            /* TASK PAR 3 */
-            case 0xFFAB:
-                memory.setTaskPAR(3, value);
-                break;
-
-            /* TASK PAR 4 */
-            case 0xFFAC:
-                memory.setTaskPAR(4, value);
-                break;
-
-            /* TASK PAR 5 */
-            case 0xFFAD:
-                memory.setTaskPAR(5, value);
-                break;
-
-            /* TASK PAR 6 */
-            case 0xFFAE:
-                memory.setTaskPAR(6, value);
-                break;
-
-            /* TASK PAR 7 */
-            case 0xFFAF:
-                memory.setTaskPAR(7, value);
-                break;
-
-            /* SAM - Video Display - V0 - Clear */
-            case 0xFFC0:
-                samControlBits.and(~0x1);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Video Display - V0 - Set */
-            case 0xFFC1:
-                samControlBits.or(0x1);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Video Display - V1 - Clear */
-            case 0xFFC2:
-                samControlBits.and(~0x2);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Video Display - V1 - Set */
-            case 0xFFC3:
-                samControlBits.or(0x2);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Video Display - V2 - Clear */
-            case 0xFFC4:
-                samControlBits.and(~0x4);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Video Display - V2 - Set */
-            case 0xFFC5:
-                samControlBits.or(0x4);
-                updateVideoMode(pia2b.getVdgMode());
-                break;
-
-            /* SAM - Display Offset Register - Bit 0 - Clear */
-            case 0xFFC6:
-                samDisplayOffsetRegister.and(~0x01);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 0 - Set */
-            case 0xFFC7:
-                samDisplayOffsetRegister.or(0x01);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 1 - Clear */
-            case 0xFFC8:
-                samDisplayOffsetRegister.and(~0x02);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 1 - Set */
-            case 0xFFC9:
-                samDisplayOffsetRegister.or(0x02);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 2 - Clear */
-            case 0xFFCA:
-                samDisplayOffsetRegister.and(~0x04);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 2 - Set */
-            case 0xFFCB:
-                samDisplayOffsetRegister.or(0x04);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 3 - Clear */
-            case 0xFFCC:
-                samDisplayOffsetRegister.and(~0x08);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 3 - Set */
-            case 0xFFCD:
-                samDisplayOffsetRegister.or(0x08);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 4 - Clear */
-            case 0xFFCE:
-                samDisplayOffsetRegister.and(~0x10);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 4 - Set */
-            case 0xFFCF:
-                samDisplayOffsetRegister.or(0x10);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 5 - Clear */
-            case 0xFFD0:
-                samDisplayOffsetRegister.and(~0x20);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 5 - Set */
-            case 0xFFD1:
-                samDisplayOffsetRegister.or(0x20);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 6 - Clear */
-            case 0xFFD2:
-                samDisplayOffsetRegister.and(~0x40);
-                updateVerticalOffset();
-                break;
-
-            /* SAM - Display Offset Register - Bit 6 - Set */
-            case 0xFFD3:
-                samDisplayOffsetRegister.or(0x40);
-                updateVerticalOffset();
-                break;
-
-            /* Clear SAM R1 Bit - Clock Speed */
-            case 0xFFD8:
-                samClockSpeed.and(~0x2);
-                updateClockSpeed();
-                break;
-
-            /* Set SAM R1 Bit - Clock Speed */
-            case 0xFFD9:
-                samClockSpeed.or(0x2);
-                updateClockSpeed();
-                break;
-
-            /* Clear SAM TY Bit - ROM/RAM mode */
-            case 0xFFDE:
-                memory.disableAllRAMMode();
-                break;
-
-            /* Set SAM TY Bit - all RAM mode */
-            case 0xFFDF:
-                memory.enableAllRAMMode();
-                break;
-
-            default:
-                break;
+        write8(address.get(), value.get());
+    }
+
+    /**
+     * Registers the handlers for both PIAs. Each side has its data (or data
+     * direction) register followed by its control register. The PIAs only
+     * decode the low 2 address bits, so the registers repeat every 4 bytes
+     * across each 32 byte block.
+     */
+    protected void registerPIAHandlers() {
+        for (int mirror = 0; mirror < PIA.REGISTER_MIRRORS; mirror++) {
+            int offset = mirror << 2;
+
+            /* PIA 1 side A - keyboard columns and joystick comparator */
+            registerReadHandler(0xFF00 + offset, (io, address) -> io.pia1a.readRegister());
+            registerWriteHandler(0xFF00 + offset, (io, address, value) -> io.pia1a.writeRegister(value));
+            registerReadHandler(0xFF01 + offset, (io, address) -> io.pia1a.readControlRegister());
+            registerWriteHandler(0xFF01 + offset, (io, address, value) -> io.pia1a.writeControlRegister(value));
+
+            /* PIA 1 side B - keyboard rows */
+            registerReadHandler(0xFF02 + offset, (io, address) -> io.pia1b.readRegister());
+            registerWriteHandler(0xFF02 + offset, (io, address, value) -> io.pia1b.writeRegister(value));
+            registerReadHandler(0xFF03 + offset, (io, address) -> io.pia1b.readControlRegister());
+            registerWriteHandler(0xFF03 + offset, (io, address, value) -> io.pia1b.writeControlRegister(value));
+
+            /* PIA 2 side A - DAC and cassette input, which changes state when read */
+            registerReadHandler(0xFF20 + offset, (io, address) -> {
+                io.statefulReads++;
+                return io.pia2a.readRegister();
+            });
+            registerWriteHandler(0xFF20 + offset, (io, address, value) -> io.pia2a.writeRegister(value));
+            registerReadHandler(0xFF21 + offset, (io, address) -> io.pia2a.readControlRegister());
+            registerWriteHandler(0xFF21 + offset, (io, address, value) -> io.pia2a.writeControlRegister(value));
+
+            /* PIA 2 side B - VDG mode */
+            registerReadHandler(0xFF22 + offset, (io, address) -> io.pia2b.readRegister());
+            registerWriteHandler(0xFF22 + offset, (io, address, value) -> io.pia2b.writeRegister(value));
+            registerReadHandler(0xFF23 + offset, (io, address) -> io.pia2b.readControlRegister());
+            registerWriteHandler(0xFF23 + offset, (io, address, value) -> io.pia2b.writeControlRegister(value));
+        }
+    }
+
+    /**
+     * Registers the handlers for the floppy disk controller at $FF40-$FF5F.
+     */
+    protected void registerDiskHandlers() {
+        /* Disk Drive Control Register */
+        registerWriteHandler(0xFF40, (io, address, value) -> io.writeDiskControlRegister(value));
+
+        /* Disk Drive Status Register / Disk Command Register */
+        registerReadHandler(0xFF48, (io, address) -> {
+            io.statefulReads++;
+            return io.disk[io.diskDriveSelect].getStatusRegister().get();
+        });
+        for (int address : new int [] {0xFF48, 0xFF4C, 0xFF58, 0xFF5C}) {
+            registerWriteHandler(address, (io, ignored, value) -> io.disk[io.diskDriveSelect].executeCommand(value));
+        }
+
+        /* Track Status Register */
+        registerReadHandler(0xFF49, (io, address) -> io.disk[io.diskDriveSelect].getTrack());
+        registerWriteHandler(0xFF49, (io, address, value) -> io.disk[io.diskDriveSelect].setTrack(value));
+
+        /* Sector Status Register */
+        registerReadHandler(0xFF4A, (io, address) -> io.disk[io.diskDriveSelect].getSector());
+        registerWriteHandler(0xFF4A, (io, address, value) -> io.disk[io.diskDriveSelect].setSector(value));
+
+        /* Disk Data Register */
+        registerReadHandler(0xFF4B, (io, address) -> {
+            io.statefulReads++;
+            return io.disk[io.diskDriveSelect].getDataRegister();
+        });
+        registerWriteHandler(0xFF4B, (io, address, value) -> io.disk[io.diskDriveSelect].setDataRegister(value));
+    }
+
+    /**
+     * Registers the handlers for the GIME registers at $FF90-$FFAF, and for
+     * the interrupt vectors at $FFF2-$FFFF, which the GIME always maps to
+     * the top of ROM.
+     */
+    protected void registerGIMEHandlers() {
+        /* INIT 0 */
+        registerWriteHandler(0xFF90, (io, address, value) -> io.writeInit0(value));
+
+        /* INIT 1 */
+        registerWriteHandler(0xFF91, (io, address, value) -> io.writeInit1(value));
+
+        /* IRQs Enabled Register */
+        registerReadHandler(0xFF92, (io, address) -> io.irqStatus.get());
+        registerWriteHandler(0xFF92, (io, address, value) -> io.irqStatus.set(value & 0x3F));
+
+        /* FIRQs Enabled Register */
+        registerReadHandler(0xFF93, (io, address) -> io.firqStatus.get());
+        registerWriteHandler(0xFF93, (io, address, value) -> io.firqStatus.set(value & 0x3F));
+
+        /* Timer 1 */
+        registerReadHandler(0xFF94, (io, address) -> io.timerResetValue.get() >> 8);
+        registerWriteHandler(0xFF94, (io, address, value) -> {
+            io.timerResetValue.setHigh(value);
+            io.timerResetValue.and(0x0FFF);
+            io.timerValue.set(io.timerResetValue);
+        });
+
+        /* Timer 0 */
+        registerReadHandler(0xFF95, (io, address) -> io.timerResetValue.get() & 0xFF);
+        registerWriteHandler(0xFF95, (io, address, value) -> {
+            io.timerResetValue.setLow(value);
+            io.timerValue.set(io.timerResetValue);
+        });
+
+        /* Video Mode Register */
+        registerReadHandler(0xFF98, (io, address) -> io.videoModeRegister.get());
+        registerWriteHandler(0xFF98, (io, address, value) -> io.videoModeRegister.set(value));
+
+        /* Video Resolution Register */
+        registerReadHandler(0xFF99, (io, address) -> io.videoResolutionRegister.get());
+        registerWriteHandler(0xFF99, (io, address, value) -> io.videoResolutionRegister.set(value));
+
+        /* Border Color Register */
+        registerReadHandler(0xFF9A, (io, address) -> io.borderRegister.get());
+        registerWriteHandler(0xFF9A, (io, address, value) -> io.borderRegister.set(value));
+
+        /* Extended memory bank register (8MB upgrade) */
+        registerWriteHandler(0xFF9B, (io, address, value) -> io.memory.setBankRegister(value));
+
+        /* Vertical Offset Register 1 */
+        registerReadHandler(0xFF9D, (io, address) -> io.verticalOffsetRegister1.get());
+        registerWriteHandler(0xFF9D, (io, address, value) -> {
+            io.verticalOffsetRegister1.set(value);
+            io.updateVerticalOffset();
+        });
+
+        /* Vertical Offset Register 0 */
+        registerReadHandler(0xFF9E, (io, address) -> io.verticalOffsetRegister0.get());
+        registerWriteHandler(0xFF9E, (io, address, value) -> {
+            io.verticalOffsetRegister0.set(value);
+            io.updateVerticalOffset();
+        });
+
+        /* EXEC PAR 0-7 and TASK PAR 0-7 */
+        for (int address = 0xFFA0; address <= 0xFFA7; address++) {
+            registerWriteHandler(address, (io, par, value) -> io.memory.setExecutivePAR(par & 0x7, value));
+            registerWriteHandler(address + 8, (io, par, value) -> io.memory.setTaskPAR(par & 0x7, value));
+        }
+
+        /* Interrupt vectors */
+        for (int address = 0xFFF2; address <= 0xFFFF; address++) {
+            registerReadHandler(address, (io, vector) -> io.memory.readROM8(vector));
+        }
+    }
+
+    /**
+     * Registers the handlers for the SAM control bits at $FFC0-$FFDF. Each
+     * bit has a pair of addresses - writing to the even address clears the
+     * bit, and writing to the odd address sets it.
+     */
+    protected void registerSAMHandlers() {
+        /* SAM - Video Display - V0 to V2 */
+        for (int address = 0xFFC0; address <= 0xFFC5; address++) {
+            registerWriteHandler(address, (io, bit, value) -> io.writeSAMVideoModeBit(bit));
+        }
+
+        /* SAM - Display Offset Register - Bits 0 to 6 */
+        for (int address = 0xFFC6; address <= 0xFFD3; address++) {
+            registerWriteHandler(address, (io, bit, value) -> io.writeSAMDisplayOffsetBit(bit));
+        }
+
+        /* SAM R1 Bit - Clock Speed */
+        registerReadHandler(0xFFD8, (io, address) -> 0);
+        registerReadHandler(0xFFD9, (io, address) -> 0);
+        registerWriteHandler(0xFFD8, (io, address, value) -> {
+            io.samClockSpeed.and(~0x2);
+            io.updateClockSpeed();
+        });
+        registerWriteHandler(0xFFD9, (io, address, value) -> {
+            io.samClockSpeed.or(0x2);
+            io.updateClockSpeed();
+        });
+
+        /* SAM TY Bit - ROM/RAM mode */
+        registerWriteHandler(0xFFDE, (io, address, value) -> io.memory.disableAllRAMMode());
+        registerWriteHandler(0xFFDF, (io, address, value) -> io.memory.enableAllRAMMode());
+    }
+
+    /**
+     * Writes the disk drive control register at $FF40, which selects the
+     * drive, and turns its motor and halt flag on or off.
+     *
+     * @param value the value written to the register
+     */
+    protected void writeDiskControlRegister(int value) {
+        /* Bit 2-0 = Disk drive select */
+        diskDriveSelect = ((value & 0x1) != 0) ? 0 : diskDriveSelect;
+        diskDriveSelect = ((value & 0x2) != 0) ? 1 : diskDriveSelect;
+        diskDriveSelect = ((value & 0x4) != 0) ? 2 : diskDriveSelect;
+
+        /* Bit 3 = Disk drive motor on */
+        if ((value & 0x08) != 0) {
+            disk[diskDriveSelect].turnMotorOn();
+        } else {
+            disk[diskDriveSelect].turnMotorOff();
+        }
+
+        /* Bit 4 = Write pre-compensation (ignored) */
+
+        /* Bit 5 = Density flag (ignored) */
+
+        /* Bit 6 = Disk drive select */
+        diskDriveSelect = ((value & 0x40) != 0) ? 3 : diskDriveSelect;
+
+        /* Bit 7 = Halt flag */
+        if ((value & 0x80) != 0) {
+            disk[diskDriveSelect].enableHalt();
+        } else {
+            disk[diskDriveSelect].disableHalt();
+        }
+    }
+
+    /**
+     * Writes the GIME INIT 0 register at $FF90.
+     *
+     * @param value the value written to the register
+     */
+    protected void writeInit0(int value) {
+        /* Bit 1 & 0 = ROM memory mapping */
+        memory.setROMMode(value & 0x3);
+
+        /* Bit 4 = FIRQ - 0 disabled, 1 enabled */
+        firqEnabled = (value & 0x10) != 0;
+
+        /* Bit 5 = IRQ - 0 disabled, 1 enabled */
+        irqEnabled = (value & 0x20) != 0;
+
+        /* Bit 6 = MMU - disable or enable */
+        if ((value & 0x40) != 0) {
+            memory.enableMMU();
+        } else {
+            memory.disableMMU();
+        }
+
+        /* Bit 7 = set - low resolution display active, clear - high resolution display active */
+        lowResolutionDisplayActive = (value & 0x80) != 0;
+        updateVerticalOffset();
+    }
+
+    /**
+     * Writes the GIME INIT 1 register at $FF91.
+     *
+     * @param value the value written to the register
+     */
+    protected void writeInit1(int value) {
+        /* Bit 0 = PAR selection - Task or Executive */
+        if ((value & 0x1) != 0) {
+            memory.enableExecutivePAR();
+        } else {
+            memory.enableTaskPAR();
         }
+
+        /* Bit 5 = Timer Rate - 0 is 63.5 microseconds, 1 is 70 nanoseconds */
+        timerTickThreshold = TIMER_63_5_MICROS;
+        events.setPeriod(EventQueue.GIME_TIMER, timerTickThreshold);
+    }
+
+    /**
+     * Clears or sets one of the SAM video display bits V0-V2 at
+     * $FFC0-$FFC5, and updates the video mode to match.
+     *
+     * @param address the address written to
+     */
+    protected void writeSAMVideoModeBit(int address) {
+        int bit = 1 << ((address - 0xFFC0) >> 1);
+        if ((address & 0x1) != 0) {
+            samControlBits.or(bit);
+        } else {
+            samControlBits.and(~bit);
+        }
+        updateVideoMode(pia2b.getVdgMode());
+    }
+
+    /**
+     * Clears or sets one of the SAM display offset bits at $FFC6-$FFD3,
+     * and updates the vertical offset to match.
+     *
+     * @param address the address written to
+     */
+    protected void writeSAMDisplayOffsetBit(int address) {
+        int bit = 1 << ((address - 0xFFC6) >> 1);
+        if ((address & 0x1) != 0) {
+            samDisplayOffsetRegister.or(bit);
+        } else {
+            samDisplayOffsetRegister.and(~bit);
+        }
+        updateVerticalOffset();
     }
 
     /**
@@ -1131,7 +889,7 @@ public class IOController
      * @param value the value to write
      */
     public void writeWord(int address, int value) {
-        writeWord(new UnsignedWord(address), new UnsignedWord(value));
+        write16(address, value);
     }
 
     /**
@@ -1142,7 +900,7 @@ public class IOController
      * @param value the value to write
      */
     public void writeWord(UnsignedWord address, int value) {
-        writeWord(address, new UnsignedWord(value));
+        write16(address.get(), value);
     }
 
     /**
@@ -1152,8 +910,138 @@ public class IOController
      * @param value the UnsignedWord to write
      */
     public void writeWord(UnsignedWord address, UnsignedWord value) {
-        writeByte(address, value.getHigh());
-        writeByte(address.next(), value.getLow());
+        write16(address.get(), value.get());
+    }
+
+    /**
+     * Pushes the registers selected by a PSHS / PSHU style postbyte onto a
+     * stack. Bit 7 selects PC, bit 6 the other stack pointer, then Y, X,
+     * DP, B, A and bit 0 CC. The frame is built in one go and written with
+     * a single pass through the page table, unless it would wrap around
+     * memory or reach the IO page, in which case it is pushed a byte at a
+     * time. Either way the bytes end up in the same order as pushing the
+     * registers one by one, starting with the PC.
+     *
+     * @param register the stack to use
+     * @param postByte the registers to push
+     * @return the number of bytes pushed
+     */
+    public int pushRegisters(Register register, int postByte) {
+        boolean systemStack = register == Register.S;
+        int length = 0;
+
+        /* Build the frame in ascending address order - CC ends up on top */
+        if ((postByte & 0x01) != 0) {
+            stackFrame[length++] = regs.getCC();
+        }
+        if ((postByte & 0x02) != 0) {
+            stackFrame[length++] = regs.getA();
+        }
+        if ((postByte & 0x04) != 0) {
+            stackFrame[length++] = regs.getB();
+        }
+        if ((postByte & 0x08) != 0) {
+            stackFrame[length++] = regs.getDP();
+        }
+        if ((postByte & 0x10) != 0) {
+            length = addWordToFrame(length, regs.getX());
+        }
+        if ((postByte & 0x20) != 0) {
+            length = addWordToFrame(length, regs.getY());
+        }
+        if ((postByte & 0x40) != 0) {
+            length = addWordToFrame(length, systemStack ? regs.getU() : regs.getS());
+        }
+        if ((postByte & 0x80) != 0) {
+            length = addWordToFrame(length, regs.getPC());
+        }
+
+        int stackPointer = systemStack ? regs.getS() : regs.getU();
+        int address = stackPointer - length;
+        if (address < 0 || stackPointer > 0xFF00) {
+            for (int i = length - 1; i >= 0; i--) {
+                pushStackByte(register, stackFrame[i]);
+            }
+            return length;
+        }
+
+        memory.writeBlock(address, stackFrame, length);
+        if (systemStack) {
+            regs.setS(address);
+        } else {
+            regs.setU(address);
+        }
+        return length;
+    }
+
+    /**
+     * Pulls the registers selected by a PULS / PULU style postbyte off of a
+     * stack, in the reverse of the order pushRegisters stores them. The
+     * frame is read with a single pass through the page table unless it
+     * would wrap around memory or reach the IO page.
+     *
+     * @param register the stack to use
+     * @param postByte the registers to pull
+     * @return the number of bytes pulled
+     */
+    public int pullRegisters(Register register, int postByte) {
+        boolean systemStack = register == Register.S;
+        int length = Integer.bitCount(postByte & 0x0F) + (2 * Integer.bitCount(postByte & 0xF0));
+        int stackPointer = systemStack ? regs.getS() : regs.getU();
+
+        if (stackPointer + length > 0xFF00) {
+            for (int i = 0; i < length; i++) {
+                stackFrame[i] = popStackByte(register);
+            }
+        } else {
+            memory.readBlock(stackPointer, stackFrame, length);
+            if (systemStack) {
+                regs.setS(stackPointer + length);
+            } else {
+                regs.setU(stackPointer + length);
+            }
+        }
+
+        int index = 0;
+        if ((postByte & 0x01) != 0) {
+            regs.setCC(stackFrame[index++]);
+        }
+        if ((postByte & 0x02) != 0) {
+            regs.setA(stackFrame[index++]);
+        }
+        if ((postByte & 0x04) != 0) {
+            regs.setB(stackFrame[index++]);
+        }
+        if ((postByte & 0x08) != 0) {
+            regs.setDP(stackFrame[index++]);
+        }
+        if ((postByte & 0x10) != 0) {
+            regs.setX((stackFrame[index] << 8) | stackFrame[index + 1]);
+            index += 2;
+        }
+        if ((postByte & 0x20) != 0) {
+            regs.setY((stackFrame[index] << 8) | stackFrame[index + 1]);
+            index += 2;
+        }
+        if ((postByte & 0x40) != 0) {
+            int value = (stackFrame[index] << 8) | stackFrame[index + 1];
+            if (systemStack) {
+                regs.setU(value);
+            } else {
+                regs.setS(value);
+            }
+            index += 2;
+        }
+        if ((postByte & 0x80) != 0) {
+            regs.setPC((stackFrame[index] << 8) | stackFrame[index + 1]);
+        }
+        return length;
+    }
+
+    private int addWordToFrame(int length, int value) {
+        stackFrame[length] = (value >> 8) & 0xFF;
+        stackFrame[length + 1] = value & 0xFF;
+        return length + 2;
     }
 
     /**
@@ -1161,15 +1049,15 @@ public class IOController
      * stack pointer prior to performing the push.
      *
      * @param register the stack to use
-     * @param value the value to push
+     * @param value the byte value to push
      */
-    public void pushStack(Register register, UnsignedByte value) {
+    public void pushStackByte(Register register, int value) {
         if (register == Register.S) {
-            regs.s.add(-1);
-            writeByte(regs.s, value);
+            regs.setS(regs.getS() - 1);
+            write8(regs.getS(), value);
         } else {
-            regs.u.add(-1);
-            writeByte(regs.u, value);
+            regs.setU(regs.getU() - 1);
+            write8(regs.getU(), value);
         }
     }
 
@@ -1178,11 +1066,11 @@ public class IOController
      * stack pointer prior to performing the push.
      *
      * @param register the stack to use
-     * @param value the value to push
+     * @param value the word value to push
      */
-    public void pushStack(Register register, UnsignedWord value) {
-        pushStack(register, value.getLow());
-        pushStack(register, value.getHigh());
+    public void pushStackWord(Register register, int value) {
+        pushStackByte(register, value);
+        pushStackByte(register, value >> 8);
     }
 
     /**
@@ -1190,36 +1078,30 @@ public class IOController
      * performing the pop.
      *
      * @param register the stack to use
-     * @return the value popped
+     * @return the byte value popped
      */
-    public UnsignedByte popStack(Register register) {
-        UnsignedByte result = new UnsignedByte();
+    public int popStackByte(Register register) {
+        int result;
         if (register == Register.S) {
-            result.set(readByte(regs.s));
-            regs.s.add(1);
+            result = read8(regs.getS());
+            regs.setS(regs.getS() + 1);
         } else {
-            result.set(readByte(regs.u));
-            regs.u.add(1);
+            result = read8(regs.getU());
+            regs.setU(regs.getU() + 1);
         }
         return result;
     }
 
     /**
-     * Gets the register of the specified type.
+     * Pops a word off of a stack. The high byte is popped first, followed by
+     * the low byte.
      *
-     * @param register the register to get
-     * @return the register
+     * @param register the stack to use
+     * @return the word value popped
      */
-    public UnsignedWord getWordRegister(Register register) {
-        return switch (register) {
-            case Y -> regs.y;
-            case X -> regs.x;
-            case S -> regs.s;
-            case U -> regs.u;
-            case D -> regs.getD();
-            case PC -> regs.pc;
-            default -> null;
-        };
+    public int popStackWord(Register register) {
+        int high = popStackByte(register);
+        return (high << 8) | popStackByte(register);
     }
 
     /**
@@ -1228,8 +1110,8 @@ public class IOController
      * @param postByte the post byte to decode
      * @return the specified register, UNKNOWN if not a valid code
      */
-    public Register getIndexedRegister(UnsignedByte postByte) {
-        int value = postByte.get();
+    public Register getIndexedRegister(int postByte) {
+        int value = postByte;
         value &= 0x60;
         value = value >> 5;
 
@@ -1254,9 +1136,7 @@ public class IOController
      */
     public void reset() {
         /* Reset Condition Code register */
-        regs.cc = new UnsignedByte(0);
-        regs.cc.or(CC_I);
-        regs.cc.or(CC_F);
+        regs.setCC(CC_I | CC_F);
 
         /* Disable MMU */
         memory.disableMMU();
@@ -1266,72 +1146,93 @@ public class IOController
         memory.disableAllRAMMode();
 
         /* Load PC with Reset Interrupt Vector */
-        regs.pc = readWord(0xFFFE);
+        regs.setPC(read16(0xFFFE));
     }
 
     /**
-     * Increments the timer by the specified number of ticks. If
-     * the number of ticks exceeds the threshold for when the timer
-     * should be decremented, will decrement the timer value by 1
-     * and reset the tick counter.
+     * Advances the timers by the specified number of ticks. Nothing further
+     * happens unless a timer or device event falls due, in which case each
+     * due event is fired - the PIA and GIME interrupts are raised if they
+     * are enabled, the GIME timer is decremented, and the disks are poked.
      *
      * @param ticks the number of ticks to increment
      */
     public void timerTick(int ticks) {
-        diskTickCounter += ticks;
-        timerTickCounter += ticks;
-        horizontalBorderTickValue += ticks;
-        verticalBorderTickValue += ticks;
-
-        /* Check for old interrupts via PIAs */
-        /* Increment pia1 FastTimer, trigger IRQ if interrupts on */
-        pia1a.addTicks(ticks, cpu, regs);
-
-        /* Increment pia1 SlowTimer, trigger IRQ if interrupts on */
-        pia1b.addTicks(ticks, cpu, regs);
-
-        /* Check for GIME timer related interrupts */
-        if (timerTickCounter >= timerTickThreshold) {
-            timerTickCounter = 0;
-            timerValue.add(-1);
-            if (timerValue.isZero()) {
-                if (irqEnabled && irqStatus.isMasked(0x20)) {
-                    cpu.scheduleIRQ();
-                }
-                if (firqEnabled && firqStatus.isMasked(0x20)) {
-                    cpu.scheduleFIRQ();
-                }
-                timerValue.set(timerResetValue);
-            }
+        if (events.advance(ticks)) {
+            fireTimerEvents();
         }
+    }
 
-        /* Check for GIME horizontal border related interrupts */
-        if (horizontalBorderTickValue >= TIMER_63_5_MICROS) {
-            horizontalBorderTickValue = 0;
-            if (irqEnabled && irqStatus.isMasked(0x10)) {
-                cpu.scheduleIRQ();
-            }
-            if (firqEnabled && firqStatus.isMasked(0x10)) {
-                cpu.scheduleFIRQ();
-            }
-        }
+    /**
+     * Fires every event in the event queue that is due.
+     */
+    private void fireTimerEvents() {
+        int event;
+        while ((event = events.poll()) != -1) {
+            timerEvents++;
+            switch (event) {
+                /* Trigger the PIA 1 fast timer IRQ if interrupts on */
+                case EventQueue.PIA1A_TIMER:
+                    pia1a.timerFired(cpu, regs);
+                    break;
 
-        /* Check for GIME vertical border related interrupts */
-        if (verticalBorderTickValue >= TIMER_16_6_MILLIS) {
-            verticalBorderTickValue = 0;
-            if (irqEnabled && irqStatus.isMasked(0x08)) {
-                cpu.scheduleIRQ();
-            }
-            if (firqEnabled && firqStatus.isMasked(0x08)) {
-                cpu.scheduleFIRQ();
+                /* Trigger the PIA 1 slow timer IRQ if interrupts on */
+                case EventQueue.PIA1B_TIMER:
+                    pia1b.timerFired(cpu, regs);
+                    break;
+
+                /* Check for GIME timer related interrupts */
+                case EventQueue.GIME_TIMER:
+                    timerValue.add(-1);
+                    if (timerValue.isZero()) {
+                        if (irqEnabled && irqStatus.isMasked(0x20)) {
+                            cpu.scheduleIRQ();
+                        }
+                        if (firqEnabled && firqStatus.isMasked(0x20)) {
+                            cpu.scheduleFIRQ();
+                        }
+                        timerValue.set(timerResetValue);
+                    }
+                    break;
+
+                /* Check for GIME horizontal border related interrupts */
+                case EventQueue.HORIZONTAL_BORDER:
+                    if (irqEnabled && irqStatus.isMasked(0x10)) {
+                        cpu.scheduleIRQ();
+                    }
+                    if (firqEnabled && firqStatus.isMasked(0x10)) {
+                        cpu.scheduleFIRQ();
+                    }
+                    break;
+
+                /* Check for GIME vertical border related interrupts */
+                case EventQueue.VERTICAL_BORDER:
+                    if (irqEnabled && irqStatus.isMasked(0x08)) {
+                        cpu.scheduleIRQ();
+                    }
+                    if (firqEnabled && firqStatus.isMasked(0x08)) {
+                        cpu.scheduleFIRQ();
+                    }
+                    break;
+
+                /* Check to see if we should poke disks */
+                default:
+                    pokeDisks();
+                    break;
             }
         }
+    }
 
-        /* Check to see if we should poke disks */
-        if (diskTickCounter >= TIMER_DISK_COUNTER) {
-            pokeDisks();
-            diskTickCounter = 0;
-        }
+    /**
+     * Returns the number of ticks until the next event in the event queue
+     * is due - the GIME timer, the horizontal and vertical borders, the
+     * PIA timers or the disk poll. Advancing the timers by fewer ticks
+     * than this only moves the clock along.
+     *
+     * @return the number of ticks until the next timer event
+     */
+    public int ticksUntilNextEvent() {
+        return events.ticksUntilNextEvent();
     }
 
     /**
@@ -1351,68 +1252,11 @@ public class IOController
     }
 
     /**
-     * Polls the available joysticks for state data. There are only 2 things we are
-     * concerned with:
-     *
-     * Analog data:
-     *   x-axis - is usually named 'x' and will range from -1.0 to 1.0
-     *   y-axis - is usually named 'y' and will range from -1.0 to 1.0
-     *
-     * Non-analog data:
-     *   any button - when depressed will read as true, when released is false
-     *
-     * Essentially, the polling routine will read the x-axis and y-axis data
-     * and return them as floats. Any other non-analog input, if it is pressed,
-     * will trigger a fire button.
+     * Polls the joysticks for state data, if there is a joystick input.
      */
     public void pollJoysticks() {
-        if (leftJoystick != null) {
-            leftJoystick.poll();
-            Component [] components = leftJoystick.getComponents();
-            float x = 0.0f;
-            float y = 0.0f;
-            boolean fire = false;
-            for (Component component : components) {
-                if (component.getName().equals("x") && component.isAnalog()) {
-                    x = component.getPollData();
-                }
-                if (component.getName().equals("y") && component.isAnalog()) {
-                    y = component.getPollData();
-                }
-                if (!component.isAnalog()) {
-                    fire |= component.getPollData() == 1.0f;
-                }
-            }
-
-            // Scale output to 4.5 volts and set the current state
-            x = ((x + 1.0f) / 2.0f) * 4.5f;
-            y = ((y + 1.0f) / 2.0f) * 4.5f;
-
-            pia1a.setLeftJoystickState(x, y, fire);
-        }
-
-        if (rightJoystick != null) {
-            rightJoystick.poll();
-            Component [] components = rightJoystick.getComponents();
-            float x = 0.0f;
-            float y = 0.0f;
-            boolean fire = false;
-            for (Component component : components) {
-                if (component.getName().equals("x") && component.isAnalog()) {
-                    x = component.getPollData();
-                }
-                if (component.getName().equals("y") && component.isAnalog()) {
-                    y = component.getPollData();
-                }
-                if (!component.isAnalog()) {
-                    fire |= component.getPollData() == 1.0f;
-                }
-            }
-
-            // Scale output to 4.5 volts and set the current state
-            x = ((x + 1.0f) / 2.0f) * 4.5f;
-            y = ((y + 1.0f) / 2.0f) * 4.5f;
-            pia1a.setRightJoystickState(x, y, fire);
+        if (joystickInput != null) {
+            joystickInput.pollJoysticks(this);
         }
     }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
+
+/**
+ * A keyboard matrix with no keys pressed. A Machine starts with one of
+ * these, so that it can run without a window. The Emulator replaces it
+ * with a keyboard that listens for key presses.
+ */
+public class IdleKeyboard implements KeyboardMatrix
+{
+    protected UnsignedByte lowByte;
+
+    public IdleKeyboard() {
+        lowByte = new UnsignedByte();
+    }
+
+    @Override
+    public void setLowByte(int newLowByte) {
+        lowByte.set(newLowByte);
+    }
+
+    @Override
+    public UnsignedByte getLowByte() {
+        return lowByte.copy();
+    }
+
+    @Override
+    public UnsignedByte getHighByte() {
+        return new UnsignedByte(0xFF);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.util.Arrays;
+
+/**
+ * Detects tight loops that cannot change anything but the cycle counter,
+ * such as the BASIC ROM's keyboard scan waits or a program spinning on a
+ * PIA status register, and works out how many whole iterations can be
+ * skipped.
+ *
+ * A loop qualifies if it is a straight run of register-only instructions
+ * (loads, compares, tests and arithmetic on registers - no stores, stack
+ * operations or jumps) ending in a short branch back to its first
+ * instruction. It is treated as idle once three consecutive iterations
+ * start with the same registers and take the same number of cycles, with
+ * no timer event, interrupt or stateful IO read (such as the cassette
+ * input) in between. From then on every iteration reads the same memory and so does
+ * the same thing, until a timer event changes what the loop reads or
+ * raises an interrupt. Skipping iterations that end before the next timer
+ * event therefore gives exactly the same result as running them.
+ */
+public class IdleLoopDetector
+{
+    /* The most instructions a loop body may contain, including the branch */
+    public static final int MAX_LOOP_INSTRUCTIONS = 8;
+
+    /* The number of loop bodies whose scan results are remembered */
+    private static final int SCAN_CACHE_SIZE = 64;
+
+    private final IOController io;
+
+    /* The loop currently being watched, or -1 if there is none */
+    private int loopTarget;
+    private int loopCodeWrites;
+
+    /* A direct mapped cache of loop body scans, keyed by target address */
+    private final int [] scanTargets;
+    private final int [] scanCodeWrites;
+    private final boolean [] scanResults;
+
+    /* The registers and cycle count at the start of the last iteration */
+    private final int [] registers;
+    private int statefulReads;
+    private int timerEvents;
+    private long iterationStart;
+    private int period;
+    private int iterations;
+
+    public IdleLoopDetector(IOController io) {
+        this.io = io;
+        registers = new int[8];
+        scanTargets = new int[SCAN_CACHE_SIZE];
+        scanCodeWrites = new int[SCAN_CACHE_SIZE];
+        scanResults = new boolean[SCAN_CACHE_SIZE];
+        reset();
+    }
+
+    /**
+     * Forgets the loop being watched.
+     */
+    public void reset() {
+        loopTarget = -1;
+        iterations = 0;
+        Arrays.fill(scanTargets, -1);
+    }
+
+    /**
+     * Called after a backward branch to the address in the program counter
+     * has been taken. Returns the number of cycles that can be skipped by
+     * fast-forwarding over whole iterations of the loop, which is 0 until
+     * the loop has been confirmed as idle. The skipped cycles always end
+     * before the next timer event and before the budget is spent.
+     *
+     * @param totalCycles the number of cycles executed so far
+     * @param interrupted true if an interrupt was serviced since the last call
+     * @param budget the number of cycles that may still be executed
+     * @return the number of cycles to skip
+     */
+    public int onBackwardBranch(long totalCycles, boolean interrupted, int budget) {
+        int target = io.regs.getPC();
+        int codeWrites = io.memory.decodeCache.getCodeWrites();
+
+        if (target != loopTarget || codeWrites != loopCodeWrites) {
+            iterations = 0;
+            loopTarget = -1;
+            int slot = target & (SCAN_CACHE_SIZE - 1);
+            if (scanTargets[slot] != target || scanCodeWrites[slot] != codeWrites) {
+                scanTargets[slot] = target;
+                scanCodeWrites[slot] = codeWrites;
+                scanResults[slot] = isSideEffectFree(target);
+            }
+            if (!scanResults[slot]) {
+                return 0;
+            }
+            loopTarget = target;
+            loopCodeWrites = codeWrites;
+        }
+
+        if (interrupted || !registersMatch()) {
+            saveRegisters();
+            iterationStart = totalCycles;
+            iterations = 1;
+            return 0;
+        }
+
+        int cycles = (int) (totalCycles - iterationStart);
+        iterationStart = totalCycles;
+        if (iterations < 2 || cycles != period) {
+            period = cycles;
+            iterations = 2;
+            return 0;
+        }
+
+        int window = Math.min(io.ticksUntilNextEvent(), budget) - 1;
+        if (io.cpu.isInterruptPending() || window < period) {
+            return 0;
+        }
+        int skipped = (window / period) * period;
+        iterationStart += skipped;
+        return skipped;
+    }
+
+    /**
+     * Returns true if the code starting at the address is a short loop
+     * made only of register-only instructions, ending in a short branch
+     * back to the address.
+     *
+     * @param target the address of the first instruction of the loop
+     * @return true if the loop cannot write to memory or leave the loop body
+     */
+    boolean isSideEffectFree(int target) {
+        int address = target;
+        for (int i = 0; i < MAX_LOOP_INSTRUCTIONS; i++) {
+            /* Never read opcodes from the IO page, since reads there may have side effects */
+            if (address + DecodeCache.MAX_SPAN > 0xFF00) {
+                return false;
+            }
+            Instruction instruction = InstructionTable.get(io.read16(address));
+            DecodedInstruction decoded = instruction.decode(io, address);
+            if (decoded == null) {
+                return false;
+            }
+
+            if (instruction instanceof BranchInstruction) {
+                if (instruction instanceof LongBranchInstruction || instruction.mnemonic.equals("BSR")) {
+                    return false;
+                }
+                int branchTarget = (address + decoded.length + (byte) (decoded.operand >> 8)) & 0xFFFF;
+                return branchTarget == target;
+            }
+
+            if (!isRegisterOnly(instruction)) {
+                return false;
+            }
+            address = (address + decoded.length) & 0xFFFF;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the instruction can only change registers.
+     *
+     * @param instruction the instruction to check
+     * @return true if the instruction does not write memory or change the program flow
+     */
+    private static boolean isRegisterOnly(Instruction instruction) {
+        if (instruction instanceof ByteRegisterInstruction || instruction instanceof WordRegisterInstruction) {
+            return !instruction.mnemonic.startsWith("ST");
+        }
+        return instruction.mnemonic.equals("TST") || instruction.mnemonic.equals("NOP");
+    }
+
+    private boolean registersMatch() {
+        return registers[0] == io.regs.getA()
+                && registers[1] == io.regs.getB()
+                && registers[2] == io.regs.getX()
+                && registers[3] == io.regs.getY()
+                && registers[4] == io.regs.getU()
+                && registers[5] == io.regs.getS()
+                && registers[6] == io.regs.getDP()
+                && registers[7] == io.regs.getCC()
+                && statefulReads == io.statefulReads
+                && timerEvents == io.timerEvents;
+    }
+
+    private void saveRegisters() {
+        registers[0] = io.regs.getA();
+        registers[1] = io.regs.getB();
+        registers[2] = io.regs.getX();
+        registers[3] = io.regs.getY();
+        registers[4] = io.regs.getU();
+        registers[5] = io.regs.getS();
+        registers[6] = io.regs.getDP();
+        registers[7] = io.regs.getCC();
+        statefulReads = io.statefulReads;
+        timerEvents = io.timerEvents;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * The decoded form of an indexed addressing postbyte. A table of all 256
+ * postbytes is built once, so that working out an effective address needs
+ * only a table lookup and a switch on the kind of offset, with the index
+ * register accessed by number rather than through the Register enum.
+ *
+ * Each entry also carries the extra cycles its mode adds to the base cycles
+ * of the instruction, following the 6809 indexed addressing chart. The
+ * indirect form of a mode takes 3 cycles more than the direct form, and
+ * extended indirect [n] takes 5.
+ */
+public final class IndexedMode
+{
+    /* R plus a constant offset - 5-bit, 8-bit, 16-bit or none */
+    static final int CONSTANT_OFFSET = 0;
+
+    /* R, then increment R */
+    static final int POST_INCREMENT = 1;
+
+    /* Decrement R, then R */
+    static final int PRE_DECREMENT = 2;
+
+    /* R plus the signed value of an accumulator */
+    static final int A_OFFSET = 3;
+    static final int B_OFFSET = 4;
+    static final int D_OFFSET = 5;
+
+    /* PC plus a constant offset */
+    static final int PC_OFFSET = 6;
+
+    /* A constant address - only valid as [n] */
+    static final int EXTENDED = 7;
+
+    /* The decoded form of each postbyte, or null if the postbyte is invalid */
+    private static final IndexedMode [] TABLE = new IndexedMode[256];
+
+    static {
+        for (int postByte = 0; postByte < 256; postByte++) {
+            TABLE[postByte] = decode(postByte);
+        }
+    }
+
+    /* The index register - 0 for X, 1 for Y, 2 for U and 3 for S */
+    final int register;
+
+    /* The kind of offset applied to the register */
+    final int kind;
+
+    /* The amount to increment or decrement the register by, or the 5-bit offset */
+    final int amount;
+
+    /* The number of constant offset bytes that follow the postbyte */
+    final int offsetSize;
+
+    /* Whether the effective address is read from memory */
+    final boolean indirect;
+
+    /* The number of operand bytes reported for the instruction */
+    final int bytesRead;
+
+    /* The cycles added to the base cycles of the instruction */
+    final int extraCycles;
+
+    private IndexedMode(int postByte, int kind, int amount, int offsetSize, int bytesRead, int cycles) {
+        this.register = (postByte >> 5) & 0x3;
+        this.kind = kind;
+        this.amount = amount;
+        this.offsetSize = offsetSize;
+        this.indirect = (postByte & 0x90) == 0x90;
+        this.bytesRead = bytesRead;
+        this.extraCycles = indirect ? cycles + 3 : cycles;
+    }
+
+    /**
+     * Returns the decoded form of the postbyte.
+     *
+     * @param postByte the indexed addressing postbyte
+     * @return the decoded postbyte, or null if it is invalid
+     */
+    static IndexedMode get(int postByte) {
+        return TABLE[postByte & 0xFF];
+    }
+
+    /**
+     * Decodes a single postbyte.
+     *
+     * @param postByte the indexed addressing postbyte
+     * @return the decoded postbyte, or null if it is invalid
+     */
+    private static IndexedMode decode(int postByte) {
+        /* 5-bit offset - check for signed values */
+        if ((postByte & 0x80) == 0) {
+            int offset = postByte & 0x1F;
+            if ((offset & 0x10) > 0) {
+                offset -= 0x20;
+            }
+            return new IndexedMode(postByte, CONSTANT_OFFSET, offset, 0, 1, 1);
+        }
+
+        /* Cycles are for the direct form - the indirect form adds 3 */
+        return switch (postByte & 0x1F) {
+            case 0x00 -> new IndexedMode(postByte, POST_INCREMENT, 1, 0, 1, 2);
+            case 0x01 -> new IndexedMode(postByte, POST_INCREMENT, 2, 0, 1, 3);
+            case 0x02 -> new IndexedMode(postByte, PRE_DECREMENT, 1, 0, 1, 2);
+            case 0x03 -> new IndexedMode(postByte, PRE_DECREMENT, 2, 0, 1, 3);
+            case 0x04, 0x14 -> new IndexedMode(postByte, CONSTANT_OFFSET, 0, 0, 1, 0);
+            case 0x05, 0x15 -> new IndexedMode(postByte, B_OFFSET, 0, 0, 1, 1);
+            case 0x06, 0x16 -> new IndexedMode(postByte, A_OFFSET, 0, 0, 1, 1);
+            case 0x08, 0x18 -> new IndexedMode(postByte, CONSTANT_OFFSET, 0, 1, 2, 1);
+            case 0x09, 0x19 -> new IndexedMode(postByte, CONSTANT_OFFSET, 0, 2, 3, 4);
+            case 0x0B, 0x1B -> new IndexedMode(postByte, D_OFFSET, 0, 0, 1, 4);
+            case 0x0C, 0x1C -> new IndexedMode(postByte, PC_OFFSET, 0, 1, 2, 1);
+            case 0x0D, 0x1D -> new IndexedMode(postByte, PC_OFFSET, 0, 2, 3, 5);
+            case 0x11 -> new IndexedMode(postByte, POST_INCREMENT, 2, 0, 2, 3);
+            case 0x13 -> new IndexedMode(postByte, PRE_DECREMENT, 2, 0, 1, 3);
+
+            /* [n] - 2 cycles for the address, plus 3 for the indirection */
+            case 0x1F -> new IndexedMode(postByte, EXTENDED, 0, 2, 3, 2);
+            default -> null;
+        };
+    }
+}
@@ -18,21 +18,17 @@ abstract class Instruction
     protected String mnemonic;
     protected AddressingMode addressingMode;
     protected boolean isByteSized;
-    protected UnsignedByte byteRead;
-    protected UnsignedWord wordRead;
-    protected UnsignedWord addressRead;
     protected int ticks;
-    protected int numBytesRead;
     protected boolean isValidInstruction;
 
     /* Software Interrupt Vectors */
-    public static final UnsignedWord SWI3 = new UnsignedWord(0xFFF2);
-    public static final UnsignedWord SWI2 = new UnsignedWord(0xFFF4);
-    public static final UnsignedWord SWI = new UnsignedWord(0xFFFA);
+    public static final int SWI3 = 0xFFF2;
+    public static final int SWI2 = 0xFFF4;
+    public static final int SWI = 0xFFFA;
 
-    public abstract int call(IOController io) throws MalformedInstructionException;
+    public abstract int call(IOController io, DecodeContext context) throws MalformedInstructionException;
 
-    public String getShortDescription() {
+    public String getShortDescription(DecodeContext context) {
         String result = "";
         if (this.opcodeValue > 255) {
             result += String.format("%04X", this.opcodeValue);
@@ -42,7 +38,7 @@ abstract class Instruction
         result += String.format(" %s", this.mnemonic);
 
         if (this.addressingMode != AddressingMode.INHERENT) {
-            result += String.format(" %s %04X [%04X]", this.addressingMode, this.wordRead.get(), this.addressRead.get());
+            result += String.format(" %s %04X [%04X]", this.addressingMode, context.wordRead, context.addressRead);
         }
         return result;
     }
@@ -51,10 +47,11 @@ abstract class Instruction
      * Executes the instruction.
      *
      * @param io the IOController object that interfaces with memory and other system devices
+     * @param context the decode context that receives the operands read
      * @return the number of ticks it took to execute the instruction
      * @throws MalformedInstructionException if the instruction is not properly formed
      */
-    public int execute(IOController io) throws MalformedInstructionException {
+    public int execute(IOController io, DecodeContext context) throws MalformedInstructionException {
         io.incrementPC();
         if (opcodeValue > 255) {
             io.incrementPC();
@@ -63,52 +60,56 @@ abstract class Instruction
         if (isValidInstruction) {
             switch (addressingMode) {
                 case IMMEDIATE:
-                    getImmediate(io);
+                    getImmediate(io, context);
                     break;
 
                 case INDEXED:
-                    getIndexed(io);
+                    getIndexed(io, context);
                     break;
 
                 case DIRECT:
-                    getDirect(io);
+                    getDirect(io, context);
                     break;
 
                 case EXTENDED:
-                    getExtended(io);
+                    getExtended(io, context);
                     break;
 
                 default:
-                    addressRead = new UnsignedWord(0);
-                    wordRead = new UnsignedWord(0);
-                    byteRead = new UnsignedByte(0);
+                    context.clear();
                     break;
             }
         }
 
-        return call(io);
+        return call(io, context);
     }
 
+    /**
+     * Reads the word at the effective address that was just calculated, and
+     * stores it in wordRead, with the high byte stored in byteRead.
+     *
+     * @param io the IOController object that interfaces with memory
+     * @param context the decode context that receives the operands read
+     */
+    private static void readOperand(IOController io, DecodeContext context) {
+        context.wordRead = io.read16(context.addressRead);
+        context.byteRead = context.wordRead >> 8;
+    }
 
     /**
      * Reads one or more bytes at the memory location where the program
      * counter is currently pointed to. Advances the program counter
      * beyond the byte read.
      */
-    public void getImmediate(IOController io) {
+    public void getImmediate(IOController io, DecodeContext context) {
+        context.addressRead = io.regs.getPC();
+        readOperand(io, context);
         if (isByteSized) {
-            addressRead = io.regs.pc.copy();
-            wordRead = io.readWord(addressRead);
-            byteRead = wordRead.getHigh();
             io.regs.incrementPC();
-            numBytesRead = 1;
+            context.numBytesRead = 1;
         } else {
-            addressRead = io.regs.pc.copy();
-            wordRead = io.readWord(addressRead);
-            byteRead = wordRead.getHigh();
-            io.regs.incrementPC();
-            io.regs.incrementPC();
-            numBytesRead = 2;
+            io.regs.addPC(2);
+            context.numBytesRead = 2;
         }
     }
 
@@ -117,12 +118,11 @@ abstract class Instruction
      * in byteRead the value read from the specified memory location, and
      * in wordRead, the address that was read from.
      */
-    public void getDirect(IOController io) {
-        addressRead = new UnsignedWord(io.regs.dp, io.readByte(io.regs.pc));
+    public void getDirect(IOController io, DecodeContext context) {
+        context.addressRead = (io.regs.getDP() << 8) | io.read8(io.regs.getPC());
         io.regs.incrementPC();
-        wordRead = io.readWord(addressRead);
-        byteRead = wordRead.getHigh();
-        numBytesRead = 1;
+        readOperand(io, context);
+        context.numBytesRead = 1;
     }
 
     /**
@@ -130,13 +130,45 @@ abstract class Instruction
      * pointed to by the value that is pointed to by the program
      * counter value.
      */
-    public void getExtended(IOController io) {
-        addressRead = io.readWord(io.regs.pc).copy();
-        wordRead = io.readWord(addressRead);
-        byteRead = wordRead.getHigh();
-        io.regs.incrementPC();
-        io.regs.incrementPC();
-        numBytesRead = 2;
+    public void getExtended(IOController io, DecodeContext context) {
+        context.addressRead = io.read16(io.regs.getPC());
+        readOperand(io, context);
+        io.regs.addPC(2);
+        context.numBytesRead = 2;
+    }
+
+    /**
+     * Returns the number of constant offset bytes that follow an indexed
+     * postbyte.
+     *
+     * @param postByte the indexed addressing postbyte
+     * @return the number of offset bytes - 0, 1 or 2
+     * @throws MalformedInstructionException if the postbyte is invalid
+     */
+    static int getIndexedOffsetSize(int postByte) throws MalformedInstructionException {
+        IndexedMode mode = IndexedMode.get(postByte);
+        if (mode == null) {
+            throw new MalformedInstructionException("Invalid postbyte " + new UnsignedByte(postByte));
+        }
+        return mode.offsetSize;
+    }
+
+    /**
+     * Reads a signed offset of the given size at the address specified.
+     *
+     * @param io the IOController object that interfaces with memory
+     * @param address the address of the offset
+     * @param size the number of bytes in the offset
+     * @return the signed offset read
+     */
+    private static int readSignedOffset(IOController io, int address, int size) {
+        if (size == 1) {
+            return (byte) io.read8(address);
+        }
+        if (size == 2) {
+            return (short) io.read16(address);
+        }
+        return 0;
     }
 
     /**
@@ -144,254 +176,200 @@ abstract class Instruction
      * interprets the byte. Depending on the value of the byte, a new value is
      * returned. May throw an MalformedInstructionException.
      */
-    public void getIndexed(IOController io) throws MalformedInstructionException {
-        UnsignedByte postByte = io.readByte(io.regs.pc);
+    public void getIndexed(IOController io, DecodeContext context) throws MalformedInstructionException {
+        int postByte = io.read8(io.regs.getPC());
         io.regs.incrementPC();
-        UnsignedWord r;
-        UnsignedWord d;
-        UnsignedByte n;
-        UnsignedWord w;
-        numBytesRead = 1;
-
-        /* 5-bit offset - check for signed values */
-        if (!postByte.isMasked(0x80)) {
-            r = io.getWordRegister(io.getIndexedRegister(postByte));
-            int offset = postByte.get() & 0x1F;
-            addressRead = new UnsignedWord(r.get() + offset);
-
-            if ((offset & 0x10) > 0) {
-                addressRead = new UnsignedWord(r.get() - ((~offset & 0xF) + 1));
-            }
+        int offsetSize = getIndexedOffsetSize(postByte);
+        int offset = readSignedOffset(io, io.regs.getPC(), offsetSize);
+        io.regs.addPC(offsetSize);
+        resolveIndexed(io, context, postByte, offset);
+    }
 
-            wordRead = io.readWord(addressRead);
-            byteRead = wordRead.getHigh();
-            return;
+    /**
+     * Calculates the effective address of an indexed instruction once its
+     * postbyte and constant offset are known, applying any auto increment or
+     * decrement to the index register, and reads the operand there. The
+     * program counter must already point past the end of the instruction,
+     * since PC relative modes are relative to the following instruction.
+     *
+     * @param io the IOController object that interfaces with memory
+     * @param context the decode context that receives the operands read
+     * @param postByte the indexed addressing postbyte
+     * @param offset the signed constant offset that followed the postbyte
+     * @throws MalformedInstructionException if the postbyte is invalid
+     */
+    static void resolveIndexed(IOController io, DecodeContext context, int postByte, int offset) throws MalformedInstructionException {
+        IndexedMode mode = IndexedMode.get(postByte);
+        if (mode == null) {
+            throw new MalformedInstructionException("Invalid postbyte " + new UnsignedByte(postByte));
         }
 
-        switch (postByte.get() & 0x1F) {
-            /* ,R+ -> R, then increment R */
-            case 0x00:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = new UnsignedWord(r.get());
-                r.add(1);
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* ,R++ -> R, then increment R by two */
-            case 0x01:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = new UnsignedWord(r.get());
-                r.add(2);
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* ,-R -> Decrement R, then R */
-            case 0x02:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                r.add(-1);
-                addressRead = r.copy();
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* ,--R -> Decrement R by two, then R */
-            case 0x03:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                r.add(-2);
-                addressRead = r.copy();
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* ,R -> No offset, just R */
-            case 0x04:
-                addressRead = io.getWordRegister(io.getIndexedRegister(postByte));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* B,R -> B offset from R */
-            case 0x05:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = new UnsignedWord(r.get() + io.regs.b.getSigned());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
+        RegisterSet regs = io.regs;
+        int r = regs.getIndexRegister(mode.register);
+        int address;
+        switch (mode.kind) {
+            /* ,R / n,R -> R plus a 5-bit, 8-bit or 16-bit offset, if any */
+            case IndexedMode.CONSTANT_OFFSET:
+                address = r + offset + mode.amount;
+                break;
+
+            /* ,R+ / ,R++ -> R, then increment R */
+            case IndexedMode.POST_INCREMENT:
+                address = r;
+                regs.setIndexRegister(mode.register, r + mode.amount);
+                break;
+
+            /* ,-R / ,--R -> Decrement R, then R */
+            case IndexedMode.PRE_DECREMENT:
+                address = r - mode.amount;
+                regs.setIndexRegister(mode.register, address);
+                break;
 
             /* A,R -> A offset from R */
-            case 0x06:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = new UnsignedWord(r.get() + io.regs.a.getSigned());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* n,R -> 8-bit offset from R */
-            case 0x08:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                n = io.readByte(io.regs.pc);
-                io.regs.incrementPC();
-                addressRead = new UnsignedWord(r.get() + n.getSigned());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 2;
-                return;
-
-            /* n,R -> 16-bit offset from R */
-            case 0x09:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                w = io.readWord(io.regs.pc);
-                io.regs.incrementPC();
-                io.regs.incrementPC();
-                addressRead = new UnsignedWord(r.get() + w.getSignedInt());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 3;
-                return;
+            case IndexedMode.A_OFFSET:
+                address = r + (byte) regs.getA();
+                break;
+
+            /* B,R -> B offset from R */
+            case IndexedMode.B_OFFSET:
+                address = r + (byte) regs.getB();
+                break;
 
             /* D,R -> D offset from R */
-            case 0x0B:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                d = io.getWordRegister(Register.D);
-                addressRead = new UnsignedWord(r.get() + d.getSignedInt());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* n,PC -> 8-bit offset from PC */
-            case 0x0C:
-                r = io.getWordRegister(Register.PC);
-                n = io.readByte(io.regs.pc);
-                io.regs.incrementPC();
-                addressRead = new UnsignedWord(r.get() + n.getSigned());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 2;
-                return;
-
-            /* n,PC -> 16-bit offset from PC */
-            case 0x0D:
-                r = io.getWordRegister(Register.PC);
-                w = io.readWord(io.regs.pc);
-                io.regs.incrementPC();
-                io.regs.incrementPC();
-                addressRead = new UnsignedWord(r.get() + w.getSignedInt());
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 3;
-                return;
-
-            /* [,R++] -> R, then increment R by two - indirect*/
-            case 0x11:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = io.readWord(new UnsignedWord(r.get()));
-                r.add(2);
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 2;
-                return;
-
-            /* [,--R] -> Decrement R by two, then R - indirect*/
-            case 0x13:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                r.add(-2);
-                addressRead = io.readWord(new UnsignedWord(r.get()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* [,R] -> No offset, just R - indirect */
-            case 0x14:
-                addressRead = io.readWord(io.getWordRegister(io.getIndexedRegister(postByte)));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* [B,R] -> B offset from R - indirect */
-            case 0x15:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = io.readWord(new UnsignedWord(r.get() + io.regs.b.getSigned()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* [A,R] -> A offset from R - indirect */
-            case 0x16:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = io.readWord(new UnsignedWord(r.get() + io.regs.a.getSigned()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* [n,R] -> 8-bit offset from R - indirect */
-            case 0x18:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                n = io.readByte(io.regs.pc);
-                io.regs.incrementPC();
-                addressRead = io.readWord(new UnsignedWord(r.get() + n.getSigned()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 2;
-                return;
-
-            /* [n,R] -> 16-bit offset from R - indirect */
-            case 0x19:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                w = io.readWord(io.regs.pc);
-                io.regs.incrementPC();
-                io.regs.incrementPC();
-                addressRead = io.readWord(new UnsignedWord(r.get() + w.getSignedInt()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 3;
-                return;
-
-            /* [D,R] -> D offset from R - indirect*/
-            case 0x1B:
-                r = io.getWordRegister(io.getIndexedRegister(postByte));
-                addressRead = io.readWord(new UnsignedWord(r.get() + io.regs.getD().getSignedInt()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                return;
-
-            /* [n,PC] -> 8-bit offset from PC - indirect */
-            case 0x1C:
-                r = io.getWordRegister(Register.PC);
-                n = io.readByte(io.regs.pc);
-                io.regs.incrementPC();
-                addressRead = io.readWord(new UnsignedWord(r.get() + n.getSigned()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 2;
-                return;
-
-            /* [n,PC] -> 16-bit offset from PC - indirect */
-            case 0x1D:
-                r = io.getWordRegister(Register.PC);
-                w = io.readWord(io.regs.pc);
-                io.regs.incrementPC();
-                io.regs.incrementPC();
-                addressRead = io.readWord(new UnsignedWord(r.get() + w.getSignedInt()));
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 3;
-                return;
+            case IndexedMode.D_OFFSET:
+                address = r + (short) regs.getD();
+                break;
+
+            /* n,PC -> 8-bit or 16-bit offset from PC */
+            case IndexedMode.PC_OFFSET:
+                address = regs.getPC() + offset;
+                break;
 
             /* [n] -> extended indirect */
-            case 0x1F:
-                w = io.readWord(io.regs.pc);
-                io.regs.incrementPC();
-                io.regs.incrementPC();
-                addressRead = io.readWord(w);
-                wordRead = io.readWord(addressRead);
-                byteRead = wordRead.getHigh();
-                numBytesRead = 3;
-                return;
+            default:
+                address = offset;
+                break;
+        }
+
+        address &= 0xFFFF;
+        context.addressRead = mode.indirect ? io.read16(address) : address;
+        context.numBytesRead = mode.bytesRead;
+        context.indexedCycles = mode.extraCycles;
+        readOperand(io, context);
+    }
+
+    /**
+     * Decodes the instruction starting at the specified address without
+     * changing any machine state, so that it can be stored in the
+     * DecodeCache. Returns null if the instruction should not be cached -
+     * because it is not implemented, has an invalid postbyte, or would read
+     * its bytes from the IO page.
+     *
+     * @param io the IOController object that interfaces with memory
+     * @param address the address of the first byte of the opcode
+     * @return the decoded instruction, or null if it cannot be cached
+     */
+    public DecodedInstruction decode(IOController io, int address) {
+        if (!isValidInstruction || address + DecodeCache.MAX_SPAN > 0xFF00) {
+            return null;
+        }
+
+        int operandAddress = (address + ((opcodeValue > 255) ? 2 : 1)) & 0xFFFF;
+        int length = operandAddress - address;
+        int span;
+        int operand = 0;
+        int postByte = 0;
+
+        switch (addressingMode) {
+            /* Byte sized immediate values still read a full word */
+            case IMMEDIATE:
+                operand = io.read16(operandAddress);
+                length += isByteSized ? 1 : 2;
+                span = isByteSized ? length + 1 : length;
+                break;
+
+            case DIRECT:
+                operand = io.read8(operandAddress);
+                length += 1;
+                span = length;
+                break;
+
+            case EXTENDED:
+                operand = io.read16(operandAddress);
+                length += 2;
+                span = length;
+                break;
+
+            case INDEXED:
+                postByte = io.read8(operandAddress);
+                int offsetSize;
+                try {
+                    offsetSize = getIndexedOffsetSize(postByte);
+                } catch (MalformedInstructionException e) {
+                    return null;
+                }
+                operand = readSignedOffset(io, operandAddress + 1, offsetSize);
+                length += 1 + offsetSize;
+                span = length;
+                break;
 
             default:
-                throw new MalformedInstructionException("Invalid postbyte " + postByte);
+                span = length;
+                break;
         }
+
+        /* Entries must not span two pages, since each page may be remapped */
+        if ((address & 0x1FFF) + span > 0x2000) {
+            return null;
+        }
+        return new DecodedInstruction(this, length, span, operand, postByte);
+    }
+
+    /**
+     * Executes the instruction using operands that were decoded ahead of
+     * time. The result is identical to calling execute on the same bytes,
+     * but the opcode, postbyte and constant operand bytes are not re-read
+     * from memory.
+     *
+     * @param io the IOController object that interfaces with memory and other system devices
+     * @param context the decode context that receives the operands read
+     * @param decoded the pre-decoded form of this instruction
+     * @return the number of ticks it took to execute the instruction
+     * @throws MalformedInstructionException if the instruction is not properly formed
+     */
+    public int executeDecoded(IOController io, DecodeContext context, DecodedInstruction decoded) throws MalformedInstructionException {
+        int address = io.regs.getPC();
+        io.regs.addPC(decoded.length);
+
+        switch (addressingMode) {
+            case IMMEDIATE:
+                context.addressRead = (address + ((opcodeValue > 255) ? 2 : 1)) & 0xFFFF;
+                context.wordRead = decoded.operand;
+                context.byteRead = decoded.operand >> 8;
+                context.numBytesRead = isByteSized ? 1 : 2;
+                break;
+
+            case DIRECT:
+                context.addressRead = (io.regs.getDP() << 8) | decoded.operand;
+                readOperand(io, context);
+                context.numBytesRead = 1;
+                break;
+
+            case EXTENDED:
+                context.addressRead = decoded.operand;
+                readOperand(io, context);
+                context.numBytesRead = 2;
+                break;
+
+            case INDEXED:
+                resolveIndexed(io, context, decoded.postByte, decoded.operand);
+                break;
+
+            default:
+                context.clear();
+                break;
+        }
+
+        return call(io, context);
     }
 }
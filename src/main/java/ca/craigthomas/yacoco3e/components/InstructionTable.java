@@ -1,13 +1,18 @@
 /*
- * Copyright (C) 2017-2019 Craig Thomas
+ * Copyright (C) 2017-2025 Craig Thomas
  * This project uses an MIT style license - see LICENSE for details.
  */
 package ca.craigthomas.yacoco3e.components;
 
 import static ca.craigthomas.yacoco3e.datatypes.AddressingMode.*;
 import ca.craigthomas.yacoco3e.datatypes.Register;
-import ca.craigthomas.yacoco3e.datatypes.UnsignedWord;
 
+/**
+ * The InstructionTable maps opcodes to the Instruction objects that execute
+ * them. Instructions are immutable - the operands they decode are stored in
+ * the DecodeContext owned by each CPU - so a single table is shared by every
+ * CPU in the JVM, regardless of which thread it runs on.
+ */
 public class InstructionTable
 {
     private InstructionTable() {}
@@ -796,12 +801,10 @@ public class InstructionTable
     /**
      * Returns the Opcode object associated with the operand value.
      *
-     * @param operand the UnsignedWord value associated with the opcode
+     * @param value the 16-bit value read at the program counter
      * @return the Opcode object associated with the opcode read
      */
-    public static Instruction get(UnsignedWord operand) {
-        int value = operand.get();
-
+    public static Instruction get(int value) {
         if ((value & 0xFF00) == 0x1000) {
             return EXTENDED_INSTRUCTIONS[value & 0x00FF];
         }
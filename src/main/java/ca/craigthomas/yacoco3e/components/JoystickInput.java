@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+/**
+ * A source of joystick positions and fire buttons. The IOController asks
+ * it to poll once each frame, and it reports what it reads through
+ * setLeftJoystickState and setRightJoystickState on the IOController.
+ */
+public interface JoystickInput
+{
+    /**
+     * Polls the joysticks and passes their current state to the
+     * IOController.
+     *
+     * @param io the IOController to report joystick state to
+     */
+    void pollJoysticks(IOController io);
+}
@@ -46,7 +46,7 @@ import java.awt.event.KeyEvent;
  *  byte values one at a time, and then reading the high byte value to see
  *  if it is active.
  */
-abstract class Keyboard extends KeyAdapter
+abstract class Keyboard extends KeyAdapter implements KeyboardMatrix
 {
     protected UnsignedByte column0;
     protected UnsignedByte column1;
@@ -819,7 +819,17 @@ abstract class Keyboard extends KeyAdapter
      * @param newLowByte the new byte for the low byte
      */
     public void setLowByte(UnsignedByte newLowByte) {
-        lowByte = newLowByte.inverse();
+        setLowByte(newLowByte.get());
+    }
+
+    /**
+     * Sets the low byte for the keyboard scan from an 8-bit value.
+     *
+     * @param newLowByte the new value for the low byte
+     */
+    @Override
+    public void setLowByte(int newLowByte) {
+        lowByte.set(~newLowByte);
     }
 
     /**
@@ -827,6 +837,7 @@ abstract class Keyboard extends KeyAdapter
      *
      * @return the low byte from the keyboard
      */
+    @Override
     public UnsignedByte getLowByte() {
         return lowByte.inverse();
     }
@@ -838,6 +849,7 @@ abstract class Keyboard extends KeyAdapter
      *
      * @return the high byte of the keyboard
      */
+    @Override
     public UnsignedByte getHighByte() {
         if (lowByte.isMasked(0x1)) {
             return column0.inverse();
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
+
+/**
+ * The keyboard matrix as seen by PIA 1. Side B strobes the columns by
+ * writing the low byte, and side A reads back the rows of the strobed
+ * columns as the high byte. The core only talks to the keyboard through
+ * this interface, so it does not depend on how key presses are captured.
+ */
+public interface KeyboardMatrix
+{
+    /**
+     * Sets the low byte for the keyboard scan from an 8-bit value.
+     *
+     * @param newLowByte the new value for the low byte
+     */
+    void setLowByte(int newLowByte);
+
+    /**
+     * Returns the low byte from the keyboard.
+     *
+     * @return the low byte from the keyboard
+     */
+    UnsignedByte getLowByte();
+
+    /**
+     * Returns the rows of the columns strobed by the low byte, with a 0 bit
+     * for each key that is pressed.
+     *
+     * @return the high byte of the keyboard
+     */
+    UnsignedByte getHighByte();
+}
@@ -4,10 +4,6 @@
  */
 package ca.craigthomas.yacoco3e.components;
 
-import ca.craigthomas.yacoco3e.datatypes.UnsignedWord;
-
-import java.util.function.Function;
-
 /**
  * The Opcode class stores information related to a specific machine operation.
  * The opcode value itself, the mnemonic representation, the addressing mode,
@@ -19,7 +15,7 @@ public class LongBranchInstruction extends BranchInstruction
     public LongBranchInstruction(int opcode,
                                  int ticks,
                                  String mnemonic,
-                                 Function<IOController, Boolean> operation
+                                 BranchInterface operation
     ) {
         super(opcode, ticks, mnemonic, operation);
         this.opcodeValue = opcode;
@@ -27,13 +23,12 @@ public class LongBranchInstruction extends BranchInstruction
         this.ticks = ticks;
         this.operation = operation;
         this.isByteSized = false;
-        this.addressRead = new UnsignedWord();
     }
 
     @Override
-    public int call(IOController io) {
-        if (operation.apply(io).equals(true)) {
-            io.regs.pc.add(wordRead.isNegative() ? wordRead.getSignedInt() : wordRead.get());
+    public int call(IOController io, DecodeContext context) {
+        if (operation.apply(io)) {
+            io.regs.addPC(context.wordRead);
             return ticks + 1;
         }
         return ticks;
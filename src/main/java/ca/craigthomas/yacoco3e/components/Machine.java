@@ -0,0 +1,521 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+/**
+ * The Machine class contains the emulated CoCo 3 hardware - memory, the IO
+ * controller, the CPU, the screen, the cassette and the disk drives - with
+ * no dependency on a user interface. The Swing Emulator wraps a Machine
+ * with a window and menus, while headless runners drive a Machine directly.
+ */
+public class Machine
+{
+    private final Memory memory;
+    private final IOController io;
+    private final CPU cpu;
+    private final Screen screen;
+    private final Cassette cassette;
+
+    /* Whether each instruction executed should be recorded in the trace buffer */
+    public volatile boolean trace;
+
+    /* The ring buffer of trace records, created the first time tracing is used */
+    private TraceBuffer traceBuffer;
+    private int traceCapacity = TraceBuffer.DEFAULT_CAPACITY;
+
+    /* Cycles left over (or owed) from the last frame */
+    private int frameCycleBalance;
+
+    /* Whether the screen is drawn a line at a time as the CPU runs */
+    private boolean scanlineSync;
+
+    /* Cycles left over (or owed) from the last scanline */
+    private int scanlineCycleBalance;
+
+    /* The total number of cycles executed since the last reset */
+    private long totalCycles;
+
+    /* An extra condition that needs to see every instruction boundary */
+    private BooleanSupplier breakCondition;
+
+    /* Whether common instruction pairs are executed as one fused step */
+    private boolean fusionEnabled = true;
+
+    /* Fast-forwards through idle loops, or null if every iteration is executed */
+    private IdleLoopDetector idleLoopDetector;
+
+    /* Whether an interrupt has been serviced since the last backward branch */
+    private boolean interruptServiced;
+
+    /* The number of cycles fast-forwarded through idle loops since the last reset */
+    private long idleCyclesSkipped;
+
+    /* Counts executed instructions, or null if profiling is off. Only the
+     * emulation thread changes it, but other threads may check it */
+    private volatile Profiler profiler;
+
+    /* A logger for the machine */
+    private final static Logger LOGGER = Logger.getLogger(Machine.class.getName());
+
+    /**
+     * Builds a new CoCo 3 machine with 512K of RAM.
+     *
+     * @param scale the scale factor for the screen
+     * @param useDAC whether the digital analog converter should output sound
+     */
+    public Machine(int scale, boolean useDAC) {
+        this(scale, useDAC, Memory.MEM_512K);
+    }
+
+    /**
+     * Builds a new CoCo 3 machine.
+     *
+     * @param scale the scale factor for the screen
+     * @param useDAC whether the digital analog converter should output sound
+     * @param ramSize the amount of RAM installed - one of the Memory.MEM_ sizes
+     */
+    public Machine(int scale, boolean useDAC, int ramSize) {
+        memory = new Memory(ramSize);
+        screen = new Screen(scale);
+        cassette = new Cassette();
+        io = new IOController(memory, new RegisterSet(), new IdleKeyboard(), screen, cassette, useDAC);
+        cpu = new CPU(io);
+        io.setCPU(cpu);
+        idleLoopDetector = new IdleLoopDetector(io);
+    }
+
+    /**
+     * Resets the machine.
+     */
+    public void reset() {
+        memory.resetMemory();
+        io.reset();
+        cpu.reset();
+        if (idleLoopDetector != null) {
+            idleLoopDetector.reset();
+        }
+        frameCycleBalance = 0;
+        scanlineCycleBalance = 0;
+        totalCycles = 0;
+        idleCyclesSkipped = 0;
+    }
+
+    /**
+     * Executes a single instruction, updates the timers and services any
+     * pending interrupts. When fusion is enabled, a fused instruction pair
+     * is executed as a single step.
+     *
+     * @return the number of cycles consumed
+     * @throws MalformedInstructionException if the instruction is invalid
+     */
+    public int step() throws MalformedInstructionException {
+        return step(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executes a single instruction or fused pair, updates the timers and
+     * services any pending interrupts. Fusion is skipped while tracing,
+     * profiling or when a break condition is set, since all of them need to
+     * see every instruction boundary.
+     *
+     * @param budget the number of cycles that may still be executed
+     * @return the number of cycles consumed
+     * @throws MalformedInstructionException if the instruction is invalid
+     */
+    public int step(int budget) throws MalformedInstructionException {
+        boolean traced = trace && !io.waitForIRQ;
+        if (traced) {
+            getTraceBuffer().begin(totalCycles, io.regs);
+        }
+
+        int startPC = io.regs.getPC();
+        Profiler activeProfiler = profiler;
+        int operationTicks;
+        if (io.waitForIRQ) {
+            operationTicks = waitTicks(budget);
+            if (activeProfiler != null) {
+                activeProfiler.recordWait(operationTicks);
+            }
+        } else {
+            if (fusionEnabled && !traced && activeProfiler == null && breakCondition == null) {
+                operationTicks = cpu.executeFusedInstruction(budget);
+            } else {
+                operationTicks = cpu.executeInstruction();
+            }
+        }
+
+        if (traced) {
+            traceBuffer.end(cpu.instruction, cpu.decodeContext, io.regs.getPC(), operationTicks);
+        }
+
+        /* Increment timers if necessary */
+        io.timerTick(operationTicks);
+
+        /* Fire interrupts if set */
+        interruptServiced |= cpu.isInterruptPending();
+        cpu.serviceInterrupts();
+
+        totalCycles += operationTicks;
+        if (idleLoopDetector != null && io.regs.getPC() <= startPC) {
+            operationTicks += skipIdleLoop(startPC, budget - operationTicks);
+        }
+        return operationTicks;
+    }
+
+    /**
+     * Returns the number of ticks to advance while the CPU is halted by SYNC
+     * or CWAI. Only a timer event can end the wait, so time moves straight
+     * to the next one, or to the end of the budget if that comes first.
+     *
+     * @param budget the number of cycles that may still be executed
+     * @return the number of ticks to wait
+     */
+    private int waitTicks(int budget) {
+        return Math.max(1, Math.min(io.ticksUntilNextEvent(), budget));
+    }
+
+    /**
+     * Called after an instruction has finished. If it ended with a
+     * backward branch, asks the idle loop detector how many cycles of
+     * repeated iterations can be skipped, and advances the timers and cycle
+     * count by that much.
+     *
+     * @param startPC the program counter before the instruction ran
+     * @param budget the number of cycles that may still be executed
+     * @return the number of cycles skipped
+     */
+    private int skipIdleLoop(int startPC, int budget) {
+        if (trace || profiler != null || breakCondition != null || io.waitForIRQ || !(cpu.instruction instanceof BranchInstruction)) {
+            return 0;
+        }
+
+        int skipped = idleLoopDetector.onBackwardBranch(totalCycles, interruptServiced, budget);
+        interruptServiced = false;
+        if (skipped > 0) {
+            io.timerTick(skipped);
+            totalCycles += skipped;
+            idleCyclesSkipped += skipped;
+        }
+        return skipped;
+    }
+
+    /**
+     * Turns instruction fusion on or off. With fusion off, every
+     * instruction is executed and retired on its own, which keeps timer and
+     * interrupt timing exact to the instruction for verification runs.
+     *
+     * @param enabled true if fused instruction pairs should be used
+     */
+    public void setFusionEnabled(boolean enabled) {
+        fusionEnabled = enabled;
+    }
+
+    public boolean isFusionEnabled() {
+        return fusionEnabled;
+    }
+
+    /**
+     * Turns idle loop fast-forwarding on or off. See IdleLoopDetector for
+     * the loops that are skipped.
+     *
+     * @param enabled true if idle loops should be fast-forwarded
+     */
+    public void setIdleLoopDetectionEnabled(boolean enabled) {
+        idleLoopDetector = enabled ? new IdleLoopDetector(io) : null;
+    }
+
+    public boolean isIdleLoopDetectionEnabled() {
+        return idleLoopDetector != null;
+    }
+
+    public long getIdleCyclesSkipped() {
+        return idleCyclesSkipped;
+    }
+
+    /**
+     * Turns the per-opcode profiler on or off. While profiling, every
+     * instruction is run through the plain interpreter - with no fused
+     * pairs or skipped idle loops - so that each one is
+     * counted where it actually executes. Turning profiling on when it is
+     * already on keeps the counts collected so far. This must be called on
+     * the thread that runs the machine, between frames - see
+     * Emulator.runAtFrameBoundary.
+     *
+     * @param enabled true if executed instructions should be counted
+     */
+    public void setProfilerEnabled(boolean enabled) {
+        if (enabled && profiler == null) {
+            profiler = new Profiler();
+        } else if (!enabled) {
+            profiler = null;
+        }
+        cpu.setProfiler(profiler);
+    }
+
+    public boolean isProfilerEnabled() {
+        return profiler != null;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Turns scanline synchronous execution on or off. When on, each frame
+     * is run one scanline's worth of cycles at a time, and the line the
+     * GIME was displaying is drawn as soon as it has run, so that changes
+     * to the video mode, palette or screen offset part way through a frame
+     * show up on the lines that follow them.
+     *
+     * @param enabled true if the screen should be drawn a line at a time
+     */
+    public void setScanlineSyncEnabled(boolean enabled) {
+        scanlineSync = enabled;
+    }
+
+    public boolean isScanlineSyncEnabled() {
+        return scanlineSync;
+    }
+
+    /**
+     * Returns the trace buffer, creating it if tracing has not been used yet.
+     *
+     * @return the trace buffer
+     */
+    public TraceBuffer getTraceBuffer() {
+        if (traceBuffer == null) {
+            traceBuffer = new TraceBuffer(traceCapacity);
+        }
+        return traceBuffer;
+    }
+
+    /**
+     * Sets the number of instructions the trace buffer holds. Any records
+     * already traced are discarded.
+     *
+     * @param capacity the number of instructions to keep
+     */
+    public void setTraceCapacity(int capacity) {
+        traceCapacity = capacity;
+        traceBuffer = null;
+    }
+
+    /**
+     * Saves the most recently traced instructions to a file that can be
+     * turned back into text with TraceDecoder. Does nothing if nothing has
+     * been traced. Must not be called while the machine is running an
+     * instruction on another thread.
+     *
+     * @param filename the file to write
+     * @return true if the trace was saved
+     */
+    public boolean saveTrace(String filename) {
+        if (traceBuffer == null || traceBuffer.getRecordCount() == 0) {
+            return false;
+        }
+        return traceBuffer.save(filename);
+    }
+
+    /**
+     * Sets a condition that the caller checks between instructions, such
+     * as a headless stop condition. While one is set, fused pairs and idle
+     * loop skipping are turned off so that the caller sees every
+     * instruction boundary. Pass null to remove it.
+     *
+     * @param condition the condition checked after each instruction
+     */
+    public void setBreakCondition(BooleanSupplier condition) {
+        breakCondition = condition;
+    }
+
+    /**
+     * Executes a single frame's worth of CPU cycles. The number of cycles
+     * in a frame depends on the current SAM clock speed. Any cycles that
+     * the last instruction runs over the budget are deducted from the
+     * budget of the following frame.
+     *
+     * @throws MalformedInstructionException if an instruction is invalid
+     */
+    public void runFrame() throws MalformedInstructionException {
+        frameCycleBalance += io.tickRefreshAmount;
+        try {
+            while (frameCycleBalance > 0) {
+                if (scanlineSync) {
+                    frameCycleBalance -= runScanline();
+                } else {
+                    frameCycleBalance -= step(frameCycleBalance);
+                }
+            }
+        } catch (MalformedInstructionException e) {
+            frameCycleBalance = 0;
+            scanlineCycleBalance = 0;
+            throw e;
+        }
+    }
+
+    /**
+     * Executes one scanline's worth of CPU cycles, and then draws the line
+     * of the screen that was being displayed while they ran. The line is
+     * counted from the last vertical border interrupt. Any cycles that the
+     * last instruction runs over are deducted from the following line.
+     *
+     * @return the number of cycles executed
+     * @throws MalformedInstructionException if an instruction is invalid
+     */
+    private int runScanline() throws MalformedInstructionException {
+        int line = io.events.getElapsed(EventQueue.VERTICAL_BORDER) / IOController.TIMER_63_5_MICROS;
+        int cycles = 0;
+        scanlineCycleBalance += IOController.TIMER_63_5_MICROS;
+        while (scanlineCycleBalance > 0) {
+            int ticks = step(scanlineCycleBalance);
+            scanlineCycleBalance -= ticks;
+            cycles += ticks;
+        }
+        screen.refreshLine(line);
+        return cycles;
+    }
+
+    /**
+     * Discards any cycles carried over from the previous frame.
+     */
+    public void clearFrameCycleBalance() {
+        frameCycleBalance = 0;
+        scanlineCycleBalance = 0;
+    }
+
+    /**
+     * Loads a system ROM file.
+     *
+     * @param filename the ROM file to load
+     * @return true if the ROM loaded correctly
+     */
+    public boolean loadSystemROM(String filename) {
+        return memory.loadROM(filename, MemoryType.ROM);
+    }
+
+    /**
+     * Loads a cartridge ROM file.
+     *
+     * @param filename the ROM file to load
+     * @return true if the ROM loaded correctly
+     */
+    public boolean loadCartridgeROM(String filename) {
+        return memory.loadROM(filename, MemoryType.CARTRIDGE);
+    }
+
+    /**
+     * Opens a cassette file for playback.
+     *
+     * @param filename the cassette file to open
+     * @return true if the cassette opened correctly
+     */
+    public boolean loadCassette(String filename) {
+        if (!cassette.openFile(filename)) {
+            LOGGER.severe("Could not load cassette file [" + filename + "]");
+            return false;
+        }
+        LOGGER.info("Loaded cassette file [" + filename + "]");
+        return true;
+    }
+
+    /**
+     * Loads a JV1 disk image into the specified drive.
+     *
+     * @param drive the drive number to load into
+     * @param filename the disk image to load
+     * @return true if the disk image loaded correctly
+     */
+    public boolean loadDiskImage(int drive, String filename) {
+        JV1Disk disk = new JV1Disk();
+        if (!disk.loadFile(filename)) {
+            return false;
+        }
+        io.loadVirtualDisk(drive, disk);
+        return true;
+    }
+
+    /**
+     * Computes a SHA-256 hash of the contents of physical RAM.
+     *
+     * @return the hash as a hexadecimal string
+     */
+    public String getMemoryHash() {
+        MessageDigest digest = createDigest();
+        digest.update(memory.memory);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Renders the current contents of video memory to the screen back
+     * buffer, and computes a SHA-256 hash of the resulting pixels.
+     *
+     * @return the hash as a hexadecimal string
+     */
+    public String getScreenHash() {
+        screen.refreshScreen();
+        FrameBuffer frame = screen.getFrameBuffer();
+        MessageDigest digest = createDigest();
+        for (int y = 0; y < frame.getHeight(); y++) {
+            for (int x = 0; x < frame.getWidth(); x++) {
+                int rgb = frame.getRGB(x, y);
+                digest.update((byte) (rgb >> 16));
+                digest.update((byte) (rgb >> 8));
+                digest.update((byte) rgb);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte [] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte value : bytes) {
+            builder.append(String.format("%02x", value));
+        }
+        return builder.toString();
+    }
+
+    public long getTotalCycles() {
+        return totalCycles;
+    }
+
+    public Memory getMemory() {
+        return memory;
+    }
+
+    public IOController getIOController() {
+        return io;
+    }
+
+    public CPU getCPU() {
+        return cpu;
+    }
+
+    public Screen getScreen() {
+        return screen;
+    }
+
+    public Cassette getCassette() {
+        return cassette;
+    }
+
+    public KeyboardMatrix getKeyboard() {
+        return io.keyboard;
+    }
+}
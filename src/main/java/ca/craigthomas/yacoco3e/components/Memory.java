@@ -1,17 +1,13 @@
 /*
- * Copyright (C) 2022 Craig Thomas
+ * Copyright (C) 2022-2025 Craig Thomas
  * This project uses an MIT style license - see LICENSE for details.
  */
 package ca.craigthomas.yacoco3e.components;
 
-import ca.craigthomas.yacoco3e.common.IO;
 import ca.craigthomas.yacoco3e.datatypes.*;
 
-import java.io.InputStream;
 import java.util.logging.Logger;
 
-import static ca.craigthomas.yacoco3e.common.IO.copyByteArrayToShortArray;
-
 /**
  * The Memory class controls access to and from memory locations in the memory
  * array. Additionally, the memory class controls access to and from memory
@@ -19,14 +15,19 @@ import static ca.craigthomas.yacoco3e.common.IO.copyByteArrayToShortArray;
  */
 public class Memory
 {
-    /* 512K memory definition */
+    /* Supported RAM sizes */
+    public static final int MEM_128K = 0x20000;
     public static final int MEM_512K = 0x80000;
+    public static final int MEM_2M = 0x200000;
+    public static final int MEM_8M = 0x800000;
+
+    /* ROM size */
     public static final int MEM_32K = 0x8000;
 
-    /* The main memory arrays */
-    protected short [] memory;
-    protected short [] rom;
-    protected short [] cartROM;
+    /* The main memory arrays - each byte is stored signed, and masked with 0xFF when read */
+    protected byte [] memory;
+    protected byte [] rom;
+    protected byte [] cartROM;
 
     /* Page address registers - controls mapping between virtual and physical memory */
     public static final int PAR_COUNT = 8;
@@ -38,7 +39,25 @@ public class Memory
     protected boolean allRAMMode;
     protected UnsignedByte romMode;
 
-    protected static final int TOTAL_PAGES = 0x3F;
+    /* Resolved page table - the backing array and offset for each 8K page */
+    protected byte [][] readPages;
+    protected int [] readPageOffsets;
+    protected int [] writePageOffsets;
+
+    /* The base of each page in the combined RAM, ROM and cartridge ROM physical address space */
+    protected int [] codePageBases;
+
+    /* Decoded instructions, keyed by physical address */
+    protected final DecodeCache decodeCache;
+
+    /* The pages and blocks of RAM written to since consumers last cleared them */
+    protected final DirtyMap dirtyMap;
+
+    /* The number of 8K RAM pages, less one - used to mask page numbers to the installed RAM */
+    protected final int pageMask;
+
+    /* The extended bank register at $FF9B - selects which 2MB bank an 8MB PAR write maps to */
+    protected int bankRegister;
 
     private final int totalSize;
 
@@ -51,27 +70,41 @@ public class Memory
 
     /**
      * Initializes the memory module with the number of bytes specified.
+     * The size must be one of MEM_128K, MEM_512K, MEM_2M or MEM_8M.
      *
      * @param size the number of bytes to initialize in main memory
      */
     public Memory(int size) {
+        if (size != MEM_128K && size != MEM_512K && size != MEM_2M && size != MEM_8M) {
+            throw new IllegalArgumentException("Unsupported RAM size " + size);
+        }
         totalSize = size;
-        memory = new short[size];
+        pageMask = (size >> 13) - 1;
+        memory = new byte[size];
         executivePAR = new short[PAR_COUNT];
         taskPAR = new short[PAR_COUNT];
         defaultPAR = new short[PAR_COUNT];
+        readPages = new byte[PAR_COUNT][];
+        readPageOffsets = new int[PAR_COUNT];
+        writePageOffsets = new int[PAR_COUNT];
+        codePageBases = new int[PAR_COUNT];
 
         /* ROM memory sizes */
-        cartROM = new short[MEM_32K];
-        rom = new short[MEM_32K];
+        cartROM = new byte[MEM_32K];
+        rom = new byte[MEM_32K];
+        decodeCache = new DecodeCache(size + MEM_32K + MEM_32K);
+        dirtyMap = new DirtyMap(size);
 
         resetMemory();
     }
 
     public void resetMemory() {
-        memory = new short[totalSize];
-        enableExecutivePAR();
+        memory = new byte[totalSize];
+        decodeCache.clear();
+        dirtyMap.markAll();
+        executiveParEnabled = true;
         mmuEnabled = true;
+        bankRegister = 0;
 
         /* Setup RAM/ROM mode variables */
         allRAMMode = true;
@@ -86,6 +119,75 @@ public class Memory
         executivePAR[5] = taskPAR[5] = defaultPAR[5] = 0x3D;
         executivePAR[6] = taskPAR[6] = defaultPAR[6] = 0x3E;
         executivePAR[7] = taskPAR[7] = defaultPAR[7] = 0x3F;
+        updatePageTable();
+    }
+
+    /**
+     * Rebuilds the resolved page table from the current MMU state. Each of
+     * the 8 virtual pages is mapped to the array that backs it (RAM, ROM or
+     * cartridge ROM) along with the offset of the page within that array.
+     * Writes always go to RAM, so a separate set of write offsets into RAM
+     * is kept. PAR values are masked to the installed RAM here, so that
+     * smaller memories mirror and larger ones are reached with no extra
+     * work on each access. The base of each page in the combined physical address
+     * space used by the DecodeCache is also recorded. This must be called
+     * whenever the PARs, the active PAR set, the MMU enable, all RAM mode
+     * or the ROM mode changes.
+     */
+    protected void updatePageTable() {
+        for (int par = 0; par < PAR_COUNT; par++) {
+            int parValue = defaultPAR[par];
+            if (mmuEnabled) {
+                parValue = (executiveParEnabled) ? executivePAR[par] : taskPAR[par];
+            }
+            writePageOffsets[par] = (parValue & pageMask) << 13;
+            readPages[par] = memory;
+            readPageOffsets[par] = writePageOffsets[par];
+
+            /* RAM only */
+            if (allRAMMode) {
+                continue;
+            }
+
+            switch (romMode.get()) {
+                /* RAM + ROM */
+                case 0x2:
+                    if (parValue >= 0x3C && parValue <= 0x3F) {
+                        readPages[par] = rom;
+                        readPageOffsets[par] = (parValue - 0x3C) << 13;
+                    }
+                    break;
+
+                /* RAM + CART ROM */
+                case 0x3:
+                    if (parValue >= 0x3C && parValue <= 0x3F) {
+                        readPages[par] = cartROM;
+                        readPageOffsets[par] = (parValue - 0x3C) << 13;
+                    }
+                    break;
+
+                /* RAM, ROM, and CART ROM - lower 16K = ROM, upper 16K = CART ROM */
+                default:
+                    if (parValue == 0x3C || parValue == 0x3D) {
+                        readPages[par] = rom;
+                        readPageOffsets[par] = (parValue - 0x3C) << 13;
+                    } else if (parValue == 0x3E || parValue == 0x3F) {
+                        readPages[par] = cartROM;
+                        readPageOffsets[par] = (parValue - 0x3E) << 13;
+                    }
+                    break;
+            }
+        }
+
+        for (int par = 0; par < PAR_COUNT; par++) {
+            if (readPages[par] == rom) {
+                codePageBases[par] = totalSize + readPageOffsets[par];
+            } else if (readPages[par] == cartROM) {
+                codePageBases[par] = totalSize + MEM_32K + readPageOffsets[par];
+            } else {
+                codePageBases[par] = readPageOffsets[par];
+            }
+        }
     }
 
     /**
@@ -118,77 +220,21 @@ public class Memory
      * @return the short value of the byte read
      */
     public short readPhysicalByte(UnsignedWord address) {
-        int intAddress = address.get();
-        int par = getPAR(address);
-
-        /* Grab the PAR to read from (if MMU enabled) */
-        int parValue = defaultPAR[par];
-        if (mmuEnabled) {
-            parValue = (executiveParEnabled) ? executivePAR[par] : taskPAR[par];
-        }
-
-        /* RAM only */
-        if (allRAMMode) {
-            return memory[getPhysicalAddress(par, intAddress)];
-        }
-
-        /* RAM + ROM */
-        if (romMode.equals(new UnsignedByte(0x2))) {
-            switch (parValue) {
-                case 0x3C:
-                    return rom[intAddress & 0x1FFF];
-
-                case 0x3D:
-                    return rom[0x2000 + (intAddress & 0x1FFF)];
-
-                case 0x3E:
-                    return rom[0x4000 + (intAddress & 0x1FFF)];
-
-                case 0x3F:
-                    return rom[0x6000 + (intAddress & 0x1FFF)];
-
-                default:
-                    return memory[getPhysicalAddress(par, intAddress)];
-            }
-        }
-
-        /* RAM + CART ROM */
-        if (romMode.equals(new UnsignedByte(0x3))) {
-            switch (parValue) {
-                case 0x3C:
-                    return cartROM[intAddress & 0x1FFF];
-
-                case 0x3D:
-                    return cartROM[0x2000 + (intAddress & 0x1FFF)];
-
-                case 0x3E:
-                    return cartROM[0x4000 + (intAddress & 0x1FFF)];
-
-                case 0x3F:
-                    return cartROM[0x6000 + (intAddress & 0x1FFF)];
-
-                default:
-                    return memory[getPhysicalAddress(par, intAddress)];
-            }
-        }
-
-        /* RAM, ROM, and CART ROM - lower 16K = ROM, upper 16K = CART ROM */
-        switch (parValue) {
-            case 0x3C:
-                return rom[intAddress & 0x1FFF];
-
-            case 0x3D:
-                return rom[0x2000 + (intAddress & 0x1FFF)];
-
-            case 0x3E:
-                return cartROM[intAddress & 0x1FFF];
-
-            case 0x3F:
-                return cartROM[0x2000 + (intAddress & 0x1FFF)];
+        return (short) read8(address.get());
+    }
 
-            default:
-                return memory[getPhysicalAddress(par, intAddress)];
-        }
+    /**
+     * Reads a byte from either the computer's RAM, ROM or the cartridge ROM
+     * without allocating any intermediate objects. This is the primary read
+     * path used by the CPU. The page mapping is resolved ahead of time by
+     * updatePageTable, so a read is a single lookup.
+     *
+     * @param address the 16-bit address to read from
+     * @return the value of the byte read
+     */
+    public int read8(int address) {
+        int par = (address & 0xFFFF) >> 13;
+        return readPages[par][readPageOffsets[par] | (address & 0x1FFF)] & 0xFF;
     }
 
     /**
@@ -199,48 +245,126 @@ public class Memory
      * @return the ROM byte at that location
      */
     public UnsignedByte readROMByte(int address) {
+        return new UnsignedByte(readROM8(address));
+    }
+
+    /**
+     * Reads one of the upper 16 bytes of ROM or CART ROM, as mapped to
+     * $FFF0 - $FFFF, without allocating an UnsignedByte.
+     *
+     * @param address the address to read from
+     * @return the value of the ROM byte at that location
+     */
+    public int readROM8(int address) {
         /* CART ROM = 32K ROM - read from lower 16K */
-        if (romMode.equals(new UnsignedByte(0x3))) {
-            return new UnsignedByte(cartROM[0x3FF0 + (address & 0x000F)]);
+        if (romMode.get() == 0x3) {
+            return cartROM[0x3FF0 + (address & 0x000F)] & 0xFF;
         }
 
-        return new UnsignedByte(rom[0x3FF0 + (address & 0x000F)]);
+        return rom[0x3FF0 + (address & 0x000F)] & 0xFF;
     }
 
     public void writeByte(int address, int value) {
-        writeByte(new UnsignedWord(address), new UnsignedByte(value));
+        write8(address, value);
     }
 
     /**
-     * Writes an UnsignedByte to the specified memory address. If the system
-     * is in a ROM mode, will not write bytes to a ROM location.
+     * Writes an UnsignedByte to the specified memory address.
      *
      * @param address the UnsignedWord location to write to
      * @param value the UnsignedByte to write
      */
     public void writeByte(UnsignedWord address, UnsignedByte value) {
-        int intAddress = address.get();
-        int par = getPAR(address);
+        write8(address.get(), value.get());
+    }
 
-        /* RAM only */
-        if (allRAMMode) {
-            memory[getPhysicalAddress(par, intAddress)] = value.get();
-            return;
-        }
+    /**
+     * Writes a byte to the specified memory address without allocating any
+     * intermediate objects. Writes always go to the RAM page selected by the
+     * active PAR, even when ROM is mapped into that page for reads.
+     *
+     * @param address the 16-bit address to write to
+     * @param value the byte value to write
+     */
+    public void write8(int address, int value) {
+        int par = (address & 0xFFFF) >> 13;
+        int physicalAddress = writePageOffsets[par] | (address & 0x1FFF);
+        memory[physicalAddress] = (byte) value;
+        decodeCache.invalidate(physicalAddress);
+        dirtyMap.mark(physicalAddress);
+    }
 
-        /* RAM + ROM modes - don't write anything to 3C, 3D, 3E, 3F*/
-        switch (par) {
-            case 0x3C:
-            case 0x3D:
-            case 0x3E:
-            case 0x3F:
-                return;
+    /**
+     * Writes a run of bytes to consecutive addresses, such as a stack frame.
+     * The page mapping is looked up once for each 8K page the run touches,
+     * rather than once per byte. The run must not wrap past $FFFF.
+     *
+     * @param address the 16-bit address of the first byte
+     * @param values the bytes to write
+     * @param length the number of bytes to write
+     */
+    public void writeBlock(int address, int [] values, int length) {
+        int i = 0;
+        while (i < length) {
+            int current = address + i;
+            int par = current >> 13;
+            int physicalAddress = writePageOffsets[par] | (current & 0x1FFF);
+            int run = Math.min(length - i, 0x2000 - (current & 0x1FFF));
+            for (int j = 0; j < run; j++) {
+                memory[physicalAddress + j] = (byte) values[i + j];
+                decodeCache.invalidate(physicalAddress + j);
+            }
+            dirtyMap.markRange(physicalAddress, run);
+            i += run;
+        }
+    }
 
-            default:
-                memory[getPhysicalAddress(par, intAddress)] = value.get();
+    /**
+     * Reads a run of bytes from consecutive addresses, such as a stack
+     * frame. The page mapping is looked up once for each 8K page the run
+     * touches, rather than once per byte. The run must not wrap past $FFFF.
+     *
+     * @param address the 16-bit address of the first byte
+     * @param values the array that receives the bytes read
+     * @param length the number of bytes to read
+     */
+    public void readBlock(int address, int [] values, int length) {
+        int i = 0;
+        while (i < length) {
+            int current = address + i;
+            int par = current >> 13;
+            byte [] page = readPages[par];
+            int offset = readPageOffsets[par] | (current & 0x1FFF);
+            int run = Math.min(length - i, 0x2000 - (current & 0x1FFF));
+            for (int j = 0; j < run; j++) {
+                values[i + j] = page[offset + j] & 0xFF;
+            }
+            i += run;
         }
     }
 
+    /**
+     * Translates a 16-bit address into the combined physical address space
+     * used by the DecodeCache, where RAM comes first, followed by the
+     * system ROM and then the cartridge ROM. The address reflects whatever
+     * is currently mapped for reads at that location.
+     *
+     * @param address the 16-bit address to translate
+     * @return the physical address of the byte that would be read
+     */
+    public int getCodeAddress(int address) {
+        int par = (address & 0xFFFF) >> 13;
+        return codePageBases[par] | (address & 0x1FFF);
+    }
+
+    public DecodeCache getDecodeCache() {
+        return decodeCache;
+    }
+
+    public DirtyMap getDirtyMap() {
+        return dirtyMap;
+    }
+
     /**
      * Given a PAR and an address, translates the address into a 19-bit
      * address into physical RAM.
@@ -252,9 +376,9 @@ public class Memory
     public int getPhysicalAddress(int par, int address) {
         int parAddress;
         if (mmuEnabled) {
-            parAddress = (executiveParEnabled ? executivePAR[par] : taskPAR[par]) & TOTAL_PAGES;
+            parAddress = (executiveParEnabled ? executivePAR[par] : taskPAR[par]) & pageMask;
         } else {
-            parAddress = defaultPAR[par] & TOTAL_PAGES;
+            parAddress = defaultPAR[par] & pageMask;
         }
         parAddress = parAddress << 13;
         return parAddress | (address & 0x1FFF);
@@ -265,6 +389,7 @@ public class Memory
      */
     public void enableExecutivePAR() {
         executiveParEnabled = true;
+        updatePageTable();
     }
 
     /**
@@ -272,6 +397,7 @@ public class Memory
      */
     public void enableTaskPAR() {
         executiveParEnabled = false;
+        updatePageTable();
     }
 
     /**
@@ -279,6 +405,7 @@ public class Memory
      */
     public void enableMMU() {
         mmuEnabled = true;
+        updatePageTable();
     }
 
     /**
@@ -286,6 +413,7 @@ public class Memory
      */
     public void disableMMU() {
         mmuEnabled = false;
+        updatePageTable();
     }
 
     /**
@@ -293,6 +421,7 @@ public class Memory
      */
     public void enableAllRAMMode() {
         allRAMMode = true;
+        updatePageTable();
     }
 
     /**
@@ -300,6 +429,7 @@ public class Memory
      */
     public void disableAllRAMMode() {
         allRAMMode = false;
+        updatePageTable();
     }
 
     /**
@@ -313,7 +443,17 @@ public class Memory
      * @param mode the mode to operate in
      */
     public void setROMMode(UnsignedByte mode) {
+        setROMMode(mode.get());
+    }
+
+    /**
+     * Sets the ROM mode from an 8-bit value.
+     *
+     * @param mode the new ROM mode
+     */
+    public void setROMMode(int mode) {
         romMode.set(mode);
+        updatePageTable();
     }
 
     /**
@@ -326,19 +466,30 @@ public class Memory
      * @param value the value to set it to
      */
     public void setExecutivePAR(int par, UnsignedByte value) {
-        switch (value.get()) {
+        setExecutivePAR(par, value.get());
+    }
+
+    /**
+     * Sets the EXECUTIVE page address register to the specified 8-bit value.
+     * Works the same way as the UnsignedByte version.
+     *
+     * @param par the PAR number to set
+     * @param value the value to set it to
+     */
+    public void setExecutivePAR(int par, int value) {
+        switch (value) {
             case 0x3C:
             case 0x3D:
             case 0x3E:
             case 0x3F:
-                value.and(~0x3);
-                value.or(par & 0x3);
+                value = (value & ~0x3) | (par & 0x3);
                 break;
 
             default:
                 break;
         }
-        executivePAR[par] = value.get();
+        executivePAR[par] = (short) extendPAR(value);
+        updatePageTable();
     }
 
     /**
@@ -351,19 +502,107 @@ public class Memory
      * @param value the value to set it to
      */
     public void setTaskPAR(int par, UnsignedByte value) {
-        switch (value.get()) {
+        setTaskPAR(par, value.get());
+    }
+
+    /**
+     * Sets the TASK page address register to the specified 8-bit value.
+     * Works the same way as the UnsignedByte version.
+     *
+     * @param par the PAR number to set
+     * @param value the value to set it to
+     */
+    public void setTaskPAR(int par, int value) {
+        switch (value) {
             case 0x3C:
             case 0x3D:
             case 0x3E:
             case 0x3F:
-                value.and(~0x3);
-                value.or(par & 0x3);
+                value = (value & ~0x3) | (par & 0x3);
                 break;
 
             default:
                 break;
         }
-        taskPAR[par] = value.get();
+        taskPAR[par] = (short) extendPAR(value);
+        updatePageTable();
+    }
+
+    /**
+     * Returns the page number a PAR write selects. With 512K or less the
+     * GIME only has 6 PAR bits, and the page number is masked to the
+     * installed RAM when the page table is built. 2MB upgrades use all 8
+     * bits of the PAR, and 8MB upgrades add the 2 bits of the bank
+     * register above those, latched at the time the PAR is written.
+     *
+     * @param value the value written to the PAR
+     * @return the page number to store in the PAR
+     */
+    private int extendPAR(int value) {
+        if (totalSize == MEM_8M) {
+            return (bankRegister << 8) | (value & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Sets the extended bank register at $FF9B. Only the 8MB memory
+     * upgrade uses it - the low 2 bits select which 2MB bank the next PAR
+     * writes map to.
+     *
+     * @param value the value written to the register
+     */
+    public void setBankRegister(int value) {
+        bankRegister = value & 0x3;
+    }
+
+    public int getBankRegister() {
+        return bankRegister;
+    }
+
+    public int getRAMSize() {
+        return totalSize;
+    }
+
+    /**
+     * Reads a byte from physical RAM, bypassing the MMU. Addresses are
+     * the 19-bit addresses generated by the GIME, and are masked to the
+     * installed RAM, so a 128K machine sees its RAM mirrored.
+     *
+     * @param address the physical address to read
+     * @return the value of the byte read
+     */
+    public int readPhysicalRAM(int address) {
+        return memory[address & (totalSize - 1)] & 0xFF;
+    }
+
+    /**
+     * Parses a RAM size such as 128K, 512K, 2M or 8M. A trailing B, as in
+     * 2MB, is also accepted.
+     *
+     * @param value the size to parse
+     * @return the size in bytes, or -1 if it is not a supported size
+     */
+    public static int parseRAMSize(String value) {
+        if (value == null) {
+            return -1;
+        }
+        switch (value.trim().toUpperCase().replaceAll("B$", "")) {
+            case "128K":
+                return MEM_128K;
+
+            case "512K":
+                return MEM_512K;
+
+            case "2M":
+                return MEM_2M;
+
+            case "8M":
+                return MEM_8M;
+
+            default:
+                return -1;
+        }
     }
 
     /**
@@ -374,7 +613,7 @@ public class Memory
      * @return an UnsignedByte from the specified location
      */
     public UnsignedByte readByte(int address) {
-        return readByte(new UnsignedWord(address));
+        return new UnsignedByte(read8(address));
     }
 
     /**
@@ -384,29 +623,34 @@ public class Memory
      * @return an UnsignedByte from the specified location
      */
     public UnsignedByte readByte(UnsignedWord address) {
-        return new UnsignedByte(readPhysicalByte(address));
+        return new UnsignedByte(read8(address.get()));
     }
 
     /**
      * Loads a ROM file into the specified type of memory. Where the
-     * ROM is loaded depends on the destination.
+     * ROM is loaded depends on the destination. The image comes from the
+     * ROMCache, so a file that another Memory has already loaded is not
+     * read again. Each Memory gets its own copy of the image.
      *
      * @param filename the filename to load from
      * @param destination the destination memory space to copy to
      * @return true if the file loaded correctly, false otherwise
      */
     public boolean loadROM(String filename, MemoryType destination) {
-        InputStream stream = IO.openInputStream(filename);
-        byte[] data = IO.loadStream(stream);
-        boolean result =
-                destination == MemoryType.CARTRIDGE ?
-                copyByteArrayToShortArray(data, cartROM) :
-                copyByteArrayToShortArray(data, rom);
-        if (!result) {
+        byte [] image = ROMCache.load(filename, MEM_32K);
+        if (image == null) {
             LOGGER.severe("Could not load file [" + filename + "] into " + destination);
+            return false;
+        }
+
+        if (destination == MemoryType.CARTRIDGE) {
+            cartROM = image;
         } else {
-            LOGGER.info("Loaded file [" + filename + "] into " + destination);
+            rom = image;
         }
-        return result;
+        updatePageTable();
+        decodeCache.clear();
+        LOGGER.info("Loaded file [" + filename + "] into " + destination);
+        return true;
     }
 }
\ No newline at end of file
@@ -19,7 +19,7 @@ public class NotImplementedInstruction extends Instruction
         this.opcodeValue = opcode;
     }
 
-    public int call(IOController io) throws MalformedInstructionException {
+    public int call(IOController io, DecodeContext context) throws MalformedInstructionException {
         throw new MalformedInstructionException("Instruction not implemented - opcode " + new UnsignedByte(opcodeValue));
     }
 }
@@ -8,6 +8,9 @@ import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
 
 public abstract class PIA
 {
+    /* The number of times the PIA registers repeat in its 32 byte block of the IO page */
+    public static final int REGISTER_MIRRORS = 8;
+
     public UnsignedByte controlRegister;
     public UnsignedByte dataRegister;
     public UnsignedByte dataDirectionRegister;
@@ -30,7 +33,16 @@ public abstract class PIA
      *
      * @param newDataRegister the new value for the data register
      */
-    public abstract void setDataRegister(UnsignedByte newDataRegister);
+    public void setDataRegister(UnsignedByte newDataRegister) {
+        writeDataRegister(newDataRegister.get());
+    }
+
+    /**
+     * Writes an 8-bit value to the data register for this portion of the PIA.
+     *
+     * @param value the new value for the data register
+     */
+    public abstract void writeDataRegister(int value);
 
     /**
      * Gets the contents of the data direction register.
@@ -47,7 +59,7 @@ public abstract class PIA
      * @param newDataDirectionRegister the new contents fo the data direction register
      */
     public void setDataDirectionRegister(UnsignedByte newDataDirectionRegister) {
-        dataDirectionRegister = newDataDirectionRegister.copy();
+        dataDirectionRegister.set(newDataDirectionRegister);
     }
 
     /**
@@ -65,7 +77,25 @@ public abstract class PIA
      * @param newControlRegister the new control register value
      */
     public void setControlRegister(UnsignedByte newControlRegister) {
-        controlRegister = newControlRegister.copy();
+        writeControlRegister(newControlRegister.get());
+    }
+
+    /**
+     * Returns the contents of the control register as an 8-bit value.
+     *
+     * @return the contents of the control register
+     */
+    public int readControlRegister() {
+        return controlRegister.get();
+    }
+
+    /**
+     * Writes an 8-bit value to the control register.
+     *
+     * @param value the new control register value
+     */
+    public void writeControlRegister(int value) {
+        controlRegister.set(value);
     }
 
     /**
@@ -91,10 +121,34 @@ public abstract class PIA
      * @param newRegisterValue the new value for the data register or data direction register
      */
     public void setRegister(UnsignedByte newRegisterValue) {
+        writeRegister(newRegisterValue.get());
+    }
+
+    /**
+     * Reads either the data register, or the data direction register, as an
+     * 8-bit value. Works the same way as getRegister.
+     *
+     * @return the data register or the data direction register
+     */
+    public int readRegister() {
+        if (controlRegister.isMasked(0x04)) {
+            controlRegister.and(~0xC0);
+            return getDataRegister().get();
+        }
+        return dataDirectionRegister.get();
+    }
+
+    /**
+     * Writes an 8-bit value to either the data register, or the data direction
+     * register. Works the same way as setRegister.
+     *
+     * @param value the new value for the data register or data direction register
+     */
+    public void writeRegister(int value) {
         if (controlRegister.isMasked(0x04)) {
-            setDataRegister(newRegisterValue);
+            writeDataRegister(value);
             return;
         }
-        setDataDirectionRegister(newRegisterValue);
+        dataDirectionRegister.set(value);
     }
 }
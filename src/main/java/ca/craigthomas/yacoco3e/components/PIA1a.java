@@ -11,9 +11,8 @@ import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.CC_I;
 
 public class PIA1a extends PIA
 {
-    protected Keyboard keyboard;
+    protected KeyboardMatrix keyboard;
     protected DeviceSelectorSwitch deviceSelectorSwitch;
-    protected int timerValue;
     protected boolean leftJoystickFire;
     protected float leftJoystickX;
     protected float leftJoystickY;
@@ -22,10 +21,9 @@ public class PIA1a extends PIA
     protected float rightJoystickY;
     protected PIA2a pia2a;
 
-    public PIA1a(Keyboard newKeyboard, DeviceSelectorSwitch newDeviceSelectorSwitch, PIA2a pia2a) {
+    public PIA1a(KeyboardMatrix newKeyboard, DeviceSelectorSwitch newDeviceSelectorSwitch, PIA2a pia2a) {
         super();
         keyboard = newKeyboard;
-        timerValue = 0;
         deviceSelectorSwitch = newDeviceSelectorSwitch;
         leftJoystickFire = false;
         leftJoystickX = 2.25f;
@@ -101,22 +99,22 @@ public class PIA1a extends PIA
      * In the Color Computer line of computers, PIA 1 side A is always configured for
      * input, not for output. Writing to the data register does nothing.
      *
-     * @param newDataRegister the new value for the data register
+     * @param value the new value for the data register
      */
     @Override
-    public void setDataRegister(UnsignedByte newDataRegister) {
+    public void writeDataRegister(int value) {
     }
 
     /**
      * When the control register is written to, interrupts are potentially enabled,
      * and bits 7 and 6 are set.
      *
-     * @param newControlRegister the new control register value
+     * @param value the new control register value
      */
     @Override
-    public void setControlRegister(UnsignedByte newControlRegister) {
-        controlRegister = new UnsignedByte(
-                newControlRegister.get() +
+    public void writeControlRegister(int value) {
+        controlRegister.set(
+                value +
                         (controlRegister.isMasked(0x80) ? 0x80 : 0) +
                         (controlRegister.isMasked(0x40) ? 0x40 : 0)
         );
@@ -131,20 +129,17 @@ public class PIA1a extends PIA
     }
 
     /**
-     * Adds the specified number of ticks to the timer.
+     * Called each time the timer period has passed. Sets the interrupt flag
+     * in the control register, and if the control register is set to
+     * trigger interrupts, schedules an IRQ.
      *
-     * @param ticks the number of ticks to add to the timer
      * @param cpu the CPU on which to generate an interrupt
      * @param regs the RegisterSet for the CPU
      */
-    public void addTicks(int ticks, CPU cpu, RegisterSet regs) {
-        timerValue += ticks;
-        if (timerValue >= IOController.TIMER_63_5_MICROS) {
-            controlRegister.or(0x80);
-            if (!regs.cc.isMasked(CC_I) && controlRegister.isMasked(0x01)) {
-                cpu.scheduleIRQ();
-            }
-            timerValue = 0;
+    public void timerFired(CPU cpu, RegisterSet regs) {
+        controlRegister.or(0x80);
+        if (!regs.isCCMasked(CC_I) && controlRegister.isMasked(0x01)) {
+            cpu.scheduleIRQ();
         }
     }
 }
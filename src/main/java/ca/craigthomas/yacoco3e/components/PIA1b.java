@@ -11,15 +11,13 @@ import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.CC_I;
 
 public class PIA1b extends PIA
 {
-    protected Keyboard keyboard;
+    protected KeyboardMatrix keyboard;
     protected DeviceSelectorSwitch deviceSelectorSwitch;
-    protected int timerValue;
 
-    public PIA1b(Keyboard newKeyboard, DeviceSelectorSwitch newDeviceSelectorSwitch) {
+    public PIA1b(KeyboardMatrix newKeyboard, DeviceSelectorSwitch newDeviceSelectorSwitch) {
         super();
         keyboard = newKeyboard;
         deviceSelectorSwitch = newDeviceSelectorSwitch;
-        timerValue = 0;
     }
 
     /**
@@ -37,23 +35,23 @@ public class PIA1b extends PIA
      * In the Color Computer line of computers, PIA 1 side B is used to strobe the
      * keyboard matrix.
      *
-     * @param newDataRegister the new value for the data register
+     * @param value the new value for the data register
      */
     @Override
-    public void setDataRegister(UnsignedByte newDataRegister) {
-        keyboard.setLowByte(newDataRegister);
+    public void writeDataRegister(int value) {
+        keyboard.setLowByte(value);
     }
 
     /**
      * When the control register is written to, interrupts are potentially enabled,
      * and bits 7 and 6 are set.
      *
-     * @param newControlRegister the new control register value
+     * @param value the new control register value
      */
     @Override
-    public void setControlRegister(UnsignedByte newControlRegister) {
-        controlRegister = new UnsignedByte(
-                newControlRegister.get() +
+    public void writeControlRegister(int value) {
+        controlRegister.set(
+                value +
                 (controlRegister.isMasked(0x80) ? 0x80 : 0) +
                 (controlRegister.isMasked(0x40) ? 0x40 : 0)
         );
@@ -68,22 +66,17 @@ public class PIA1b extends PIA
     }
 
     /**
-     * Adds the specified number of ticks to the timer. If the control register is
-     * set to trigger interrupts, the schedule an IRQ if the required number of
-     * milliseconds has passed.
+     * Called each time the timer period has passed. Sets the interrupt flag
+     * in the control register, and if the control register is set to
+     * trigger interrupts, schedules an IRQ.
      *
-     * @param ticks the number of ticks to add to the timer
      * @param cpu the CPU on which to generate an interrupt
      * @param regs the RegisterSet for the CPU
      */
-    public void addTicks(int ticks, CPU cpu, RegisterSet regs) {
-        timerValue += ticks;
-        if (timerValue >= IOController.TIMER_16_6_MILLIS) {
-            controlRegister.or(0x80);
-            if (!regs.cc.isMasked(CC_I) && controlRegister.isMasked(0x01)) {
-                cpu.scheduleIRQ();
-            }
-            timerValue = 0;
+    public void timerFired(CPU cpu, RegisterSet regs) {
+        controlRegister.or(0x80);
+        if (!regs.isCCMasked(CC_I) && controlRegister.isMasked(0x01)) {
+            cpu.scheduleIRQ();
         }
     }
 }
@@ -55,17 +55,17 @@ public class PIA2a extends PIA
      *   bit 3 set = 0.140V
      *   bit 2 set = 0.070V
      *
-     * @param newDataRegister the new value for the data register
+     * @param value the new value for the data register
      */
     @Override
-    public void setDataRegister(UnsignedByte newDataRegister) {
+    public void writeDataRegister(int value) {
         voltage = 0.0f;
-        voltage += newDataRegister.isMasked(0x80) ? 2.250f : 0.0f;
-        voltage += newDataRegister.isMasked(0x40) ? 1.125f : 0.0f;
-        voltage += newDataRegister.isMasked(0x20) ? 0.563f : 0.0f;
-        voltage += newDataRegister.isMasked(0x10) ? 0.281f : 0.0f;
-        voltage += newDataRegister.isMasked(0x08) ? 0.140f : 0.0f;
-        voltage += newDataRegister.isMasked(0x04) ? 0.070f : 0.0f;
+        voltage += (value & 0x80) != 0 ? 2.250f : 0.0f;
+        voltage += (value & 0x40) != 0 ? 1.125f : 0.0f;
+        voltage += (value & 0x20) != 0 ? 0.563f : 0.0f;
+        voltage += (value & 0x10) != 0 ? 0.281f : 0.0f;
+        voltage += (value & 0x08) != 0 ? 0.140f : 0.0f;
+        voltage += (value & 0x04) != 0 ? 0.070f : 0.0f;
         byte audioByte = (byte)(((voltage / 4.429f) * 128.0f));
         if (useDAC) {
             dac.writeByte(audioByte);
@@ -76,11 +76,11 @@ public class PIA2a extends PIA
      * When the control register is written to, interrupts are potentially enabled,
      * and bits 7 and 6 are set.
      *
-     * @param newControlRegister the new control register value
+     * @param value the new control register value
      */
     @Override
-    public void setControlRegister(UnsignedByte newControlRegister) {
-        controlRegister = new UnsignedByte(newControlRegister.get() +
+    public void writeControlRegister(int value) {
+        controlRegister.set(value +
                         (controlRegister.isMasked(0x80) ? 0x80 : 0) +
                         (controlRegister.isMasked(0x40) ? 0x40 : 0));
 
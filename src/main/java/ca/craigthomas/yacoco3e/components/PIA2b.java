@@ -34,26 +34,24 @@ public class PIA2b extends PIA
      * video mode. Bits 3-7 are connected to the VDG. The bits must be set for
      * output based on the data direction register.
      *
-     * @param newDataRegister the new value for the data register
+     * @param value the new value for the data register
      */
     @Override
-    public void setDataRegister(UnsignedByte newDataRegister) {
-        vdgMode = newDataRegister.copy();
-        vdgMode.and(dataDirectionRegister);
-        vdgMode.and(~0x7);
+    public void writeDataRegister(int value) {
+        vdgMode.set(value & dataDirectionRegister.get() & ~0x7);
         io.updateVideoMode(vdgMode);
-        dataRegister = newDataRegister.copy();
+        dataRegister.set(value);
     }
 
     /**
      * When the control register is written to, interrupts are potentially enabled,
      * and bits 7 and 6 are set.
      *
-     * @param newControlRegister the new control register value
+     * @param value the new control register value
      */
     @Override
-    public void setControlRegister(UnsignedByte newControlRegister) {
-        controlRegister = new UnsignedByte(newControlRegister.get() +
+    public void writeControlRegister(int value) {
+        controlRegister.set(value +
                         (controlRegister.isMasked(0x80) ? 0x80 : 0) +
                         (controlRegister.isMasked(0x40) ? 0x40 : 0));
         /* Bit 2 = Control whether Data Register or Data Direction Register active */
@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.AddressingMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts how many times each opcode, program counter and addressing mode
+ * is executed, and how many cycles each one uses up, so that the hot spots
+ * of an emulated program can be found. The counters are plain arrays
+ * indexed by opcode, address and mode, so recording an instruction costs a
+ * handful of array increments. The CPU only calls the profiler when one is
+ * attached, so there is no cost at all when profiling is off.
+ *
+ * Opcodes are numbered 0-255 for the single byte opcodes, 256-511 for the
+ * $10 prefixed opcodes and 512-767 for the $11 prefixed opcodes, which
+ * matches the three tables in InstructionTable.
+ */
+public class Profiler
+{
+    /* The number of opcodes across all three instruction tables */
+    public static final int NUM_OPCODES = 768;
+
+    /* The number of rows in each section of the report */
+    public static final int DEFAULT_REPORT_ROWS = 20;
+
+    /* Counts and cycles for each opcode */
+    private final long [] opcodeCounts;
+    private final long [] opcodeCycles;
+    private final Instruction [] opcodeInstructions;
+
+    /* Counts and cycles for each program counter, and the opcode last executed there */
+    private final long [] pcCounts;
+    private final long [] pcCycles;
+    private final short [] pcOpcodes;
+
+    /* Counts and cycles for each addressing mode */
+    private final long [] modeCounts;
+    private final long [] modeCycles;
+
+    /* Totals across every instruction */
+    private long instructions;
+    private long cycles;
+    private long waitCycles;
+
+    public Profiler() {
+        opcodeCounts = new long[NUM_OPCODES];
+        opcodeCycles = new long[NUM_OPCODES];
+        opcodeInstructions = new Instruction[NUM_OPCODES];
+        pcCounts = new long[0x10000];
+        pcCycles = new long[0x10000];
+        pcOpcodes = new short[0x10000];
+        modeCounts = new long[AddressingMode.values().length];
+        modeCycles = new long[AddressingMode.values().length];
+    }
+
+    /**
+     * Returns the index into the opcode counters for an opcode value.
+     *
+     * @param opcodeValue the opcode, including any $10 or $11 prefix
+     * @return the index of the opcode, from 0 to NUM_OPCODES - 1
+     */
+    static int opcodeIndex(int opcodeValue) {
+        switch (opcodeValue >> 8) {
+            case 0x10:
+                return 0x100 | (opcodeValue & 0xFF);
+
+            case 0x11:
+                return 0x200 | (opcodeValue & 0xFF);
+
+            default:
+                return opcodeValue & 0xFF;
+        }
+    }
+
+    /**
+     * Records a single executed instruction.
+     *
+     * @param pc the address the instruction was executed from
+     * @param instruction the instruction that was executed
+     * @param ticks the number of cycles it took
+     */
+    public void record(int pc, Instruction instruction, int ticks) {
+        int opcode = opcodeIndex(instruction.opcodeValue);
+        opcodeCounts[opcode]++;
+        opcodeCycles[opcode] += ticks;
+        opcodeInstructions[opcode] = instruction;
+
+        pc &= 0xFFFF;
+        pcCounts[pc]++;
+        pcCycles[pc] += ticks;
+        pcOpcodes[pc] = (short) opcode;
+
+        if (instruction.addressingMode != null) {
+            int mode = instruction.addressingMode.ordinal();
+            modeCounts[mode]++;
+            modeCycles[mode] += ticks;
+        }
+
+        instructions++;
+        cycles += ticks;
+    }
+
+    /**
+     * Records cycles spent halted by SYNC or CWAI, waiting for an interrupt.
+     *
+     * @param ticks the number of cycles spent waiting
+     */
+    public void recordWait(int ticks) {
+        waitCycles += ticks;
+    }
+
+    public long getInstructions() {
+        return instructions;
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    public long getWaitCycles() {
+        return waitCycles;
+    }
+
+    /**
+     * Returns the number of times the opcode was executed.
+     *
+     * @param opcodeValue the opcode, including any $10 or $11 prefix
+     * @return the number of times it was executed
+     */
+    public long getOpcodeCount(int opcodeValue) {
+        return opcodeCounts[opcodeIndex(opcodeValue)];
+    }
+
+    /**
+     * Returns the number of cycles used by the opcode.
+     *
+     * @param opcodeValue the opcode, including any $10 or $11 prefix
+     * @return the number of cycles it used
+     */
+    public long getOpcodeCycles(int opcodeValue) {
+        return opcodeCycles[opcodeIndex(opcodeValue)];
+    }
+
+    /**
+     * Returns the number of instructions executed from the address.
+     *
+     * @param pc the address to check
+     * @return the number of instructions executed there
+     */
+    public long getPCCount(int pc) {
+        return pcCounts[pc & 0xFFFF];
+    }
+
+    /**
+     * Returns the number of cycles used by instructions at the address.
+     *
+     * @param pc the address to check
+     * @return the number of cycles used there
+     */
+    public long getPCCycles(int pc) {
+        return pcCycles[pc & 0xFFFF];
+    }
+
+    /**
+     * Returns the number of instructions executed with the addressing mode.
+     *
+     * @param mode the addressing mode to check
+     * @return the number of instructions that used the mode
+     */
+    public long getModeCount(AddressingMode mode) {
+        return modeCounts[mode.ordinal()];
+    }
+
+    /**
+     * Returns the number of cycles used by instructions with the addressing mode.
+     *
+     * @param mode the addressing mode to check
+     * @return the number of cycles used by the mode
+     */
+    public long getModeCycles(AddressingMode mode) {
+        return modeCycles[mode.ordinal()];
+    }
+
+    /**
+     * Returns a text report of the hot spots, with the opcodes, addressing
+     * modes and program counters that used the most cycles listed first.
+     *
+     * @param rows the most opcodes and program counters to list
+     * @return the report
+     */
+    public String getReport(int rows) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Profile: %d instructions, %d cycles, %d cycles waiting for interrupts%n",
+                instructions, cycles, waitCycles));
+
+        report.append(String.format("%nOpcodes by cycles:%n"));
+        report.append(String.format("  %-6s %-6s %-4s %12s %14s %7s%n", "Opcode", "Name", "Mode", "Count", "Cycles", "%"));
+        for (int opcode : sortByCycles(opcodeCycles, rows)) {
+            Instruction instruction = opcodeInstructions[opcode];
+            report.append(String.format("  %-6s %-6s %-4s %12d %14d %6.2f%%%n",
+                    opcodeName(opcode), instruction.mnemonic, instruction.addressingMode,
+                    opcodeCounts[opcode], opcodeCycles[opcode], percent(opcodeCycles[opcode])));
+        }
+
+        report.append(String.format("%nAddressing modes by cycles:%n"));
+        report.append(String.format("  %-4s %12s %14s %7s%n", "Mode", "Count", "Cycles", "%"));
+        for (int mode : sortByCycles(modeCycles, modeCycles.length)) {
+            report.append(String.format("  %-4s %12d %14d %6.2f%%%n",
+                    AddressingMode.values()[mode], modeCounts[mode], modeCycles[mode], percent(modeCycles[mode])));
+        }
+
+        report.append(String.format("%nProgram counters by cycles:%n"));
+        report.append(String.format("  %-5s %-6s %12s %14s %7s%n", "PC", "Name", "Count", "Cycles", "%"));
+        for (int pc : sortByCycles(pcCycles, rows)) {
+            report.append(String.format("  $%04X %-6s %12d %14d %6.2f%%%n",
+                    pc, opcodeInstructions[pcOpcodes[pc]].mnemonic,
+                    pcCounts[pc], pcCycles[pc], percent(pcCycles[pc])));
+        }
+        return report.toString();
+    }
+
+    private double percent(long value) {
+        return cycles == 0 ? 0.0 : (100.0 * value) / cycles;
+    }
+
+    private static String opcodeName(int opcode) {
+        switch (opcode >> 8) {
+            case 1:
+                return String.format("10%02X", opcode & 0xFF);
+
+            case 2:
+                return String.format("11%02X", opcode & 0xFF);
+
+            default:
+                return String.format("%02X", opcode);
+        }
+    }
+
+    /**
+     * Returns the indexes of the non-zero entries with the most cycles,
+     * highest first.
+     *
+     * @param values the cycles for each index
+     * @param rows the most indexes to return
+     * @return the indexes in descending order of cycles
+     */
+    private static List<Integer> sortByCycles(long [] values, int rows) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) {
+                indexes.add(i);
+            }
+        }
+        indexes.sort((left, right) -> Long.compare(values[right], values[left]));
+        return indexes.subList(0, Math.min(rows, indexes.size()));
+    }
+}
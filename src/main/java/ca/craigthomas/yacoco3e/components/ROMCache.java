@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Holds one image of each ROM file loaded by any Memory in the process, so
+ * that many machines running the same BASIC and Disk BASIC ROMs read each
+ * file only once.
+ *
+ * Images are keyed by the real path of the ROM file together with its
+ * size and modification time, so loading the same unchanged file again
+ * does not read it at all, while an edited file is read again. The new
+ * image replaces the old one, so the cache never holds more than one image
+ * per file.
+ *
+ * Every caller gets its own copy of the image. Memory reads ROM straight
+ * from the array through its page table, and tests write to it directly,
+ * so a shared array could be changed by one machine under another.
+ */
+public class ROMCache
+{
+    /* The file an image was read from, as it was when it was read */
+    private static class Key
+    {
+        final Path path;
+        final long fileSize;
+        final long modified;
+        final int size;
+
+        Key(Path path, long fileSize, long modified, int size) {
+            this.path = path;
+            this.fileSize = fileSize;
+            this.modified = modified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return path.equals(key.path) && fileSize == key.fileSize && modified == key.modified && size == key.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, fileSize, modified, size);
+        }
+    }
+
+    /* The image of each file loaded so far */
+    private static final Map<Key, byte []> images = new HashMap<>();
+
+    /* A logger for the ROM cache */
+    private final static Logger LOGGER = Logger.getLogger(ROMCache.class.getName());
+
+    private ROMCache() {}
+
+    /**
+     * Returns a copy of the image of a ROM file, reading the file if it has
+     * not been loaded before or has changed since. The image is size bytes
+     * long, with the file at the start and zeros after it.
+     *
+     * @param filename the ROM file to load
+     * @param size the size of the image
+     * @return a copy of the image, or null if the file could not be read or is larger than size
+     */
+    public static synchronized byte [] load(String filename, int size) {
+        try {
+            Path path = Paths.get(filename).toRealPath();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (attributes.size() > size) {
+                LOGGER.severe("ROM file [" + filename + "] is larger than " + size + " bytes");
+                return null;
+            }
+
+            Key key = new Key(path, attributes.size(), attributes.lastModifiedTime().toMillis(), size);
+            byte [] image = images.get(key);
+            if (image == null) {
+                byte [] contents = Files.readAllBytes(path);
+                if (contents.length > size) {
+                    LOGGER.severe("ROM file [" + filename + "] is larger than " + size + " bytes");
+                    return null;
+                }
+                image = new byte[size];
+                System.arraycopy(contents, 0, image, 0, contents.length);
+                images.keySet().removeIf(existing -> existing.path.equals(path));
+                images.put(key, image);
+            }
+            return image.clone();
+        } catch (IOException e) {
+            LOGGER.severe("Error reading ROM file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of ROM images held.
+     *
+     * @return the number of images
+     */
+    public static synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Forgets every image, so that the next load of any file reads it again.
+     */
+    public static synchronized void clear() {
+        images.clear();
+    }
+}
@@ -19,6 +19,24 @@ public class Screen
     private int colorSet;
     private ScreenMode.Mode currentMode;
 
+    /* A view of whichever back buffer is current, for code that only reads pixels */
+    private final FrameBuffer frameBuffer = new FrameBuffer() {
+        @Override
+        public int getWidth() {
+            return screenMode.getBackBuffer().getWidth();
+        }
+
+        @Override
+        public int getHeight() {
+            return screenMode.getBackBuffer().getHeight();
+        }
+
+        @Override
+        public int getRGB(int x, int y) {
+            return screenMode.getBackBuffer().getRGB(x, y) & 0xFFFFFF;
+        }
+    };
+
     public Screen(int newScale) {
         scale = newScale;
         setMode(Mode.SG4, 0);
@@ -37,6 +55,7 @@ public class Screen
 
         colorSet = newColorSet;
         currentMode = mode;
+        ScreenMode previousMode = screenMode;
 
         switch (mode) {
             case SG4:
@@ -96,7 +115,15 @@ public class Screen
         }
         screenMode.setMemoryOffset(memoryOffset);
         screenMode.setIOController(io);
-        resolutionChanged = true;
+
+        /* Keep the lines already drawn this frame, in case the mode changed part way through it */
+        if (previousMode != null) {
+            screenMode.copyBackBuffer(previousMode.getBackBuffer());
+        }
+        if (previousMode == null || previousMode.getWidth() != screenMode.getWidth()
+                || previousMode.getHeight() != screenMode.getHeight()) {
+            resolutionChanged = true;
+        }
     }
 
     /**
@@ -152,6 +179,15 @@ public class Screen
         screenMode.refreshScreen();
     }
 
+    /**
+     * Refreshes a single line of the current screen.
+     *
+     * @param line the line to refresh, where 0 is the top of the screen
+     */
+    public void refreshLine(int line) {
+        screenMode.refreshLine(line);
+    }
+
     /**
      * Returns the current back buffer.
      *
@@ -161,6 +197,15 @@ public class Screen
         return screenMode.getBackBuffer();
     }
 
+    /**
+     * Returns the pixels of the current back buffer, at the current scale.
+     *
+     * @return the pixels of the current back buffer
+     */
+    public FrameBuffer getFrameBuffer() {
+        return frameBuffer;
+    }
+
     /**
      * Returns the current scale factor.
      *
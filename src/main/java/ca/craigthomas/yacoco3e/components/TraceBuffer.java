@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.RegisterSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A fixed size ring buffer of packed binary trace records, one for each
+ * instruction executed while tracing is on. The records live in a direct
+ * ByteBuffer outside of the Java heap, and recording one is a few
+ * absolute puts - no strings are built and nothing is printed - so tracing
+ * can be left on for long runs. Once the buffer is full the oldest records
+ * are overwritten, so it always holds the most recent instructions. The
+ * buffer is saved to a file with save, and turned back into text by
+ * TraceDecoder.
+ *
+ * Each record is RECORD_SIZE bytes, in big endian order:
+ *
+ *   0  the total cycle count before the instruction (8 bytes)
+ *   8  PC, opcode, operand word and effective address (2 bytes each)
+ *  16  X, Y, U and S before the instruction (2 bytes each)
+ *  24  A, B, DP and CC before the instruction (1 byte each)
+ *  28  the PC after the instruction and the cycles it took (2 bytes each)
+ *
+ * A saved file starts with a HEADER_SIZE byte header holding MAGIC,
+ * VERSION, RECORD_SIZE, the number of records that follow, and the total
+ * number of instructions traced. The records follow, oldest first.
+ */
+public class TraceBuffer
+{
+    /* The size of each packed trace record in bytes */
+    public static final int RECORD_SIZE = 32;
+
+    /* The number of records held by default - 32 MB */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    /* The file the trace is saved to unless another is given */
+    public static final String DEFAULT_FILENAME = "trace.bin";
+
+    /* The most records a single direct buffer can hold */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / RECORD_SIZE;
+
+    /* The file header - "C3TR", the format version and the sizes */
+    public static final int MAGIC = 0x43335452;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+
+    /* Offsets of the fields within a record */
+    static final int CYCLES = 0;
+    static final int PC = 8;
+    static final int OPCODE = 10;
+    static final int OPERAND = 12;
+    static final int ADDRESS = 14;
+    static final int X = 16;
+    static final int Y = 18;
+    static final int U = 20;
+    static final int S = 22;
+    static final int A = 24;
+    static final int B = 25;
+    static final int DP = 26;
+    static final int CC = 27;
+    static final int NEW_PC = 28;
+    static final int TICKS = 30;
+
+    private final ByteBuffer records;
+    private final int capacity;
+
+    /* The offset of the record being written */
+    private int offset;
+
+    /* The total number of records completed */
+    private long written;
+
+    /* A logger for the trace buffer */
+    private final static Logger LOGGER = Logger.getLogger(TraceBuffer.class.getName());
+
+    /**
+     * Creates a new trace buffer.
+     *
+     * @param capacity the number of instructions the buffer holds
+     */
+    public TraceBuffer(int capacity) {
+        this.capacity = Math.max(1, Math.min(capacity, MAX_CAPACITY));
+        records = ByteBuffer.allocateDirect(this.capacity * RECORD_SIZE);
+    }
+
+    /**
+     * Starts a record for the instruction about to execute, saving the
+     * registers as they are before it runs.
+     *
+     * @param cycles the total number of cycles executed so far
+     * @param regs the registers before the instruction
+     */
+    public void begin(long cycles, RegisterSet regs) {
+        records.putLong(offset + CYCLES, cycles);
+        records.putShort(offset + PC, (short) regs.getPC());
+        records.putShort(offset + X, (short) regs.getX());
+        records.putShort(offset + Y, (short) regs.getY());
+        records.putShort(offset + U, (short) regs.getU());
+        records.putShort(offset + S, (short) regs.getS());
+        records.put(offset + A, (byte) regs.getA());
+        records.put(offset + B, (byte) regs.getB());
+        records.put(offset + DP, (byte) regs.getDP());
+        records.put(offset + CC, (byte) regs.getCC());
+    }
+
+    /**
+     * Completes the record started by begin, and moves on to the next
+     * one, overwriting the oldest record once the buffer is full.
+     *
+     * @param instruction the instruction that executed
+     * @param context the operands it decoded
+     * @param newPC the program counter after the instruction
+     * @param ticks the number of cycles it took
+     */
+    public void end(Instruction instruction, DecodeContext context, int newPC, int ticks) {
+        records.putShort(offset + OPCODE, (short) instruction.opcodeValue);
+        records.putShort(offset + OPERAND, (short) context.wordRead);
+        records.putShort(offset + ADDRESS, (short) context.addressRead);
+        records.putShort(offset + NEW_PC, (short) newPC);
+        records.putShort(offset + TICKS, (short) ticks);
+        offset += RECORD_SIZE;
+        if (offset == records.capacity()) {
+            offset = 0;
+        }
+        written++;
+    }
+
+    /**
+     * Forgets every record in the buffer.
+     */
+    public void clear() {
+        offset = 0;
+        written = 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of records currently held, which is at most the
+     * capacity of the buffer.
+     *
+     * @return the number of records held
+     */
+    public int getRecordCount() {
+        return (int) Math.min(written, capacity);
+    }
+
+    /**
+     * Returns the total number of instructions traced, including any whose
+     * records have since been overwritten.
+     *
+     * @return the number of instructions traced
+     */
+    public long getTotalRecords() {
+        return written;
+    }
+
+    /**
+     * Saves the records in the buffer to a file, oldest first.
+     *
+     * @param filename the file to write
+     * @return true if the file was written correctly
+     */
+    public boolean save(String filename) {
+        int count = getRecordCount();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(count).putLong(written).flip();
+
+        /* Once the buffer is full, the oldest record is the one about to be overwritten */
+        boolean full = written >= capacity;
+        ByteBuffer oldest = records.duplicate();
+        oldest.limit(full ? records.capacity() : offset).position(full ? offset : 0);
+        ByteBuffer newest = records.duplicate();
+        newest.limit(full ? offset : 0).position(0);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (oldest.hasRemaining()) {
+                channel.write(oldest);
+            }
+            while (newest.hasRemaining()) {
+                channel.write(newest);
+            }
+        } catch (IOException e) {
+            LOGGER.severe("Error writing trace file: " + e.getMessage());
+            return false;
+        }
+        LOGGER.info("Saved the last " + count + " traced instructions to [" + filename + "]");
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Turns a trace file saved by TraceBuffer back into text, one line per
+ * instruction. Each line holds the cycle count, the registers before the
+ * instruction, the instruction and its operands, and the program counter
+ * afterwards, in the same layout the emulator used to print while tracing.
+ */
+public class TraceDecoder
+{
+    /* The number of records read from the file at a time */
+    private static final int RECORDS_PER_READ = 4096;
+
+    /* A logger for the trace decoder */
+    private final static Logger LOGGER = Logger.getLogger(TraceDecoder.class.getName());
+
+    private TraceDecoder() {}
+
+    /**
+     * Decodes every record in a trace file, oldest first.
+     *
+     * @param filename the trace file to read
+     * @param out where to write the decoded lines
+     * @return the number of records decoded, or -1 if the file could not be read
+     */
+    public static long decode(String filename, PrintWriter out) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), READ)) {
+            ByteBuffer header = ByteBuffer.allocate(TraceBuffer.HEADER_SIZE);
+            if (!readFully(channel, header)) {
+                LOGGER.severe("Trace file [" + filename + "] is too short");
+                return -1;
+            }
+            if (header.getInt() != TraceBuffer.MAGIC
+                    || header.getInt() != TraceBuffer.VERSION
+                    || header.getInt() != TraceBuffer.RECORD_SIZE) {
+                LOGGER.severe("File [" + filename + "] is not a trace file");
+                return -1;
+            }
+            int count = header.getInt();
+            long total = header.getLong();
+            out.println("Last " + count + " of " + total + " instructions traced");
+
+            ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_READ * TraceBuffer.RECORD_SIZE);
+            long decoded = 0;
+            while (decoded < count) {
+                int batch = (int) Math.min(RECORDS_PER_READ, count - decoded);
+                records.clear().limit(batch * TraceBuffer.RECORD_SIZE);
+                if (!readFully(channel, records)) {
+                    LOGGER.severe("Trace file [" + filename + "] ends part way through");
+                    return decoded;
+                }
+                for (int i = 0; i < batch; i++) {
+                    out.println(formatRecord(records, i * TraceBuffer.RECORD_SIZE));
+                }
+                decoded += batch;
+            }
+            out.flush();
+            return decoded;
+        } catch (IOException e) {
+            LOGGER.severe("Error reading trace file: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Renders a single packed trace record as text.
+     *
+     * @param records the buffer holding the record
+     * @param offset the offset of the record in the buffer
+     * @return the record as a line of text
+     */
+    static String formatRecord(ByteBuffer records, int offset) {
+        int opcode = records.getShort(offset + TraceBuffer.OPCODE) & 0xFFFF;
+        Instruction instruction = InstructionTable.get(opcode > 0xFF ? opcode : opcode << 8);
+        DecodeContext context = new DecodeContext();
+        context.wordRead = records.getShort(offset + TraceBuffer.OPERAND) & 0xFFFF;
+        context.addressRead = records.getShort(offset + TraceBuffer.ADDRESS) & 0xFFFF;
+
+        int a = records.get(offset + TraceBuffer.A) & 0xFF;
+        int b = records.get(offset + TraceBuffer.B) & 0xFF;
+        return String.format("%d PC:$%04X A:$%02X B:$%02X D:$%04X X:$%04X Y:$%04X U:$%04X S:$%04X CC:$%02X DP:$%02X | %s (New PC: $%04X, %d cycles)",
+                records.getLong(offset + TraceBuffer.CYCLES),
+                records.getShort(offset + TraceBuffer.PC) & 0xFFFF,
+                a,
+                b,
+                (a << 8) | b,
+                records.getShort(offset + TraceBuffer.X) & 0xFFFF,
+                records.getShort(offset + TraceBuffer.Y) & 0xFFFF,
+                records.getShort(offset + TraceBuffer.U) & 0xFFFF,
+                records.getShort(offset + TraceBuffer.S) & 0xFFFF,
+                records.get(offset + TraceBuffer.CC) & 0xFF,
+                records.get(offset + TraceBuffer.DP) & 0xFF,
+                instruction.getShortDescription(context),
+                records.getShort(offset + TraceBuffer.NEW_PC) & 0xFFFF,
+                records.getShort(offset + TraceBuffer.TICKS) & 0xFFFF);
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+}
@@ -20,7 +20,7 @@ public class VoidInstruction extends Instruction
     @FunctionalInterface
     public interface VoidInterface
     {
-        void apply(IOController io, UnsignedByte memoryByte, UnsignedWord address);
+        void apply(IOController io, int memoryByte, int address);
     }
 
     protected VoidInterface operation;
@@ -38,311 +38,273 @@ public class VoidInstruction extends Instruction
         this.operation = operation;
         this.isByteSized = true;
         this.isValidInstruction = true;
-        this.addressRead = new UnsignedWord();
     }
 
-    public int call(IOController io) {
-        operation.apply(io, byteRead, addressRead);
+    public int call(IOController io, DecodeContext context) {
+        operation.apply(io, context.byteRead, context.addressRead);
         if (mnemonic.equals("RTI")) {
-            return 6 + (io.regs.cc.isMasked(CC_E) ? 9 : 0);
+            return 6 + (io.regs.isCCMasked(CC_E) ? 9 : 0);
         }
-        return addressingMode == INDEXED ? ticks + numBytesRead : ticks;
+        return addressingMode == INDEXED ? ticks + context.indexedCycles : ticks;
     }
 
     /**
      * Waits for an interrupt to occur.
      */
-    public static void sync(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
+    public static void sync(IOController io, int memoryByte, int address) {
         io.waitForIRQ = true;
     }
 
     /**
      * Jumps to the specified address.
      */
-    public static void unconditionalJump(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.pc.set(address);
+    public static void unconditionalJump(IOController io, int memoryByte, int address) {
+        io.regs.setPC(address);
     }
 
     /**
      * Pushes machine state onto the stack, and waits for an interrupt.
      */
-    public static void callAndWaitForInterrupt(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.and(memoryByte);
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
+    public static void callAndWaitForInterrupt(IOController io, int memoryByte, int address) {
+        io.regs.andCC(memoryByte);
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
         io.waitForIRQ = true;
     }
 
     /**
      * Restores register flags from the stack.
      */
-    public static void returnFromInterrupt(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.set(io.popStack(Register.S));
-        if (io.regs.cc.isMasked(CC_E)) {
-            io.regs.a.set(io.popStack(Register.S));
-            io.regs.b.set(io.popStack(Register.S));
-            io.regs.dp.set(io.popStack(Register.S));
-            io.regs.x.set(new UnsignedWord(io.popStack(Register.S), io.popStack(Register.S)));
-            io.regs.y.set(new UnsignedWord(io.popStack(Register.S), io.popStack(Register.S)));
-            io.regs.u.set(new UnsignedWord(io.popStack(Register.S), io.popStack(Register.S)));
-        }
-        io.regs.pc.set(new UnsignedWord(io.popStack(Register.S), io.popStack(Register.S)));
+    public static void returnFromInterrupt(IOController io, int memoryByte, int address) {
+        io.pullRegisters(Register.S, 0x01);
+        io.pullRegisters(Register.S, io.regs.isCCMasked(CC_E) ? 0xFE : 0x80);
     }
 
     /**
      * Restores the program counter from the stack.
      */
-    public static void returnFromSubroutine(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.pc.set(new UnsignedWord(io.popStack(Register.S), io.popStack(Register.S)));
+    public static void returnFromSubroutine(IOController io, int memoryByte, int address) {
+        io.regs.setPC(io.popStackWord(Register.S));
     }
 
     /**
      * Does nothing (nop).
      */
-    public static void noOperation(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
+    public static void noOperation(IOController io, int memoryByte, int address) {
     }
 
     /**
      * Jumps to the specified address, pushing the value of the PC onto the S
      * stack before jumping.
      */
-    public static void jumpToSubroutine(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.pushStack(Register.S, io.regs.pc);
-        io.regs.pc.set(address);
+    public static void jumpToSubroutine(IOController io, int memoryByte, int address) {
+        io.pushStackWord(Register.S, io.regs.getPC());
+        io.regs.setPC(address);
     }
 
     /**
      * Saves all registers to the stack, and jumps to the memory location
      * read at the specified address.
      */
-    public static void softwareInterrupt(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.pc.set(io.readWord(Instruction.SWI));
+    public static void softwareInterrupt(IOController io, int memoryByte, int address) {
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        io.regs.setPC(io.read16(Instruction.SWI));
     }
 
     /**
      * Saves all registers to the stack, and jumps to the memory location
      * read at the specified address.
      */
-    public static void softwareInterrupt2(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.pc.set(io.readWord(Instruction.SWI2));
+    public static void softwareInterrupt2(IOController io, int memoryByte, int address) {
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        io.regs.setPC(io.read16(Instruction.SWI2));
     }
 
     /**
      * Saves all registers to the stack, and jumps to the memory location
      * read at the specified address.
      */
-    public static void softwareInterrupt3(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        io.regs.cc.or(CC_E);
-        io.pushStack(Register.S, io.regs.pc);
-        io.pushStack(Register.S, io.regs.u);
-        io.pushStack(Register.S, io.regs.y);
-        io.pushStack(Register.S, io.regs.x);
-        io.pushStack(Register.S, io.regs.dp);
-        io.pushStack(Register.S, io.regs.b);
-        io.pushStack(Register.S, io.regs.a);
-        io.pushStack(Register.S, io.regs.cc);
-        io.regs.pc.set(io.readWord(Instruction.SWI3));
+    public static void softwareInterrupt3(IOController io, int memoryByte, int address) {
+        io.regs.orCC(CC_E);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        io.regs.setPC(io.read16(Instruction.SWI3));
     }
 
     /**
      * Exchanges the contents of one register with another. The registers to exchange
      * depend on the post byte that is read.
      */
-    public static void exchangeRegister(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        UnsignedWord temp = new UnsignedWord();
-        UnsignedByte tempByte = new UnsignedByte();
-        switch (memoryByte.get()) {
+    public static void exchangeRegister(IOController io, int memoryByte, int address) {
+        int temp;
+        switch (memoryByte) {
             /* A:B <-> X */
             case 0x01:
             case 0x10:
-                temp.set(io.regs.x);
-                io.regs.x.set(io.regs.getD());
+                temp = io.regs.getX();
+                io.regs.setX(io.regs.getD());
                 io.regs.setD(temp);
                 break;
 
             /* A:B <-> Y */
             case 0x02:
             case 0x20:
-                temp.set(io.regs.y);
-                io.regs.y.set(io.regs.getD());
+                temp = io.regs.getY();
+                io.regs.setY(io.regs.getD());
                 io.regs.setD(temp);
                 break;
 
             /* A:B <-> U */
             case 0x03:
             case 0x30:
-                temp.set(io.regs.u);
-                io.regs.u.set(io.regs.getD());
+                temp = io.regs.getU();
+                io.regs.setU(io.regs.getD());
                 io.regs.setD(temp);
                 break;
 
             /* A:B <-> S */
             case 0x04:
             case 0x40:
-                temp.set(io.regs.s);
-                io.regs.s.set(io.regs.getD());
+                temp = io.regs.getS();
+                io.regs.setS(io.regs.getD());
                 io.regs.setD(temp);
                 break;
 
             /* A:B <-> PC */
             case 0x05:
             case 0x50:
-                temp.set(io.regs.pc);
-                io.regs.pc.set(io.regs.getD());
+                temp = io.regs.getPC();
+                io.regs.setPC(io.regs.getD());
                 io.regs.setD(temp);
                 break;
 
             /* X <-> Y */
             case 0x12:
             case 0x21:
-                temp.set(io.regs.x);
-                io.regs.x.set(io.regs.y);
-                io.regs.y.set(temp);
+                temp = io.regs.getX();
+                io.regs.setX(io.regs.getY());
+                io.regs.setY(temp);
                 break;
 
             /* X <-> U */
             case 0x13:
             case 0x31:
-                temp.set(io.regs.x);
-                io.regs.x.set(io.regs.u);
-                io.regs.u.set(temp);
+                temp = io.regs.getX();
+                io.regs.setX(io.regs.getU());
+                io.regs.setU(temp);
                 break;
 
             /* X <-> S */
             case 0x14:
             case 0x41:
-                temp.set(io.regs.x);
-                io.regs.x.set(io.regs.s);
-                io.regs.s.set(temp);
+                temp = io.regs.getX();
+                io.regs.setX(io.regs.getS());
+                io.regs.setS(temp);
                 break;
 
             /* X <-> PC */
             case 0x15:
             case 0x51:
-                temp.set(io.regs.x);
-                io.regs.x.set(io.regs.pc);
-                io.regs.pc.set(temp);
+                temp = io.regs.getX();
+                io.regs.setX(io.regs.getPC());
+                io.regs.setPC(temp);
                 break;
 
             /* Y <-> U */
             case 0x23:
             case 0x32:
-                temp.set(io.regs.y);
-                io.regs.y.set(io.regs.u);
-                io.regs.u.set(temp);
+                temp = io.regs.getY();
+                io.regs.setY(io.regs.getU());
+                io.regs.setU(temp);
                 break;
 
             /* Y <-> S */
             case 0x24:
             case 0x42:
-                temp.set(io.regs.s);
-                io.regs.s.set(io.regs.y);
-                io.regs.y.set(temp);
+                temp = io.regs.getS();
+                io.regs.setS(io.regs.getY());
+                io.regs.setY(temp);
                 break;
 
             /* Y <-> PC */
             case 0x25:
             case 0x52:
-                temp.set(io.regs.y);
-                io.regs.y.set(io.regs.pc);
-                io.regs.pc.set(temp);
+                temp = io.regs.getY();
+                io.regs.setY(io.regs.getPC());
+                io.regs.setPC(temp);
                 break;
 
             /* U <-> S */
             case 0x34:
             case 0x43:
-                temp.set(io.regs.u);
-                io.regs.u.set(io.regs.s);
-                io.regs.s.set(temp);
+                temp = io.regs.getU();
+                io.regs.setU(io.regs.getS());
+                io.regs.setS(temp);
                 break;
 
             /* U <-> PC */
             case 0x35:
             case 0x53:
-                temp.set(io.regs.u);
-                io.regs.u.set(io.regs.pc);
-                io.regs.pc.set(temp);
+                temp = io.regs.getU();
+                io.regs.setU(io.regs.getPC());
+                io.regs.setPC(temp);
                 break;
 
             /* S <-> PC */
             case 0x45:
             case 0x54:
-                temp.set(io.regs.s);
-                io.regs.s.set(io.regs.pc);
-                io.regs.pc.set(temp);
+                temp = io.regs.getS();
+                io.regs.setS(io.regs.getPC());
+                io.regs.setPC(temp);
                 break;
 
             /* A <-> B */
             case 0x89:
             case 0x98:
-                tempByte.set(io.regs.a);
-                io.regs.a.set(io.regs.b);
-                io.regs.b.set(tempByte);
+                temp = io.regs.getA();
+                io.regs.setA(io.regs.getB());
+                io.regs.setB(temp);
                 break;
 
             /* A <-> CC */
             case 0x8A:
             case 0xA8:
-                tempByte.set(io.regs.a);
-                io.regs.a.set(io.regs.cc);
-                io.regs.cc.set(tempByte);
+                temp = io.regs.getA();
+                io.regs.setA(io.regs.getCC());
+                io.regs.setCC(temp);
                 break;
 
             /* A <-> DP */
             case 0x8B:
             case 0xB8:
-                tempByte.set(io.regs.a);
-                io.regs.a.set(io.regs.dp);
-                io.regs.dp.set(tempByte);
+                temp = io.regs.getA();
+                io.regs.setA(io.regs.getDP());
+                io.regs.setDP(temp);
                 break;
 
             /* B <-> CC */
             case 0x9A:
             case 0xA9:
-                tempByte.set(io.regs.b);
-                io.regs.b.set(io.regs.cc);
-                io.regs.cc.set(tempByte);
+                temp = io.regs.getB();
+                io.regs.setB(io.regs.getCC());
+                io.regs.setCC(temp);
                 break;
 
             /* B <-> DP */
             case 0x9B:
             case 0xB9:
-                tempByte.set(io.regs.b);
-                io.regs.b.set(io.regs.dp);
-                io.regs.dp.set(tempByte);
+                temp = io.regs.getB();
+                io.regs.setB(io.regs.getDP());
+                io.regs.setDP(temp);
                 break;
 
             /* CC <-> DP */
             case 0xAB:
             case 0xBA:
-                tempByte.set(io.regs.cc);
-                io.regs.cc.set(io.regs.dp);
-                io.regs.dp.set(tempByte);
+                temp = io.regs.getCC();
+                io.regs.setCC(io.regs.getDP());
+                io.regs.setDP(temp);
                 break;
 
             /* Self to self - ignored */
@@ -359,7 +321,7 @@ public class VoidInstruction extends Instruction
                 break;
 
             default:
-                throw new RuntimeException("Illegal register exchange " + memoryByte);
+                throw new RuntimeException("Illegal register exchange " + new UnsignedByte(memoryByte));
         }
     }
 
@@ -367,216 +329,216 @@ public class VoidInstruction extends Instruction
      * Transfers the value of one register to another. The register to transfer
      * to and from is encoded by the post byte read.
      */
-    public static void transferRegister(IOController io, UnsignedByte memoryByte, UnsignedWord address) {
-        switch (memoryByte.get()) {
+    public static void transferRegister(IOController io, int memoryByte, int address) {
+        switch (memoryByte) {
             /* A:B -> X */
             case 0x01:
-                io.regs.x.set(io.regs.getD());
+                io.regs.setX(io.regs.getD());
                 break;
 
             /* A:B -> Y */
             case 0x02:
-                io.regs.y.set(io.regs.getD());
+                io.regs.setY(io.regs.getD());
                 break;
 
             /* A:B -> U */
             case 0x03:
-                io.regs.u.set(io.regs.getD());
+                io.regs.setU(io.regs.getD());
                 break;
 
             /* A:B -> S */
             case 0x04:
-                io.regs.s.set(io.regs.getD());
+                io.regs.setS(io.regs.getD());
                 break;
 
             /* A:B -> PC */
             case 0x05:
-                io.regs.pc.set(io.regs.getD());
+                io.regs.setPC(io.regs.getD());
                 break;
 
             /* X -> A:B */
             case 0x10:
-                io.regs.setD(io.regs.x);
+                io.regs.setD(io.regs.getX());
                 break;
 
             /* X -> Y */
             case 0x12:
-                io.regs.y.set(io.regs.x);
+                io.regs.setY(io.regs.getX());
                 break;
 
             /* X -> U */
             case 0x13:
-                io.regs.u.set(io.regs.x);
+                io.regs.setU(io.regs.getX());
                 break;
 
             /* X -> S */
             case 0x14:
-                io.regs.s.set(io.regs.x);
+                io.regs.setS(io.regs.getX());
                 break;
 
             /* X -> PC */
             case 0x15:
-                io.regs.pc.set(io.regs.x);
+                io.regs.setPC(io.regs.getX());
                 break;
 
             /* Y -> A:B */
             case 0x20:
-                io.regs.setD(io.regs.y);
+                io.regs.setD(io.regs.getY());
                 break;
 
             /* Y -> X */
             case 0x21:
-                io.regs.x.set(io.regs.y);
+                io.regs.setX(io.regs.getY());
                 break;
 
             /* Y -> U */
             case 0x23:
-                io.regs.u.set(io.regs.y);
+                io.regs.setU(io.regs.getY());
                 break;
 
             /* Y -> S */
             case 0x24:
-                io.regs.s.set(io.regs.y);
+                io.regs.setS(io.regs.getY());
                 break;
 
             /* Y -> PC */
             case 0x25:
-                io.regs.pc.set(io.regs.y);
+                io.regs.setPC(io.regs.getY());
                 break;
 
             /* U -> A:B */
             case 0x30:
-                io.regs.setD(io.regs.u);
+                io.regs.setD(io.regs.getU());
                 break;
 
             /* U -> X */
             case 0x31:
-                io.regs.x.set(io.regs.u);
+                io.regs.setX(io.regs.getU());
                 break;
 
             /* U -> Y */
             case 0x32:
-                io.regs.y.set(io.regs.u);
+                io.regs.setY(io.regs.getU());
                 break;
 
             /* U -> S */
             case 0x34:
-                io.regs.s.set(io.regs.u);
+                io.regs.setS(io.regs.getU());
                 break;
 
             /* U -> PC */
             case 0x35:
-                io.regs.pc.set(io.regs.u);
+                io.regs.setPC(io.regs.getU());
                 break;
 
             /* S -> A:B */
             case 0x40:
-                io.regs.setD(io.regs.s);
+                io.regs.setD(io.regs.getS());
                 break;
 
             /* S -> X */
             case 0x41:
-                io.regs.x.set(io.regs.s);
+                io.regs.setX(io.regs.getS());
                 break;
 
             /* S -> Y */
             case 0x42:
-                io.regs.y.set(io.regs.s);
+                io.regs.setY(io.regs.getS());
                 break;
 
             /* S -> U */
             case 0x43:
-                io.regs.u.set(io.regs.s);
+                io.regs.setU(io.regs.getS());
                 break;
 
             /* S -> PC */
             case 0x45:
-                io.regs.pc.set(io.regs.s);
+                io.regs.setPC(io.regs.getS());
                 break;
 
             /* PC -> A:B */
             case 0x50:
-                io.regs.setD(io.regs.pc);
+                io.regs.setD(io.regs.getPC());
                 break;
 
             /* PC -> X */
             case 0x51:
-                io.regs.x.set(io.regs.pc);
+                io.regs.setX(io.regs.getPC());
                 break;
 
             /* PC -> Y */
             case 0x52:
-                io.regs.y.set(io.regs.pc);
+                io.regs.setY(io.regs.getPC());
                 break;
 
             /* PC -> U */
             case 0x53:
-                io.regs.u.set(io.regs.pc);
+                io.regs.setU(io.regs.getPC());
                 break;
 
             /* PC -> S */
             case 0x54:
-                io.regs.s.set(io.regs.pc);
+                io.regs.setS(io.regs.getPC());
                 break;
 
             /* A -> B */
             case 0x89:
-                io.regs.b.set(io.regs.a);
+                io.regs.setB(io.regs.getA());
                 break;
 
             /* A -> CC */
             case 0x8A:
-                io.regs.cc.set(io.regs.a);
+                io.regs.setCC(io.regs.getA());
                 break;
 
             /* A -> DP */
             case 0x8B:
-                io.regs.dp.set(io.regs.a);
+                io.regs.setDP(io.regs.getA());
                 break;
 
             /* B -> A */
             case 0x98:
-                io.regs.a.set(io.regs.b);
+                io.regs.setA(io.regs.getB());
                 break;
 
             /* B -> CC */
             case 0x9A:
-                io.regs.cc.set(io.regs.b);
+                io.regs.setCC(io.regs.getB());
                 break;
 
             /* B -> DP */
             case 0x9B:
-                io.regs.dp.set(io.regs.b);
+                io.regs.setDP(io.regs.getB());
                 break;
 
             /* CC -> A */
             case 0xA8:
-                io.regs.a.set(io.regs.cc);
+                io.regs.setA(io.regs.getCC());
                 break;
 
             /* CC -> B */
             case 0xA9:
-                io.regs.b.set(io.regs.cc);
+                io.regs.setB(io.regs.getCC());
                 break;
 
             /* CC -> DP */
             case 0xAB:
-                io.regs.dp.set(io.regs.cc);
+                io.regs.setDP(io.regs.getCC());
                 break;
 
             /* DP -> A */
             case 0xB8:
-                io.regs.a.set(io.regs.dp);
+                io.regs.setA(io.regs.getDP());
                 break;
 
             /* DP -> B */
             case 0xB9:
-                io.regs.b.set(io.regs.dp);
+                io.regs.setB(io.regs.getDP());
                 break;
 
             /* DP -> CC */
             case 0xBA:
-                io.regs.cc.set(io.regs.dp);
+                io.regs.setCC(io.regs.getDP());
                 break;
 
             /* Self to self - ignored */
@@ -593,7 +555,7 @@ public class VoidInstruction extends Instruction
                 break;
 
             default:
-                throw new RuntimeException("Illegal register transfer " + memoryByte);
+                throw new RuntimeException("Illegal register transfer " + new UnsignedByte(memoryByte));
         }
     }
 }
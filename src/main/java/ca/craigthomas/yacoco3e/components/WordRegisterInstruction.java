@@ -20,7 +20,7 @@ public class WordRegisterInstruction extends Instruction
     @FunctionalInterface
     public interface WordRegisterInterface
     {
-        void apply(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD);
+        int apply(IOController io, int register, int memoryWord, int address);
     }
 
     protected WordRegisterInterface operation;
@@ -41,29 +41,33 @@ public class WordRegisterInstruction extends Instruction
         this.ticks = ticks;
         this.operation = operation;
         this.register = register;
-        this.addressRead = new UnsignedWord();
     }
 
-    public int call(IOController io) throws MalformedInstructionException {
+    /**
+     * Applies the operation to the register. Each operation returns the new
+     * value for the register, which is written back once the operation
+     * completes. Writing back the D register updates the A and B registers.
+     */
+    public int call(IOController io, DecodeContext context) throws MalformedInstructionException {
         switch(register) {
             case D:
-                operation.apply(io, io.regs.getD(), wordRead, addressRead, true);
+                io.regs.setD(operation.apply(io, io.regs.getD(), context.wordRead, context.addressRead));
                 break;
 
             case S:
-                operation.apply(io, io.regs.s, wordRead, addressRead, false);
+                io.regs.setS(operation.apply(io, io.regs.getS(), context.wordRead, context.addressRead));
                 break;
 
             case U:
-                operation.apply(io, io.regs.u, wordRead, addressRead, false);
+                io.regs.setU(operation.apply(io, io.regs.getU(), context.wordRead, context.addressRead));
                 break;
 
             case X:
-                operation.apply(io, io.regs.x, wordRead, addressRead, false);
+                io.regs.setX(operation.apply(io, io.regs.getX(), context.wordRead, context.addressRead));
                 break;
 
             case Y:
-                operation.apply(io, io.regs.y, wordRead, addressRead, false);
+                io.regs.setY(operation.apply(io, io.regs.getY(), context.wordRead, context.addressRead));
                 break;
 
             default:
@@ -71,123 +75,83 @@ public class WordRegisterInstruction extends Instruction
                         "Register " + register + " unsupported for WordRegisterInstruction"
                 );
         }
-        return (addressingMode == INDEXED) ? ticks + numBytesRead : ticks;
-    }
-
-    /**
-     * Sets the register to the specified value. Since the D register is a special register,
-     * we have to flag whether we are setting the value on it using isD.
-     */
-    public static void setRegister(IOController io, UnsignedWord register, UnsignedWord value, boolean isD) {
-        if (isD) {
-            io.regs.setD(value);
-            return;
-        }
-        register.set(value);
+        return (addressingMode == INDEXED) ? ticks + context.indexedCycles : ticks;
     }
 
     /**
      * Loads the effective address into the specified register.
      */
-    public static void loadEffectiveAddressXY(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        io.regs.cc.and(~(CC_Z));
-        io.regs.cc.or(address.isZero() ? CC_Z : 0);
-        register.set(address);
+    public static int loadEffectiveAddressXY(IOController io, int register, int memoryWord, int address) {
+        io.regs.andCC(~(CC_Z));
+        io.regs.orCC(address == 0 ? CC_Z : 0);
+        return address;
     }
 
     /**
      * Loads the effective address into the specified register.
      */
-    public static void loadEffectiveAddressUS(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        register.set(address);
+    public static int loadEffectiveAddressUS(IOController io, int register, int memoryWord, int address) {
+        return address;
     }
 
     /**
      * Adds B to X and returns the sum.
      */
-    public static void addBtoX(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        register.set(register.get() + io.regs.b.get());
+    public static int addBtoX(IOController io, int register, int memoryWord, int address) {
+        return (register + io.regs.getB()) & 0xFFFF;
     }
 
     /**
      * Performs an unsigned integer multiplication between A and B.
      */
-    public static void multiply(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        UnsignedWord result = new UnsignedWord(io.regs.a.get() * io.regs.b.get());
-        io.regs.cc.and(~(CC_Z | CC_C));
-        io.regs.cc.or(result.isZero() ? CC_Z : 0);
-        io.regs.cc.or(result.isMasked(0x80) ? CC_C : 0);
-        io.regs.setD(result);
+    public static int multiply(IOController io, int register, int memoryWord, int address) {
+        int result = io.regs.getA() * io.regs.getB();
+        io.regs.andCC(~(CC_Z | CC_C));
+        io.regs.orCC(result == 0 ? CC_Z : 0);
+        io.regs.orCC((result & 0x80) != 0 ? CC_C : 0);
+        return result;
     }
 
     /**
      * Subtracts the word value from the specified word.
      */
-    public static void subtractWord(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        int result = register.get() - memoryWord.get();
-        UnsignedWord resultWord = new UnsignedWord(result);
-        boolean overflow = ((register.get() ^ memoryWord.get()) & (register.get() ^ result) & 0x8000) > 0;
-        boolean carry = register.get() < memoryWord.get();
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(resultWord.isZero() ? CC_Z : 0);
-        io.regs.cc.or(resultWord.isNegative() ? CC_N : 0);
-        setRegister(io, register, resultWord, isD);
+    public static int subtractWord(IOController io, int register, int memoryWord, int address) {
+        int result = register - memoryWord;
+        io.regs.setSubtractFlags16(register, memoryWord, result);
+        return result & 0xFFFF;
     }
 
     /**
      * Adds the specified word value to the word.
      */
-    public static void addWord(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        int result = register.get() + memoryWord.get();
-        boolean overflow = ((register.get() ^ memoryWord.get() ^ 0x8000) & (register.get() ^ result) & 0x8000) > 0;
-        boolean carry = (result & 0x10000) > 0;
-
-        UnsignedWord resultWord = new UnsignedWord(result);
-        setRegister(io, register, resultWord, isD);
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(resultWord.isZero() ? CC_Z : 0);
-        io.regs.cc.or(resultWord.isNegative() ? CC_N : 0);
+    public static int addWord(IOController io, int register, int memoryWord, int address) {
+        int result = register + memoryWord;
+        io.regs.setAddFlags16(register, memoryWord, result);
+        return result & 0xFFFF;
     }
 
     /**
      * Compares the two words and sets the appropriate register sets.
      */
-    public static void compareWord(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        int result = register.get() - memoryWord.get();
-        UnsignedWord resultWord = new UnsignedWord(result);
-        boolean overflow = ((register.get() ^ memoryWord.get()) & (register.get() ^ result) & 0x8000) > 0;
-        boolean carry = register.get() < memoryWord.get();
-
-        io.regs.cc.and(~(CC_N | CC_V | CC_Z | CC_C));
-        io.regs.cc.or(carry ? CC_C : 0);
-        io.regs.cc.or(overflow ? CC_V : 0);
-        io.regs.cc.or(resultWord.isZero() ? CC_Z : 0);
-        io.regs.cc.or(resultWord.isNegative() ? CC_N : 0);
+    public static int compareWord(IOController io, int register, int memoryWord, int address) {
+        io.regs.setSubtractFlags16(register, memoryWord, register - memoryWord);
+        return register;
     }
 
     /**
      * Loads the word into the specified register.
      */
-    public static void loadWordRegister(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        io.regs.cc.and(~(CC_V | CC_N | CC_Z));
-        io.regs.cc.or(memoryWord.isZero() ? CC_Z : 0);
-        io.regs.cc.or(memoryWord.isNegative() ? CC_N : 0);
-        setRegister(io, register, memoryWord, isD);
+    public static int loadWordRegister(IOController io, int register, int memoryWord, int address) {
+        io.regs.setLogicFlags16(memoryWord);
+        return memoryWord;
     }
 
     /**
      * Stores the register in the memory location.
      */
-    public static void storeWordRegister(IOController io, UnsignedWord register, UnsignedWord memoryWord, UnsignedWord address, boolean isD) {
-        io.regs.cc.and(~(CC_V | CC_N | CC_Z));
-        io.regs.cc.or(register.isZero() ? CC_Z : 0);
-        io.regs.cc.or(register.isNegative() ? CC_N : 0);
-        io.writeWord(address, register);
+    public static int storeWordRegister(IOController io, int register, int memoryWord, int address) {
+        io.regs.setLogicFlags16(register);
+        io.write16(address, register);
+        return register;
     }
 }
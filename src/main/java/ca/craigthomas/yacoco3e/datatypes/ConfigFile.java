@@ -22,6 +22,7 @@ public class ConfigFile
     private String cassetteROM;
     private String rightJoystick;
     private String leftJoystick;
+    private String ramSize;
 
     public ConfigFile() { }
 
@@ -134,6 +135,14 @@ public class ConfigFile
         this.leftJoystick = leftJoystick;
     }
 
+    public String getRamSize() {
+        return ramSize;
+    }
+
+    public void setRamSize(String ramSize) {
+        this.ramSize = ramSize;
+    }
+
     /**
      * Parses a configuration file. Must contain valid YAML.
      *
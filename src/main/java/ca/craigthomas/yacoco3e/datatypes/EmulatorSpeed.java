@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.datatypes;
+
+/**
+ * The speeds the emulator may run at. The multiplier is the number of
+ * emulated frames that are run for each 60Hz host frame. UNCAPPED runs
+ * frames back to back without any throttling.
+ */
+public enum EmulatorSpeed
+{
+    NORMAL(1, "1x"),
+    DOUBLE(2, "2x"),
+    QUADRUPLE(4, "4x"),
+    OCTUPLE(8, "8x"),
+    UNCAPPED(0, "uncapped");
+
+    private final int multiplier;
+    private final String description;
+
+    EmulatorSpeed(int multiplier, String description) {
+        this.multiplier = multiplier;
+        this.description = description;
+    }
+
+    /**
+     * Returns the number of emulated frames to run per host frame. Returns
+     * 0 when the speed is uncapped.
+     *
+     * @return the speed multiplier
+     */
+    public int getMultiplier() {
+        return multiplier;
+    }
+
+    public boolean isUncapped() {
+        return this == UNCAPPED;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Parses a speed from a command line value. Accepts either the
+     * multiplier on its own ("2"), the multiplier with an "x" suffix ("2x"),
+     * or "uncapped" / "turbo" for unthrottled execution.
+     *
+     * @param value the value to parse
+     * @return the matching EmulatorSpeed
+     * @throws IllegalArgumentException if the value is not a valid speed
+     */
+    public static EmulatorSpeed fromString(String value) {
+        String normalized = value.trim().toLowerCase();
+        if (normalized.equals("turbo")) {
+            return UNCAPPED;
+        }
+        for (EmulatorSpeed speed : values()) {
+            if (speed.description.equals(normalized) || speed.description.equals(normalized + "x")) {
+                return speed;
+            }
+        }
+        throw new IllegalArgumentException("Unknown speed [" + value + "], must be one of 1, 2, 4, 8 or uncapped");
+    }
+}
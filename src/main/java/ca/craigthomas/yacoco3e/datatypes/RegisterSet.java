@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2019 Craig Thomas
+ * Copyright (C) 2017-2025 Craig Thomas
  * This project uses an MIT style license - see LICENSE for details.
  */
 package ca.craigthomas.yacoco3e.datatypes;
@@ -7,7 +7,17 @@ package ca.craigthomas.yacoco3e.datatypes;
 /**
  * The RegisterSet class contains the full set of CPU registers as used by the
  * CoCo 3. It also contains helper functions to modify the registers, as well
- * as common register flags.
+ * as common register flags. Registers are stored as primitive integers so
+ * that reading or writing a register never allocates. Byte registers are
+ * clipped to 8 bits and word registers to 16 bits when they are set. The
+ * D register is not stored separately - it is the A and B registers combined.
+ *
+ * When lazy flags are enabled (the default), the common arithmetic and
+ * logical operations record their operands and result instead of computing
+ * the N, Z, V, C and H flags straight away. The flags are only worked out
+ * when something reads or changes the condition code register - a branch,
+ * a push or transfer of CC, or an interrupt - since most of them are
+ * overwritten by the next operation before anything looks at them.
  */
 public class RegisterSet
 {
@@ -20,26 +30,124 @@ public class RegisterSet
     public static final short CC_F = 0x40;
     public static final short CC_E = 0x80;
 
-    public UnsignedByte a;
-    public UnsignedByte b;
-    public UnsignedByte dp;
-    public UnsignedByte cc;
-    public UnsignedWord pc;
-    public UnsignedWord x;
-    public UnsignedWord y;
-    public UnsignedWord s;
-    public UnsignedWord u;
-
-    public RegisterSet() {
-        cc = new UnsignedByte();
-        dp = new UnsignedByte();
-        pc = new UnsignedWord();
-        y = new UnsignedWord();
-        x = new UnsignedWord();
-        u = new UnsignedWord();
-        s = new UnsignedWord();
-        a = new UnsignedByte();
-        b = new UnsignedByte();
+    /* The kinds of deferred flag computation */
+    private static final int FLAGS_NONE = 0;
+    private static final int FLAGS_LOGIC8 = 1;
+    private static final int FLAGS_ADD8 = 2;
+    private static final int FLAGS_SUBTRACT8 = 3;
+    private static final int FLAGS_INCREMENT8 = 4;
+    private static final int FLAGS_DECREMENT8 = 5;
+    private static final int FLAGS_LOGIC16 = 6;
+    private static final int FLAGS_ADD16 = 7;
+    private static final int FLAGS_SUBTRACT16 = 8;
+
+    /* The condition code flags that each kind of deferred computation sets */
+    private static final int [] FLAGS_MASK = {
+            0,
+            CC_N | CC_Z | CC_V,
+            CC_H | CC_N | CC_Z | CC_V | CC_C,
+            CC_N | CC_Z | CC_V | CC_C,
+            CC_N | CC_Z | CC_V,
+            CC_N | CC_Z | CC_V,
+            CC_N | CC_Z | CC_V,
+            CC_N | CC_Z | CC_V | CC_C,
+            CC_N | CC_Z | CC_V | CC_C,
+    };
+
+    /* 8-bit registers */
+    private int a;
+    private int b;
+    private int dp;
+    private int cc;
+
+    /* The pending flag computation, if any, and the values it depends on */
+    private boolean lazyFlags = true;
+    private int flagsKind;
+    private int flagsOperand1;
+    private int flagsOperand2;
+    private int flagsResult;
+
+    /* 16-bit registers */
+    private int pc;
+    private int x;
+    private int y;
+    private int s;
+    private int u;
+
+    public int getA() {
+        return a;
+    }
+
+    public void setA(int value) {
+        a = value & 0xFF;
+    }
+
+    public int getB() {
+        return b;
+    }
+
+    public void setB(int value) {
+        b = value & 0xFF;
+    }
+
+    public int getDP() {
+        return dp;
+    }
+
+    public void setDP(int value) {
+        dp = value & 0xFF;
+    }
+
+    public int getCC() {
+        if (flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        return cc;
+    }
+
+    public void setCC(int value) {
+        flagsKind = FLAGS_NONE;
+        cc = value & 0xFF;
+    }
+
+    public int getPC() {
+        return pc;
+    }
+
+    public void setPC(int value) {
+        pc = value & 0xFFFF;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public void setX(int value) {
+        x = value & 0xFFFF;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public void setY(int value) {
+        y = value & 0xFFFF;
+    }
+
+    public int getS() {
+        return s;
+    }
+
+    public void setS(int value) {
+        s = value & 0xFFFF;
+    }
+
+    public int getU() {
+        return u;
+    }
+
+    public void setU(int value) {
+        u = value & 0xFFFF;
     }
 
     /**
@@ -47,8 +155,8 @@ public class RegisterSet
      *
      * @return the value of the D register
      */
-    public UnsignedWord getD() {
-        return new UnsignedWord(a, b);
+    public int getD() {
+        return (a << 8) | b;
     }
 
     /**
@@ -57,21 +165,320 @@ public class RegisterSet
      *
      * @param d the new value for the D register
      */
-    public void setD(UnsignedWord d) {
-        a = d.getHigh();
-        b = d.getLow();
+    public void setD(int d) {
+        a = (d >> 8) & 0xFF;
+        b = d & 0xFF;
     }
 
-    public void setD(int d) {
-        this.setD(new UnsignedWord(d));
+    /**
+     * Returns true if all the bits in the mask are set in the condition
+     * code register.
+     *
+     * @param mask the condition code flags to check
+     * @return true if all the flags are set
+     */
+    public boolean isCCMasked(int mask) {
+        if (flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        return (cc & mask) == mask;
+    }
+
+    /**
+     * Sets the specified flags in the condition code register.
+     *
+     * @param mask the condition code flags to set
+     */
+    public void orCC(int mask) {
+        if (flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        cc = (cc | mask) & 0xFF;
+    }
+
+    /**
+     * Applies the mask to the condition code register using an AND operation.
+     *
+     * @param mask the mask to apply
+     */
+    public void andCC(int mask) {
+        if (flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        cc = cc & mask & 0xFF;
+    }
+
+    /**
+     * Turns lazy flag evaluation on or off. Any pending flags are resolved
+     * before lazy evaluation is turned off.
+     *
+     * @param enabled true if flag computation should be deferred
+     */
+    public void setLazyFlags(boolean enabled) {
+        if (!enabled && flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        lazyFlags = enabled;
+    }
+
+    public boolean isLazyFlags() {
+        return lazyFlags;
+    }
+
+    /**
+     * Sets N and Z from an 8-bit result and clears V, as done by loads,
+     * stores and logical operations.
+     *
+     * @param result the 8-bit result of the operation
+     */
+    public void setLogicFlags8(int result) {
+        deferFlags(FLAGS_LOGIC8, 0, 0, result);
+    }
+
+    /**
+     * Sets H, N, Z, V and C for an 8-bit addition. The result must not be
+     * masked, so that the carry out of bit 7 is still present.
+     *
+     * @param operand1 the register value
+     * @param operand2 the value added to the register
+     * @param result the unmasked sum, including any carry in
+     */
+    public void setAddFlags8(int operand1, int operand2, int result) {
+        deferFlags(FLAGS_ADD8, operand1, operand2, result);
+    }
+
+    /**
+     * Sets N, Z, V and C for an 8-bit subtraction or comparison.
+     *
+     * @param operand1 the register value
+     * @param operand2 the value subtracted from the register
+     * @param result the unmasked difference
+     */
+    public void setSubtractFlags8(int operand1, int operand2, int result) {
+        deferFlags(FLAGS_SUBTRACT8, operand1, operand2, result);
+    }
+
+    /**
+     * Sets N, Z and V for an 8-bit increment. C is left unchanged.
+     *
+     * @param operand the value before the increment
+     * @param result the 8-bit result of the increment
+     */
+    public void setIncrementFlags8(int operand, int result) {
+        deferFlags(FLAGS_INCREMENT8, operand, 0, result);
+    }
+
+    /**
+     * Sets N, Z and V for an 8-bit register decrement. C is left unchanged.
+     *
+     * @param operand the value before the decrement
+     * @param result the 8-bit result of the decrement
+     */
+    public void setDecrementFlags8(int operand, int result) {
+        deferFlags(FLAGS_DECREMENT8, operand, 0, result);
+    }
+
+    /**
+     * Sets N and Z from a 16-bit result and clears V, as done by word loads
+     * and stores.
+     *
+     * @param result the 16-bit result of the operation
+     */
+    public void setLogicFlags16(int result) {
+        deferFlags(FLAGS_LOGIC16, 0, 0, result);
+    }
+
+    /**
+     * Sets N, Z, V and C for a 16-bit addition.
+     *
+     * @param operand1 the register value
+     * @param operand2 the value added to the register
+     * @param result the unmasked sum
+     */
+    public void setAddFlags16(int operand1, int operand2, int result) {
+        deferFlags(FLAGS_ADD16, operand1, operand2, result);
+    }
+
+    /**
+     * Sets N, Z, V and C for a 16-bit subtraction or comparison.
+     *
+     * @param operand1 the register value
+     * @param operand2 the value subtracted from the register
+     * @param result the unmasked difference
+     */
+    public void setSubtractFlags16(int operand1, int operand2, int result) {
+        deferFlags(FLAGS_SUBTRACT16, operand1, operand2, result);
+    }
+
+    /**
+     * Records a flag computation. A pending computation is only resolved
+     * first if it sets flags that the new one leaves alone - otherwise every
+     * flag it would have produced is about to be replaced anyway.
+     */
+    private void deferFlags(int kind, int operand1, int operand2, int result) {
+        if (flagsKind != FLAGS_NONE && (FLAGS_MASK[flagsKind] & ~FLAGS_MASK[kind]) != 0) {
+            resolveFlags();
+        }
+        flagsKind = kind;
+        flagsOperand1 = operand1;
+        flagsOperand2 = operand2;
+        flagsResult = result;
+        if (!lazyFlags) {
+            resolveFlags();
+        }
+    }
+
+    /**
+     * Computes the flags for the pending operation and merges them into the
+     * condition code register.
+     */
+    private void resolveFlags() {
+        int a = flagsOperand1;
+        int b = flagsOperand2;
+        int r = flagsResult;
+        int flags = 0;
+        switch (flagsKind) {
+            case FLAGS_LOGIC8 -> flags = nz8(r);
+
+            case FLAGS_ADD8 -> {
+                flags = nz8(r);
+                flags |= ((a ^ b ^ r) & 0x10) != 0 ? CC_H : 0;
+                flags |= ((a ^ b ^ 0x80) & (a ^ r) & 0x80) != 0 ? CC_V : 0;
+                flags |= (r & 0x100) != 0 ? CC_C : 0;
+            }
+
+            case FLAGS_SUBTRACT8 -> {
+                flags = nz8(r);
+                flags |= ((a ^ b) & (a ^ r) & 0x80) != 0 ? CC_V : 0;
+                flags |= a < b ? CC_C : 0;
+            }
+
+            case FLAGS_INCREMENT8 -> {
+                flags = nz8(r);
+                flags |= ((a ^ r) & 0x80) != 0 ? CC_V : 0;
+            }
+
+            case FLAGS_DECREMENT8 -> {
+                flags = nz8(r);
+                flags |= (a & 0x80) != 0 ? CC_V : 0;
+            }
+
+            case FLAGS_LOGIC16 -> flags = nz16(r);
+
+            case FLAGS_ADD16 -> {
+                flags = nz16(r);
+                flags |= ((a ^ b ^ 0x8000) & (a ^ r) & 0x8000) != 0 ? CC_V : 0;
+                flags |= (r & 0x10000) != 0 ? CC_C : 0;
+            }
+
+            case FLAGS_SUBTRACT16 -> {
+                flags = nz16(r);
+                flags |= ((a ^ b) & (a ^ r) & 0x8000) != 0 ? CC_V : 0;
+                flags |= a < b ? CC_C : 0;
+            }
+
+            default -> { }
+        }
+        cc = (cc & ~FLAGS_MASK[flagsKind]) | flags;
+        flagsKind = FLAGS_NONE;
+    }
+
+    private static int nz8(int result) {
+        return ((result & 0xFF) == 0 ? CC_Z : 0) | ((result & 0x80) != 0 ? CC_N : 0);
+    }
+
+    private static int nz16(int result) {
+        return ((result & 0xFFFF) == 0 ? CC_Z : 0) | ((result & 0x8000) != 0 ? CC_N : 0);
+    }
+
+    /**
+     * Returns the value of an index register by the number used for it in
+     * an indexed addressing postbyte.
+     *
+     * @param index 0 for X, 1 for Y, 2 for U or 3 for S
+     * @return the value of the register
+     */
+    public int getIndexRegister(int index) {
+        return switch (index) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> u;
+            default -> s;
+        };
+    }
+
+    /**
+     * Sets the value of an index register by the number used for it in an
+     * indexed addressing postbyte.
+     *
+     * @param index 0 for X, 1 for Y, 2 for U or 3 for S
+     * @param value the new value for the register
+     */
+    public void setIndexRegister(int index, int value) {
+        switch (index) {
+            case 0 -> x = value & 0xFFFF;
+            case 1 -> y = value & 0xFFFF;
+            case 2 -> u = value & 0xFFFF;
+            default -> s = value & 0xFFFF;
+        }
+    }
+
+    /**
+     * Returns the value of the specified word register. The D register is
+     * computed from the A and B registers.
+     *
+     * @param register the register to read
+     * @return the value of the register
+     */
+    public int getWordRegister(Register register) {
+        return switch (register) {
+            case Y -> y;
+            case X -> x;
+            case S -> s;
+            case U -> u;
+            case D -> getD();
+            case PC -> pc;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Sets the value of the specified word register. Setting the D register
+     * sets the A and B registers.
+     *
+     * @param register the register to set
+     * @param value the new value for the register
+     */
+    public void setWordRegister(Register register, int value) {
+        switch (register) {
+            case Y -> setY(value);
+            case X -> setX(value);
+            case S -> setS(value);
+            case U -> setU(value);
+            case D -> setD(value);
+            case PC -> setPC(value);
+            default -> { }
+        }
     }
 
     public void incrementPC() {
-        pc.add(1);
+        pc = (pc + 1) & 0xFFFF;
+    }
+
+    /**
+     * Adds the specified (possibly negative) offset to the program counter.
+     *
+     * @param offset the amount to add to the program counter
+     */
+    public void addPC(int offset) {
+        pc = (pc + offset) & 0xFFFF;
     }
 
     public String toString() {
-        return "PC:" + pc + " A:" + a + " B:" + b + " D:" + getD() + " X:" + x + " Y:" + y +
-                " U:" + u + " S:" + s + " CC:" + cc + " DP:" + dp;
+        if (flagsKind != FLAGS_NONE) {
+            resolveFlags();
+        }
+        return String.format("PC:$%04X A:$%02X B:$%02X D:$%04X X:$%04X Y:$%04X U:$%04X S:$%04X CC:$%02X DP:$%02X",
+                pc, a, b, getD(), x, y, u, s, cc, dp);
     }
 }
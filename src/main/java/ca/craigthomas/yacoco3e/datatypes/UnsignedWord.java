@@ -48,7 +48,16 @@ public class UnsignedWord
      * @param high the setHigh byte for the word
      */
     public void setHigh(UnsignedByte high) {
-        value = (high.get() << 8) + (value & 0x00FF);
+        setHigh(high.get());
+    }
+
+    /**
+     * Sets the high byte for the word from an 8-bit value.
+     *
+     * @param high the high byte for the word
+     */
+    public void setHigh(int high) {
+        value = ((high & 0xFF) << 8) + (value & 0x00FF);
     }
 
     /**
@@ -66,7 +75,16 @@ public class UnsignedWord
      * @param low the low byte for the word
      */
     public void setLow(UnsignedByte low) {
-        value = (value & 0xFF00) + low.get();
+        setLow(low.get());
+    }
+
+    /**
+     * Sets the low byte for the word from an 8-bit value.
+     *
+     * @param low the low byte for the word
+     */
+    public void setLow(int low) {
+        value = (value & 0xFF00) + (low & 0xFF);
     }
 
     /**
@@ -39,27 +39,21 @@ public class G2RScreenMode extends ScreenMode
         this.scale = scale;
         this.width = SCREEN_WIDTH;
         this.height = SCREEN_HEIGHT;
+        this.memoryRows = 96;
+        this.bytesPerRow = 16;
+        this.rowHeight = 2;
         this.colorMode = colorMode;
         createBackBuffer();
     }
 
     @Override
-    public void refreshScreen() {
-        Graphics2D graphics = backBuffer.createGraphics();
-        graphics.setColor(colors[colorMode][1]);
-        graphics.fillRect(0, 0, width * scale, height * scale);
-
-        int memoryPointer = memoryOffset;
-
-        for (int y = 0; y < 96; y++) {
-            for (int x = 0; x < 16; x++) {
-                UnsignedByte value = io.readPhysicalByte(memoryPointer);
-                drawCharacter(value, x, y);
-                memoryPointer++;
-            }
-        }
+    protected Color getBorderColor() {
+        return colors[colorMode][1];
+    }
 
-        graphics.dispose();
+    @Override
+    protected void drawByte(UnsignedByte value, int col, int row) {
+        drawCharacter(value, col, row);
     }
 
     private void drawBlock(int col, int row, int color) {
@@ -43,27 +43,21 @@ public class G3CScreenMode extends ScreenMode
         this.scale = scale;
         this.width = SCREEN_WIDTH;
         this.height = SCREEN_HEIGHT;
+        this.memoryRows = 96;
+        this.bytesPerRow = 128 / BLOCKS_PER_BYTE;
+        this.rowHeight = 2;
         this.colorMode = colorMode;
         createBackBuffer();
     }
 
     @Override
-    public void refreshScreen() {
-        Graphics2D graphics = backBuffer.createGraphics();
-        graphics.setColor(colors[colorMode][0]);
-        graphics.fillRect(0, 0, width * scale, height * scale);
-
-        int memoryPointer = memoryOffset;
-
-        for (int y = 0; y < 96; y++) {
-            for (int x = 0; x < (128 / BLOCKS_PER_BYTE); x++) {
-                UnsignedByte value = io.readPhysicalByte(memoryPointer);
-                drawCharacter(value, x, y);
-                memoryPointer++;
-            }
-        }
+    protected Color getBorderColor() {
+        return colors[colorMode][0];
+    }
 
-        graphics.dispose();
+    @Override
+    protected void drawByte(UnsignedByte value, int col, int row) {
+        drawCharacter(value, col, row);
     }
 
     private void drawBlock(int col, int row, int color) {
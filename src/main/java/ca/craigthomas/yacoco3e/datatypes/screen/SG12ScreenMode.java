@@ -44,36 +44,27 @@ public class SG12ScreenMode extends ScreenMode
         this.scale = scale;
         this.width = SCREEN_WIDTH;
         this.height = SCREEN_HEIGHT;
+        this.memoryRows = 96;
+        this.bytesPerRow = 32;
+        this.rowHeight = 2;
         foreColor = GREEN;
         backColor = BLACK;
         createBackBuffer();
     }
 
     @Override
-    public void refreshScreen() {
-        Graphics2D graphics = backBuffer.createGraphics();
-        graphics.setColor(colors[backColor]);
-        graphics.fillRect(0, 0, width * scale, height * scale);
-
-        graphics.setColor(colors[foreColor]);
-        graphics.fillRect(
-                32 * scale,
-                24 * scale,
-                256 * scale,
-                192 * scale
-        );
-
-        int memoryPointer = memoryOffset;
-
-        for (int y = 0; y < 96; y++) {
-            for (int x = 0; x < 32; x++) {
-                UnsignedByte value = io.readPhysicalByte(memoryPointer);
-                drawCharacter(value, x, y);
-                memoryPointer++;
-            }
-        }
+    protected Color getBorderColor() {
+        return colors[backColor];
+    }
 
-        graphics.dispose();
+    @Override
+    protected Color getActiveColor() {
+        return colors[foreColor];
+    }
+
+    @Override
+    protected void drawByte(UnsignedByte value, int col, int row) {
+        drawCharacter(value, col, row);
     }
 
     /**
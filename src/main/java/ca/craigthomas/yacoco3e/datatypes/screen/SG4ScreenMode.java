@@ -44,35 +44,27 @@ public class SG4ScreenMode extends ScreenMode
         this.scale = scale;
         this.width = WIDTH;
         this.height = HEIGHT;
+        this.memoryRows = 16;
+        this.bytesPerRow = 32;
+        this.rowHeight = 12;
         foreColor = GREEN;
         backColor = BLACK;
         createBackBuffer();
     }
 
     @Override
-    public void refreshScreen() {
-        Graphics2D graphics = backBuffer.createGraphics();
-        graphics.setColor(colors[backColor]);
-        graphics.fillRect(0, 0, width * scale, height * scale);
-
-        graphics.setColor(colors[foreColor]);
-        graphics.fillRect(
-                32 * scale,
-                24 * scale,
-                256 * scale,
-                192 * scale
-        );
+    protected Color getBorderColor() {
+        return colors[backColor];
+    }
 
-        int memoryPointer = memoryOffset;
-        for (int y = 0; y < 16; y++) {
-            for (int x = 0; x < 32; x++) {
-                UnsignedByte value = io.readPhysicalByte(memoryPointer);
-                drawSG4Character(value, x, y);
-                memoryPointer++;
-            }
-        }
+    @Override
+    protected Color getActiveColor() {
+        return colors[foreColor];
+    }
 
-        graphics.dispose();
+    @Override
+    protected void drawByte(UnsignedByte value, int col, int row) {
+        drawSG4Character(value, col, row);
     }
 
     /**
@@ -5,14 +5,26 @@
 package ca.craigthomas.yacoco3e.datatypes.screen;
 
 import ca.craigthomas.yacoco3e.components.IOController;
+import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 
 public abstract class ScreenMode
 {
+    /* The first line of the active display area, and its number of lines */
+    public static final int TOP_BORDER = 24;
+    public static final int ACTIVE_LINES = 192;
+
+    /* The left edge of the active display area, and its number of pixels */
+    public static final int LEFT_BORDER = 32;
+    public static final int ACTIVE_WIDTH = 256;
+
     // The image that represents the screen contents
     protected BufferedImage backBuffer;
+    // The raw ABGR bytes of the back buffer
+    private byte [] pixels;
     // The scale factor applied to the screen
     protected int scale;
     // The width of the screen
@@ -23,15 +35,116 @@ public abstract class ScreenMode
     protected int memoryOffset;
     // The IO controller for the computer
     protected IOController io;
+    // The number of rows of bytes that make up the screen
+    protected int memoryRows;
+    // The number of bytes in each row
+    protected int bytesPerRow;
+    // The number of lines covered by each row
+    protected int rowHeight;
 
     public enum Mode {
         SG4, SG6, SG8, SG12, SG24, G1C, G1R, G2C, G2R, G3C, G3R, G6C, G6R
     }
 
+    /**
+     * Returns the color of the border around the active display area.
+     *
+     * @return the border color
+     */
+    protected abstract Color getBorderColor();
+
+    /**
+     * Returns the color of the active display area before any bytes are
+     * drawn on it. Unless overridden, this is the border color.
+     *
+     * @return the active display area background color
+     */
+    protected Color getActiveColor() {
+        return getBorderColor();
+    }
+
+    /**
+     * Draws a single byte of screen memory.
+     *
+     * @param value the byte to draw
+     * @param col the column of the byte within its row
+     * @param row the row of the byte
+     */
+    protected abstract void drawByte(UnsignedByte value, int col, int row);
+
     /**
      * Refreshes the content of the screen.
      */
-    public abstract void refreshScreen();
+    public void refreshScreen() {
+        fillLines(0, height);
+        for (int row = 0; row < memoryRows; row++) {
+            drawRow(row);
+        }
+    }
+
+    /**
+     * Refreshes a single line of the screen from the current contents of
+     * screen memory. Lines in the border are filled with the border color.
+     * A row of bytes that covers several lines is drawn in full on its
+     * first line, so changes to the mode or memory made part way through
+     * a row take effect at the start of the next row.
+     *
+     * @param line the line to refresh, where 0 is the top of the screen
+     */
+    public void refreshLine(int line) {
+        if (line < 0 || line >= height) {
+            return;
+        }
+
+        int activeLine = line - TOP_BORDER;
+        if (activeLine < 0 || activeLine >= memoryRows * rowHeight) {
+            fillLines(line, 1);
+            return;
+        }
+
+        if (activeLine % rowHeight == 0) {
+            fillLines(line, Math.min(rowHeight, height - line));
+            drawRow(activeLine / rowHeight);
+        }
+    }
+
+    /**
+     * Draws a row of bytes from screen memory.
+     *
+     * @param row the row to draw
+     */
+    protected void drawRow(int row) {
+        int memoryPointer = memoryOffset + (row * bytesPerRow);
+        for (int col = 0; col < bytesPerRow; col++) {
+            drawByte(io.readPhysicalByte(memoryPointer + col), col, row);
+        }
+    }
+
+    /**
+     * Fills lines of the screen with the border color, and the active
+     * display area within them with the active color.
+     *
+     * @param top the first line to fill
+     * @param lines the number of lines to fill
+     */
+    protected void fillLines(int top, int lines) {
+        Graphics2D graphics = backBuffer.createGraphics();
+        graphics.setColor(getBorderColor());
+        graphics.fillRect(0, top * scale, width * scale, lines * scale);
+
+        int activeTop = Math.max(top, TOP_BORDER);
+        int activeBottom = Math.min(top + lines, TOP_BORDER + ACTIVE_LINES);
+        Color activeColor = getActiveColor();
+        if (activeTop < activeBottom && !activeColor.equals(getBorderColor())) {
+            graphics.setColor(activeColor);
+            graphics.fillRect(
+                    LEFT_BORDER * scale,
+                    activeTop * scale,
+                    ACTIVE_WIDTH * scale,
+                    (activeBottom - activeTop) * scale);
+        }
+        graphics.dispose();
+    }
 
     /**
      * Sets the IOController for the screen.
@@ -50,6 +163,7 @@ public abstract class ScreenMode
                 width * scale,
                 height * scale,
                 BufferedImage.TYPE_4BYTE_ABGR);
+        pixels = ((DataBufferByte) backBuffer.getRaster().getDataBuffer()).getData();
     }
 
     /**
@@ -71,13 +185,41 @@ public abstract class ScreenMode
      * @param color The Color of the pixel to draw
      */
     protected void drawPixel(int x, int y, Color color) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+
+        /* Write straight into the raster rather than going through a Graphics2D for every pixel */
+        byte alpha = (byte) color.getAlpha();
+        byte blue = (byte) color.getBlue();
+        byte green = (byte) color.getGreen();
+        byte red = (byte) color.getRed();
+        int stride = width * scale * 4;
+        int index = (y * scale * stride) + (x * scale * 4);
+        for (int i = 0; i < scale; i++) {
+            int pixel = index + (i * stride);
+            for (int j = 0; j < scale; j++) {
+                pixels[pixel] = alpha;
+                pixels[pixel + 1] = blue;
+                pixels[pixel + 2] = green;
+                pixels[pixel + 3] = red;
+                pixel += 4;
+            }
+        }
+    }
+
+    /**
+     * Copies the picture from another back buffer of the same size, so that
+     * a mode change part way through a frame keeps the lines already drawn.
+     *
+     * @param previous the back buffer to copy from
+     */
+    public void copyBackBuffer(BufferedImage previous) {
+        if (previous.getWidth() != backBuffer.getWidth() || previous.getHeight() != backBuffer.getHeight()) {
+            return;
+        }
         Graphics2D graphics = backBuffer.createGraphics();
-        graphics.setColor(color);
-        graphics.fillRect(
-                x * scale,
-                y * scale,
-                scale,
-                scale);
+        graphics.drawImage(previous, 0, 0, null);
         graphics.dispose();
     }
 
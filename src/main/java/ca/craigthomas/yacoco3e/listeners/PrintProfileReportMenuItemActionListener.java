@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.listeners;
+
+import ca.craigthomas.yacoco3e.components.Emulator;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * An ActionListener that will print the profiler's hot spot report.
+ */
+public class PrintProfileReportMenuItemActionListener implements ActionListener
+{
+    private Emulator emulator;
+
+    public PrintProfileReportMenuItemActionListener(Emulator emulator) {
+        super();
+        this.emulator = emulator;
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        emulator.printProfileReport();
+    }
+}
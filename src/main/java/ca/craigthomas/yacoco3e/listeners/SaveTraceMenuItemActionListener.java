@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.listeners;
+
+import ca.craigthomas.yacoco3e.components.Emulator;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * An ActionListener that will save the recent trace to the trace file.
+ */
+public class SaveTraceMenuItemActionListener implements ActionListener
+{
+    private Emulator emulator;
+
+    public SaveTraceMenuItemActionListener(Emulator emulator) {
+        super();
+        this.emulator = emulator;
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        emulator.saveTrace();
+    }
+}
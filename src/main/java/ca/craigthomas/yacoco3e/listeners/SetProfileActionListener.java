@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.listeners;
+
+import ca.craigthomas.yacoco3e.components.Emulator;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * An ActionListener that will start or stop the per-opcode profiler.
+ */
+public class SetProfileActionListener implements ActionListener
+{
+    private Emulator emulator;
+    private JRadioButtonMenuItem profileMenuItem;
+
+    public SetProfileActionListener(Emulator emulator, JRadioButtonMenuItem profileMenuItem) {
+        super();
+        this.emulator = emulator;
+        this.profileMenuItem = profileMenuItem;
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        setProfile();
+    }
+
+    public void setProfile() {
+        boolean profile = !emulator.isProfile();
+        emulator.setProfile(profile);
+        profileMenuItem.setSelected(profile);
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.listeners;
+
+import ca.craigthomas.yacoco3e.components.Emulator;
+import ca.craigthomas.yacoco3e.datatypes.EmulatorSpeed;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * An ActionListener that will set the speed the emulator runs at.
+ */
+public class SetSpeedMenuItemActionListener implements ActionListener
+{
+    private final Emulator emulator;
+    private final JRadioButtonMenuItem [] options;
+    private final EmulatorSpeed speed;
+
+    public SetSpeedMenuItemActionListener(Emulator emulator, JRadioButtonMenuItem [] options, EmulatorSpeed speed) {
+        super();
+        this.emulator = emulator;
+        this.options = options;
+        this.speed = speed;
+    }
+
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        setSpeed();
+    }
+
+    public void setSpeed() {
+        for (int i=0; i < options.length; i++) {
+            options[i].setSelected(i == speed.ordinal());
+        }
+        emulator.setSpeed(speed);
+    }
+}
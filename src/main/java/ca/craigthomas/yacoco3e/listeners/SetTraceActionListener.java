@@ -30,8 +30,9 @@ public class SetTraceActionListener implements ActionListener
     }
 
     public void setTrace() {
-        emulator.trace = !emulator.trace;
-        traceMenuItem.setSelected(emulator.trace);
+        boolean trace = !emulator.isTrace();
+        emulator.setTrace(trace);
+        traceMenuItem.setSelected(trace);
     }
 
 }
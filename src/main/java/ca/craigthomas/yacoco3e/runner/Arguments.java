@@ -1,9 +1,10 @@
 /*
- * Copyright (C) 2022 Craig Thomas
+ * Copyright (C) 2022-2025 Craig Thomas
  * This project uses an MIT style license - see LICENSE for details.
  */
 package ca.craigthomas.yacoco3e.runner;
 
+import ca.craigthomas.yacoco3e.components.TraceBuffer;
 import com.beust.jcommander.Parameter;
 
 /**
@@ -20,6 +21,15 @@ public class Arguments
     @Parameter(names="--trace", description="trace output")
     public Boolean trace = false;
 
+    @Parameter(names="--trace-size", description="number of instructions kept in the trace buffer")
+    public Integer traceSize = TraceBuffer.DEFAULT_CAPACITY;
+
+    @Parameter(names="--trace-file", description="file the trace buffer is saved to on failure or exit")
+    public String traceFile = TraceBuffer.DEFAULT_FILENAME;
+
+    @Parameter(names="--decode-trace", description="print a saved trace file as text and exit")
+    public String decodeTrace;
+
     @Parameter(names="--verbose", description="verbose output")
     public Boolean verbose = false;
 
@@ -32,6 +42,45 @@ public class Arguments
     @Parameter(names="--config", description="path to config file")
     public String configFile;
 
+    @Parameter(names="--ram", description="amount of RAM installed - 128K, 512K, 2M or 8M")
+    public String ramSize;
+
     @Parameter(names="--enabledac", description="enable digital analog converter")
     public Boolean useDAC = false;
+
+    @Parameter(names="--speed", description="emulation speed - 1, 2, 4, 8 or uncapped")
+    public String speed = "1";
+
+    @Parameter(names="--nofusion", description="execute common instruction pairs separately rather than fused")
+    public Boolean noFusion = false;
+
+    @Parameter(names="--noidleskip", description="execute idle and polling loops in full rather than fast-forwarding them")
+    public Boolean noIdleSkip = false;
+
+    @Parameter(names="--scanline", description="draw the screen a line at a time as the CPU runs, for raster effects")
+    public Boolean scanline = false;
+
+    @Parameter(names="--profile", description="count cycles per opcode, address and addressing mode, and print a report on exit")
+    public Boolean profile = false;
+
+    @Parameter(names="--headless", description="run without a user interface, exiting with a status code")
+    public Boolean headless = false;
+
+    @Parameter(names="--cycles", description="headless - maximum number of cycles to run")
+    public Long cycles = HeadlessRunner.DEFAULT_MAX_CYCLES;
+
+    @Parameter(names="--until-pc", description="headless - stop when the PC reaches this hex address")
+    public String untilPC;
+
+    @Parameter(names="--until-memory", description="headless - stop when hex address ADDR holds hex value VAL (ADDR=VAL)")
+    public String untilMemory;
+
+    @Parameter(names="--drive0", description="headless - disk image to load into drive 0")
+    public String drive0Image;
+
+    @Parameter(names="--batch", description="run the jobs in a YAML batch manifest headlessly, printing CSV results")
+    public String batchManifest;
+
+    @Parameter(names="--workers", description="batch - number of worker threads to run jobs on")
+    public Integer workers = Runtime.getRuntime().availableProcessors();
 }
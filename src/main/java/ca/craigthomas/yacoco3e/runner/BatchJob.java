@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import ca.craigthomas.yacoco3e.components.Memory;
+
+/**
+ * A single job in a batch manifest. Each job describes the assets to load
+ * into a fresh machine, and when the machine should stop running.
+ */
+public class BatchJob
+{
+    private String name;
+    private String systemROM;
+    private String cartridgeROM;
+    private String cassetteFile;
+    private String drive0Image;
+    private String ramSize;
+    private Long cycles;
+    private String untilPC;
+    private String untilMemory;
+
+    public BatchJob() { }
+
+    /**
+     * Builds a headless runner for this job. Settings that the job does not
+     * specify itself are taken from the manifest.
+     *
+     * @param manifest the manifest the job belongs to
+     * @return a new HeadlessRunner for the job
+     * @throws IllegalArgumentException if a stop condition or the RAM size is malformed
+     */
+    public HeadlessRunner createRunner(BatchManifest manifest) {
+        HeadlessRunner.Builder builder = new HeadlessRunner.Builder()
+                .setSystemROM(systemROM != null ? systemROM : manifest.getSystemROM())
+                .setFusion(manifest.isFusion())
+                .setIdleSkip(manifest.isIdleSkip())
+                .setCartridgeROM(cartridgeROM)
+                .setCassetteFile(cassetteFile)
+                .setDiskImage(drive0Image);
+
+        String jobRAMSize = ramSize != null ? ramSize : manifest.getRamSize();
+        if (jobRAMSize != null) {
+            int size = Memory.parseRAMSize(jobRAMSize);
+            if (size < 0) {
+                throw new IllegalArgumentException("ramSize must be one of 128K, 512K, 2M or 8M");
+            }
+            builder.setRAMSize(size);
+        }
+        if (cycles != null) {
+            builder.setMaxCycles(cycles);
+        }
+        if (untilPC != null) {
+            builder.setStopPC(HeadlessRunner.parseHex(untilPC));
+        }
+        if (untilMemory != null) {
+            String [] parts = untilMemory.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("untilMemory must be in the form ADDR=VAL");
+            }
+            builder.setStopMemory(HeadlessRunner.parseHex(parts[0]), HeadlessRunner.parseHex(parts[1]));
+        }
+        return builder.build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSystemROM() {
+        return systemROM;
+    }
+
+    public void setSystemROM(String systemROM) {
+        this.systemROM = systemROM;
+    }
+
+    public String getCartridgeROM() {
+        return cartridgeROM;
+    }
+
+    public void setCartridgeROM(String cartridgeROM) {
+        this.cartridgeROM = cartridgeROM;
+    }
+
+    public String getCassetteFile() {
+        return cassetteFile;
+    }
+
+    public void setCassetteFile(String cassetteFile) {
+        this.cassetteFile = cassetteFile;
+    }
+
+    public String getDrive0Image() {
+        return drive0Image;
+    }
+
+    public void setDrive0Image(String drive0Image) {
+        this.drive0Image = drive0Image;
+    }
+
+    public String getRamSize() {
+        return ramSize;
+    }
+
+    public void setRamSize(String ramSize) {
+        this.ramSize = ramSize;
+    }
+
+    public Long getCycles() {
+        return cycles;
+    }
+
+    public void setCycles(Long cycles) {
+        this.cycles = cycles;
+    }
+
+    public String getUntilPC() {
+        return untilPC;
+    }
+
+    public void setUntilPC(String untilPC) {
+        this.untilPC = untilPC;
+    }
+
+    public String getUntilMemory() {
+        return untilMemory;
+    }
+
+    public void setUntilMemory(String untilMemory) {
+        this.untilMemory = untilMemory;
+    }
+}
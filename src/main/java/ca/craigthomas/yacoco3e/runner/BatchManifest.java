@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import ca.craigthomas.yacoco3e.common.IO;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A batch manifest is a YAML file listing the jobs to run. A system ROM
+ * and a RAM size may be specified once for the whole manifest, and
+ * overridden per job.
+ * Setting fusion to false turns off instruction fusion for every job,
+ * and setting idleSkip to false turns off idle loop fast-forwarding:
+ *
+ *   systemROM: roms/coco3.rom
+ *   ramSize: 512K
+ *   fusion: false
+ *   idleSkip: false
+ *   jobs:
+ *     - name: boot
+ *       cycles: 5000000
+ *       untilPC: $A1C1
+ *     - name: boot-8m
+ *       ramSize: 8M
+ *       untilPC: $A1C1
+ *     - name: cart-test
+ *       cartridgeROM: roms/test.rom
+ *       untilMemory: $0400=$42
+ */
+public class BatchManifest
+{
+    private String systemROM;
+    private String ramSize;
+    private boolean fusion = true;
+    private boolean idleSkip = true;
+    private List<BatchJob> jobs = new ArrayList<>();
+
+    /* A logger for the batch manifest */
+    private final static Logger LOGGER = Logger.getLogger(BatchManifest.class.getName());
+
+    public BatchManifest() { }
+
+    public String getSystemROM() {
+        return systemROM;
+    }
+
+    public void setSystemROM(String systemROM) {
+        this.systemROM = systemROM;
+    }
+
+    public String getRamSize() {
+        return ramSize;
+    }
+
+    public void setRamSize(String ramSize) {
+        this.ramSize = ramSize;
+    }
+
+    public boolean isFusion() {
+        return fusion;
+    }
+
+    public void setFusion(boolean fusion) {
+        this.fusion = fusion;
+    }
+
+    public boolean isIdleSkip() {
+        return idleSkip;
+    }
+
+    public void setIdleSkip(boolean idleSkip) {
+        this.idleSkip = idleSkip;
+    }
+
+    public List<BatchJob> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<BatchJob> jobs) {
+        this.jobs = jobs;
+    }
+
+    /**
+     * Parses a batch manifest from a YAML file.
+     *
+     * @param filename the name of the manifest file
+     * @return the parsed manifest, or null if the file could not be opened or is not a valid manifest
+     */
+    public static BatchManifest parseManifest(String filename) {
+        if (filename == null) {
+            return null;
+        }
+
+        LoaderOptions options = new LoaderOptions();
+        Constructor constructor = new Constructor(BatchManifest.class, options);
+        Yaml manifestYaml = new Yaml(constructor);
+        InputStream stream = IO.openInputStream(filename);
+        if (stream == null) {
+            return null;
+        }
+
+        try {
+            BatchManifest manifest = manifestYaml.load(stream);
+            if (manifest == null) {
+                LOGGER.severe("Invalid manifest [" + filename + "]: the file is empty");
+            }
+            return manifest;
+        } catch (YAMLException | ClassCastException e) {
+            LOGGER.severe("Invalid manifest [" + filename + "]: " + e.getMessage());
+            return null;
+        } finally {
+            IO.closeStream(stream);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+/**
+ * The outcome of a single batch job - its exit code, how many cycles it ran,
+ * how long it took in wall-clock time, and hashes of the final memory and
+ * screen contents so that runs can be compared against one another.
+ */
+public class BatchResult
+{
+    /* The CSV header matching the output of toCSV */
+    public static final String CSV_HEADER = "name,exit_code,cycles,elapsed_ms,memory_hash,screen_hash";
+
+    private final String name;
+    private final int exitCode;
+    private final long cycles;
+    private final long elapsedNanos;
+    private final String memoryHash;
+    private final String screenHash;
+
+    public BatchResult(String name, int exitCode, long cycles, long elapsedNanos, String memoryHash, String screenHash) {
+        this.name = name;
+        this.exitCode = exitCode;
+        this.cycles = cycles;
+        this.elapsedNanos = elapsedNanos;
+        this.memoryHash = memoryHash;
+        this.screenHash = screenHash;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public long getCycles() {
+        return cycles;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public String getMemoryHash() {
+        return memoryHash;
+    }
+
+    public String getScreenHash() {
+        return screenHash;
+    }
+
+    /**
+     * Returns true if the job ran to completion and met its stop condition.
+     *
+     * @return true if the job succeeded
+     */
+    public boolean isSuccess() {
+        return exitCode == HeadlessRunner.EXIT_SUCCESS;
+    }
+
+    /**
+     * Formats the result as a single CSV line, in the column order given by
+     * CSV_HEADER.
+     *
+     * @return the CSV line
+     */
+    public String toCSV() {
+        return String.format("%s,%d,%d,%d,%s,%s",
+                name, exitCode, cycles, elapsedNanos / 1_000_000L,
+                memoryHash == null ? "" : memoryHash,
+                screenHash == null ? "" : screenHash);
+    }
+}
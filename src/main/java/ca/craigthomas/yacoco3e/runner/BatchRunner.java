@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Runs the jobs in a batch manifest across a pool of worker threads. Every
+ * job gets its own Machine, so jobs share no emulator state and may run in
+ * any order. Results are always returned in manifest order.
+ */
+public class BatchRunner
+{
+    private final BatchManifest manifest;
+    private final int workers;
+
+    /* A logger for the batch runner */
+    private final static Logger LOGGER = Logger.getLogger(BatchRunner.class.getName());
+
+    /**
+     * Creates a new batch runner.
+     *
+     * @param manifest the manifest containing the jobs to run
+     * @param workers the number of worker threads to use
+     */
+    public BatchRunner(BatchManifest manifest, int workers) {
+        this.manifest = manifest;
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * Runs every job in the manifest and waits for them all to complete.
+     *
+     * @return the results of each job, in manifest order
+     */
+    public List<BatchResult> run() {
+        List<BatchJob> jobs = manifest.getJobs();
+        List<BatchResult> results = new ArrayList<>();
+        if (jobs == null || jobs.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, jobs.size()));
+        try {
+            List<Future<BatchResult>> futures = new ArrayList<>();
+            for (int i = 0; i < jobs.size(); i++) {
+                BatchJob job = jobs.get(i);
+                String name = job.getName() != null ? job.getName() : "job" + i;
+                futures.add(executor.submit(() -> runJob(name, job)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    LOGGER.severe("Job " + i + " failed: " + e.getCause());
+                    results.add(new BatchResult(jobs.get(i).getName(), HeadlessRunner.EXIT_ERROR, 0, 0, null, null));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Runs a single job on the calling thread.
+     *
+     * @param name the name to report for the job
+     * @param job the job to run
+     * @return the result of the job
+     */
+    BatchResult runJob(String name, BatchJob job) {
+        long start = System.nanoTime();
+        HeadlessRunner runner;
+        try {
+            runner = job.createRunner(manifest);
+        } catch (IllegalArgumentException e) {
+            LOGGER.severe("Job " + name + " is malformed: " + e.getMessage());
+            return new BatchResult(name, HeadlessRunner.EXIT_ERROR, 0, 0, null, null);
+        }
+
+        int exitCode = runner.run();
+        long elapsed = System.nanoTime() - start;
+        if (exitCode == HeadlessRunner.EXIT_ERROR && runner.getMachine().getTotalCycles() == 0) {
+            return new BatchResult(name, exitCode, 0, elapsed, null, null);
+        }
+        return new BatchResult(
+                name,
+                exitCode,
+                runner.getMachine().getTotalCycles(),
+                elapsed,
+                runner.getMachine().getMemoryHash(),
+                runner.getMachine().getScreenHash()
+        );
+    }
+
+    /**
+     * Returns true if every result in the list succeeded.
+     *
+     * @param results the results to check
+     * @return true if all jobs succeeded
+     */
+    public static boolean allSucceeded(List<BatchResult> results) {
+        for (BatchResult result : results) {
+            if (!result.isSuccess()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import ca.craigthomas.yacoco3e.components.Machine;
+import ca.craigthomas.yacoco3e.components.MalformedInstructionException;
+import ca.craigthomas.yacoco3e.components.Memory;
+import ca.craigthomas.yacoco3e.components.Profiler;
+import ca.craigthomas.yacoco3e.components.TraceBuffer;
+
+import java.util.logging.Logger;
+
+/**
+ * Runs a Machine without any user interface. The machine runs until either
+ * a cycle limit is reached, or until a stop condition is met. A stop
+ * condition may be the program counter reaching a specific address, or a
+ * memory location containing a specific value. The result of the run is
+ * reported as a process exit code.
+ */
+public class HeadlessRunner
+{
+    /* The stop condition was met, or the cycle limit was reached with no condition */
+    public static final int EXIT_SUCCESS = 0;
+
+    /* The cycle limit was reached before the stop condition was met */
+    public static final int EXIT_CONDITION_NOT_MET = 1;
+
+    /* The machine could not be started or hit an invalid instruction */
+    public static final int EXIT_ERROR = 2;
+
+    /* The default number of cycles to run - roughly 60 emulated seconds */
+    public static final long DEFAULT_MAX_CYCLES = 60L * 60L * 14917L;
+
+    private final Machine machine;
+    private final String systemROM;
+    private final String cartridgeROM;
+    private final String cassetteFile;
+    private final String diskImage;
+    private final String traceFile;
+    private final long maxCycles;
+    private final int stopPC;
+    private final int stopAddress;
+    private final int stopValue;
+
+    /* A logger for the headless runner */
+    private final static Logger LOGGER = Logger.getLogger(HeadlessRunner.class.getName());
+
+    public static class Builder {
+        private String systemROM;
+        private String cartridgeROM;
+        private String cassetteFile;
+        private String diskImage;
+        private boolean trace;
+        private int traceSize;
+        private String traceFile;
+        private boolean fusion;
+        private boolean idleSkip;
+        private boolean profile;
+        private int ramSize;
+        private long maxCycles;
+        private int stopPC;
+        private int stopAddress;
+        private int stopValue;
+
+        public Builder() {
+            maxCycles = DEFAULT_MAX_CYCLES;
+            ramSize = Memory.MEM_512K;
+            fusion = true;
+            idleSkip = true;
+            traceSize = TraceBuffer.DEFAULT_CAPACITY;
+            traceFile = TraceBuffer.DEFAULT_FILENAME;
+            stopPC = -1;
+            stopAddress = -1;
+            stopValue = -1;
+        }
+
+        public Builder setSystemROM(String filename) {
+            systemROM = filename;
+            return this;
+        }
+
+        public Builder setCartridgeROM(String filename) {
+            cartridgeROM = filename;
+            return this;
+        }
+
+        public Builder setCassetteFile(String filename) {
+            cassetteFile = filename;
+            return this;
+        }
+
+        public Builder setDiskImage(String filename) {
+            diskImage = filename;
+            return this;
+        }
+
+        public Builder setTrace(boolean newTrace) {
+            trace = newTrace;
+            return this;
+        }
+
+        public Builder setTraceSize(int newTraceSize) {
+            traceSize = newTraceSize;
+            return this;
+        }
+
+        public Builder setTraceFile(String filename) {
+            traceFile = filename;
+            return this;
+        }
+
+        public Builder setFusion(boolean enabled) {
+            fusion = enabled;
+            return this;
+        }
+
+        public Builder setIdleSkip(boolean enabled) {
+            idleSkip = enabled;
+            return this;
+        }
+
+        public Builder setProfile(boolean enabled) {
+            profile = enabled;
+            return this;
+        }
+
+        public Builder setRAMSize(int size) {
+            ramSize = size;
+            return this;
+        }
+
+        public Builder setMaxCycles(long cycles) {
+            maxCycles = cycles;
+            return this;
+        }
+
+        public Builder setStopPC(int address) {
+            stopPC = address & 0xFFFF;
+            return this;
+        }
+
+        public Builder setStopMemory(int address, int value) {
+            stopAddress = address & 0xFFFF;
+            stopValue = value & 0xFF;
+            return this;
+        }
+
+        public HeadlessRunner build() {
+            return new HeadlessRunner(this);
+        }
+    }
+
+    private HeadlessRunner(Builder builder) {
+        machine = new Machine(1, false, builder.ramSize);
+        machine.trace = builder.trace;
+        machine.setTraceCapacity(builder.traceSize);
+        traceFile = builder.traceFile;
+        machine.setFusionEnabled(builder.fusion);
+        machine.setIdleLoopDetectionEnabled(builder.idleSkip);
+        machine.setProfilerEnabled(builder.profile);
+        systemROM = builder.systemROM;
+        cartridgeROM = builder.cartridgeROM;
+        cassetteFile = builder.cassetteFile;
+        diskImage = builder.diskImage;
+        maxCycles = builder.maxCycles;
+        stopPC = builder.stopPC;
+        stopAddress = builder.stopAddress;
+        stopValue = builder.stopValue;
+    }
+
+    /**
+     * Loads the assets into the machine, resets it, and runs it until the
+     * cycle limit is reached or the stop condition is met. If tracing is
+     * on, the most recently traced instructions are saved to the trace
+     * file once the run ends, and if profiling is on, the profile report
+     * is printed to stdout.
+     *
+     * @return the exit code describing the result of the run
+     */
+    public int run() {
+        if (!loadAssets()) {
+            return EXIT_ERROR;
+        }
+
+        int exitCode = execute();
+        if (machine.trace) {
+            machine.saveTrace(traceFile);
+        }
+        if (machine.isProfilerEnabled()) {
+            System.out.println(machine.getProfiler().getReport(Profiler.DEFAULT_REPORT_ROWS));
+        }
+        return exitCode;
+    }
+
+    /**
+     * Resets the machine and runs it until the cycle limit is reached or
+     * the stop condition is met.
+     *
+     * @return the exit code describing the result of the run
+     */
+    private int execute() {
+        machine.reset();
+        if (hasStopCondition()) {
+            machine.setBreakCondition(this::isStopConditionMet);
+        }
+        try {
+            while (machine.getTotalCycles() < maxCycles) {
+                if (isStopConditionMet()) {
+                    return EXIT_SUCCESS;
+                }
+                machine.step((int) Math.min(maxCycles - machine.getTotalCycles(), Integer.MAX_VALUE));
+            }
+        } catch (MalformedInstructionException e) {
+            LOGGER.severe(e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        if (isStopConditionMet()) {
+            return EXIT_SUCCESS;
+        }
+        return hasStopCondition() ? EXIT_CONDITION_NOT_MET : EXIT_SUCCESS;
+    }
+
+    /**
+     * Loads the system ROM and any optional cartridge, cassette and disk
+     * images into the machine.
+     *
+     * @return true if all the specified assets loaded correctly
+     */
+    private boolean loadAssets() {
+        if (systemROM == null) {
+            LOGGER.severe("A system ROM is required to run headless");
+            return false;
+        }
+        if (!machine.loadSystemROM(systemROM)) {
+            return false;
+        }
+        if (cartridgeROM != null && !machine.loadCartridgeROM(cartridgeROM)) {
+            return false;
+        }
+        if (cassetteFile != null && !machine.loadCassette(cassetteFile)) {
+            return false;
+        }
+        if (diskImage != null && !machine.loadDiskImage(0, diskImage)) {
+            LOGGER.severe("Could not load disk image [" + diskImage + "]");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if either a program counter or memory stop condition
+     * was specified.
+     *
+     * @return true if a stop condition exists
+     */
+    public boolean hasStopCondition() {
+        return stopPC != -1 || stopAddress != -1;
+    }
+
+    /**
+     * Checks whether the stop condition has been met. Memory conditions are
+     * read through the MMU, but bypass the IO page so that checking them
+     * never has side effects on the emulated hardware.
+     *
+     * @return true if the stop condition has been met
+     */
+    public boolean isStopConditionMet() {
+        if (stopPC != -1 && machine.getIOController().regs.getPC() == stopPC) {
+            return true;
+        }
+        return stopAddress != -1 && machine.getMemory().read8(stopAddress) == stopValue;
+    }
+
+    public Machine getMachine() {
+        return machine;
+    }
+
+    /**
+     * Parses a hexadecimal value that may optionally be prefixed with
+     * either "$" or "0x".
+     *
+     * @param value the value to parse
+     * @return the parsed value
+     * @throws NumberFormatException if the value is not valid hexadecimal
+     */
+    public static int parseHex(String value) {
+        String trimmed = value.trim();
+        if (trimmed.startsWith("$")) {
+            trimmed = trimmed.substring(1);
+        } else if (trimmed.startsWith("0x") || trimmed.startsWith("0X")) {
+            trimmed = trimmed.substring(2);
+        }
+        return Integer.parseInt(trimmed, 16);
+    }
+}
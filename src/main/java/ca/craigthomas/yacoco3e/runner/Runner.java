@@ -1,12 +1,20 @@
 /*
- * Copyright (C) 2022 Craig Thomas
+ * Copyright (C) 2022-2025 Craig Thomas
  * This project uses an MIT style license - see LICENSE for details.
  */
 package ca.craigthomas.yacoco3e.runner;
 
 import ca.craigthomas.yacoco3e.components.Emulator;
+import ca.craigthomas.yacoco3e.components.Memory;
+import ca.craigthomas.yacoco3e.components.TraceDecoder;
+import ca.craigthomas.yacoco3e.datatypes.EmulatorSpeed;
 import com.beust.jcommander.JCommander;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+
 /**
  * This class is responsible for starting up the emulator with the
  * specified command line options.
@@ -23,17 +31,159 @@ public class Runner
         jCommander.setProgramName("CoCo3Java");
         jCommander.parse(argv);
 
+        if (arguments.decodeTrace != null) {
+            System.exit(decodeTrace(arguments));
+        }
+
+        if (arguments.batchManifest != null) {
+            System.exit(runBatch(arguments));
+        }
+
+        if (arguments.headless) {
+            System.exit(runHeadless(arguments));
+        }
+
+        EmulatorSpeed speed = parseSpeed(arguments.speed);
+        if (speed == null) {
+            jCommander.usage();
+            System.exit(HeadlessRunner.EXIT_ERROR);
+        }
+
         /* Create the emulator and start it running */
         Emulator emulator = new Emulator.Builder()
                 .setScale(arguments.scale)
                 .setSystemROM(arguments.systemROM)
                 .setTrace(arguments.trace)
+                .setTraceSize(arguments.traceSize)
+                .setTraceFile(arguments.traceFile)
                 .setVerbose(arguments.verbose)
                 .setCassetteFile(arguments.cassetteFile)
                 .setCartridgeROM(arguments.cartridgeROM)
                 .setConfigFile(arguments.configFile)
+                .setRAMSize(arguments.ramSize)
                 .setDAC(arguments.useDAC)
+                .setSpeed(speed)
+                .setFusion(!arguments.noFusion)
+                .setIdleSkip(!arguments.noIdleSkip)
+                .setScanlineSync(arguments.scanline)
+                .setProfile(arguments.profile)
                 .build();
         emulator.start();
     }
+
+    /**
+     * Parses the --speed argument, printing the reason if it is not a
+     * valid speed.
+     *
+     * @param value the value of the --speed argument
+     * @return the matching EmulatorSpeed, or null if the value is not valid
+     */
+    public static EmulatorSpeed parseSpeed(String value) {
+        try {
+            return EmulatorSpeed.fromString(value);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds a headless runner from the command line arguments and runs it.
+     *
+     * @param arguments the parsed command line arguments
+     * @return the exit code of the headless run
+     */
+    public static int runHeadless(Arguments arguments) {
+        HeadlessRunner.Builder builder = new HeadlessRunner.Builder()
+                .setSystemROM(arguments.systemROM)
+                .setCartridgeROM(arguments.cartridgeROM)
+                .setCassetteFile(arguments.cassetteFile)
+                .setDiskImage(arguments.drive0Image)
+                .setTrace(arguments.trace)
+                .setTraceSize(arguments.traceSize)
+                .setTraceFile(arguments.traceFile)
+                .setFusion(!arguments.noFusion)
+                .setIdleSkip(!arguments.noIdleSkip)
+                .setProfile(arguments.profile)
+                .setMaxCycles(arguments.cycles);
+
+        try {
+            if (arguments.ramSize != null) {
+                int ramSize = Memory.parseRAMSize(arguments.ramSize);
+                if (ramSize < 0) {
+                    System.out.println("--ram must be one of 128K, 512K, 2M or 8M");
+                    return HeadlessRunner.EXIT_ERROR;
+                }
+                builder.setRAMSize(ramSize);
+            }
+            if (arguments.untilPC != null) {
+                builder.setStopPC(HeadlessRunner.parseHex(arguments.untilPC));
+            }
+            if (arguments.untilMemory != null) {
+                String [] parts = arguments.untilMemory.split("=");
+                if (parts.length != 2) {
+                    System.out.println("--until-memory must be in the form ADDR=VAL");
+                    return HeadlessRunner.EXIT_ERROR;
+                }
+                builder.setStopMemory(HeadlessRunner.parseHex(parts[0]), HeadlessRunner.parseHex(parts[1]));
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid hex value: " + e.getMessage());
+            return HeadlessRunner.EXIT_ERROR;
+        }
+
+        return builder.build().run();
+    }
+
+    /**
+     * Prints a trace file saved by the trace buffer to stdout as text.
+     *
+     * @param arguments the parsed command line arguments
+     * @return 0 if the trace file was decoded, 1 otherwise
+     */
+    public static int decodeTrace(Arguments arguments) {
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        long decoded = TraceDecoder.decode(arguments.decodeTrace, out);
+        out.flush();
+        return decoded < 0 ? HeadlessRunner.EXIT_ERROR : HeadlessRunner.EXIT_SUCCESS;
+    }
+
+    /**
+     * Runs every job in a batch manifest across a pool of worker threads,
+     * and prints the results to stdout as CSV.
+     *
+     * @param arguments the parsed command line arguments
+     * @return 0 if every job succeeded, 1 otherwise
+     */
+    public static int runBatch(Arguments arguments) {
+        BatchManifest manifest = BatchManifest.parseManifest(arguments.batchManifest);
+        if (manifest == null) {
+            System.out.println("Could not read batch manifest [" + arguments.batchManifest + "]");
+            return HeadlessRunner.EXIT_ERROR;
+        }
+
+        if (manifest.getSystemROM() == null) {
+            manifest.setSystemROM(arguments.systemROM);
+        }
+        if (arguments.ramSize != null) {
+            if (Memory.parseRAMSize(arguments.ramSize) < 0) {
+                System.out.println("--ram must be one of 128K, 512K, 2M or 8M");
+                return HeadlessRunner.EXIT_ERROR;
+            }
+            manifest.setRamSize(arguments.ramSize);
+        }
+        if (arguments.noFusion) {
+            manifest.setFusion(false);
+        }
+        if (arguments.noIdleSkip) {
+            manifest.setIdleSkip(false);
+        }
+
+        List<BatchResult> results = new BatchRunner(manifest, arguments.workers).run();
+        System.out.println(BatchResult.CSV_HEADER);
+        for (BatchResult result : results) {
+            System.out.println(result.toCSV());
+        }
+        return BatchRunner.allSucceeded(results) ? HeadlessRunner.EXIT_SUCCESS : HeadlessRunner.EXIT_CONDITION_NOT_MET;
+    }
 }
@@ -95,29 +95,39 @@ public class IOTest
 
     @Test
     public void testCopyByteArrayFailsWhenSourceIsNull() {
-        short[] target = new short[14];
-        assertFalse(IO.copyByteArrayToShortArray(null, target));
+        byte[] target = new byte[14];
+        assertFalse(IO.copyByteArray(null, target));
     }
 
     @Test
     public void testCopyByteArrayFailsWhenTargetIsNull() {
         byte[] source = new byte[14];
-        assertFalse(IO.copyByteArrayToShortArray(source, null));
+        assertFalse(IO.copyByteArray(source, null));
     }
 
     @Test
     public void testCopyByteArrayFailsWhenSourceBiggerThanTarget() {
         byte[] source = new byte[14];
-        short[] target = new short[10];
-        assertFalse(IO.copyByteArrayToShortArray(source, target));
+        byte[] target = new byte[10];
+        assertFalse(IO.copyByteArray(source, target));
     }
 
     @Test
     public void testCopyByteArrayWorksCorrectly() {
-        short[] expected = {0x54, 0x68, 0x69, 0x73, 0x20, 0x69, 0x73, 0x20, 0x61, 0x20, 0x74, 0x65, 0x73, 0x74};
+        byte[] expected = {0x54, 0x68, 0x69, 0x73, 0x20, 0x69, 0x73, 0x20, 0x61, 0x20, 0x74, 0x65, 0x73, 0x74};
         byte[] source = testStreamFileBytes.getBytes();
-        short[] target = new short[14];
-        assertTrue(IO.copyByteArrayToShortArray(source, target));
+        byte[] target = new byte[14];
+        assertTrue(IO.copyByteArray(source, target));
         assertArrayEquals(expected, target);
     }
+
+    @Test
+    public void testCopyByteArrayKeepsHighBytes() {
+        byte[] source = {(byte) 0xC0, (byte) 0xFF, 0x7F};
+        byte[] target = new byte[3];
+        assertTrue(IO.copyByteArray(source, target));
+        assertEquals(0xC0, target[0] & 0xFF);
+        assertEquals(0xFF, target[1] & 0xFF);
+        assertEquals(0x7F, target[2] & 0xFF);
+    }
 }
@@ -42,37 +42,37 @@ public class BranchInstructionTest {
     public void testBranchAlways() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x201F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchAlwaysNegativeOffset() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x20FE);
         cpu.executeInstruction();
-        assertEquals(0x0000, regs.pc.get());
+        assertEquals(0x0000, regs.getPC());
     }
 
     @Test
     public void testBranchAlwaysNegativeOffsetLoopsAround() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x20FD);
         cpu.executeInstruction();
-        assertEquals(0xFFFF, regs.pc.get());
+        assertEquals(0xFFFF, regs.getPC());
     }
 
     @Test
     public void testBranchAlwaysSimpleCaseWorksCorrectly() throws MalformedInstructionException {
-        regs.pc.set(0x0009);
+        regs.setPC(0x0009);
         io.writeWord(0x0009, 0x207F);
         cpu.executeInstruction();
-        assertEquals(0x008A, regs.pc.get());
+        assertEquals(0x008A, regs.getPC());
     }
 
     @Test
     public void testBranchAlwaysSimpleNegativeNumber() throws MalformedInstructionException {
-        regs.pc.set(0x0056);
+        regs.setPC(0x0056);
         io.writeWord(0x0056, 0x20AA);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -84,13 +84,13 @@ public class BranchInstructionTest {
     public void testBranchNever() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x21FF);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchToSubroutineSavesPCAndReturnsTrue() {
-        regs.s.set(0x0200);
-        regs.pc.set(0xBEEF);
+        regs.setS(0x0200);
+        regs.setPC(0xBEEF);
         assertTrue(BranchInstruction.branchToSubroutine(io));
         assertEquals(0xEF, io.readByte(new UnsignedWord(0x01FF)).get());
         assertEquals(0xBE, io.readByte(new UnsignedWord(0x01FE)).get());
@@ -98,22 +98,22 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchSubroutine() throws MalformedInstructionException {
-        io.regs.s.set(0x3000);
-        regs.pc.set(0x1021);
+        io.regs.setS(0x3000);
+        regs.setPC(0x1021);
         io.writeWord(0x1021, 0x8D1F);
         cpu.executeInstruction();
-        assertEquals(0x1042, regs.pc.get());
+        assertEquals(0x1042, regs.getPC());
         assertEquals(0x23, memory.readByte(0x2FFF).get());
         assertEquals(0x10, memory.readByte(0x2FFE).get());
     }
 
     @Test
     public void testBranchSubroutineNegativeOffsetCorrect() throws MalformedInstructionException {
-        io.regs.s.set(0x3000);
-        regs.pc.set(0x1021);
+        io.regs.setS(0x3000);
+        regs.setPC(0x1021);
         io.writeWord(0x1021, 0x8DDD);
         cpu.executeInstruction();
-        assertEquals(0x1000, regs.pc.get());
+        assertEquals(0x1000, regs.getPC());
         assertEquals(0x23, memory.readByte(0x2FFF).get());
         assertEquals(0x10, memory.readByte(0x2FFE).get());
     }
@@ -125,13 +125,13 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnHighReturnsFalseIfCarrySet() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         assertFalse(BranchInstruction.branchOnHigh(io));
     }
 
     @Test
     public void testBranchOnHighReturnsFalseIfZeroSet() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertFalse(BranchInstruction.branchOnHigh(io));
     }
 
@@ -139,41 +139,41 @@ public class BranchInstructionTest {
     public void testBranchOnHighCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x221F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnHighNotCalledWhenCarrySet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_C);
+        io.regs.orCC(CC_C);
         io.writeWord(0x0000, 0x221F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnHighNotCalledWhenZeroSet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_Z);
+        io.regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x221F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnLowerReturnsTrueIfCarrySet() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         assertTrue(BranchInstruction.branchOnLower(io));
     }
 
     @Test
     public void testBranchOnLowerReturnsTrueIfZeroSet() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertTrue(BranchInstruction.branchOnLower(io));
     }
 
     @Test
     public void testBranchOnLowerReturnsTrueIfZeroAndCarrySet() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_C);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_C);
         assertTrue(BranchInstruction.branchOnLower(io));
     }
 
@@ -186,41 +186,41 @@ public class BranchInstructionTest {
     public void testBranchOnLowerNotCalledWhenZeroCarryClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x231F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnLowerCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_C);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x231F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLowerCalledWhenCarryAndZeroSet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_Z);
-        io.regs.cc.or(CC_C);
+        io.regs.orCC(CC_Z);
+        io.regs.orCC(CC_C);
         io.writeWord(0x0000, 0x231F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLowerCalledCorrectWithZeroOnly() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x231F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLowerCalledCorrectWithCarryOnly() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x231F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
@@ -230,7 +230,7 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnCarryClearReturnsFalseIfCarrySet() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         assertFalse(BranchInstruction.branchOnCarryClear(io));
     }
 
@@ -238,15 +238,15 @@ public class BranchInstructionTest {
     public void testBranchOnCarryClearCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x241F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnCarryClearDoesNotBranchIfCarrySet() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x241F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -256,23 +256,23 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnCarrySetReturnsTrueIfCarrySet() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         assertTrue(BranchInstruction.branchOnCarrySet(io));
     }
 
     @Test
     public void testBranchOnCarrySetCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x251F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnCarrySetDoesNotBranchIfCarryClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x251F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -282,7 +282,7 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnNotEqualReturnsFalseIfZeroSet() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertFalse(BranchInstruction.branchOnNotEqual(io));
     }
 
@@ -290,15 +290,15 @@ public class BranchInstructionTest {
     public void testBranchOnNotEqualCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x261F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnNotEqualDoesNotBranchIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x261F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -308,23 +308,23 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnEqualReturnsTrueIfZeroSet() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertTrue(BranchInstruction.branchOnEqual(io));
     }
 
     @Test
     public void testBranchOnEqualCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x271F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnEqualDoesNotBranchIfZeroClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x271F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -334,7 +334,7 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnOverflowClearReturnsFalseIfOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertFalse(BranchInstruction.branchOnOverflowClear(io));
     }
 
@@ -342,15 +342,15 @@ public class BranchInstructionTest {
     public void testBranchOnOverflowClearCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x281F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnOverflowClearDoesNotBranchIfOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x281F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -360,23 +360,23 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnOverflowSetReturnsTrueIfOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertTrue(BranchInstruction.branchOnOverflowSet(io));
     }
 
     @Test
     public void testBranchOnOverflowSetCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x291F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnOverflowSetDoesNotBranchIfOverflowClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x291F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -386,7 +386,7 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnPlusReturnsFalseIfNegativeSet() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnPlus(io));
     }
 
@@ -394,15 +394,15 @@ public class BranchInstructionTest {
     public void testBranchOnPlusCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2A1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnPlusDoesNotBranchIfNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2A1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -412,29 +412,29 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnMinusReturnsTrueIfNegativeSet() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnMinus(io));
     }
 
     @Test
     public void testBranchOnMinusCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2B1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnMinusDoesNotBranchIfNegativeClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2B1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanEqualZeroReturnsTrueIfNegativeOverflowSet() {
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnGreaterThanEqualZero(io));
     }
 
@@ -445,13 +445,13 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnGreaterThanEqualZeroReturnsFalseIfNegativeSetOverflowClear() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnGreaterThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanEqualZeroReturnsFalseIfNegativeClearOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertFalse(BranchInstruction.branchOnGreaterThanEqualZero(io));
     }
 
@@ -459,32 +459,32 @@ public class BranchInstructionTest {
     public void testBranchOnGreaterThanEqualZeroCalledCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2C1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanEqualZeroCalledIfNegativeSetOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2C1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanEqualZeroDoesNotBranchIfNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2C1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanEqualZeroDoesNotBranchIfOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2C1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
@@ -494,20 +494,20 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnLessThanZeroReturnsFalseWhenNegativeOverflowSet() {
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnLessThanZero(io));
     }
 
     @Test
     public void testBranchOnLessThanZeroReturnsTrueWhenNegativeSetOverflowClear() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnLessThanZero(io));
     }
 
     @Test
     public void testBranchOnLessThanZeroReturnsTrueWhenNegativeClearOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertTrue(BranchInstruction.branchOnLessThanZero(io));
     }
 
@@ -515,59 +515,59 @@ public class BranchInstructionTest {
     public void testBranchOnLessThanZeroNotCalledIfNegativeClearOverflowClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2D1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroNotCalledIfNegativeSetOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2D1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2D1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2D1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroSet() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroOverflowNegativeSet() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroOverflowSetNegativeClear() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroNegativeSetOverflowClear() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
@@ -578,116 +578,116 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsTrueIfZeroClearNegativeOverflowSet() {
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroNegativeClearOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroReturnsFalseIfZeroOverflowClearNegativeSet() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertFalse(BranchInstruction.branchOnGreaterThanZero(io));
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroNotCalledIfZeroOverflowClearNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroCalledIfZeroOverflowNegativeClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnGreaterThanZeroCalledIfZeroClearOverflowNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2E1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroSetNegativeOverflowClear() {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroSetNegativeOverflowSet() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroSetNegativeSetOverflowClear() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroSetNegativeClearOverflowSet() {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
@@ -698,90 +698,90 @@ public class BranchInstructionTest {
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsFalseIfZeroClearNegativeOverflowSet() {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         assertFalse(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroClearNegativeClearOverflowSet() {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanEqualZeroReturnsTrueIfZeroClearNegativeSetOverflowClear() {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         assertTrue(BranchInstruction.branchOnLessThanEqualZero(io));
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2F1F);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroCalledIfZeroOverflowClearNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0021, regs.pc.get());
+        assertEquals(0x0021, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroNotCalledIfZeroNegativeOverflowClear() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testBranchOnLessThanZeroNotCalledIfZeroClearNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x2F1F);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
 }
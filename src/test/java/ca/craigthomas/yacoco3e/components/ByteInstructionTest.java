@@ -26,7 +26,7 @@ public class ByteInstructionTest {
         io = new IOController(new Memory(), regs, new EmulatedKeyboard(), screen, cassette, false);
         cpu = new CPU(io);
         extendedAddress = 0xC0A0;
-        io.regs.pc.set(0);
+        io.regs.setPC(0);
     }
 
     @After
@@ -37,82 +37,82 @@ public class ByteInstructionTest {
     @Test
     public void testNegateCorrect() {
         io.writeByte(0xCAFE, 0xFC);
-        ByteInstruction.negate(io, new UnsignedByte(0xFC), new UnsignedWord(0xCAFE));
+        ByteInstruction.negate(io, 0xFC, 0xCAFE);
         assertEquals(0x04, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertFalse(regs.cc.isMasked(CC_V));
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertFalse(regs.cc.isMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertFalse(regs.isCCMasked(CC_V));
+        assertFalse(regs.isCCMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testNegateAllOnes() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.negate(io, new UnsignedByte(0xFF), new UnsignedWord(0xCAFE));
+        ByteInstruction.negate(io, 0xFF, 0xCAFE);
         assertEquals(1, io.readByte(0xCAFE).get());
     }
 
     @Test
     public void testNegateOne() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.negate(io, new UnsignedByte(1), new UnsignedWord(0xCAFE));
+        ByteInstruction.negate(io, 1, 0xCAFE);
         assertEquals(0xFF, io.readByte(0xCAFE).get());
     }
 
     @Test
     public void testNegateSetsOverflowFlag() {
-        ByteInstruction.negate(io, new UnsignedByte(0x80), new UnsignedWord(0xCAFE));
-        assertTrue(regs.cc.isMasked(CC_V));
+        ByteInstruction.negate(io, 0x80, 0xCAFE);
+        assertTrue(regs.isCCMasked(CC_V));
     }
 
     @Test
     public void testNegateSetsNegativeFlag() {
-        ByteInstruction.negate(io, new UnsignedByte(1), new UnsignedWord(0xCAFE));
-        assertTrue(regs.cc.isMasked(CC_N));
+        ByteInstruction.negate(io, 1, 0xCAFE);
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testNegateEdgeCase() {
         io.writeByte(0xCAFE, 0x80);
-        ByteInstruction.negate(io, new UnsignedByte(0x80), new UnsignedWord(0xCAFE));
+        ByteInstruction.negate(io, 0x80, 0xCAFE);
         assertEquals(0x80, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_N));
-        assertTrue(regs.cc.isMasked(CC_V));
-        assertTrue(regs.cc.isMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_V));
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testNegateEdgeCase1() {
         io.writeByte(0xCAFE, 0x0);
-        ByteInstruction.negate(io, new UnsignedByte(0x0), new UnsignedWord(0xCAFE));
+        ByteInstruction.negate(io, 0x0, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertFalse(regs.cc.isMasked(CC_V));
-        assertFalse(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_Z));
+        assertFalse(regs.isCCMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_V));
+        assertFalse(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testNegateDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeByte(0x0000, 0x00);
         io.writeByte(0x0001, 0x0A);
         io.writeByte(0x000A, 0x55);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xAB), io.readByte(0x000A));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testNegateIndexedCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x6080);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeWord(extendedAddress, 0x0200);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xFE), io.readByte(extendedAddress));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -122,76 +122,76 @@ public class ByteInstructionTest {
         io.writeWord(extendedAddress, 0x0100);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xFF), io.readByte(extendedAddress));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testComplimentWorksCorrectly() {
         io.writeByte(0xCAFE, 0xE6);
-        ByteInstruction.compliment(io, new UnsignedByte(0xE6), new UnsignedWord(0xCAFE));
+        ByteInstruction.compliment(io, 0xE6, 0xCAFE);
         assertEquals(0x19, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertFalse(regs.cc.isMasked(CC_V));
-        assertFalse(regs.cc.isMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertFalse(regs.isCCMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_V));
+        assertFalse(regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testComplementAllOnes() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.compliment(io, new UnsignedByte(0xFF), new UnsignedWord(0xCAFE));
+        ByteInstruction.compliment(io, 0xFF, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
     }
 
     @Test
     public void testComplementOne() {
         io.writeByte(0xCAFE, 1);
-        ByteInstruction.compliment(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
+        ByteInstruction.compliment(io, 0x01, 0xCAFE);
         assertEquals(0xFE, io.readByte(0xCAFE).get());
     }
 
     @Test
     public void testComplementSetsCarryFlag() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.compliment(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
-        assertTrue(regs.cc.isMasked(CC_C));
+        ByteInstruction.compliment(io, 0x01, 0xCAFE);
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testComplementSetsNegativeFlagCorrect() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.compliment(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
-        assertTrue(regs.cc.isMasked(CC_N));
+        ByteInstruction.compliment(io, 0x01, 0xCAFE);
+        assertTrue(regs.isCCMasked(CC_N));
 
         io.writeByte(0xCAFE, 0xFE);
-        ByteInstruction.compliment(io, new UnsignedByte(0xFE), new UnsignedWord(0xCAFE));
-        assertFalse(regs.cc.isMasked(CC_N));
+        ByteInstruction.compliment(io, 0xFE, 0xCAFE);
+        assertFalse(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testComplementSetsZeroFlagCorrect() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.compliment(io, new UnsignedByte(0xFF), new UnsignedWord(0xCAFE));
+        ByteInstruction.compliment(io, 0xFF, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testComplementDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x030A);
         io.writeByte(0x000A, 0x55);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xAA), io.readByte(0x000A));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testComplementIndexedCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x6380);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x02);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xFD), io.readByte(extendedAddress));
@@ -204,48 +204,48 @@ public class ByteInstructionTest {
         io.writeByte(extendedAddress, 0x02);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xFD), io.readByte(extendedAddress));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testLogicalShiftRightCorrect() {
         io.writeByte(0xCAFE, 0x9E);
-        ByteInstruction.logicalShiftRight(io, new UnsignedByte(0x9E), new UnsignedWord(0xCAFE));
+        ByteInstruction.logicalShiftRight(io, 0x9E, 0xCAFE);
         assertEquals(0x4F, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLogicalShiftRightMovesOneBitCorrect() {
         io.writeByte(0xCAFE, 0x02);
-        ByteInstruction.logicalShiftRight(io, new UnsignedByte(0x2), new UnsignedWord(0xCAFE));
+        ByteInstruction.logicalShiftRight(io, 0x2, 0xCAFE);
         assertEquals(1, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testLogicalShiftRightMovesOneBitToZero() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.logicalShiftRight(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.logicalShiftRight(io, 0x1, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testLogicalShiftRightSetsZeroBit() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.logicalShiftRight(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.logicalShiftRight(io, 0x1, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testLogicalShiftRightDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x040A);
         io.writeByte(0x000A, 0x55);
         cpu.executeInstruction();
@@ -255,7 +255,7 @@ public class ByteInstructionTest {
     @Test
     public void testLogicalShiftRightIndexedCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x6480);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x55);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x2A), io.readByte(extendedAddress));
@@ -273,51 +273,51 @@ public class ByteInstructionTest {
     @Test
     public void testRotateRightMovesOneBitCorrect() {
         io.writeByte(0xCAFE, 0x02);
-        ByteInstruction.rotateRight(io, new UnsignedByte(0x02), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateRight(io, 0x02, 0xCAFE);
         assertEquals(1, io.readByte(0xCAFE).get());
-        assertFalse(regs.cc.isMasked(CC_C));
+        assertFalse(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testRotateRightMovesOneBitCorrectWithCarry() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeByte(0xCAFE, 0x02);
-        ByteInstruction.rotateRight(io, new UnsignedByte(0x02), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateRight(io, 0x02, 0xCAFE);
         assertEquals(0x81, io.readByte(0xCAFE).get());
-        assertFalse(regs.cc.isMasked(CC_C));
+        assertFalse(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testRotateRightMovesOneBitToZero() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.rotateRight(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateRight(io, 0x01, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testRotateRightSetsZeroBit() {
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.rotateRight(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateRight(io, 0x01, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testRotateRightSetsNegativeBit() {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeByte(0xCAFE, 0x01);
-        ByteInstruction.rotateRight(io, new UnsignedByte(0x01), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateRight(io, 0x01, 0xCAFE);
         assertEquals(0x80, io.readByte(0xCAFE).get());
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_C));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testRotateRightDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x060A);
         io.writeByte(0x000A, 0x55);
         cpu.executeInstruction();
@@ -327,7 +327,7 @@ public class ByteInstructionTest {
     @Test
     public void testRotateRightIndexedCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x6680);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x55);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x2A), io.readByte(extendedAddress));
@@ -345,46 +345,46 @@ public class ByteInstructionTest {
     @Test
     public void testArithmeticShiftRightCorrect() {
         io.writeByte(0xCAFE, 0x85);
-        ByteInstruction.arithmeticShiftRight(io, new UnsignedByte(0x85), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftRight(io, 0x85, 0xCAFE);
         assertEquals(0xC2, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftRightOneCorrect() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.arithmeticShiftRight(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftRight(io, 0x1, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftRightHighBitRetained() {
         io.writeByte(0xCAFE, 0x81);
-        ByteInstruction.arithmeticShiftRight(io, new UnsignedByte(0x81), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftRight(io, 0x81, 0xCAFE);
         assertEquals(0xC0, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftRightHighBitRetainedCarryCleared() {
         io.writeByte(0xCAFE, 0x80);
-        ByteInstruction.arithmeticShiftRight(io, new UnsignedByte(0x80), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftRight(io, 0x80, 0xCAFE);
         assertEquals(0xC0, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftRightDirectCalled() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x070A);
         io.writeByte(0x000A, 0x85);
         cpu.executeInstruction();
@@ -394,7 +394,7 @@ public class ByteInstructionTest {
     @Test
     public void testArithmeticShiftRightIndexedCalled() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x67);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x85);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xC2), io.readByte(extendedAddress));
@@ -412,17 +412,17 @@ public class ByteInstructionTest {
     @Test
     public void testArithmeticShiftLeftCorrect() {
         io.writeByte(0xCAFE, 0x55);
-        ByteInstruction.arithmeticShiftLeft(io, new UnsignedByte(0x55), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftLeft(io, 0x55, 0xCAFE);
         assertEquals(0xAA, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftLeftDirectCalled() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x080A);
         io.writeByte(0x000A, 0x55);
         cpu.executeInstruction();
@@ -432,7 +432,7 @@ public class ByteInstructionTest {
     @Test
     public void testArithmeticShiftLeftIndexedCalled() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x68);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x55);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xAA), io.readByte(extendedAddress));
@@ -450,61 +450,61 @@ public class ByteInstructionTest {
     @Test
     public void testArithmeticShiftLeftCorrectSecondTest() {
         io.writeByte(0xCAFE, 0x8A);
-        ByteInstruction.arithmeticShiftLeft(io, new UnsignedByte(0x8A), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftLeft(io, 0x8A, 0xCAFE);
         assertEquals(0x14, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftLeftOneCorrect() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.arithmeticShiftLeft(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftLeft(io, 0x1, 0xCAFE);
         assertEquals(0x2, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftLeftHighBitShiftedToCarry() {
         io.writeByte(0xCAFE, 0x81);
-        ByteInstruction.arithmeticShiftLeft(io, new UnsignedByte(0x81), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftLeft(io, 0x81, 0xCAFE);
         assertEquals(0x2, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testArithmeticShiftLeftHighBitShiftedToCarryZeroRemainder() {
         io.writeByte(0xCAFE, 0x80);
-        ByteInstruction.arithmeticShiftLeft(io, new UnsignedByte(0x80), new UnsignedWord(0xCAFE));
+        ByteInstruction.arithmeticShiftLeft(io, 0x80, 0xCAFE);
         assertEquals(0x0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testRotateLeftOneCorrect() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.rotateLeft(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateLeft(io, 0x1, 0xCAFE);
         assertEquals(0x2, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testRotateLeftDirectCalled() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x090A);
         io.writeByte(0x000A, 0x01);
         cpu.executeInstruction();
@@ -514,7 +514,7 @@ public class ByteInstructionTest {
     @Test
     public void testRotateLeftIndexedCalled() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x69);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x01);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x02), io.readByte(extendedAddress));
@@ -532,50 +532,50 @@ public class ByteInstructionTest {
     @Test
     public void testRotateLeftSetsCarry() {
         io.writeByte(0xCAFE, 0x80);
-        ByteInstruction.rotateLeft(io, new UnsignedByte(0x80), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateLeft(io, 0x80, 0xCAFE);
         assertEquals(0x0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_C));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testRotateLeftRotatesCarryToLowestBit() {
-        io.regs.cc.or(CC_C);
+        io.regs.orCC(CC_C);
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.rotateLeft(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateLeft(io, 0x1, 0xCAFE);
         assertEquals(0x3, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testRotateLeftClearsOverflow() {
         io.writeByte(0xCAFE, 0xC);
-        ByteInstruction.rotateLeft(io, new UnsignedByte(0xC0), new UnsignedWord(0xCAFE));
+        ByteInstruction.rotateLeft(io, 0xC0, 0xCAFE);
         assertEquals(0x80, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testDecrementWorksCorrectly() {
         io.writeByte(0xCAFE, 0xC4);
-        ByteInstruction.decrement(io, new UnsignedByte(0xC4), new UnsignedWord(0xCAFE));
+        ByteInstruction.decrement(io, 0xC4, 0xCAFE);
         assertEquals(0xC3, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testDecrementDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x0A0A);
         io.writeByte(0x000A, 0xC4);
         cpu.executeInstruction();
@@ -585,7 +585,7 @@ public class ByteInstructionTest {
     @Test
     public void testDecrementIndexedCorrect() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x6A);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0xC4);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xC3), io.readByte(extendedAddress));
@@ -603,46 +603,46 @@ public class ByteInstructionTest {
     @Test
     public void testDecrementOneCorrect() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.decrement(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.decrement(io, 0x1, 0xCAFE);
         assertEquals(0x0, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testDecrementZeroCorrect() {
         io.writeByte(0xCAFE, 0x0);
-        ByteInstruction.decrement(io, new UnsignedByte(0), new UnsignedWord(0xCAFE));
+        ByteInstruction.decrement(io, 0, 0xCAFE);
         assertEquals(0xFF, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testDecrementHighValueCorrect() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.decrement(io, new UnsignedByte(0xFF), new UnsignedWord(0xCAFE));
+        ByteInstruction.decrement(io, 0xFF, 0xCAFE);
         assertEquals(0xFE, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testIncrementOneCorrect() {
         io.writeByte(0xCAFE, 0x1);
-        ByteInstruction.increment(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.increment(io, 0x1, 0xCAFE);
         assertEquals(0x2, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testIncrementDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x0C0A);
         io.writeByte(0x000A, 0xC4);
         cpu.executeInstruction();
@@ -652,7 +652,7 @@ public class ByteInstructionTest {
     @Test
     public void testIncrementIndexedCorrect() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x6C);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0xC4);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xC5), io.readByte(extendedAddress));
@@ -670,50 +670,50 @@ public class ByteInstructionTest {
     @Test
     public void testIncrementSetsOverflow() {
         io.writeByte(0xCAFE, 0x7F);
-        ByteInstruction.increment(io, new UnsignedByte(0x7F), new UnsignedWord(0xCAFE));
+        ByteInstruction.increment(io, 0x7F, 0xCAFE);
         assertEquals(0x80, io.readByte(0xCAFE).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testIncrementSetsZero() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.increment(io, new UnsignedByte(0xFF), new UnsignedWord(0xCAFE));
+        ByteInstruction.increment(io, 0xFF, 0xCAFE);
         assertEquals(0x0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testTestZeroCorrect() {
-        ByteInstruction.testByte(io, new UnsignedByte(0), null);
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        ByteInstruction.testByte(io, 0, 0);
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testTestDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x0D0A);
         io.writeByte(0x000A, 0x80);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x80), io.readByte(0x000A));
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testTestIndexedCorrect() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x6D);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x80);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x80), io.readByte(extendedAddress));
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -723,28 +723,28 @@ public class ByteInstructionTest {
         io.writeByte(extendedAddress, 0x80);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x80), io.readByte(extendedAddress));
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testTestNegativeCorrect() {
-        ByteInstruction.testByte(io, new UnsignedByte(0x81), null);
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        ByteInstruction.testByte(io, 0x81, 0);
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testClearWorksCorrect() {
         io.writeByte(0xCAFE, 0xFF);
-        ByteInstruction.clear(io, new UnsignedByte(0x1), new UnsignedWord(0xCAFE));
+        ByteInstruction.clear(io, 0x1, 0xCAFE);
         assertEquals(0, io.readByte(0xCAFE).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testClearDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeWord(0x0000, 0x0F0A);
         io.writeByte(0x000A, 0x80);
         cpu.executeInstruction();
@@ -754,7 +754,7 @@ public class ByteInstructionTest {
     @Test
     public void testClearIndexedCorrect() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x6F);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeByte(extendedAddress, 0x80);
         cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x00), io.readByte(extendedAddress));
@@ -775,11 +775,11 @@ public class ByteInstructionTest {
 //    public void testAddByteWorksCorrectlyByCall() {
 //        Instruction instruction = new ByteRegisterInstruction(0x0, 5, "ADDA", DIRECT, 0, ByteInstruction::addByte, Register.A);
 //        MemoryResult memoryResult = new MemoryResult(5, new UnsignedWord(0x1100));
-//        io.regs.a.set(new UnsignedByte(0x11));
+//        io.regs.setA(0x11);
 //        instruction.call(memoryResult, io);
-//        assertEquals(new UnsignedByte(0x22), io.regs.a);
-//        assertFalse(io.regs.cc.isMasked(CC_Z));
-//        assertFalse(io.regs.cc.isMasked(CC_N));
+//        assertEquals(0x22, io.regs.getA());
+//        assertFalse(io.regs.isCCMasked(CC_Z));
+//        assertFalse(io.regs.isCCMasked(CC_N));
 //    }
 
 
@@ -790,7 +790,7 @@ public class ByteInstructionTest {
 //        assertEquals(new UnsignedByte(0x6C), registerSet.getA());
 //        cpu.decimalAdditionAdjust();
 //        assertEquals(new UnsignedByte(0x72), registerSet.getA());
-//        assertFalse(io.regs.cc.isMasked(CC_C));
+//        assertFalse(io.regs.isCCMasked(CC_C));
 //    }
 //
 //    @Test
@@ -801,6 +801,6 @@ public class ByteInstructionTest {
 //        assertEquals(new UnsignedByte(0x6C), registerSet.getA());
 //        cpu.decimalAdditionAdjust();
 //        assertEquals(new UnsignedByte(0xD2), registerSet.getA());
-//        assertTrue(io.regs.cc.isMasked(CC_C));
+//        assertTrue(io.regs.isCCMasked(CC_C));
 //    }
 }
@@ -46,10 +46,10 @@ public class CPUIntegrationTest
         CPU cpu = new CPU(ioSpy);
         cpuSpy = spy(cpu);
 
-        ioSpy.regs.dp.set(new UnsignedByte(0xA0));
+        ioSpy.regs.setDP(0xA0);
         ioSpy.writeByte(new UnsignedWord(0xA000), new UnsignedByte(0xBA));
 
-        ioSpy.regs.x.set(new UnsignedWord(0xB000));
+        ioSpy.regs.setX(0xB000);
         memorySpy.enableAllRAMMode();
     }
 
@@ -100,14 +100,14 @@ public class CPUIntegrationTest
 
     @Test
     public void testCWAIWorksCorrect() throws MalformedInstructionException {
-        ioSpy.regs.s.set(new UnsignedWord(0xA000));
-        ioSpy.regs.a.set(new UnsignedByte(0x1));
-        ioSpy.regs.b.set(new UnsignedByte(0x2));
-        ioSpy.regs.dp.set(new UnsignedByte(0x3));
-        ioSpy.regs.cc.set(new UnsignedByte(0x4));
-        ioSpy.regs.x.set(new UnsignedWord(0x5566));
-        ioSpy.regs.y.set(new UnsignedWord(0x7788));
-        ioSpy.regs.u.set(new UnsignedWord(0x99AA));
+        ioSpy.regs.setS(0xA000);
+        ioSpy.regs.setA(0x1);
+        ioSpy.regs.setB(0x2);
+        ioSpy.regs.setDP(0x3);
+        ioSpy.regs.setCC(0x4);
+        ioSpy.regs.setX(0x5566);
+        ioSpy.regs.setY(0x7788);
+        ioSpy.regs.setU(0x99AA);
         ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x3C));
         cpuSpy.executeInstruction();
         assertEquals(new UnsignedByte(0x02), memorySpy.readByte(new UnsignedWord(0x9FFF)));
@@ -126,7 +126,7 @@ public class CPUIntegrationTest
 
 //    @Test
 //    public void testLogicalShiftRightACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x44));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).logicalShiftRight(new UnsignedByte(0xAA));
@@ -134,7 +134,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testRotateRightACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x46));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).rotateRight(new UnsignedByte(0xAA));
@@ -142,7 +142,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testArithmeticShiftRightACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x47));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).arithmeticShiftRight(new UnsignedByte(0xAA));
@@ -150,7 +150,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testArithmeticShiftLeftACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x48));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).arithmeticShiftLeft(new UnsignedByte(0xAA));
@@ -158,7 +158,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testRotateLeftACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x49));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).rotateLeft(new UnsignedByte(0xAA));
@@ -166,7 +166,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testDecrementACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x4A));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).decrement(new UnsignedByte(0xAA));
@@ -174,7 +174,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testIncrementACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x4C));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).increment(new UnsignedByte(0xAA));
@@ -182,7 +182,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testTestACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x4D));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).test(new UnsignedByte(0xAA));
@@ -190,7 +190,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testClearACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setA(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x4F));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).clear(new UnsignedByte(0xAA));
@@ -198,7 +198,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testComplimentBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x53));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compliment(new UnsignedByte(0xAA));
@@ -206,7 +206,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testLogicalShiftRightBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x54));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).logicalShiftRight(new UnsignedByte(0xAA));
@@ -214,7 +214,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testRotateRightBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x56));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).rotateRight(new UnsignedByte(0xAA));
@@ -222,7 +222,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testArithmeticShiftRightBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x57));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).arithmeticShiftRight(new UnsignedByte(0xAA));
@@ -230,7 +230,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testArithmeticShiftLeftBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x58));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).arithmeticShiftLeft(new UnsignedByte(0xAA));
@@ -238,7 +238,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testRotateLeftBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x59));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).rotateLeft(new UnsignedByte(0xAA));
@@ -246,7 +246,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testDecrementBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x5A));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).decrement(new UnsignedByte(0xAA));
@@ -254,7 +254,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testIncrementBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x5C));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).increment(new UnsignedByte(0xAA));
@@ -262,7 +262,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testTestBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x5D));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).test(new UnsignedByte(0xAA));
@@ -270,7 +270,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testClearBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xAA));
+//        ioSpy.regs.setB(0xAA);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x5F));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).clear(new UnsignedByte(0xAA));
@@ -285,7 +285,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareACalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setA(0xBE);
 //        ioSpy.writeWord(new UnsignedWord(0x0), new UnsignedWord(0x81AA));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), new UnsignedByte(0xAA));
@@ -307,7 +307,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareADirectCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setA(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0x91));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), expectedDirectByte);
@@ -329,7 +329,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareAIndexedCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setA(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0xA1));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), new UnsignedByte(0x0));
@@ -352,7 +352,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareAExtendedCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.a.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setA(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0xB1));
 //        ioSpy.writeWord(new UnsignedWord(0x1), extendedAddress);
 //        cpuSpy.executeInstruction();
@@ -376,7 +376,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareBCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setB(0xBE);
 //        ioSpy.writeWord(new UnsignedWord(0x0), new UnsignedWord(0xC1AA));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), new UnsignedByte(0xAA));
@@ -398,7 +398,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareBDirectCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setB(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0xD1));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), expectedDirectByte);
@@ -420,7 +420,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareBIndexedCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setB(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0xE1));
 //        cpuSpy.executeInstruction();
 //        verify(cpuSpy).compareByte(new UnsignedByte(0xBE), new UnsignedByte(0x0));
@@ -443,7 +443,7 @@ public class CPUIntegrationTest
 //
 //    @Test
 //    public void testCompareBExtendedCalled() throws IllegalIndexedPostbyteException {
-//        ioSpy.regs.b.set(new UnsignedByte(0xBE));
+//        ioSpy.regs.setB(0xBE);
 //        ioSpy.writeByte(new UnsignedWord(0x0), new UnsignedByte(0xF1));
 //        ioSpy.writeWord(new UnsignedWord(0x1), extendedAddress);
 //        cpuSpy.executeInstruction();
@@ -523,8 +523,8 @@ public class CPUIntegrationTest
 //        registerSet.setD(new UnsignedWord(0x8000));
 //        cpu.subtractD(new UnsignedWord(0x1));
 //        assertEquals(new UnsignedWord(0x7FFF), registerSet.getD());
-//        assertFalse(io.regs.cc.isMasked(CC_Z));
-//        assertFalse(io.regs.cc.isMasked(CC_N));
+//        assertFalse(io.regs.isCCMasked(CC_Z));
+//        assertFalse(io.regs.isCCMasked(CC_N));
 //    }
 //
 //    @Test
@@ -532,8 +532,8 @@ public class CPUIntegrationTest
 //        registerSet.setD(new UnsignedWord(0x1));
 //        cpu.subtractD(new UnsignedWord(0x1));
 //        assertEquals(new UnsignedWord(0x0), registerSet.getD());
-//        assertTrue(io.regs.cc.isMasked(CC_Z));
-//        assertFalse(io.regs.cc.isMasked(CC_N));
+//        assertTrue(io.regs.isCCMasked(CC_Z));
+//        assertFalse(io.regs.isCCMasked(CC_N));
 //    }
 //
 //    @Test
@@ -541,8 +541,8 @@ public class CPUIntegrationTest
 //        registerSet.setD(new UnsignedWord(0x8100));
 //        cpu.subtractD(new UnsignedWord(0x100));
 //        assertEquals(new UnsignedWord(0x8000), registerSet.getD());
-//        assertFalse(io.regs.cc.isMasked(CC_Z));
-//        assertTrue(io.regs.cc.isMasked(CC_N));
+//        assertFalse(io.regs.isCCMasked(CC_Z));
+//        assertTrue(io.regs.isCCMasked(CC_N));
 //    }
 //
 
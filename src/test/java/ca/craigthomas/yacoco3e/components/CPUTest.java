@@ -6,11 +6,12 @@ package ca.craigthomas.yacoco3e.components;
 
 import ca.craigthomas.yacoco3e.datatypes.RegisterSet;
 import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
-import ca.craigthomas.yacoco3e.datatypes.UnsignedWord;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 public class CPUTest
@@ -36,7 +37,7 @@ public class CPUTest
 
     @Test
     public void testExecuteThrowsMalformedInstructionException() {
-        regs.pc.set(0);
+        regs.setPC(0);
         memory.writeByte(0x0000, 0x6F); // CLRM
         memory.writeByte(0x0001, 0x97); // Bad postbyte
         assertThrows(MalformedInstructionException.class, () -> cpu.executeInstruction());
@@ -44,15 +45,15 @@ public class CPUTest
 
     @Test
     public void testInterrruptRequestWorksCorrectly() {
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.u.set(0x5678);
-        regs.y.set(0x9ABC);
-        regs.x.set(0xDEF1);
-        regs.dp.set(0x32);
-        regs.b.set(0x54);
-        regs.a.set(0x76);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setU(0x5678);
+        regs.setY(0x9ABC);
+        regs.setX(0xDEF1);
+        regs.setDP(0x32);
+        regs.setB(0x54);
+        regs.setA(0x76);
+        regs.setCC(0x01);
         cpu.interruptRequest();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
@@ -66,22 +67,22 @@ public class CPUTest
         assertEquals(new UnsignedByte(0x54), memory.readByte(0x4FF6));
         assertEquals(new UnsignedByte(0x76), memory.readByte(0x4FF5));
         assertEquals(new UnsignedByte(0x81), memory.readByte(0x4FF4));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0x91), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0x91, regs.getCC());
     }
 
     @Test
     public void testServiceInterruptsFiresIRQ() {
         cpu.fireIRQ = true;
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.u.set(0x5678);
-        regs.y.set(0x9ABC);
-        regs.x.set(0xDEF1);
-        regs.dp.set(0x32);
-        regs.b.set(0x54);
-        regs.a.set(0x76);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setU(0x5678);
+        regs.setY(0x9ABC);
+        regs.setX(0xDEF1);
+        regs.setDP(0x32);
+        regs.setB(0x54);
+        regs.setA(0x76);
+        regs.setCC(0x01);
         cpu.serviceInterrupts();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
@@ -95,48 +96,48 @@ public class CPUTest
         assertEquals(new UnsignedByte(0x54), memory.readByte(0x4FF6));
         assertEquals(new UnsignedByte(0x76), memory.readByte(0x4FF5));
         assertEquals(new UnsignedByte(0x81), memory.readByte(0x4FF4));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0x91), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0x91, regs.getCC());
     }
 
     @Test
     public void testFastInterrruptRequestWorksCorrectly() {
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setCC(0x01);
         cpu.fastInterruptRequest();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
         assertEquals(new UnsignedByte(0x01), memory.readByte(0x4FFD));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0x51), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0x51, regs.getCC());
     }
 
     @Test
     public void testServiceInterruptsFiresFIRQ() {
         cpu.fireFIRQ = true;
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setCC(0x01);
         cpu.serviceInterrupts();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
         assertEquals(new UnsignedByte(0x01), memory.readByte(0x4FFD));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0x51), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0x51, regs.getCC());
     }
 
     @Test
     public void testNMIRequestWorksCorrectly() {
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.u.set(0x5678);
-        regs.y.set(0x9ABC);
-        regs.x.set(0xDEF1);
-        regs.dp.set(0x32);
-        regs.b.set(0x54);
-        regs.a.set(0x76);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setU(0x5678);
+        regs.setY(0x9ABC);
+        regs.setX(0xDEF1);
+        regs.setDP(0x32);
+        regs.setB(0x54);
+        regs.setA(0x76);
+        regs.setCC(0x01);
         cpu.nonMaskableInterruptRequest();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
@@ -150,22 +151,22 @@ public class CPUTest
         assertEquals(new UnsignedByte(0x54), memory.readByte(0x4FF6));
         assertEquals(new UnsignedByte(0x76), memory.readByte(0x4FF5));
         assertEquals(new UnsignedByte(0x81), memory.readByte(0x4FF4));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0xD1), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0xD1, regs.getCC());
     }
 
     @Test
     public void testServiceInterruptsFiresNMI() {
         cpu.fireNMI = true;
-        regs.s.set(0x5000);
-        regs.pc.set(0x1234);
-        regs.u.set(0x5678);
-        regs.y.set(0x9ABC);
-        regs.x.set(0xDEF1);
-        regs.dp.set(0x32);
-        regs.b.set(0x54);
-        regs.a.set(0x76);
-        regs.cc.set(0x01);
+        regs.setS(0x5000);
+        regs.setPC(0x1234);
+        regs.setU(0x5678);
+        regs.setY(0x9ABC);
+        regs.setX(0xDEF1);
+        regs.setDP(0x32);
+        regs.setB(0x54);
+        regs.setA(0x76);
+        regs.setCC(0x01);
         cpu.serviceInterrupts();
         assertEquals(new UnsignedByte(0x34), memory.readByte(0x4FFF));
         assertEquals(new UnsignedByte(0x12), memory.readByte(0x4FFE));
@@ -179,8 +180,8 @@ public class CPUTest
         assertEquals(new UnsignedByte(0x54), memory.readByte(0x4FF6));
         assertEquals(new UnsignedByte(0x76), memory.readByte(0x4FF5));
         assertEquals(new UnsignedByte(0x81), memory.readByte(0x4FF4));
-        assertEquals(new UnsignedWord(0x0000), regs.pc);
-        assertEquals(new UnsignedByte(0xD1), regs.cc);
+        assertEquals(0x0000, regs.getPC());
+        assertEquals(0xD1, regs.getCC());
     }
 
     @Test
@@ -203,4 +204,182 @@ public class CPUTest
         cpu.scheduleNMI();
         assertTrue(cpu.fireNMI);
     }
+
+    @Test
+    public void testCPUsSharingInstructionTableKeepSeparateOperands() throws MalformedInstructionException {
+        Memory otherMemory = new Memory();
+        RegisterSet otherRegs = new RegisterSet();
+        IOController otherIO = new IOController(otherMemory, otherRegs, new EmulatedKeyboard(), new Screen(1), new Cassette(), false);
+        CPU otherCPU = new CPU(otherIO);
+        otherIO.setCPU(otherCPU);
+
+        /* LDA $1234 on the first CPU, LDA $5678 on the second */
+        memory.writeByte(0x0000, 0xB6);
+        memory.writeByte(0x0001, 0x12);
+        memory.writeByte(0x0002, 0x34);
+        memory.writeByte(0x1234, 0xAA);
+        otherMemory.writeByte(0x0000, 0xB6);
+        otherMemory.writeByte(0x0001, 0x56);
+        otherMemory.writeByte(0x0002, 0x78);
+        otherMemory.writeByte(0x5678, 0xBB);
+        regs.setPC(0);
+        otherRegs.setPC(0);
+
+        cpu.executeInstruction();
+        otherCPU.executeInstruction();
+
+        assertSame(cpu.instruction, otherCPU.instruction);
+        assertEquals(0x1234, cpu.decodeContext.getAddressRead());
+        assertEquals(0xAA, cpu.decodeContext.getByteRead());
+        assertEquals(0x5678, otherCPU.decodeContext.getAddressRead());
+        assertEquals(0xBB, otherCPU.decodeContext.getByteRead());
+        assertEquals(0xAA, regs.getA());
+        assertEquals(0xBB, otherRegs.getA());
+        otherIO.shutdown();
+    }
+
+    @Test
+    public void testDecodeCacheStoresInstructionAtPhysicalPC() throws MalformedInstructionException {
+        regs.setPC(0x4000);
+        memory.writeByte(0x4000, 0x86); // LDA #$42
+        memory.writeByte(0x4001, 0x42);
+        cpu.executeInstruction();
+        DecodedInstruction decoded = memory.getDecodeCache().get(memory.getCodeAddress(0x4000));
+        assertNotNull(decoded);
+        assertEquals(2, decoded.getLength());
+        assertSame(cpu.instruction, decoded.getInstruction());
+    }
+
+    @Test
+    public void testDecodeCacheSeesSelfModifyingCode() throws MalformedInstructionException {
+        regs.setPC(0x4000);
+        memory.writeByte(0x4000, 0x86); // LDA #$42
+        memory.writeByte(0x4001, 0x42);
+        cpu.executeInstruction();
+        assertEquals(0x42, regs.getA());
+
+        memory.writeByte(0x4001, 0x24);
+        regs.setPC(0x4000);
+        cpu.executeInstruction();
+        assertEquals(0x24, regs.getA());
+
+        memory.writeByte(0x4000, 0xC6); // LDB #$24
+        regs.setPC(0x4000);
+        cpu.executeInstruction();
+        assertEquals(0x24, regs.getB());
+    }
+
+    @Test
+    public void testDecodeCacheMatchesUncachedExecution() throws MalformedInstructionException {
+        /* A loop that sums X-indexed bytes, storing the running total:
+         *
+         *   4000  LDX #$5000
+         *   4003  CLRA
+         *   4004  ADDA ,X+
+         *   4006  STA $6000
+         *   4009  CMPX #$5008
+         *   400C  BNE $4004
+         *   400E  BRA $400E
+         */
+        int [] program = {0x8E, 0x50, 0x00, 0x4F, 0xAB, 0x80, 0xB7, 0x60, 0x00, 0x8C, 0x50, 0x08, 0x26, 0xF6, 0x20, 0xFE};
+        Memory otherMemory = new Memory();
+        RegisterSet otherRegs = new RegisterSet();
+        IOController otherIO = new IOController(otherMemory, otherRegs, new EmulatedKeyboard(), new Screen(1), new Cassette(), false);
+        CPU otherCPU = new CPU(otherIO);
+        otherIO.setCPU(otherCPU);
+        otherCPU.setDecodeCacheEnabled(false);
+
+        for (int i = 0; i < program.length; i++) {
+            memory.writeByte(0x4000 + i, program[i]);
+            otherMemory.writeByte(0x4000 + i, program[i]);
+        }
+        for (int i = 0; i < 8; i++) {
+            memory.writeByte(0x5000 + i, i + 1);
+            otherMemory.writeByte(0x5000 + i, i + 1);
+        }
+        regs.setPC(0x4000);
+        otherRegs.setPC(0x4000);
+
+        for (int i = 0; i < 40; i++) {
+            assertEquals(otherCPU.executeInstruction(), cpu.executeInstruction());
+            assertEquals(otherRegs.toString(), regs.toString());
+        }
+        assertEquals(36, memory.readByte(0x6000).get());
+        otherIO.shutdown();
+    }
+
+    @Test
+    public void testLazyFlagsMatchEagerFlags() throws MalformedInstructionException {
+        /* Immediate byte operations on A and B, including ADC/SBC/DAA which read C and H */
+        int [] byteOps = {0x8B, 0x89, 0x80, 0x82, 0x81, 0x84, 0x8A, 0x88, 0x86, 0x85,
+                          0xCB, 0xC9, 0xC0, 0xC2, 0xC1, 0xC4, 0xCA, 0xC8, 0xC6, 0xC5};
+        /* Inherent operations - INC, DEC, TST, CLR, NEG, COM, ROL, ROR, LSR, ASL, DAA */
+        int [] inherentOps = {0x4C, 0x4A, 0x5C, 0x5A, 0x4D, 0x5D, 0x4F, 0x40, 0x43, 0x49, 0x46, 0x44, 0x48, 0x19};
+        /* Immediate word operations - ADDD, SUBD, CMPX, LDX, LDD */
+        int [] wordOps = {0xC3, 0x83, 0x8C, 0x8E, 0xCC};
+        /* Branches that skip the following 2 byte instruction when taken */
+        int [] branchOps = {0x26, 0x27, 0x25, 0x24, 0x2B, 0x29, 0x22, 0x2E, 0x2D, 0x2C, 0x23, 0x28};
+
+        Random random = new Random(6809);
+        int address = 0x1000;
+        while (address < 0x6000) {
+            switch (random.nextInt(6)) {
+                case 0, 1 -> {
+                    memory.writeByte(address++, byteOps[random.nextInt(byteOps.length)]);
+                    memory.writeByte(address++, random.nextInt(256));
+                }
+                case 2 -> memory.writeByte(address++, inherentOps[random.nextInt(inherentOps.length)]);
+                case 3 -> {
+                    memory.writeByte(address++, wordOps[random.nextInt(wordOps.length)]);
+                    memory.writeByte(address++, random.nextInt(256));
+                    memory.writeByte(address++, random.nextInt(256));
+                }
+                case 4 -> {
+                    memory.writeByte(address++, branchOps[random.nextInt(branchOps.length)]);
+                    memory.writeByte(address++, 0x02);
+                    memory.writeByte(address++, byteOps[random.nextInt(byteOps.length)]);
+                    memory.writeByte(address++, random.nextInt(256));
+                }
+                default -> {
+                    if (random.nextBoolean()) {
+                        /* PSHS CC */
+                        memory.writeByte(address++, 0x34);
+                        memory.writeByte(address++, 0x01);
+                    } else {
+                        /* TFR CC,A */
+                        memory.writeByte(address++, 0x1F);
+                        memory.writeByte(address++, 0xA8);
+                    }
+                }
+            }
+        }
+
+        Memory otherMemory = new Memory();
+        RegisterSet otherRegs = new RegisterSet();
+        IOController otherIO = new IOController(otherMemory, otherRegs, new EmulatedKeyboard(), new Screen(1), new Cassette(), false);
+        CPU otherCPU = new CPU(otherIO);
+        otherIO.setCPU(otherCPU);
+        otherRegs.setLazyFlags(false);
+        for (int i = 0x1000; i < address; i++) {
+            otherMemory.writeByte(i, memory.readByte(i).get());
+        }
+        regs.setPC(0x1000);
+        regs.setS(0x7F00);
+        otherRegs.setPC(0x1000);
+        otherRegs.setS(0x7F00);
+
+        /* Only compare registers other than CC while running, so that the lazy flags stay pending */
+        while (regs.getPC() < 0x6000) {
+            assertEquals(otherCPU.executeInstruction(), cpu.executeInstruction());
+            assertEquals(otherRegs.getPC(), regs.getPC());
+            assertEquals(otherRegs.getD(), regs.getD());
+            assertEquals(otherRegs.getX(), regs.getX());
+            assertEquals(otherRegs.getS(), regs.getS());
+        }
+        assertEquals(otherRegs.toString(), regs.toString());
+        for (int i = 0x7000; i < 0x7F00; i++) {
+            assertEquals(otherMemory.readByte(i).get(), memory.readByte(i).get());
+        }
+        otherIO.shutdown();
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DecodeCacheTest
+{
+    private DecodeCache cache;
+    private DecodedInstruction decoded;
+
+    @Before
+    public void setUp() {
+        cache = new DecodeCache(Memory.MEM_512K);
+        decoded = new DecodedInstruction(new NotImplementedInstruction(0x01), 3, 3, 0x1234, 0);
+    }
+
+    @Test
+    public void testGetReturnsNullWhenEmpty() {
+        assertNull(cache.get(0x1000));
+    }
+
+    @Test
+    public void testPutThenGetReturnsEntry() {
+        cache.put(0x1000, decoded);
+        assertSame(decoded, cache.get(0x1000));
+        assertNull(cache.get(0x1001));
+    }
+
+    @Test
+    public void testInvalidateWithinSpanRemovesEntry() {
+        cache.put(0x1000, decoded);
+        cache.invalidate(0x1002);
+        assertNull(cache.get(0x1000));
+    }
+
+    @Test
+    public void testInvalidateOutsideSpanKeepsEntry() {
+        cache.put(0x1000, decoded);
+        cache.invalidate(0x1003);
+        cache.invalidate(0x0FFF);
+        assertSame(decoded, cache.get(0x1000));
+    }
+
+    @Test
+    public void testInvalidateOnEmptyPageDoesNothing() {
+        cache.put(0x1000, decoded);
+        cache.invalidate(0x4000);
+        assertSame(decoded, cache.get(0x1000));
+    }
+
+    @Test
+    public void testClearRemovesAllEntries() {
+        cache.put(0x1000, decoded);
+        cache.put(0x7F000, decoded);
+        cache.clear();
+        assertNull(cache.get(0x1000));
+        assertNull(cache.get(0x7F000));
+    }
+}
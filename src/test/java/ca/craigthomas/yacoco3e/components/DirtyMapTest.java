@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DirtyMapTest
+{
+    private DirtyMap dirtyMap;
+
+    @Before
+    public void setUp() {
+        dirtyMap = new DirtyMap(Memory.MEM_512K);
+    }
+
+    @Test
+    public void testNewMapIsClean() {
+        assertEquals(64, dirtyMap.getPageCount());
+        assertEquals(2048, dirtyMap.getBlockCount());
+        assertEquals(0, dirtyMap.getDirtyPageCount());
+        assertEquals(-1, dirtyMap.nextDirtyPage(0));
+        assertEquals(-1, dirtyMap.nextDirtyBlock(0));
+    }
+
+    @Test
+    public void testMarkSetsPageAndBlock() {
+        dirtyMap.mark(0x7A1FF);
+        assertTrue(dirtyMap.isPageDirty(0x3D));
+        assertFalse(dirtyMap.isPageDirty(0x3C));
+        assertTrue(dirtyMap.isBlockDirty(0x7A1));
+        assertFalse(dirtyMap.isBlockDirty(0x7A2));
+        assertEquals(0x3D, dirtyMap.nextDirtyPage(0));
+        assertEquals(-1, dirtyMap.nextDirtyPage(0x3E));
+    }
+
+    @Test
+    public void testMarkRangeCrossesPages() {
+        dirtyMap.markRange(0x1FFF, 2);
+        assertTrue(dirtyMap.isPageDirty(0));
+        assertTrue(dirtyMap.isPageDirty(1));
+        assertTrue(dirtyMap.isBlockDirty(0x1F));
+        assertTrue(dirtyMap.isBlockDirty(0x20));
+        assertEquals(2, dirtyMap.getDirtyPageCount());
+    }
+
+    @Test
+    public void testIsDirtyChecksWholeRange() {
+        dirtyMap.mark(0x0500);
+        assertTrue(dirtyMap.isDirty(0x0400, 0x200));
+        assertTrue(dirtyMap.isDirty(0x0500, 1));
+        assertFalse(dirtyMap.isDirty(0x0400, 0x100));
+        assertFalse(dirtyMap.isDirty(0x0600, 0x1000));
+        assertFalse(dirtyMap.isDirty(0x0500, 0));
+    }
+
+    @Test
+    public void testClearPageOnlyClearsThatPage() {
+        dirtyMap.mark(0x2000);
+        dirtyMap.mark(0x3FFF);
+        dirtyMap.mark(0x4000);
+        dirtyMap.clearPage(1);
+        assertFalse(dirtyMap.isPageDirty(1));
+        assertFalse(dirtyMap.isBlockDirty(0x20));
+        assertFalse(dirtyMap.isBlockDirty(0x3F));
+        assertTrue(dirtyMap.isPageDirty(2));
+        assertTrue(dirtyMap.isBlockDirty(0x40));
+    }
+
+    @Test
+    public void testMarkAllAndClear() {
+        dirtyMap.markAll();
+        assertEquals(64, dirtyMap.getDirtyPageCount());
+        assertTrue(dirtyMap.isBlockDirty(2047));
+        dirtyMap.clear();
+        assertEquals(0, dirtyMap.getDirtyPageCount());
+        assertEquals(-1, dirtyMap.nextDirtyBlock(0));
+    }
+
+    @Test
+    public void testSmallMemoryHasPartialWords() {
+        dirtyMap = new DirtyMap(Memory.MEM_128K);
+        dirtyMap.markAll();
+        assertEquals(16, dirtyMap.getDirtyPageCount());
+        assertEquals(-1, dirtyMap.nextDirtyPage(16));
+        assertEquals(511, dirtyMap.nextDirtyBlock(511));
+        assertEquals(-1, dirtyMap.nextDirtyBlock(512));
+    }
+}
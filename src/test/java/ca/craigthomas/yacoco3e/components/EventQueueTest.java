@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EventQueueTest
+{
+    private EventQueue events;
+
+    @Before
+    public void setUp() {
+        events = new EventQueue();
+    }
+
+    @Test
+    public void testNoEventsDueWithoutPeriods() {
+        assertFalse(events.advance(Integer.MAX_VALUE));
+        assertFalse(events.advance(Integer.MAX_VALUE));
+        assertEquals(-1, events.poll());
+    }
+
+    @Test
+    public void testAdvanceReportsEventDue() {
+        events.setPeriod(EventQueue.DISK, 10);
+        assertEquals(10, events.ticksUntilNextEvent());
+        assertFalse(events.advance(9));
+        assertEquals(-1, events.poll());
+        assertTrue(events.advance(1));
+        assertEquals(EventQueue.DISK, events.poll());
+        assertEquals(-1, events.poll());
+        assertEquals(0, events.getElapsed(EventQueue.DISK));
+    }
+
+    @Test
+    public void testDueEventsFireInEventOrder() {
+        events.setPeriod(EventQueue.VERTICAL_BORDER, 5);
+        events.setPeriod(EventQueue.PIA1A_TIMER, 5);
+        assertTrue(events.advance(5));
+        assertEquals(EventQueue.PIA1A_TIMER, events.poll());
+        assertEquals(EventQueue.VERTICAL_BORDER, events.poll());
+        assertEquals(-1, events.poll());
+    }
+
+    @Test
+    public void testPeriodRestartsWhenEventFires() {
+        events.setPeriod(EventQueue.GIME_TIMER, 10);
+        events.advance(15);
+        assertEquals(EventQueue.GIME_TIMER, events.poll());
+        assertEquals(10, events.ticksUntilNextEvent());
+        assertEquals(15, events.getNow());
+    }
+
+    @Test
+    public void testSetPeriodKeepsElapsedTicks() {
+        events.setPeriod(EventQueue.GIME_TIMER, 100);
+        events.advance(30);
+        events.setPeriod(EventQueue.GIME_TIMER, 40);
+        assertEquals(10, events.ticksUntilNextEvent());
+    }
+
+    @Test
+    public void testSetElapsedMakesEventDue() {
+        events.setPeriod(EventQueue.HORIZONTAL_BORDER, 56);
+        events.setElapsed(EventQueue.HORIZONTAL_BORDER, 999999);
+        assertEquals(0, events.ticksUntilNextEvent());
+        assertTrue(events.advance(1));
+        assertEquals(EventQueue.HORIZONTAL_BORDER, events.poll());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static ca.craigthomas.yacoco3e.components.FrameScheduler.FRAME_NANOS;
+import static org.junit.Assert.*;
+
+public class FrameSchedulerTest
+{
+    private FakeClockFrameScheduler scheduler;
+
+    private static class FakeClockFrameScheduler extends FrameScheduler
+    {
+        long time;
+        long slept;
+
+        @Override
+        protected long now() {
+            return time;
+        }
+
+        @Override
+        protected void sleep(long nanos) {
+            slept += nanos;
+            time += nanos;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        scheduler = new FakeClockFrameScheduler();
+        scheduler.reset();
+    }
+
+    @Test
+    public void testWaitForNextFrameSleepsRemainderOfFrame() {
+        scheduler.time += FRAME_NANOS / 4;
+        scheduler.waitForNextFrame();
+        assertEquals(FRAME_NANOS - FRAME_NANOS / 4, scheduler.slept);
+        assertEquals(FRAME_NANOS, scheduler.time);
+        assertEquals(FRAME_NANOS * 2, scheduler.getFrameDeadline());
+    }
+
+    @Test
+    public void testWaitForNextFrameDoesNotSleepWhenBehind() {
+        scheduler.time += FRAME_NANOS + 10;
+        scheduler.waitForNextFrame();
+        assertEquals(0, scheduler.slept);
+        assertEquals(FRAME_NANOS * 2, scheduler.getFrameDeadline());
+    }
+
+    @Test
+    public void testLateFrameIsMadeUpInNextFrame() {
+        scheduler.time += FRAME_NANOS + 1000;
+        scheduler.waitForNextFrame();
+        scheduler.waitForNextFrame();
+        assertEquals(FRAME_NANOS - 1000, scheduler.slept);
+        assertEquals(FRAME_NANOS * 2, scheduler.time);
+    }
+
+    @Test
+    public void testLargeBacklogResynchronizesSchedule() {
+        scheduler.time += FRAME_NANOS * (FrameScheduler.MAX_FRAMES_BEHIND + 10);
+        scheduler.waitForNextFrame();
+        assertEquals(scheduler.time + FRAME_NANOS, scheduler.getFrameDeadline());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.RegisterSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FusedInstructionTest
+{
+    private Memory memory;
+    private RegisterSet regs;
+    private CPU cpu;
+    private IOController io;
+
+    @Before
+    public void setUp() {
+        memory = new Memory();
+        regs = new RegisterSet();
+        io = new IOController(memory, regs, new EmulatedKeyboard(), new Screen(1), new Cassette(), false);
+        cpu = new CPU(io);
+        io.setCPU(cpu);
+
+        /* 4000  LDA #$42
+         * 4002  STA $6000
+         */
+        memory.writeByte(0x4000, 0x86);
+        memory.writeByte(0x4001, 0x42);
+        memory.writeByte(0x4002, 0xB7);
+        memory.writeByte(0x4003, 0x60);
+        memory.writeByte(0x4004, 0x00);
+        regs.setPC(0x4000);
+    }
+
+    @After
+    public void tearDown() {
+        io.shutdown();
+    }
+
+    @Test
+    public void testCanFuseLoadAndStoreOfSameRegister() {
+        assertTrue(FusedInstruction.canFuse(InstructionTable.get(0x8600), InstructionTable.get(0xB700)));
+        assertTrue(FusedInstruction.canFuse(InstructionTable.get(0xEC00), InstructionTable.get(0xED00)));
+        assertFalse(FusedInstruction.canFuse(InstructionTable.get(0x8600), InstructionTable.get(0xF700)));
+        assertFalse(FusedInstruction.canFuse(InstructionTable.get(0x8600), InstructionTable.get(0x8600)));
+    }
+
+    @Test
+    public void testCanFuseCompareAndConditionalBranch() {
+        assertTrue(FusedInstruction.canFuse(InstructionTable.get(0x8100), InstructionTable.get(0x2600)));
+        assertTrue(FusedInstruction.canFuse(InstructionTable.get(0x4D00), InstructionTable.get(0x2700)));
+        assertTrue(FusedInstruction.canFuse(InstructionTable.get(0x8C00), InstructionTable.get(0x1025)));
+        assertFalse(FusedInstruction.canFuse(InstructionTable.get(0x8100), InstructionTable.get(0x2000)));
+        assertFalse(FusedInstruction.canFuse(InstructionTable.get(0x8100), InstructionTable.get(0x8D00)));
+    }
+
+    @Test
+    public void testExecuteFusedInstructionRunsBothInstructions() throws MalformedInstructionException {
+        assertEquals(9, cpu.executeFusedInstruction(Integer.MAX_VALUE));
+        assertEquals(0x4005, regs.getPC());
+        assertEquals(0x42, memory.readByte(0x6000).get());
+        assertEquals("STA", cpu.instruction.mnemonic);
+    }
+
+    @Test
+    public void testExecuteFusedInstructionStopsWhenBudgetSpent() throws MalformedInstructionException {
+        assertEquals(4, cpu.executeFusedInstruction(4));
+        assertEquals(0x4002, regs.getPC());
+        assertEquals(0, memory.readByte(0x6000).get());
+    }
+
+    @Test
+    public void testExecuteFusedInstructionStopsAtTimerEvent() throws MalformedInstructionException {
+        io.events.setElapsed(EventQueue.PIA1A_TIMER, IOController.TIMER_63_5_MICROS - 2);
+        assertEquals(4, cpu.executeFusedInstruction(Integer.MAX_VALUE));
+        assertEquals(0x4002, regs.getPC());
+        assertEquals(0, memory.readByte(0x6000).get());
+    }
+
+    @Test
+    public void testExecuteFusedInstructionStopsWhenInterruptPending() throws MalformedInstructionException {
+        cpu.scheduleIRQ();
+        assertEquals(4, cpu.executeFusedInstruction(Integer.MAX_VALUE));
+        assertEquals(0x4002, regs.getPC());
+    }
+
+    @Test
+    public void testOverwrittenSecondInstructionIsNotFused() throws MalformedInstructionException {
+        cpu.executeFusedInstruction(Integer.MAX_VALUE);
+
+        /* Change STA $6000 to LDB $6000 */
+        memory.writeByte(0x4002, 0xF6);
+        regs.setPC(0x4000);
+        assertEquals(4, cpu.executeFusedInstruction(Integer.MAX_VALUE));
+        assertEquals(0x4002, regs.getPC());
+    }
+
+    @Test
+    public void testExecuteFusedInstructionWithoutDecodeCacheRunsOneInstruction() throws MalformedInstructionException {
+        cpu.setDecodeCacheEnabled(false);
+        assertEquals(4, cpu.executeFusedInstruction(Integer.MAX_VALUE));
+        assertEquals(0x4002, regs.getPC());
+    }
+
+    @Test
+    public void testFusionMatchesUnfusedExecution() throws MalformedInstructionException {
+        /* A block copy and compare loop:
+         *
+         *   4000  LDX #$5000
+         *   4003  LDU #$6000
+         *   4006  LDD ,X++
+         *   4008  STD ,U++
+         *   400A  CMPX #$5010
+         *   400D  BNE $4006
+         *   400F  BRA $4000
+         */
+        int [] program = {0x8E, 0x50, 0x00, 0xCE, 0x60, 0x00, 0xEC, 0x81, 0xED, 0xC1, 0x8C, 0x50, 0x10, 0x26, 0xF7, 0x20, 0xEF};
+        Machine fused = new Machine(1, false);
+        Machine unfused = new Machine(1, false);
+        unfused.setFusionEnabled(false);
+        assertTrue(fused.isFusionEnabled());
+        for (Machine machine : new Machine[] {fused, unfused}) {
+            machine.reset();
+            machine.getMemory().enableAllRAMMode();
+            for (int i = 0; i < program.length; i++) {
+                machine.getMemory().writeByte(0x4000 + i, program[i]);
+            }
+            for (int i = 0; i < 16; i++) {
+                machine.getMemory().writeByte(0x5000 + i, i * 3);
+            }
+            machine.getIOController().regs.setPC(0x4000);
+        }
+
+        for (int frame = 0; frame < 10; frame++) {
+            fused.runFrame();
+            unfused.runFrame();
+            assertEquals(unfused.getTotalCycles(), fused.getTotalCycles());
+            assertEquals(unfused.getIOController().regs.toString(), fused.getIOController().regs.toString());
+        }
+        assertEquals(unfused.getMemoryHash(), fused.getMemoryHash());
+        fused.getIOController().shutdown();
+        unfused.getIOController().shutdown();
+    }
+}
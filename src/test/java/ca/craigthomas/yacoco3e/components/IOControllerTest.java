@@ -39,11 +39,43 @@ public class IOControllerTest
 
     @Test
     public void testReadByteReadsCorrectByte() {
-        memory.memory[0x7BEEF] = 0xAB;
+        memory.memory[0x7BEEF] = (byte) 0xAB;
         UnsignedByte result = io.readByte(new UnsignedWord(0xBEEF));
         assertEquals(new UnsignedByte(0xAB), result);
     }
 
+    @Test
+    public void testRead8ReadsCorrectByte() {
+        memory.memory[0x7BEEF] = (byte) 0xAB;
+        assertEquals(0xAB, io.read8(0xBEEF));
+    }
+
+    @Test
+    public void testRead8ReadsIOByte() {
+        io.writeIOByte(new UnsignedWord(0xFF01), new UnsignedByte(0x11));
+        assertEquals(0x11, io.read8(0xFF01));
+    }
+
+    @Test
+    public void testRead16ReadsCorrectWord() {
+        memory.memory[0x7BEEF] = (byte) 0xAB;
+        memory.memory[0x7BEF0] = (byte) 0xCD;
+        assertEquals(0xABCD, io.read16(0xBEEF));
+    }
+
+    @Test
+    public void testWrite8WritesCorrectByte() {
+        io.write8(0xBEEF, 0xAB);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
+    }
+
+    @Test
+    public void testWrite16WritesCorrectWord() {
+        io.write16(0xBEEF, 0xABCD);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
+        assertEquals(0xCD, memory.memory[0x7BEF0] & 0xFF);
+    }
+
     @Test
     public void testReadIOByteReadsCorrectByte() {
         io.writeIOByte(new UnsignedWord(0xFF01), new UnsignedByte(0x11));
@@ -103,6 +135,12 @@ public class IOControllerTest
         assertEquals(new UnsignedByte(0x3F), io.readByte(new UnsignedWord(0xFF93)));
     }
 
+    @Test
+    public void testBankRegisterSetCorrectly() {
+        io.writeByte(new UnsignedWord(0xFF9B), new UnsignedByte(0xFE));
+        assertEquals(0x2, memory.getBankRegister());
+    }
+
     @Test
     public void testTimer1SetCorrectly() {
         io.writeByte(new UnsignedWord(0xFF94), new UnsignedByte(0xFF));
@@ -262,19 +300,19 @@ public class IOControllerTest
 
     @Test
     public void testNoInterruptThrownOnPIAInterruptsIfInterruptsTurnedOff() {
-        io.pia1b.timerValue = 99999;
-        io.regs.cc.and(~CC_I);
+        io.events.setElapsed(EventQueue.PIA1B_TIMER, 99999);
+        io.regs.andCC(~CC_I);
         io.timerTick(1);
-        assertEquals(0, io.pia1b.timerValue);
+        assertEquals(0, io.events.getElapsed(EventQueue.PIA1B_TIMER));
     }
 
     @Test
     public void testInterruptThrownOnPIAInterruptsIfInterruptsTurnedOn() {
         io.pia1b.setControlRegister(new UnsignedByte(0x1));
-        io.pia1b.timerValue = 99999;
-        io.regs.cc.or(CC_I);
+        io.events.setElapsed(EventQueue.PIA1B_TIMER, 99999);
+        io.regs.orCC(CC_I);
         io.timerTick(1);
-        assertEquals(0, io.pia1b.timerValue);
+        assertEquals(0, io.events.getElapsed(EventQueue.PIA1B_TIMER));
         assertTrue(io.pia1b.getControlRegister().isMasked(0x80));
         assertFalse(io.pia1a.getControlRegister().isMasked(0x80));
     }
@@ -282,12 +320,12 @@ public class IOControllerTest
     @Test
     public void testGIMETimerInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF8] = (short) 0xDE;
-        memory.rom[0x3FF9] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF8] = (byte) 0xDE;
+        memory.rom[0x3FF9] = (byte) 0xAD;
 
-        regs.s.set(new UnsignedWord(0x0300));
-        io.timerTickCounter = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.GIME_TIMER, 999999);
         io.timerResetValue = new UnsignedWord(0xBEEF);
         io.timerValue = new UnsignedWord(0x1);
         io.irqEnabled = true;
@@ -297,18 +335,18 @@ public class IOControllerTest
         cpu.serviceInterrupts();
 
         assertEquals(new UnsignedWord(0xBEEF), io.timerValue);
-        assertEquals(new UnsignedWord(0xDEAD), io.getWordRegister(Register.PC));
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testGIMETimerFastInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF6] = (short) 0xDE;
-        memory.rom[0x3FF7] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF6] = (byte) 0xDE;
+        memory.rom[0x3FF7] = (byte) 0xAD;
 
-        regs.s.set(new UnsignedWord(0x0300));
-        io.timerTickCounter = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.GIME_TIMER, 999999);
         io.timerResetValue = new UnsignedWord(0xBEEF);
         io.timerValue = new UnsignedWord(0x1);
         io.firqEnabled = true;
@@ -318,82 +356,82 @@ public class IOControllerTest
         cpu.serviceInterrupts();
 
         assertEquals(new UnsignedWord(0xBEEF), io.timerValue);
-        assertEquals(new UnsignedWord(0xDEAD), io.getWordRegister(Register.PC));
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testGIMEHorizontalBorderInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF8] = (short) 0xDE;
-        memory.rom[0x3FF9] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF8] = (byte) 0xDE;
+        memory.rom[0x3FF9] = (byte) 0xAD;
 
-        regs.s.set(0x0300);
-        io.horizontalBorderTickValue = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.HORIZONTAL_BORDER, 999999);
         io.irqEnabled = true;
         io.irqStatus = new UnsignedByte(0x10);
         io.timerTick(1);
         cpu.executeInstruction();
         cpu.serviceInterrupts();
 
-        assertEquals(0xDEAD, io.getWordRegister(Register.PC).get());
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testGIMEHorizontalBorderFastInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF6] = (short) 0xDE;
-        memory.rom[0x3FF7] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF6] = (byte) 0xDE;
+        memory.rom[0x3FF7] = (byte) 0xAD;
 
-        regs.s.set(new UnsignedWord(0x0300));
-        io.horizontalBorderTickValue = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.HORIZONTAL_BORDER, 999999);
         io.firqEnabled = true;
         io.firqStatus = new UnsignedByte(0x10);
         io.timerTick(1);
         cpu.executeInstruction();
         cpu.serviceInterrupts();
-        assertEquals(new UnsignedWord(0xDEAD), io.getWordRegister(Register.PC));
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testGIMEVerticalBorderInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF8] = (short) 0xDE;
-        memory.rom[0x3FF9] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF8] = (byte) 0xDE;
+        memory.rom[0x3FF9] = (byte) 0xAD;
 
-        regs.s.set(new UnsignedWord(0x0300));
-        io.verticalBorderTickValue = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.VERTICAL_BORDER, 999999);
         io.irqEnabled = true;
         io.irqStatus = new UnsignedByte(0x8);
         io.timerTick(1);
         cpu.executeInstruction();
         cpu.serviceInterrupts();
-        assertEquals(new UnsignedWord(0xDEAD), io.getWordRegister(Register.PC));
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testGIMEVerticalBorderFastInterruptFiresCorrectly() throws MalformedInstructionException {
         memory.enableAllRAMMode();
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FF6] = (short) 0xDE;
-        memory.rom[0x3FF7] = (short) 0xAD;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FF6] = (byte) 0xDE;
+        memory.rom[0x3FF7] = (byte) 0xAD;
 
-        regs.s.set(new UnsignedWord(0x0300));
-        io.verticalBorderTickValue = 999999;
+        regs.setS(0x0300);
+        io.events.setElapsed(EventQueue.VERTICAL_BORDER, 999999);
         io.firqEnabled = true;
         io.firqStatus = new UnsignedByte(0x8);
         io.timerTick(1);
         cpu.executeInstruction();
         cpu.serviceInterrupts();
-        assertEquals(new UnsignedWord(0xDEAD), io.getWordRegister(Register.PC));
+        assertEquals(0xDEAD, regs.getWordRegister(Register.PC));
     }
 
     @Test
     public void testWriteByteWritesCorrectByte() {
         io.writeByte(new UnsignedWord(0xBEEF), new UnsignedByte(0xAB));
-        assertEquals(0xAB, memory.memory[0x7BEEF]);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
     }
 
     @Test
@@ -402,61 +440,283 @@ public class IOControllerTest
         assertEquals(0xAB, io.ioMemory[0x0]);
     }
 
+    @Test
+    public void testWrite8MasksIOValueToByte() {
+        io.write8(0xFF9A, 0x1AB);
+        assertEquals(0xAB, io.ioMemory[0x9A]);
+        assertEquals(new UnsignedByte(0xAB), io.borderRegister);
+    }
+
+    @Test
+    public void testUnmappedIOAddressReadsMemory() {
+        memory.memory[0x7FF70] = (byte) 0xAB;
+        assertEquals(0xAB, io.read8(0xFF70));
+    }
+
+    @Test
+    public void testRegisteredHandlersReceiveIOAccesses() {
+        int [] written = new int[2];
+        io.registerReadHandler(0xFF70, (controller, address) -> address & 0xFF);
+        io.registerWriteHandler(0xFF71, (controller, address, value) -> {
+            written[0] = address;
+            written[1] = value;
+        });
+        assertEquals(0x70, io.read8(0xFF70));
+        io.write8(0xFF71, 0x55);
+        assertEquals(0xFF71, written[0]);
+        assertEquals(0x55, written[1]);
+    }
+
+    @Test
+    public void testPIARegistersRepeatEveryFourBytes() {
+        io.writeIOByte(new UnsignedWord(0xFF27), new UnsignedByte(0x04));
+        io.writeIOByte(new UnsignedWord(0xFF3E), new UnsignedByte(0xF8));
+        assertEquals(new UnsignedByte(0x04), io.pia2b.getControlRegister());
+        assertEquals(0xF8, io.read8(0xFF26) & 0xF8);
+    }
+
+    @Test
+    public void testPIAHandlersUseIOControllerPassedIn() {
+        PIA1b replacement = new PIA1b(new EmulatedKeyboard(), io.deviceSelectorSwitch);
+        io.pia1b = replacement;
+        io.write8(0xFF03, 0x04);
+        assertEquals(new UnsignedByte(0x04), replacement.getControlRegister());
+        assertEquals(0x04, io.read8(0xFF0F));
+    }
+
+    @Test
+    public void testSetKeyboardConnectsKeyboardToPIA1() {
+        KeyboardMatrix keyboard = new IdleKeyboard();
+        io.setKeyboard(keyboard);
+        assertSame(keyboard, io.pia1a.keyboard);
+        assertSame(keyboard, io.pia1b.keyboard);
+    }
+
+    @Test
+    public void testPollJoysticksWithNoJoystickInputLeavesJoysticksCentred() {
+        io.pollJoysticks();
+        assertEquals(2.25f, io.pia1a.leftJoystickX, 0.0f);
+        assertEquals(2.25f, io.pia1a.rightJoystickY, 0.0f);
+    }
+
+    @Test
+    public void testPollJoysticksSetsStateFromJoystickInput() {
+        io.setJoystickInput(ioController -> {
+            ioController.setLeftJoystickState(0.0f, 4.5f, true);
+            ioController.setRightJoystickState(1.0f, 2.0f, false);
+        });
+        io.pollJoysticks();
+        assertEquals(0.0f, io.pia1a.leftJoystickX, 0.0f);
+        assertEquals(4.5f, io.pia1a.leftJoystickY, 0.0f);
+        assertTrue(io.pia1a.leftJoystickFire);
+        assertEquals(1.0f, io.pia1a.rightJoystickX, 0.0f);
+        assertEquals(2.0f, io.pia1a.rightJoystickY, 0.0f);
+        assertFalse(io.pia1a.rightJoystickFire);
+    }
+
+    @Test
+    public void testPIADataDirectionRegisterWrittenWhenControlBit2Clear() {
+        io.write8(0xFF23, 0x00);
+        io.write8(0xFF22, 0xF8);
+        assertEquals(new UnsignedByte(0xF8), io.pia2b.getDataDirectionRegister());
+        io.write8(0xFF23, 0x04);
+        io.write8(0xFF22, 0xE0);
+        assertEquals(new UnsignedByte(0xE0), io.pia2b.getDataRegister());
+        assertEquals(new UnsignedByte(0xE0), io.pia2b.getVdgMode());
+    }
+
+    @Test
+    public void testPARWriteAppliesROMPageQuirk() {
+        io.write8(0xFFA2, 0x3D);
+        assertEquals(0x3E, memory.executivePAR[2]);
+        io.write8(0xFFAA, 0x3C);
+        assertEquals(0x3E, memory.taskPAR[2]);
+    }
+
+    @Test
+    public void testTimerRegisterWritesSetResetValue() {
+        io.write8(0xFF94, 0xFA);
+        io.write8(0xFF95, 0xBC);
+        assertEquals(0x0ABC, io.timerResetValue.get());
+        assertEquals(0x0ABC, io.timerValue.get());
+    }
+
+    @Test
+    public void testSAMDisplayOffsetBitsSetAndClear() {
+        io.writeByte(new UnsignedWord(0xFFC7), new UnsignedByte(0));
+        io.writeByte(new UnsignedWord(0xFFD3), new UnsignedByte(0));
+        assertEquals(new UnsignedByte(0x41), io.samDisplayOffsetRegister);
+        io.writeByte(new UnsignedWord(0xFFC6), new UnsignedByte(0));
+        assertEquals(new UnsignedByte(0x40), io.samDisplayOffsetRegister);
+    }
+
     @Test
     public void testReadWordReadsCorrectWord() {
-        memory.memory[0x7BEEE] = 0xAB;
-        memory.memory[0x7BEEF] = 0xCD;
+        memory.memory[0x7BEEE] = (byte) 0xAB;
+        memory.memory[0x7BEEF] = (byte) 0xCD;
         UnsignedWord result = io.readWord(new UnsignedWord(0xBEEE));
         assertEquals(new UnsignedWord(0xABCD), result);
     }
 
     @Test
     public void testPushStackWritesToMemoryLocation() {
-        regs.s.set(new UnsignedWord(0xA000));
-        io.pushStack(Register.S, new UnsignedByte(0x98));
-        assertEquals(memory.memory[0x79FFF], new UnsignedByte(0x98).get());
+        regs.setS(0xA000);
+        io.pushStackByte(Register.S, 0x98);
+        assertEquals(memory.memory[0x79FFF] & 0xFF, 0x98);
     }
 
     @Test
     public void testPushStackWritesToMemoryLocationUsingUStack() {
-        regs.u.set(new UnsignedWord(0xA000));
-        io.pushStack(Register.U, new UnsignedByte(0x98));
-        assertEquals(memory.memory[0x79FFF], new UnsignedByte(0x98).get());
+        regs.setU(0xA000);
+        io.pushStackByte(Register.U, 0x98);
+        assertEquals(memory.memory[0x79FFF] & 0xFF, 0x98);
     }
 
     @Test
     public void testPopStackReadsMemoryLocation() {
-        regs.s.set(new UnsignedWord(0xA000));
-        memory.memory[0x7A000] = 0x98;
-        UnsignedByte result = io.popStack(Register.S);
-        assertEquals(new UnsignedByte(0x98), result);
-        assertEquals(new UnsignedWord(0xA001), regs.s);
+        regs.setS(0xA000);
+        memory.memory[0x7A000] = (byte) 0x98;
+        int result = io.popStackByte(Register.S);
+        assertEquals(0x98, result);
+        assertEquals(0xA001, regs.getS());
     }
 
     @Test
     public void testPopStackReadsMemoryLocationFromU() {
-        regs.u.set(new UnsignedWord(0xA000));
-        memory.memory[0x7A000] = 0x98;
-        UnsignedByte result = io.popStack(Register.U);
-        assertEquals(new UnsignedByte(0x98), result);
-        assertEquals(new UnsignedWord(0xA001), regs.u);
+        regs.setU(0xA000);
+        memory.memory[0x7A000] = (byte) 0x98;
+        int result = io.popStackByte(Register.U);
+        assertEquals(0x98, result);
+        assertEquals(0xA001, regs.getU());
+    }
+
+    private void loadRegisters() {
+        regs.setCC(0x81);
+        regs.setA(0x12);
+        regs.setB(0x34);
+        regs.setDP(0x56);
+        regs.setX(0x789A);
+        regs.setY(0xBCDE);
+        regs.setU(0x1357);
+        regs.setPC(0x2468);
+    }
+
+    private int [] pushRegistersIndividually(int stackPointer) {
+        loadRegisters();
+        regs.setS(stackPointer);
+        io.pushStackWord(Register.S, regs.getPC());
+        io.pushStackWord(Register.S, regs.getU());
+        io.pushStackWord(Register.S, regs.getY());
+        io.pushStackWord(Register.S, regs.getX());
+        io.pushStackByte(Register.S, regs.getDP());
+        io.pushStackByte(Register.S, regs.getB());
+        io.pushStackByte(Register.S, regs.getA());
+        io.pushStackByte(Register.S, regs.getCC());
+        int [] expected = new int[12];
+        for (int i = 0; i < 12; i++) {
+            expected[i] = io.read8(regs.getS() + i);
+        }
+        return expected;
+    }
+
+    @Test
+    public void testPushRegistersMatchesIndividualPushes() {
+        int [] expected = pushRegistersIndividually(0x5000);
+        loadRegisters();
+        regs.setS(0x6000);
+        assertEquals(12, io.pushRegisters(Register.S, IOController.ENTIRE_STATE));
+        assertEquals(0x6000 - 12, regs.getS());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(expected[i], io.read8(regs.getS() + i));
+        }
+    }
+
+    @Test
+    public void testPushRegistersAcrossPageBoundary() {
+        int [] expected = pushRegistersIndividually(0x5000);
+        loadRegisters();
+        regs.setS(0x4004);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        assertEquals(0x4004 - 12, regs.getS());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(expected[i], io.read8(regs.getS() + i));
+        }
+    }
+
+    @Test
+    public void testPushRegistersBelowIOPageFallsBackToBytes() {
+        int [] expected = pushRegistersIndividually(0x5000);
+        loadRegisters();
+        regs.setS(0xFF02);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        assertEquals(0xFF02 - 12, regs.getS());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected[i], io.read8(regs.getS() + i));
+        }
+    }
+
+    @Test
+    public void testPushRegistersOnUStackPushesS() {
+        regs.setS(0xBEEF);
+        regs.setU(0x6000);
+        assertEquals(2, io.pushRegisters(Register.U, 0x40));
+        assertEquals(0x5FFE, regs.getU());
+        assertEquals(0xBE, io.read8(0x5FFE));
+        assertEquals(0xEF, io.read8(0x5FFF));
+    }
+
+    @Test
+    public void testPullRegistersRestoresPushedRegisters() {
+        loadRegisters();
+        regs.setS(0x4004);
+        io.pushRegisters(Register.S, IOController.ENTIRE_STATE);
+        regs.setCC(0);
+        regs.setA(0);
+        regs.setB(0);
+        regs.setDP(0);
+        regs.setX(0);
+        regs.setY(0);
+        regs.setU(0);
+        regs.setPC(0);
+        assertEquals(12, io.pullRegisters(Register.S, IOController.ENTIRE_STATE));
+        assertEquals(0x4004, regs.getS());
+        assertEquals(0x81, regs.getCC());
+        assertEquals(0x12, regs.getA());
+        assertEquals(0x34, regs.getB());
+        assertEquals(0x56, regs.getDP());
+        assertEquals(0x789A, regs.getX());
+        assertEquals(0xBCDE, regs.getY());
+        assertEquals(0x1357, regs.getU());
+        assertEquals(0x2468, regs.getPC());
+    }
+
+    @Test
+    public void testPullRegistersPartialFrame() {
+        regs.setU(0x6000);
+        io.write8(0x6000, 0x12);
+        io.write8(0x6001, 0xAB);
+        io.write8(0x6002, 0xCD);
+        assertEquals(3, io.pullRegisters(Register.U, 0x12));
+        assertEquals(0x12, regs.getA());
+        assertEquals(0xABCD, regs.getX());
+        assertEquals(0x6003, regs.getU());
     }
 
     @Test
     public void testGetWordRegisterWorksCorrectly() {
-        regs.y.set(new UnsignedWord(0xA));
-        regs.x.set(new UnsignedWord(0xB));
-        regs.u.set(new UnsignedWord(0xC));
-        regs.s.set(new UnsignedWord(0xD));
-        regs.setD(new UnsignedWord(0xE));
-        regs.pc.set(new UnsignedWord(0xF));
-        assertEquals(new UnsignedWord(0xA), io.getWordRegister(Register.Y));
-        assertEquals(new UnsignedWord(0xB), io.getWordRegister(Register.X));
-        assertEquals(new UnsignedWord(0xC), io.getWordRegister(Register.U));
-        assertEquals(new UnsignedWord(0xD), io.getWordRegister(Register.S));
-        assertEquals(new UnsignedWord(0xE), io.getWordRegister(Register.D));
-        assertEquals(new UnsignedWord(0xF), io.getWordRegister(Register.PC));
-        assertNull(io.getWordRegister(Register.UNKNOWN));
+        regs.setY(0xA);
+        regs.setX(0xB);
+        regs.setU(0xC);
+        regs.setS(0xD);
+        regs.setD(0xE);
+        regs.setPC(0xF);
+        assertEquals(0xA, regs.getWordRegister(Register.Y));
+        assertEquals(0xB, regs.getWordRegister(Register.X));
+        assertEquals(0xC, regs.getWordRegister(Register.U));
+        assertEquals(0xD, regs.getWordRegister(Register.S));
+        assertEquals(0xE, regs.getWordRegister(Register.D));
+        assertEquals(0xF, regs.getWordRegister(Register.PC));
+        assertEquals(0, regs.getWordRegister(Register.UNKNOWN));
     }
 
     @Test
@@ -530,16 +790,16 @@ public class IOControllerTest
 
     @Test
     public void testGetIndexedRegisterWorksCorrectly() {
-        UnsignedByte postByte = new UnsignedByte(0x00);
+        int postByte = 0x00;
         assertEquals(Register.X, io.getIndexedRegister(postByte));
 
-        postByte = new UnsignedByte(0x20);
+        postByte = 0x20;
         assertEquals(Register.Y, io.getIndexedRegister(postByte));
 
-        postByte = new UnsignedByte(0x40);
+        postByte = 0x40;
         assertEquals(Register.U, io.getIndexedRegister(postByte));
 
-        postByte = new UnsignedByte(0x60);
+        postByte = 0x60;
         assertEquals(Register.S, io.getIndexedRegister(postByte));
     }
 
@@ -591,19 +851,19 @@ public class IOControllerTest
 
     @Test
     public void testResetSetsCorrectValues() {
-        memory.rom = new short [0x4000];
-        memory.rom[0x3FFE] = (short) 0xC0;
+        memory.rom = new byte [0x4000];
+        memory.rom[0x3FFE] = (byte) 0xC0;
 
         io.reset();
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_H));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertTrue(io.regs.cc.isMasked(CC_F));
-        assertTrue(io.regs.cc.isMasked(CC_I));
-
-        assertEquals(new UnsignedWord(0xC000), regs.pc);
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_H));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertTrue(io.regs.isCCMasked(CC_F));
+        assertTrue(io.regs.isCCMasked(CC_I));
+
+        assertEquals(0xC000, regs.getPC());
         assertFalse(memory.mmuEnabled);
     }
 
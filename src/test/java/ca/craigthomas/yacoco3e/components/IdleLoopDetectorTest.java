@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IdleLoopDetectorTest
+{
+    private Machine machine;
+    private IdleLoopDetector detector;
+
+    /* Counts horizontal sync flags from PIA 1 into $6000:
+     *
+     *   4000  LDA #$04
+     *   4002  STA $FF01
+     *   4005  LDA $FF01
+     *   4008  BPL $4005
+     *   400A  LDA $FF00
+     *   400D  INC $6000
+     *   4010  BRA $4005
+     */
+    private static final int [] PROGRAM = {
+            0x86, 0x04, 0xB7, 0xFF, 0x01, 0xB6, 0xFF, 0x01, 0x2A, 0xFB, 0xB6, 0xFF, 0x00, 0x7C, 0x60, 0x00, 0x20, 0xF3
+    };
+
+    private static void load(Machine machine, int [] program) {
+        machine.reset();
+        machine.getMemory().enableAllRAMMode();
+        for (int i = 0; i < program.length; i++) {
+            machine.getMemory().writeByte(0x4000 + i, program[i]);
+        }
+        machine.getIOController().regs.setPC(0x4000);
+    }
+
+    @Before
+    public void setUp() {
+        machine = new Machine(1, false);
+        load(machine, PROGRAM);
+        detector = new IdleLoopDetector(machine.getIOController());
+    }
+
+    @After
+    public void tearDown() {
+        machine.getIOController().shutdown();
+    }
+
+    @Test
+    public void testIdleLoopDetectionEnabledByDefault() {
+        assertTrue(machine.isIdleLoopDetectionEnabled());
+        machine.setIdleLoopDetectionEnabled(false);
+        assertFalse(machine.isIdleLoopDetectionEnabled());
+    }
+
+    @Test
+    public void testPollingLoopIsSideEffectFree() {
+        assertTrue(detector.isSideEffectFree(0x4005));
+    }
+
+    @Test
+    public void testLoopWithStoreIsNotSideEffectFree() {
+        assertFalse(detector.isSideEffectFree(0x4000));
+        /* 4005  STA $FF01 */
+        machine.getMemory().writeByte(0x4005, 0xB7);
+        assertFalse(detector.isSideEffectFree(0x4005));
+    }
+
+    @Test
+    public void testBranchToSelfIsSideEffectFree() {
+        machine.getMemory().writeByte(0x5000, 0x20);
+        machine.getMemory().writeByte(0x5001, 0xFE);
+        assertTrue(detector.isSideEffectFree(0x5000));
+    }
+
+    @Test
+    public void testBranchOutOfLoopIsNotSideEffectFree() {
+        /* 5000  LDA $FF01
+         * 5003  BMI $5007
+         */
+        int [] code = {0xB6, 0xFF, 0x01, 0x2B, 0x02};
+        for (int i = 0; i < code.length; i++) {
+            machine.getMemory().writeByte(0x5000 + i, code[i]);
+        }
+        assertFalse(detector.isSideEffectFree(0x5000));
+    }
+
+    @Test
+    public void testFastForwardMatchesFullExecution() throws MalformedInstructionException {
+        Machine reference = new Machine(1, false);
+        reference.setIdleLoopDetectionEnabled(false);
+        load(reference, PROGRAM);
+
+        for (int frame = 0; frame < 10; frame++) {
+            reference.runFrame();
+            machine.runFrame();
+            assertEquals(reference.getTotalCycles(), machine.getTotalCycles());
+            assertEquals(reference.getIOController().regs.toString(), machine.getIOController().regs.toString());
+        }
+        assertEquals(reference.getMemoryHash(), machine.getMemoryHash());
+        assertNotEquals(0, machine.getMemory().readByte(0x6000).get());
+        assertTrue(machine.getIdleCyclesSkipped() > 0);
+        assertEquals(0, reference.getIdleCyclesSkipped());
+        reference.getIOController().shutdown();
+    }
+
+    @Test
+    public void testBranchToSelfIsFastForwarded() throws MalformedInstructionException {
+        machine.getMemory().writeByte(0x4000, 0x20);
+        machine.getMemory().writeByte(0x4001, 0xFE);
+        for (int i = 0; i < 10; i++) {
+            machine.step();
+        }
+        assertTrue(machine.getIdleCyclesSkipped() > 0);
+        assertEquals(0x4000, machine.getIOController().regs.getPC());
+    }
+}
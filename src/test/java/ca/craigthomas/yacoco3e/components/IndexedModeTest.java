@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IndexedModeTest
+{
+    @Test
+    public void testFiveBitOffsetIsSigned() {
+        IndexedMode mode = IndexedMode.get(0x1F);
+        assertEquals(IndexedMode.CONSTANT_OFFSET, mode.kind);
+        assertEquals(-1, mode.amount);
+        assertEquals(0, mode.offsetSize);
+        assertFalse(mode.indirect);
+
+        mode = IndexedMode.get(0x6F);
+        assertEquals(15, mode.amount);
+        assertEquals(3, mode.register);
+    }
+
+    @Test
+    public void testRegisterSelectedByBitsFiveAndSix() {
+        assertEquals(0, IndexedMode.get(0x84).register);
+        assertEquals(1, IndexedMode.get(0xA4).register);
+        assertEquals(2, IndexedMode.get(0xC4).register);
+        assertEquals(3, IndexedMode.get(0xE4).register);
+    }
+
+    @Test
+    public void testAutoIncrementAndDecrement() {
+        IndexedMode mode = IndexedMode.get(0x81);
+        assertEquals(IndexedMode.POST_INCREMENT, mode.kind);
+        assertEquals(2, mode.amount);
+        assertFalse(mode.indirect);
+
+        mode = IndexedMode.get(0x93);
+        assertEquals(IndexedMode.PRE_DECREMENT, mode.kind);
+        assertEquals(2, mode.amount);
+        assertTrue(mode.indirect);
+    }
+
+    @Test
+    public void testOffsetSizesMatchDecoder() throws MalformedInstructionException {
+        assertEquals(1, IndexedMode.get(0x88).offsetSize);
+        assertEquals(2, IndexedMode.get(0xB9).offsetSize);
+        assertEquals(1, IndexedMode.get(0x8C).offsetSize);
+        assertEquals(2, IndexedMode.get(0x9F).offsetSize);
+        assertEquals(IndexedMode.EXTENDED, IndexedMode.get(0x9F).kind);
+        assertEquals(2, Instruction.getIndexedOffsetSize(0x9D));
+    }
+
+    @Test
+    public void testExtraCyclesFollowIndexedChart() {
+        /* postbyte, extra cycles - ,R+ ,R++ ,-R ,--R ,R B,R A,R n8,R n16,R D,R n8,PC n16,PC n5,R */
+        int [][] chart = {
+                {0x80, 2}, {0x81, 3}, {0x82, 2}, {0x83, 3}, {0x84, 0}, {0x85, 1}, {0x86, 1},
+                {0x88, 1}, {0x89, 4}, {0x8B, 4}, {0x8C, 1}, {0x8D, 5}, {0x01, 1}, {0x7F, 1}
+        };
+        for (int [] entry : chart) {
+            assertEquals(entry[1], IndexedMode.get(entry[0]).extraCycles);
+        }
+    }
+
+    @Test
+    public void testIndirectModesAddThreeCycles() {
+        int [] direct = {0x81, 0x83, 0x84, 0x85, 0x86, 0x88, 0x89, 0x8B, 0x8C, 0x8D};
+        for (int postByte : direct) {
+            assertEquals(IndexedMode.get(postByte).extraCycles + 3, IndexedMode.get(postByte | 0x10).extraCycles);
+        }
+        assertEquals(5, IndexedMode.get(0x9F).extraCycles);
+    }
+
+    @Test
+    public void testInvalidPostbytesHaveNoMode() {
+        int [] invalid = {0x87, 0x8A, 0x8E, 0x8F, 0x90, 0x92, 0x97, 0x9A, 0x9E, 0xF7};
+        for (int postByte : invalid) {
+            assertNull(IndexedMode.get(postByte));
+        }
+    }
+
+    @Test(expected = MalformedInstructionException.class)
+    public void testInvalidPostbyteThrowsOnDecode() throws MalformedInstructionException {
+        Instruction.getIndexedOffsetSize(0x87);
+    }
+}
@@ -15,6 +15,7 @@ import static org.junit.Assert.*;
 public class InstructionTest {
     private IOController io;
     private RegisterSet regs;
+    private DecodeContext context;
 
     @Before
     public void setUp() {
@@ -23,7 +24,8 @@ public class InstructionTest {
         regs = new RegisterSet();
         Memory memory = new Memory();
         io = new IOController(memory, regs, new EmulatedKeyboard(), screen, cassette, false);
-        io.regs.pc.set(0);
+        io.regs.setPC(0);
+        context = new DecodeContext();
     }
 
     @After
@@ -35,26 +37,26 @@ public class InstructionTest {
     public void testGetImmediateByteCorrect() {
         Instruction instruction = new ByteRegisterInstruction(0x85, 2, "BITA", IMMEDIATE, ByteRegisterInstruction::bitTest, Register.A);
         io.writeWord(0x1234, 0xAABB);
-        regs.pc.set(0x1234);
-        instruction.getImmediate(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xAA, instruction.byteRead.get());
-        assertEquals(0xAABB, instruction.wordRead.get());
-        assertEquals(0x1235, regs.pc.get());
-        assertEquals(0x1234, instruction.addressRead.get());
+        regs.setPC(0x1234);
+        instruction.getImmediate(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xAA, context.byteRead);
+        assertEquals(0xAABB, context.wordRead);
+        assertEquals(0x1235, regs.getPC());
+        assertEquals(0x1234, context.addressRead);
     }
 
     @Test
     public void testGetImmediateWordCorrect() {
         Instruction instruction = new WordRegisterInstruction(0x8E, 3, "LDX",  IMMEDIATE, WordRegisterInstruction::loadWordRegister, Register.X);
         io.writeWord(0x1234, 0xAABB);
-        regs.pc.set(0x1234);
-        instruction.getImmediate(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xAA, instruction.byteRead.get());
-        assertEquals(0xAABB, instruction.wordRead.get());
-        assertEquals(0x1236, regs.pc.get());
-        assertEquals(0x1234, instruction.addressRead.get());
+        regs.setPC(0x1234);
+        instruction.getImmediate(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xAA, context.byteRead);
+        assertEquals(0xAABB, context.wordRead);
+        assertEquals(0x1236, regs.getPC());
+        assertEquals(0x1234, context.addressRead);
     }
 
     @Test
@@ -63,14 +65,14 @@ public class InstructionTest {
         io.writeByte(0x00BE, 0xCD);
         io.writeByte(0xABCD, 0xFF);
         io.writeByte(0xABCE, 0xEE);
-        regs.pc.set(0xBE);
-        regs.dp.set(0xAB);
-        instruction.getDirect(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xFF, instruction.byteRead.get());
-        assertEquals(0xFFEE, instruction.wordRead.get());
-        assertEquals(0x00BF, regs.pc.get());
-        assertEquals(0xABCD, instruction.addressRead.get());
+        regs.setPC(0xBE);
+        regs.setDP(0xAB);
+        instruction.getDirect(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xFF, context.byteRead);
+        assertEquals(0xFFEE, context.wordRead);
+        assertEquals(0x00BF, regs.getPC());
+        assertEquals(0xABCD, context.addressRead);
     }
 
     @Test
@@ -79,403 +81,420 @@ public class InstructionTest {
         instruction.isByteSized = false;
         io.writeWord(0x1234, 0xABCD);
         io.writeWord(0xABCD, 0xDEAD);
-        regs.pc.set(0x1234);
-        instruction.getExtended(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x1236, regs.pc.get());
-        assertEquals(0xABCD, instruction.addressRead.get());
+        regs.setPC(0x1234);
+        instruction.getExtended(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x1236, regs.getPC());
+        assertEquals(0xABCD, context.addressRead);
     }
 
     @Test
     public void testGetIndexedZeroOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0xB000, 0xAABB);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xAA, instruction.byteRead.get());
-        assertEquals(0xAABB, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, instruction.addressRead.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xAA, context.byteRead);
+        assertEquals(0xAABB, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, context.addressRead);
     }
 
     @Test
     public void testGetIndexedZeroOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0xB000, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
         io.writeByte(0x0000, 0x94);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
     }
 
     @Test
     public void testGetIndexed5BitPositiveOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0xB001, 0xDEAD);
         io.writeByte(0x0000, 0x01);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB001, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB001, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
     }
 
     @Test
     public void testGetIndexed5BitNegativeOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x1F);
         io.writeWord(0xAFFF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xAFFF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xAFFF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
     }
 
     @Test
     public void testGetIndexedRPostIncrement() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x80);
         io.writeWord(0xB000, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB000, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB001, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB000, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB001, regs.getX());
     }
 
     @Test
     public void testGetIndexedRPostIncrementTwice() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x81);
         io.writeWord(0xB000, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB000, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB002, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB000, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB002, regs.getX());
     }
 
     @Test
     public void testGetIndexedRPostIncrementTwiceIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x91);
         io.writeWord(0xB000, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB002, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB002, regs.getX());
     }
 
     @Test
     public void testGetIndexedRDecrement() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x82);
         io.writeWord(0xAFFF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xAFFF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xAFFF, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xAFFF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xAFFF, regs.getX());
     }
 
     @Test
     public void testGetIndexedRDecrementTwice() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x83);
         io.writeWord(0xAFFE, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xAFFE, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xAFFE, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xAFFE, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xAFFE, regs.getX());
     }
 
     @Test
     public void testGetIndexedRDecrementTwiceIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x93);
         io.writeWord(0xAFFE, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xAFFE, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xAFFE, regs.getX());
     }
 
     @Test
     public void testGetIndexedROnly() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x84);
         io.writeWord(0xB000, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB000, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB000, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithBOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
-        regs.b.set(0x0B);
+        regs.setX(0xB000);
+        regs.setB(0x0B);
         io.writeByte(0x0000, 0x85);
         io.writeWord(0xB00B, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB00B, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB00B, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithBOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
-        regs.b.set(0x0B);
+        regs.setX(0xB000);
+        regs.setB(0x0B);
         io.writeByte(0x0000, 0x95);
         io.writeWord(0xB00B, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithAOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
-        regs.a.set(0x0A);
+        regs.setX(0xB000);
+        regs.setA(0x0A);
         io.writeByte(0x0000, 0x86);
         io.writeWord(0xB00A, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB00A, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB00A, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithAOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
-        regs.a.set(0x0A);
+        regs.setX(0xB000);
+        regs.setA(0x0A);
         io.writeByte(0x0000, 0x96);
         io.writeWord(0xB00A, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed8BitPositiveOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0x0000, 0x8802);
         io.writeWord(0xB002, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xB002, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xB002, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed8BitNegativeOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0x0000, 0x88FE);
         io.writeWord(0xAFFE, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xAFFE, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xAFFE, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed8BitPositiveOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0x0000, 0x9802);
         io.writeWord(0xB002, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed8BitNegativeOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeWord(0x0000, 0x98FE);
         io.writeWord(0xAFFE, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed16BitPositiveOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x89);
         io.writeWord(0x0001, 0x0200);
         io.writeWord(0xB200, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xB200, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xB200, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
+        assertEquals(0xB000, regs.getX());
+    }
+
+    @Test
+    public void testIndexedTicksAddExtraCyclesFromTable() throws MalformedInstructionException {
+        Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
+        regs.setX(0xB000);
+        io.writeByte(0x0000, 0x84);
+        instruction.getIndexed(io, context);
+        assertEquals(0, context.indexedCycles);
+        assertEquals(4, instruction.call(io, context));
+
+        io.regs.setPC(0);
+        io.writeByte(0x0000, 0x99);
+        io.writeWord(0x0001, 0x0200);
+        instruction.getIndexed(io, context);
+        assertEquals(7, context.indexedCycles);
+        assertEquals(11, instruction.call(io, context));
     }
 
     @Test
     public void testGetIndexed16BitNegativeOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x89);
         io.writeWord(0x0001, 0xFE00);
         io.writeWord(0xAE00, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xAE00, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xAE00, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed16BitPositiveOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x99);
         io.writeWord(0x0001, 0x0200);
         io.writeWord(0xB200, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexed16BitNegativeOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         io.writeByte(0x0000, 0x99);
         io.writeWord(0x0001, 0xFE00);
         io.writeWord(0xAE00, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithDOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         regs.setD(0x0200);
         io.writeByte(0x0000, 0x8B);
         io.writeWord(0xB200, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xB200, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xB200, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
     public void testGetIndexedRWithDOffsetIndirect() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.x.set(0xB000);
+        regs.setX(0xB000);
         regs.setD(0x0200);
         io.writeByte(0x0000, 0x9B);
         io.writeWord(0xB200, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(1, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0001, regs.pc.get());
-        assertEquals(0xB000, regs.x.get());
+        instruction.getIndexed(io, context);
+        assertEquals(1, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0001, regs.getPC());
+        assertEquals(0xB000, regs.getX());
     }
 
     @Test
@@ -483,26 +502,26 @@ public class InstructionTest {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
         io.writeWord(0x0000, 0x8C0A);
         io.writeWord(0x000C, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0x000C, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0x000C, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testGetIndexedPCWith8BitNegativeOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.pc.set(0x000A);
+        regs.setPC(0x000A);
         io.writeWord(0x000A, 0x8CFC);
         io.writeWord(0x0008, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0x0008, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x000C, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0x0008, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x000C, regs.getPC());
     }
 
     @Test
@@ -511,27 +530,27 @@ public class InstructionTest {
         io.writeWord(0x0000, 0x9C0A);
         io.writeWord(0x000C, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0002, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testGetIndexedPCWith8BitNegativeOffsetIndexed() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.pc.set(0x000A);
+        regs.setPC(0x000A);
         io.writeWord(0x000A, 0x9CFC);
         io.writeWord(0x0008, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(2, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x000C, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(2, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x000C, regs.getPC());
     }
 
     @Test
@@ -540,27 +559,27 @@ public class InstructionTest {
         io.writeByte(0x0000, 0x8D);
         io.writeWord(0x0001, 0x0200);
         io.writeWord(0x0203, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0x0203, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0x0203, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
     }
 
     @Test
     public void testGetIndexedPCWith16BitNegativeOffset() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.pc.set(0xA000);
+        regs.setPC(0xA000);
         io.writeByte(0xA000, 0x8D);
         io.writeWord(0xA001, 0xFE00);
         io.writeWord(0x9E03, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0x9E03, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0xA003, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0x9E03, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0xA003, regs.getPC());
     }
 
     @Test
@@ -570,28 +589,28 @@ public class InstructionTest {
         io.writeWord(0x0001, 0x0200);
         io.writeWord(0x0203, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
     }
 
     @Test
     public void testGetIndexedPCWith16BitNegativeOffsetIndexed() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
-        regs.pc.set(0xA000);
+        regs.setPC(0xA000);
         io.writeByte(0xA000, 0x9D);
         io.writeWord(0xA001, 0xFE00);
         io.writeWord(0x9E03, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0xA003, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0xA003, regs.getPC());
     }
 
     @Test
@@ -601,25 +620,25 @@ public class InstructionTest {
         io.writeWord(0x0001, 0xB000);
         io.writeWord(0xB000, 0xBEEF);
         io.writeWord(0xBEEF, 0xDEAD);
-        instruction.getIndexed(io);
-        assertEquals(3, instruction.numBytesRead);
-        assertEquals(0xBEEF, instruction.addressRead.get());
-        assertEquals(0xDE, instruction.byteRead.get());
-        assertEquals(0xDEAD, instruction.wordRead.get());
-        assertEquals(0x0003, regs.pc.get());
+        instruction.getIndexed(io, context);
+        assertEquals(3, context.numBytesRead);
+        assertEquals(0xBEEF, context.addressRead);
+        assertEquals(0xDE, context.byteRead);
+        assertEquals(0xDEAD, context.wordRead);
+        assertEquals(0x0003, regs.getPC());
     }
 
     @Test(expected = MalformedInstructionException.class)
     public void testGetIndexedIllegalPostByteExceptionOnRPostIncrement() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
         io.writeByte(0x0000, 0x90);
-        instruction.getIndexed(io);
+        instruction.getIndexed(io, context);
     }
 
     @Test(expected = MalformedInstructionException.class)
     public void testGetIndexedIllegalPostByteExceptionOnRPostDecrement() throws MalformedInstructionException {
         Instruction instruction = new ByteInstruction(0x6F, 4, "CLRM", INDEXED, ByteInstruction::clear);
         io.writeByte(0x0000, 0x92);
-        instruction.getIndexed(io);
+        instruction.getIndexed(io, context);
     }
 }
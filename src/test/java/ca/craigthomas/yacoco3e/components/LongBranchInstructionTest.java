@@ -37,14 +37,14 @@ public class LongBranchInstructionTest {
     public void testLongBranchNeverDoesNothing() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x1021);
         cpu.executeInstruction();
-        assertEquals(0x4, regs.pc.get());
+        assertEquals(0x4, regs.getPC());
     }
     @Test
     public void testLongBranchAlways() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x16);
         io.writeWord(0x0001, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0022, regs.pc.get());
+        assertEquals(0x0022, regs.getPC());
     }
 
     @Test
@@ -52,7 +52,7 @@ public class LongBranchInstructionTest {
         io.writeByte(0x0000, 0x16);
         io.writeWord(0x0001, 0xFFFD);
         cpu.executeInstruction();
-        assertEquals(0x0000, regs.pc.get());
+        assertEquals(0x0000, regs.getPC());
     }
 
     @Test
@@ -60,25 +60,25 @@ public class LongBranchInstructionTest {
         io.writeByte(0x0000, 0x16);
         io.writeWord(0x0001, 0xFFFC);
         cpu.executeInstruction();
-        assertEquals(0xFFFF, regs.pc.get());
+        assertEquals(0xFFFF, regs.getPC());
     }
 
     @Test
     public void testLongBranchAlwaysSimpleCaseWorksCorrectly() throws MalformedInstructionException {
-        regs.pc.set(0x0009);
+        regs.setPC(0x0009);
         io.writeByte(0x0009, 0x16);
         io.writeWord(0x000A, 0x007F);
         cpu.executeInstruction();
-        assertEquals(0x008B, regs.pc.get());
+        assertEquals(0x008B, regs.getPC());
     }
 
     @Test
     public void testBranchAlwaysSimpleNegativeNumber() throws MalformedInstructionException {
-        regs.pc.set(0x0056);
+        regs.setPC(0x0056);
         io.writeByte(0x0056, 0x16);
         io.writeWord(0x0057, 0xFFAA);
         cpu.executeInstruction();
-        assertEquals(0x0003, regs.pc.get());
+        assertEquals(0x0003, regs.getPC());
     }
 
     @Test
@@ -86,29 +86,29 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1021);
         io.writeWord(0x0002, 0x00FF);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchSubroutine1() throws MalformedInstructionException {
-        io.regs.s.set(0x3000);
-        io.regs.pc.set(0x1000);
+        io.regs.setS(0x3000);
+        io.regs.setPC(0x1000);
         io.writeByte(0x1000, 0x17);
         io.writeWord(0x1001, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x1022, regs.pc.get());
+        assertEquals(0x1022, regs.getPC());
         assertEquals(0x03, memory.readByte(0x2FFF).get());
         assertEquals(0x10, memory.readByte(0x2FFE).get());
     }
 
     @Test
     public void testLongBranchSubroutineNegativeOffsetCorrect() throws MalformedInstructionException {
-        regs.s.set(0x3000);
-        regs.pc.set(0x1021);
+        regs.setS(0x3000);
+        regs.setPC(0x1021);
         io.writeByte(0x1021, 0x17);
         io.writeWord(0x1022, 0xFFDC);
         cpu.executeInstruction();
-        assertEquals(0x1000, regs.pc.get());
+        assertEquals(0x1000, regs.getPC());
         assertEquals(0x24, memory.readByte(0x2FFF).get());
         assertEquals(0x10, memory.readByte(0x2FFE).get());
     }
@@ -118,25 +118,25 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1022);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnHighNotCalledWhenCarrySet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_C);
+        io.regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1022);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnHighNotCalledWhenZeroSet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_Z);
+        io.regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x1022);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -144,45 +144,45 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1023);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLowerCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_C);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1023);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLowerCalledWhenCarryAndZeroSet() throws MalformedInstructionException {
-        io.regs.cc.or(CC_Z);
-        io.regs.cc.or(CC_C);
+        io.regs.orCC(CC_Z);
+        io.regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1023);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLowerCalledCorrectWithZeroOnly() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x1023);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLowerCalledCorrectWithCarryOnly() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1023);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -190,25 +190,25 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1024);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnCarryClearDoesNotBranchIfCarrySet() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1024);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnCarrySetCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_C);
+        regs.orCC(CC_C);
         io.writeWord(0x0000, 0x1025);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -216,7 +216,7 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1025);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -224,25 +224,25 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1026);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnNotEqualDoesNotBranchIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x1026);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnEqualCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x1027);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -250,7 +250,7 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1027);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -258,25 +258,25 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1028);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnOverflowClearDoesNotBranchIfOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x1028);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnOverflowSetCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x1029);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -284,7 +284,7 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x1029);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -292,25 +292,25 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102A);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnPlusDoesNotBranchIfNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102A);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnMinusCalledCorrect() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102B);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -318,7 +318,7 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102B);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -326,35 +326,35 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102C);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanEqualZeroCalledIfNegativeSetOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102C);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanEqualZeroDoesNotBranchIfNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102C);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanEqualZeroDoesNotBranchIfOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102C);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -362,93 +362,93 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102D);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroNotCalledIfNegativeSetOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102D);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102D);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102D);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroNotCalledIfZeroOverflowClearNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
@@ -456,75 +456,75 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnGreaterThanZeroCalledIfZeroClearOverflowNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_V);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102E);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
+        regs.orCC(CC_Z);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroNegativeSetOverflowClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_N);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroOverflowSetNegativeClear() throws MalformedInstructionException {
-        regs.cc.or(CC_Z);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_Z);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroNegativeClearOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_V);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroCalledIfZeroOverflowClearNegativeSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
+        regs.orCC(CC_N);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0023, regs.pc.get());
+        assertEquals(0x0023, regs.getPC());
     }
 
     @Test
@@ -532,16 +532,16 @@ public class LongBranchInstructionTest {
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 
     @Test
     public void testLongBranchOnLessThanZeroNotCalledIfZeroClearNegativeOverflowSet() throws MalformedInstructionException {
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
         io.writeWord(0x0000, 0x102F);
         io.writeWord(0x0002, 0x001F);
         cpu.executeInstruction();
-        assertEquals(0x0004, regs.pc.get());
+        assertEquals(0x0004, regs.getPC());
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.UnsignedByte;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.*;
+import static org.junit.Assert.*;
+
+public class MachineTest
+{
+    private Machine machine;
+    private IOController io;
+
+    /* Waits for a horizontal sync interrupt from PIA 1:
+     *
+     *   4000  LDA #$05
+     *   4002  STA $FF01
+     *   4005  SYNC
+     *   4006  BRA $4005
+     */
+    private static final int [] PROGRAM = {
+            0x86, 0x05, 0xB7, 0xFF, 0x01, 0x13, 0x20, 0xFD
+    };
+
+    @Before
+    public void setUp() {
+        machine = new Machine(1, false);
+        machine.reset();
+        machine.getMemory().enableAllRAMMode();
+        for (int i = 0; i < PROGRAM.length; i++) {
+            machine.getMemory().writeByte(0x4000 + i, PROGRAM[i]);
+        }
+        io = machine.getIOController();
+        io.regs.setPC(0x4005);
+    }
+
+    @After
+    public void tearDown() {
+        io.shutdown();
+    }
+
+    @Test
+    public void testWaitAdvancesToNextTimerEvent() throws MalformedInstructionException {
+        machine.step();
+        assertTrue(io.waitForIRQ);
+        int expected = io.ticksUntilNextEvent();
+        int timerEvents = io.timerEvents;
+        assertEquals(expected, machine.step());
+        assertTrue(io.timerEvents > timerEvents);
+        assertTrue(io.waitForIRQ);
+    }
+
+    @Test
+    public void testWaitStopsAtBudget() throws MalformedInstructionException {
+        machine.step();
+        assertTrue(io.ticksUntilNextEvent() > 3);
+        int timerEvents = io.timerEvents;
+        assertEquals(3, machine.step(3));
+        assertEquals(timerEvents, io.timerEvents);
+        assertTrue(io.waitForIRQ);
+    }
+
+    @Test
+    public void testSyncWakesOnHorizontalSyncInterrupt() throws MalformedInstructionException {
+        io.regs.setPC(0x4000);
+        io.regs.setCC(0);
+        io.regs.setS(0x7000);
+        while (!io.waitForIRQ) {
+            machine.step();
+        }
+        assertEquals(0x4006, io.regs.getPC());
+
+        int steps = 0;
+        long start = machine.getTotalCycles();
+        while (io.waitForIRQ) {
+            machine.step();
+            steps++;
+        }
+        assertTrue(steps <= 2);
+        assertTrue(machine.getTotalCycles() - start <= IOController.TIMER_63_5_MICROS);
+        assertEquals(0x7000 - 12, io.regs.getS());
+        assertTrue(io.regs.isCCMasked(CC_I));
+    }
+
+    @Test
+    public void testScanlineSyncDisabledByDefault() {
+        assertFalse(machine.isScanlineSyncEnabled());
+        machine.setScanlineSyncEnabled(true);
+        assertTrue(machine.isScanlineSyncEnabled());
+    }
+
+    @Test
+    public void testMachineStartsWithNoKeysPressed() {
+        assertTrue(machine.getKeyboard() instanceof IdleKeyboard);
+        machine.getKeyboard().setLowByte(0x00);
+        assertEquals(new UnsignedByte(0xFF), machine.getKeyboard().getHighByte());
+    }
+
+    @Test
+    public void testFrameBufferReadsBackBufferPixels() {
+        String blank = machine.getScreenHash();
+        assertEquals(blank, machine.getScreenHash());
+        FrameBuffer frame = machine.getScreen().getFrameBuffer();
+        assertEquals(machine.getScreen().getBackBuffer().getWidth(), frame.getWidth());
+        assertEquals(machine.getScreen().getBackBuffer().getHeight(), frame.getHeight());
+        machine.getScreen().getBackBuffer().setRGB(0, 0, 0xFF123456);
+        assertEquals(0x123456, frame.getRGB(0, 0));
+    }
+
+    @Test
+    public void testScanlineSyncDrawsWholeScreenEachFrame() throws MalformedInstructionException {
+        machine.setScanlineSyncEnabled(true);
+        for (int i = 0; i < 0x2000; i++) {
+            machine.getMemory().memory[0x70000 + i] = (byte) i;
+        }
+        long start = machine.getTotalCycles();
+        machine.runFrame();
+        machine.runFrame();
+        long cycles = machine.getTotalCycles() - start;
+        assertTrue(Math.abs(cycles - 2L * io.tickRefreshAmount) <= IOController.TIMER_63_5_MICROS);
+
+        BufferedImage lines = machine.getScreen().getBackBuffer();
+        int [] scanlinePixels = lines.getRGB(0, 0, lines.getWidth(), lines.getHeight(), null, 0, lines.getWidth());
+        machine.getScreen().refreshScreen();
+        BufferedImage full = machine.getScreen().getBackBuffer();
+        assertArrayEquals(full.getRGB(0, 0, full.getWidth(), full.getHeight(), null, 0, full.getWidth()), scanlinePixels);
+    }
+
+    @Test
+    public void testFusedPairTakesIRQAtSameBoundaryAsInterpreter() throws MalformedInstructionException {
+        int [] stackedPCs = new int[2];
+        for (int run = 0; run < 2; run++) {
+            machine.reset();
+            machine.getMemory().enableAllRAMMode();
+            machine.setFusionEnabled(run == 0);
+
+            /* 4000  LDA #$42
+             * 4002  STA $6000
+             */
+            int [] pair = {0x86, 0x42, 0xB7, 0x60, 0x00};
+            for (int i = 0; i < pair.length; i++) {
+                machine.getMemory().writeByte(0x4000 + i, pair[i]);
+            }
+            io.regs.setPC(0x4000);
+            io.regs.setS(0x7000);
+            io.regs.setCC(0);
+            io.writeByte(0xFF01, 0x01);
+
+            /* Horizontal sync falls due part way through the LDA */
+            io.events.setElapsed(EventQueue.PIA1A_TIMER, IOController.TIMER_63_5_MICROS - 2);
+            machine.step();
+            stackedPCs[run] = io.read16(io.regs.getS() + 10);
+        }
+        assertEquals(0x4002, stackedPCs[1]);
+        assertEquals(stackedPCs[1], stackedPCs[0]);
+    }
+}
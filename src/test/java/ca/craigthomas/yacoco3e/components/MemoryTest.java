@@ -26,7 +26,7 @@ public class MemoryTest
 
     @Test
     public void testReadByteReadsCorrectByte() {
-        memory.memory[0x7BEEF] = 0xAB;
+        memory.memory[0x7BEEF] = (byte) 0xAB;
         UnsignedByte result = memory.readByte(new UnsignedWord(0xBEEF));
         assertEquals(new UnsignedByte(0xAB), result);
     }
@@ -34,7 +34,52 @@ public class MemoryTest
     @Test
     public void testWriteByteWritesCorrectByte() {
         memory.writeByte(new UnsignedWord(0xBEEF), new UnsignedByte(0xAB));
-        assertEquals(0xAB, memory.memory[0x7BEEF]);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
+    }
+
+    @Test
+    public void testRead8ReadsCorrectByte() {
+        memory.memory[0x7BEEF] = (byte) 0xAB;
+        assertEquals(0xAB, memory.read8(0xBEEF));
+    }
+
+    @Test
+    public void testWrite8WritesCorrectByte() {
+        memory.write8(0xBEEF, 0xAB);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
+    }
+
+    @Test
+    public void testWrite8MasksValueToByte() {
+        memory.write8(0xBEEF, 0x1AB);
+        assertEquals(0xAB, memory.memory[0x7BEEF] & 0xFF);
+    }
+
+    @Test
+    public void testRead8FollowsActivePARSet() {
+        memory.setTaskPAR(0, new UnsignedByte(0x10));
+        memory.memory[0x20012] = (byte) 0xAB;
+        memory.memory[0x70012] = (byte) 0xCD;
+        assertEquals(0xCD, memory.read8(0x0012));
+
+        memory.enableTaskPAR();
+        assertEquals(0xAB, memory.read8(0x0012));
+
+        memory.disableMMU();
+        assertEquals(0xCD, memory.read8(0x0012));
+    }
+
+    @Test
+    public void testWrite8InROMModeWritesToRAM() {
+        memory.disableAllRAMMode();
+        memory.setROMMode(new UnsignedByte(0x2));
+        memory.rom[0] = (byte) 0xCE;
+        memory.write8(0x8000, 0xAB);
+        assertEquals(0xAB, memory.memory[0x78000] & 0xFF);
+        assertEquals(0xCE, memory.read8(0x8000));
+
+        memory.enableAllRAMMode();
+        assertEquals(0xAB, memory.read8(0x8000));
     }
 
     @Test
@@ -115,8 +160,8 @@ public class MemoryTest
     @Test
     public void testReadPhysicalByteReadsFromRAMOnly() {
         memory.enableAllRAMMode();
-        memory.memory[0x78000] = 0xBE;
-        memory.rom[0] = 0xCE;
+        memory.memory[0x78000] = (byte) 0xBE;
+        memory.rom[0] = (byte) 0xCE;
         assertEquals(0xBE, memory.readPhysicalByte(new UnsignedWord(0x8000)));
     }
 
@@ -126,27 +171,27 @@ public class MemoryTest
         memory.setROMMode(new UnsignedByte(0x2));
 
         /* First 8K segment */
-        memory.memory[0x78000] = 0xBE;
-        memory.rom[0] = 0xCE;
+        memory.memory[0x78000] = (byte) 0xBE;
+        memory.rom[0] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0x8000)));
 
         /* Second 8K segment */
-        memory.memory[0x7A000] = 0xBE;
-        memory.rom[0x2000] = 0xCE;
+        memory.memory[0x7A000] = (byte) 0xBE;
+        memory.rom[0x2000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xA000)));
 
         /* Third 8K segment */
-        memory.memory[0x7C000] = 0xBE;
-        memory.rom[0x4000] = 0xCE;
+        memory.memory[0x7C000] = (byte) 0xBE;
+        memory.rom[0x4000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xC000)));
 
         /* Fourth 8K segment */
-        memory.memory[0x7E000] = 0xBE;
-        memory.rom[0x6000] = 0xCE;
+        memory.memory[0x7E000] = (byte) 0xBE;
+        memory.rom[0x6000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xE000)));
 
         /* Anything Else */
-        memory.memory[0x74000] = 0xBE;
+        memory.memory[0x74000] = (byte) 0xBE;
         assertEquals(0xBE, memory.readPhysicalByte(new UnsignedWord(0x4000)));
     }
 
@@ -156,27 +201,27 @@ public class MemoryTest
         memory.setROMMode(new UnsignedByte(0x3));
 
         /* First 8K segment */
-        memory.memory[0x78000] = 0xBE;
-        memory.cartROM[0] = 0xCE;
+        memory.memory[0x78000] = (byte) 0xBE;
+        memory.cartROM[0] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0x8000)));
 
         /* Second 8K segment */
-        memory.memory[0x7A000] = 0xBE;
-        memory.cartROM[0x2000] = 0xCE;
+        memory.memory[0x7A000] = (byte) 0xBE;
+        memory.cartROM[0x2000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xA000)));
 
         /* Third 8K segment */
-        memory.memory[0x7C000] = 0xBE;
-        memory.cartROM[0x4000] = 0xCE;
+        memory.memory[0x7C000] = (byte) 0xBE;
+        memory.cartROM[0x4000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xC000)));
 
         /* Fourth 8K segment */
-        memory.memory[0x7E000] = 0xBE;
-        memory.cartROM[0x6000] = 0xCE;
+        memory.memory[0x7E000] = (byte) 0xBE;
+        memory.cartROM[0x6000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xE000)));
 
         /* Anything Else */
-        memory.memory[0x74000] = 0xBE;
+        memory.memory[0x74000] = (byte) 0xBE;
         assertEquals(0xBE, memory.readPhysicalByte(new UnsignedWord(0x4000)));
     }
 
@@ -186,27 +231,27 @@ public class MemoryTest
         memory.setROMMode(new UnsignedByte(0x1));
 
         /* First 8K segment */
-        memory.memory[0x78000] = 0xBE;
-        memory.rom[0] = 0xCE;
+        memory.memory[0x78000] = (byte) 0xBE;
+        memory.rom[0] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0x8000)));
 
         /* Second 8K segment */
-        memory.memory[0x7A000] = 0xBE;
-        memory.rom[0x2000] = 0xCE;
+        memory.memory[0x7A000] = (byte) 0xBE;
+        memory.rom[0x2000] = (byte) 0xCE;
         assertEquals(0xCE, memory.readPhysicalByte(new UnsignedWord(0xA000)));
 
         /* Third 8K segment */
-        memory.memory[0x7C000] = 0xBE;
-        memory.cartROM[0x0000] = 0xDE;
+        memory.memory[0x7C000] = (byte) 0xBE;
+        memory.cartROM[0x0000] = (byte) 0xDE;
         assertEquals(0xDE, memory.readPhysicalByte(new UnsignedWord(0xC000)));
 
         /* Fourth 8K segment */
-        memory.memory[0x7E000] = 0xBE;
-        memory.cartROM[0x2000] = 0xDE;
+        memory.memory[0x7E000] = (byte) 0xBE;
+        memory.cartROM[0x2000] = (byte) 0xDE;
         assertEquals(0xDE, memory.readPhysicalByte(new UnsignedWord(0xE000)));
 
         /* Anything Else */
-        memory.memory[0x74000] = 0xBE;
+        memory.memory[0x74000] = (byte) 0xBE;
         assertEquals(0xBE, memory.readPhysicalByte(new UnsignedWord(0x4000)));
     }
 
@@ -216,28 +261,144 @@ public class MemoryTest
         memory.setROMMode(new UnsignedByte(0x1));
 
         /* First 8K segment */
-        memory.rom[0] = 0xCE;
+        memory.rom[0] = (byte) 0xCE;
         memory.writeByte(new UnsignedWord(0x8000), new UnsignedByte(0xAA));
         assertEquals(new UnsignedByte(0xCE), memory.readByte(new UnsignedWord(0x8000)));
 
         /* Second 8K segment */
-        memory.rom[0x2000] = 0xCE;
+        memory.rom[0x2000] = (byte) 0xCE;
         memory.writeByte(new UnsignedWord(0xA000), new UnsignedByte(0xAA));
         assertEquals(new UnsignedByte(0xCE), memory.readByte(new UnsignedWord(0xA000)));
 
         /* Third 8K segment */
-        memory.cartROM[0x0000] = 0xDE;
+        memory.cartROM[0x0000] = (byte) 0xDE;
         memory.writeByte(new UnsignedWord(0xC000), new UnsignedByte(0xAA));
         assertEquals(new UnsignedByte(0xDE), memory.readByte(new UnsignedWord(0xC000)));
 
         /* Fourth 8K segment */
-        memory.cartROM[0x2000] = 0xDE;
+        memory.cartROM[0x2000] = (byte) 0xDE;
         memory.writeByte(new UnsignedWord(0xE000), new UnsignedByte(0xAA));
         assertEquals(new UnsignedByte(0xDE), memory.readByte(new UnsignedWord(0xE000)));
 
         /* Anything Else */
-        memory.memory[0x74000] = 0xBE;
+        memory.memory[0x74000] = (byte) 0xBE;
         memory.writeByte(new UnsignedWord(0x4000), new UnsignedByte(0xAA));
         assertEquals(0xAA, memory.readPhysicalByte(new UnsignedWord(0x4000)));
     }
+
+    @Test
+    public void testGetCodeAddressDistinguishesRAMAndROM() {
+        memory.enableAllRAMMode();
+        assertEquals(0x78000, memory.getCodeAddress(0x8000));
+        memory.disableAllRAMMode();
+        memory.setROMMode(new UnsignedByte(0x2));
+        assertEquals(Memory.MEM_512K + 0x0010, memory.getCodeAddress(0x8010));
+        assertEquals(Memory.MEM_512K + 0x6010, memory.getCodeAddress(0xE010));
+        memory.setROMMode(new UnsignedByte(0x3));
+        assertEquals(Memory.MEM_512K + Memory.MEM_32K + 0x0010, memory.getCodeAddress(0x8010));
+        assertEquals(0x74010, memory.getCodeAddress(0x4010));
+    }
+
+    @Test
+    public void testWriteByteInvalidatesDecodeCache() {
+        DecodedInstruction decoded = new DecodedInstruction(new NotImplementedInstruction(0x01), 2, 2, 0, 0);
+        memory.getDecodeCache().put(memory.getCodeAddress(0x4000), decoded);
+        memory.writeByte(0x4001, 0xAA);
+        assertNull(memory.getDecodeCache().get(memory.getCodeAddress(0x4000)));
+    }
+
+    @Test
+    public void testParseRAMSize() {
+        assertEquals(Memory.MEM_128K, Memory.parseRAMSize("128K"));
+        assertEquals(Memory.MEM_512K, Memory.parseRAMSize("512k"));
+        assertEquals(Memory.MEM_2M, Memory.parseRAMSize("2MB"));
+        assertEquals(Memory.MEM_8M, Memory.parseRAMSize("8M"));
+        assertEquals(-1, Memory.parseRAMSize("64K"));
+        assertEquals(-1, Memory.parseRAMSize(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedRAMSizeThrows() {
+        new Memory(0x40000);
+    }
+
+    @Test
+    public void test128KMirrorsUpperPages() {
+        memory = new Memory(Memory.MEM_128K);
+        memory.enableAllRAMMode();
+        memory.setExecutivePAR(2, new UnsignedByte(0x2D));
+        memory.write8(0x4010, 0xAB);
+        assertEquals(0xAB, memory.memory[0x1A010] & 0xFF);
+        assertEquals(0x1A010, memory.getPhysicalAddress(2, 0x4010));
+        assertEquals(0xAB, memory.readPhysicalRAM(0x5A010));
+    }
+
+    @Test
+    public void test2MUsesAllPARBits() {
+        memory = new Memory(Memory.MEM_2M);
+        memory.enableAllRAMMode();
+        memory.setExecutivePAR(2, new UnsignedByte(0xFF));
+        memory.write8(0x4010, 0xAB);
+        assertEquals(0xAB, memory.memory[0x1FE010] & 0xFF);
+        assertEquals(0xAB, memory.read8(0x4010));
+    }
+
+    @Test
+    public void test8MBankRegisterSelectsBank() {
+        memory = new Memory(Memory.MEM_8M);
+        memory.enableAllRAMMode();
+        memory.setBankRegister(0x7);
+        assertEquals(0x3, memory.getBankRegister());
+        memory.setExecutivePAR(2, new UnsignedByte(0x01));
+        memory.setBankRegister(0);
+        memory.setExecutivePAR(3, new UnsignedByte(0x01));
+        memory.write8(0x4010, 0xAB);
+        memory.write8(0x6010, 0xCD);
+        assertEquals(0xAB, memory.memory[0x602010] & 0xFF);
+        assertEquals(0xCD, memory.memory[0x002010] & 0xFF);
+    }
+
+    @Test
+    public void test8MROMOnlyInFirstBank() {
+        memory = new Memory(Memory.MEM_8M);
+        memory.rom = new byte[Memory.MEM_32K];
+        memory.rom[0x10] = (byte) 0x5A;
+        memory.disableAllRAMMode();
+        memory.setROMMode(new UnsignedByte(0x2));
+        memory.setExecutivePAR(4, new UnsignedByte(0x3C));
+        assertEquals(0x5A, memory.read8(0x8010));
+        memory.setBankRegister(1);
+        memory.setExecutivePAR(4, new UnsignedByte(0x3C));
+        memory.memory[0x278010] = (byte) 0x11;
+        assertEquals(0x11, memory.read8(0x8010));
+    }
+
+    @Test
+    public void testResetMarksAllRAMDirty() {
+        assertEquals(Memory.MEM_512K >> DirtyMap.PAGE_SHIFT, memory.getDirtyMap().getDirtyPageCount());
+    }
+
+    @Test
+    public void testWrite8MarksPhysicalPageAndBlockDirty() {
+        memory.getDirtyMap().clear();
+        memory.setExecutivePAR(2, new UnsignedByte(0x10));
+        memory.write8(0x4123, 0xAB);
+        DirtyMap dirtyMap = memory.getDirtyMap();
+        assertEquals(1, dirtyMap.getDirtyPageCount());
+        assertTrue(dirtyMap.isPageDirty(0x10));
+        assertTrue(dirtyMap.isBlockDirty(0x20123 >> DirtyMap.BLOCK_SHIFT));
+        assertFalse(dirtyMap.isBlockDirty((0x20123 >> DirtyMap.BLOCK_SHIFT) + 1));
+    }
+
+    @Test
+    public void testWriteBlockMarksEveryBlockItTouches() {
+        memory.getDirtyMap().clear();
+        memory.writeBlock(0x40FE, new int [] {1, 2, 3, 4}, 4);
+        DirtyMap dirtyMap = memory.getDirtyMap();
+        assertTrue(dirtyMap.isBlockDirty(0x740FE >> DirtyMap.BLOCK_SHIFT));
+        assertTrue(dirtyMap.isBlockDirty(0x74101 >> DirtyMap.BLOCK_SHIFT));
+        assertEquals(0x740, dirtyMap.nextDirtyBlock(0));
+        assertEquals(0x741, dirtyMap.nextDirtyBlock(0x741));
+        assertEquals(-1, dirtyMap.nextDirtyBlock(0x742));
+    }
 }
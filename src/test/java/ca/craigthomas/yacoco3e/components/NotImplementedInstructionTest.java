@@ -27,12 +27,12 @@ public class NotImplementedInstructionTest {
     @Test(expected = MalformedInstructionException.class)
     public void testNotImplementedInstructionThrowsWithUnsupportedRegister() throws MalformedInstructionException {
         NotImplementedInstruction instruction = new NotImplementedInstruction(0);
-        instruction.call(null);
+        instruction.call(null, new DecodeContext());
     }
 
     @Test(expected = MalformedInstructionException.class)
     public void testNotImplementedInstructionThrowsExceptionOnExecute() throws MalformedInstructionException {
         NotImplementedInstruction instruction = new NotImplementedInstruction(0);
-        instruction.execute(io);
+        instruction.execute(io, new DecodeContext());
     }
 }
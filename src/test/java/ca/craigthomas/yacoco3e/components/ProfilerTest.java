@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.AddressingMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProfilerTest
+{
+    private Machine machine;
+
+    /* A loop that sums X-indexed bytes into $6000 forever:
+     *
+     *   4000  LDX #$5000
+     *   4003  CLRA
+     *   4004  ADDA ,X+
+     *   4006  STA $6000
+     *   4009  CMPX #$5008
+     *   400C  BNE $4004
+     *   400E  BRA $4000
+     */
+    private static final int [] PROGRAM = {
+            0x8E, 0x50, 0x00, 0x4F, 0xAB, 0x80, 0xB7, 0x60, 0x00, 0x8C, 0x50, 0x08, 0x26, 0xF6, 0x20, 0xF0
+    };
+
+    @Before
+    public void setUp() {
+        machine = new Machine(1, false);
+        machine.reset();
+        machine.getMemory().enableAllRAMMode();
+        for (int i = 0; i < PROGRAM.length; i++) {
+            machine.getMemory().writeByte(0x4000 + i, PROGRAM[i]);
+        }
+        machine.getIOController().regs.setPC(0x4000);
+    }
+
+    @After
+    public void tearDown() {
+        machine.getIOController().shutdown();
+    }
+
+    @Test
+    public void testProfilerDisabledByDefault() {
+        assertFalse(machine.isProfilerEnabled());
+        assertNull(machine.getProfiler());
+        assertNull(machine.getCPU().getProfiler());
+    }
+
+    @Test
+    public void testOpcodeIndexSeparatesPrefixedOpcodes() {
+        assertEquals(0x86, Profiler.opcodeIndex(0x86));
+        assertEquals(0x18E, Profiler.opcodeIndex(0x108E));
+        assertEquals(0x283, Profiler.opcodeIndex(0x1183));
+    }
+
+    @Test
+    public void testCountsEveryInstructionOfTheLoop() throws MalformedInstructionException {
+        machine.setProfilerEnabled(true);
+        Profiler profiler = machine.getProfiler();
+        for (int i = 0; i < 2 + (8 * 4) + 1; i++) {
+            machine.step();
+        }
+
+        assertEquals(35, profiler.getInstructions());
+        assertEquals(machine.getTotalCycles(), profiler.getCycles());
+        assertEquals(1, profiler.getOpcodeCount(0x8E));
+        assertEquals(8, profiler.getOpcodeCount(0xAB));
+        assertEquals(8, profiler.getOpcodeCount(0xB7));
+        assertEquals(8, profiler.getOpcodeCount(0x8C));
+        assertEquals(8, profiler.getOpcodeCount(0x26));
+        assertEquals(1, profiler.getOpcodeCount(0x20));
+        assertEquals(8, profiler.getPCCount(0x4004));
+        assertEquals(0, profiler.getPCCount(0x4005));
+        assertEquals(8, profiler.getModeCount(AddressingMode.INDEXED));
+        assertEquals(8, profiler.getModeCount(AddressingMode.EXTENDED));
+    }
+
+    @Test
+    public void testCyclesAddUpAcrossEveryView() throws MalformedInstructionException {
+        machine.setProfilerEnabled(true);
+        machine.runFrame();
+        Profiler profiler = machine.getProfiler();
+
+        long opcodeCycles = 0;
+        for (int opcode : new int [] {0x8E, 0x4F, 0xAB, 0xB7, 0x8C, 0x26, 0x20}) {
+            opcodeCycles += profiler.getOpcodeCycles(opcode);
+        }
+        long pcCycles = 0;
+        for (int pc = 0x4000; pc < 0x4010; pc++) {
+            pcCycles += profiler.getPCCycles(pc);
+        }
+        long modeCycles = 0;
+        for (AddressingMode mode : AddressingMode.values()) {
+            modeCycles += profiler.getModeCycles(mode);
+        }
+
+        assertEquals(machine.getTotalCycles(), profiler.getCycles());
+        assertEquals(profiler.getCycles(), opcodeCycles);
+        assertEquals(profiler.getCycles(), pcCycles);
+        assertEquals(profiler.getCycles(), modeCycles);
+    }
+
+    @Test
+    public void testReportListsHottestEntriesFirst() throws MalformedInstructionException {
+        machine.setProfilerEnabled(true);
+        machine.runFrame();
+        String report = machine.getProfiler().getReport(3);
+
+        String opcodes = report.substring(report.indexOf("Opcodes by cycles"), report.indexOf("Addressing modes"));
+        assertTrue(opcodes.indexOf("ADDA") < opcodes.indexOf("LDX") || !opcodes.contains("LDX"));
+        assertEquals(5, opcodes.split("\n").length);
+        assertTrue(report.contains("$4004"));
+    }
+
+    @Test
+    public void testDisablingProfilerDetachesItFromCPU() {
+        machine.setProfilerEnabled(true);
+        assertSame(machine.getProfiler(), machine.getCPU().getProfiler());
+        machine.setProfilerEnabled(false);
+        assertNull(machine.getCPU().getProfiler());
+    }
+}
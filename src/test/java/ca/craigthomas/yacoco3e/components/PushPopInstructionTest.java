@@ -25,7 +25,7 @@ public class PushPopInstructionTest {
         regs = new RegisterSet();
         io = new IOController(memory, regs, new EmulatedKeyboard(), screen, cassette, false);
         cpu = new CPU(io);
-        io.regs.pc.set(0);
+        io.regs.setPC(0);
     }
 
     @After
@@ -35,15 +35,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushPCToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3480);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x36), io.readByte(0xFE));
@@ -63,15 +63,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushUToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3440);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x63), io.readByte(0xFE));
@@ -91,15 +91,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushYToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3420);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xC2), io.readByte(0xFE));
@@ -119,15 +119,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushXToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3410);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x24), io.readByte(0xFE));
@@ -147,15 +147,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushDPToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3408);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xD1), io.readByte(0xFE));
@@ -175,15 +175,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushBToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3404);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xB9), io.readByte(0xFE));
@@ -203,15 +203,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushAToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3402);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xA8), io.readByte(0xFE));
@@ -231,15 +231,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushCCToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x3401);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0xCC), io.readByte(0xFE));
@@ -259,15 +259,15 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushAllRegsToS() throws MalformedInstructionException {
-        regs.s.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.u.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setS(0xFF);
+        regs.setPC(0x1234);
+        regs.setU(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x34FF);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x36), io.readByte(0xFE));
@@ -287,8 +287,8 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPullPCFromS() throws MalformedInstructionException {
-        regs.s.set(0xFD);
-        regs.pc.set(0x1200);
+        regs.setS(0xFD);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -297,21 +297,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3580);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1236), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1236, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(7, ticks);
     }
 
     @Test
     public void testPullUFromS() throws MalformedInstructionException {
-        regs.s.set(0xFB);
-        regs.pc.set(0x1200);
+        regs.setS(0xFB);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -320,21 +320,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3540);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0xE563), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0xE563, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(7, ticks);
     }
 
     @Test
     public void testPullYFromS() throws MalformedInstructionException {
-        regs.s.set(0xF9);
-        regs.pc.set(0x1200);
+        regs.setS(0xF9);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -343,21 +343,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3520);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0xA3C2), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0xA3C2, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(7, ticks);
     }
 
     @Test
     public void testPullXFromS() throws MalformedInstructionException {
-        regs.s.set(0xF7);
-        regs.pc.set(0x1200);
+        regs.setS(0xF7);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -366,21 +366,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3510);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0xF524), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0xF524, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(7, ticks);
     }
 
     @Test
     public void testPullDPFromS() throws MalformedInstructionException {
-        regs.s.set(0xF6);
-        regs.pc.set(0x1200);
+        regs.setS(0xF6);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -389,21 +389,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3508);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0xD1), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0xD1, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(6, ticks);
     }
 
     @Test
     public void testPullBFromS() throws MalformedInstructionException {
-        regs.s.set(0xF5);
-        regs.pc.set(0x1200);
+        regs.setS(0xF5);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -412,21 +412,21 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3504);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0xB9), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0xB9, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getCC());
         assertEquals(6, ticks);
     }
 
     @Test
     public void testPullAFromS() throws MalformedInstructionException {
-        regs.s.set(0xF4);
-        regs.pc.set(0x1200);
+        regs.setS(0xF4);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -435,20 +435,20 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3502);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.dp);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0xA8), regs.a);
-        assertEquals(new UnsignedByte(0x00), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getDP());
+        assertEquals(0, regs.getB());
+        assertEquals(0xA8, regs.getA());
+        assertEquals(0x00, regs.getCC());
     }
 
     @Test
     public void testPullCCFromS() throws MalformedInstructionException {
-        regs.s.set(0xF3);
-        regs.pc.set(0x1200);
+        regs.setS(0xF3);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -457,20 +457,20 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x3501);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1202), regs.pc);
-        assertEquals(new UnsignedWord(0), regs.u);
-        assertEquals(new UnsignedWord(0), regs.y);
-        assertEquals(new UnsignedWord(0), regs.x);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0), regs.b);
-        assertEquals(new UnsignedByte(0), regs.a);
-        assertEquals(new UnsignedByte(0xCC), regs.cc);
+        assertEquals(0x1202, regs.getPC());
+        assertEquals(0, regs.getU());
+        assertEquals(0, regs.getY());
+        assertEquals(0, regs.getX());
+        assertEquals(0, regs.getA());
+        assertEquals(0, regs.getB());
+        assertEquals(0, regs.getA());
+        assertEquals(0xCC, regs.getCC());
     }
 
     @Test
     public void testPullAllRegsFromS() throws MalformedInstructionException {
-        regs.s.set(0xF3);
-        regs.pc.set(0x1200);
+        regs.setS(0xF3);
+        regs.setPC(0x1200);
         io.writeWord(0x00F3, 0xCCA8);
         io.writeWord(0x00F5, 0xB9D1);
         io.writeWord(0x00F7, 0xF524);
@@ -479,28 +479,28 @@ public class PushPopInstructionTest {
         io.writeWord(0x00FD, 0x1236);
         io.writeWord(0x1200, 0x35FF);
         int ticks = cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x1236), regs.pc);
-        assertEquals(new UnsignedWord(0xE563), regs.u);
-        assertEquals(new UnsignedWord(0xA3C2), regs.y);
-        assertEquals(new UnsignedWord(0xF524), regs.x);
-        assertEquals(new UnsignedByte(0xD1), regs.dp);
-        assertEquals(new UnsignedByte(0xB9), regs.b);
-        assertEquals(new UnsignedByte(0xA8), regs.a);
-        assertEquals(new UnsignedByte(0xCC), regs.cc);
+        assertEquals(0x1236, regs.getPC());
+        assertEquals(0xE563, regs.getU());
+        assertEquals(0xA3C2, regs.getY());
+        assertEquals(0xF524, regs.getX());
+        assertEquals(0xD1, regs.getDP());
+        assertEquals(0xB9, regs.getB());
+        assertEquals(0xA8, regs.getA());
+        assertEquals(0xCC, regs.getCC());
         assertEquals(17, ticks);
     }
 
     @Test
     public void testPushAllRegsToU() throws MalformedInstructionException {
-        regs.u.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.s.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setU(0xFF);
+        regs.setPC(0x1234);
+        regs.setS(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
         io.writeWord(0x1234, 0x36FF);
         int ticks = cpu.executeInstruction();
         assertEquals(new UnsignedByte(0x36), io.readByte(0xFE));
@@ -520,37 +520,37 @@ public class PushPopInstructionTest {
 
     @Test
     public void testPushPullRoundTripU() throws MalformedInstructionException {
-        regs.u.set(0xFF);
-        regs.pc.set(0x1234);
-        regs.s.set(0xE563);
-        regs.y.set(0xA3C2);
-        regs.x.set(0xF524);
-        regs.dp.set(0xD1);
-        regs.b.set(0xB9);
-        regs.a.set(0xA8);
-        regs.cc.set(0xCC);
+        regs.setU(0xFF);
+        regs.setPC(0x1234);
+        regs.setS(0xE563);
+        regs.setY(0xA3C2);
+        regs.setX(0xF524);
+        regs.setDP(0xD1);
+        regs.setB(0xB9);
+        regs.setA(0xA8);
+        regs.setCC(0xCC);
 
         io.writeWord(0x1236, 0x37FF);
         io.writeWord(0x1234, 0x36FF);
         cpu.executeInstruction();
 
-        regs.s.set(0x0000);
-        regs.y.set(0x0000);
-        regs.x.set(0x0000);
-        regs.dp.set(0x00);
-        regs.b.set(0x00);
-        regs.a.set(0x00);
-        regs.cc.set(0x00);
+        regs.setS(0x0000);
+        regs.setY(0x0000);
+        regs.setX(0x0000);
+        regs.setDP(0x00);
+        regs.setB(0x00);
+        regs.setA(0x00);
+        regs.setCC(0x00);
         cpu.executeInstruction();
 
-        assertEquals(new UnsignedWord(0x1236), regs.pc);
-        assertEquals(new UnsignedWord(0xE563), regs.s);
-        assertEquals(new UnsignedWord(0xA3C2), regs.y);
-        assertEquals(new UnsignedWord(0xF524), regs.x);
-        assertEquals(new UnsignedByte(0xD1), regs.dp);
-        assertEquals(new UnsignedByte(0xB9), regs.b);
-        assertEquals(new UnsignedByte(0xA8), regs.a);
-        assertEquals(new UnsignedByte(0xCC), regs.cc);
+        assertEquals(0x1236, regs.getPC());
+        assertEquals(0xE563, regs.getS());
+        assertEquals(0xA3C2, regs.getY());
+        assertEquals(0xF524, regs.getX());
+        assertEquals(0xD1, regs.getDP());
+        assertEquals(0xB9, regs.getB());
+        assertEquals(0xA8, regs.getA());
+        assertEquals(0xCC, regs.getCC());
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.MemoryType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.*;
+
+public class ROMCacheTest
+{
+    private File romFile;
+    private File copyFile;
+
+    @Before
+    public void setUp() throws IOException {
+        ROMCache.clear();
+        romFile = File.createTempFile("rom", ".rom");
+        copyFile = File.createTempFile("rom", ".rom");
+        byte [] contents = new byte[0x4000];
+        contents[0] = (byte) 0xAB;
+        contents[0x3FFF] = (byte) 0xCD;
+        Files.write(romFile.toPath(), contents);
+        Files.write(copyFile.toPath(), contents);
+    }
+
+    @After
+    public void tearDown() {
+        ROMCache.clear();
+        romFile.delete();
+        copyFile.delete();
+    }
+
+    @Test
+    public void testLoadPadsImageToSize() {
+        byte [] image = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        assertEquals(Memory.MEM_32K, image.length);
+        assertEquals(0xAB, image[0] & 0xFF);
+        assertEquals(0xCD, image[0x3FFF] & 0xFF);
+        assertEquals(0, image[0x4000]);
+    }
+
+    @Test
+    public void testSameFileIsHeldOnce() {
+        byte [] first = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        byte [] second = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        assertArrayEquals(first, second);
+        assertEquals(1, ROMCache.size());
+    }
+
+    @Test
+    public void testEachLoadReturnsItsOwnCopy() {
+        byte [] first = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        byte [] second = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        assertFalse(first == second);
+        first[0] = 0x55;
+        assertEquals(0xAB, second[0] & 0xFF);
+        assertEquals(0xAB, ROMCache.load(romFile.getPath(), Memory.MEM_32K)[0] & 0xFF);
+    }
+
+    @Test
+    public void testSameSizeEditWithNewTimeIsLoadedAgain() throws IOException {
+        ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        byte [] contents = Files.readAllBytes(romFile.toPath());
+        contents[0] = 0x12;
+        Files.write(romFile.toPath(), contents);
+        Files.setLastModifiedTime(romFile.toPath(), FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        assertEquals(0x12, ROMCache.load(romFile.getPath(), Memory.MEM_32K)[0]);
+        assertEquals(1, ROMCache.size());
+    }
+
+    @Test
+    public void testDifferentPathsHaveTheirOwnImages() {
+        byte [] first = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        byte [] second = ROMCache.load(copyFile.getPath(), Memory.MEM_32K);
+        assertFalse(first == second);
+        assertEquals(2, ROMCache.size());
+    }
+
+    @Test
+    public void testChangedFileIsLoadedAgain() throws IOException {
+        byte [] first = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        Files.write(romFile.toPath(), new byte [] {0x12, 0x34});
+        Files.setLastModifiedTime(romFile.toPath(), FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        byte [] second = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        assertFalse(first == second);
+        assertEquals(0x12, second[0]);
+        assertEquals(0xAB, first[0] & 0xFF);
+    }
+
+    @Test
+    public void testChangedFileReplacesItsEntry() throws IOException {
+        ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        for (int change = 1; change <= 3; change++) {
+            Files.write(romFile.toPath(), new byte [] {(byte) change});
+            Files.setLastModifiedTime(romFile.toPath(), FileTime.fromMillis(System.currentTimeMillis() + change * 10000));
+            assertEquals(change, ROMCache.load(romFile.getPath(), Memory.MEM_32K)[0]);
+        }
+        assertEquals(1, ROMCache.size());
+    }
+
+    @Test
+    public void testDifferentImageSizeIsLoadedAgain() {
+        byte [] first = ROMCache.load(romFile.getPath(), Memory.MEM_32K);
+        byte [] second = ROMCache.load(romFile.getPath(), 0x4000);
+        assertEquals(0x4000, second.length);
+        assertFalse(first == second);
+        assertEquals(1, ROMCache.size());
+    }
+
+    @Test
+    public void testFileLargerThanImageReturnsNull() throws IOException {
+        Files.write(romFile.toPath(), new byte[Memory.MEM_32K + 1]);
+        assertNull(ROMCache.load(romFile.getPath(), Memory.MEM_32K));
+    }
+
+    @Test
+    public void testMissingFileReturnsNull() {
+        romFile.delete();
+        assertNull(ROMCache.load(romFile.getPath(), Memory.MEM_32K));
+    }
+
+    @Test
+    public void testMemoriesCannotChangeEachOthersROM() {
+        Memory first = new Memory();
+        Memory second = new Memory();
+        assertTrue(first.loadROM(romFile.getPath(), MemoryType.ROM));
+        assertTrue(second.loadROM(romFile.getPath(), MemoryType.ROM));
+        assertEquals(1, ROMCache.size());
+        first.rom[0] = 0x55;
+        first.disableAllRAMMode();
+        second.disableAllRAMMode();
+        assertEquals(0x55, first.read8(0x8000));
+        assertEquals(0xAB, second.read8(0x8000));
+    }
+
+    @Test
+    public void testMemoryLoadROMFailsForMissingFile() {
+        romFile.delete();
+        assertFalse(new Memory().loadROM(romFile.getPath(), MemoryType.ROM));
+    }
+}
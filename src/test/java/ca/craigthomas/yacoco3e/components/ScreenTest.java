@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import ca.craigthomas.yacoco3e.datatypes.screen.ScreenMode.Mode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ScreenTest
+{
+    private Machine machine;
+    private IOController io;
+
+    @Before
+    public void setUp() {
+        machine = new Machine(2, false);
+        io = machine.getIOController();
+        Random random = new Random(1234);
+        for (int i = 0; i < 0x2000; i++) {
+            machine.getMemory().memory[i] = (byte) random.nextInt(256);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        io.shutdown();
+    }
+
+    private static Screen createScreen(IOController io, Mode mode, int colorSet) {
+        Screen screen = new Screen(2);
+        screen.setIOController(io);
+        screen.setMode(mode, colorSet);
+        screen.setMemoryOffset(0);
+        return screen;
+    }
+
+    private static void assertSamePicture(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals("pixel " + x + "," + y, expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testRefreshLineMatchesRefreshScreenInEveryMode() {
+        for (Mode mode : Mode.values()) {
+            for (int colorSet = 0; colorSet < 2; colorSet++) {
+                Screen full = createScreen(io, mode, colorSet);
+                full.refreshScreen();
+
+                Screen lines = createScreen(io, mode, colorSet);
+                for (int line = 0; line < lines.getHeight(); line++) {
+                    lines.refreshLine(line);
+                }
+                assertSamePicture(full.getBackBuffer(), lines.getBackBuffer());
+            }
+        }
+    }
+
+    @Test
+    public void testModeChangeKeepsLinesAlreadyDrawn() {
+        Screen screen = createScreen(io, Mode.G6R, 0);
+        for (int line = 0; line < 120; line++) {
+            screen.refreshLine(line);
+        }
+        BufferedImage before = screen.getBackBuffer();
+        int color = before.getRGB(100, 50);
+
+        screen.setMode(Mode.G3C, 0);
+        screen.clearResolutionChanged();
+        for (int line = 120; line < screen.getHeight(); line++) {
+            screen.refreshLine(line);
+        }
+        assertEquals(color, screen.getBackBuffer().getRGB(100, 50));
+        assertFalse(screen.getResolutionChanged());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.components;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class TraceBufferTest
+{
+    private Machine machine;
+    private File traceFile;
+
+    /* A loop that counts A up forever:
+     *
+     *   4000  LDA #$05
+     *   4002  INCA
+     *   4003  BRA $4002
+     */
+    private static final int [] PROGRAM = {0x86, 0x05, 0x4C, 0x20, 0xFD};
+
+    @Before
+    public void setUp() throws IOException {
+        machine = new Machine(1, false);
+        machine.reset();
+        machine.getMemory().enableAllRAMMode();
+        for (int i = 0; i < PROGRAM.length; i++) {
+            machine.getMemory().writeByte(0x4000 + i, PROGRAM[i]);
+        }
+        machine.getIOController().regs.setPC(0x4000);
+        traceFile = File.createTempFile("trace", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        machine.getIOController().shutdown();
+        traceFile.delete();
+    }
+
+    private String decode() {
+        StringWriter text = new StringWriter();
+        TraceDecoder.decode(traceFile.getPath(), new PrintWriter(text));
+        return text.toString();
+    }
+
+    @Test
+    public void testNothingRecordedWhenTraceOff() throws MalformedInstructionException {
+        machine.step();
+        assertFalse(machine.saveTrace(traceFile.getPath()));
+    }
+
+    @Test
+    public void testRecordsEachInstruction() throws MalformedInstructionException {
+        machine.trace = true;
+        machine.step();
+        machine.step();
+        machine.step();
+        TraceBuffer buffer = machine.getTraceBuffer();
+        assertEquals(3, buffer.getRecordCount());
+        assertEquals(3, buffer.getTotalRecords());
+    }
+
+    @Test
+    public void testSavedTraceDecodesToText() throws MalformedInstructionException {
+        machine.trace = true;
+        machine.step();
+        machine.step();
+        machine.step();
+        assertTrue(machine.saveTrace(traceFile.getPath()));
+
+        String [] lines = decode().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("Last 3 of 3 instructions traced", lines[0]);
+        assertTrue(lines[1].startsWith("0 PC:$4000 "));
+        assertTrue(lines[1].contains("|   86 LDA IMM"));
+        assertTrue(lines[1].endsWith("(New PC: $4002, 4 cycles)"));
+        assertTrue(lines[2].contains("PC:$4002 A:$05 "));
+        assertTrue(lines[2].contains("INCA"));
+        assertTrue(lines[3].contains("PC:$4003 A:$06 "));
+        assertTrue(lines[3].contains("BRA"));
+        assertTrue(lines[3].endsWith("(New PC: $4002, 3 cycles)"));
+    }
+
+    @Test
+    public void testFullBufferKeepsMostRecentInstructions() throws MalformedInstructionException {
+        machine.setTraceCapacity(4);
+        machine.trace = true;
+        for (int i = 0; i < 11; i++) {
+            machine.step();
+        }
+        TraceBuffer buffer = machine.getTraceBuffer();
+        assertEquals(4, buffer.getRecordCount());
+        assertEquals(11, buffer.getTotalRecords());
+        assertTrue(machine.saveTrace(traceFile.getPath()));
+
+        String [] lines = decode().split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("Last 4 of 11 instructions traced", lines[0]);
+        assertTrue(lines[1].contains("PC:$4002 A:$08 "));
+        assertTrue(lines[2].contains("PC:$4003 A:$09 "));
+        assertTrue(lines[3].contains("PC:$4002 A:$09 "));
+        assertTrue(lines[4].contains("PC:$4003 A:$0A "));
+    }
+
+    @Test
+    public void testExactlyFullBufferSavesEveryRecord() throws MalformedInstructionException {
+        machine.setTraceCapacity(3);
+        machine.trace = true;
+        machine.step();
+        machine.step();
+        machine.step();
+        assertTrue(machine.saveTrace(traceFile.getPath()));
+
+        String [] lines = decode().split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].contains("PC:$4000 "));
+    }
+
+    @Test
+    public void testDecodeRejectsOtherFiles() throws IOException {
+        Files.write(traceFile.toPath(), new byte[TraceBuffer.HEADER_SIZE]);
+        assertEquals(-1, TraceDecoder.decode(traceFile.getPath(), new PrintWriter(new StringWriter())));
+    }
+
+    @Test
+    public void testDecodeMissingFileReturnsError() {
+        traceFile.delete();
+        assertEquals(-1, TraceDecoder.decode(traceFile.getPath(), new PrintWriter(new StringWriter())));
+    }
+}
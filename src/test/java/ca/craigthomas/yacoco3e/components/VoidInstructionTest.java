@@ -26,7 +26,7 @@ public class VoidInstructionTest {
         io = new IOController(new Memory(), regs, new EmulatedKeyboard(), screen, cassette, false);
         cpu = new CPU(io);
         extendedAddress = 0xC0A0;
-        io.regs.pc.set(0);
+        io.regs.setPC(0);
     }
 
     @After
@@ -36,31 +36,31 @@ public class VoidInstructionTest {
 
     @Test
     public void testSync() {
-        VoidInstruction.sync(io, null, null);
+        VoidInstruction.sync(io, 0, 0);
         assertTrue(io.waitForIRQ);
     }
 
     @Test
     public void testUnconditionalJumpCorrect() {
-        VoidInstruction.unconditionalJump(io, null, new UnsignedWord(0xBEEF));
-        assertEquals(0xBEEF, regs.pc.get());
+        VoidInstruction.unconditionalJump(io, 0, 0xBEEF);
+        assertEquals(0xBEEF, regs.getPC());
     }
 
     @Test
     public void testUnconditionalJumpDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
+        regs.setDP(0x00);
         io.writeByte(0x0000, 0x0E);
         io.writeByte(0x0001, 0x0A);
         cpu.executeInstruction();
-        assertEquals(0x000A, regs.pc.get());
+        assertEquals(0x000A, regs.getPC());
     }
 
     @Test
     public void testUnconditionalJumpIndexedCorrect() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x6E80);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.pc.get());
+        assertEquals(extendedAddress, regs.getPC());
     }
 
     @Test
@@ -68,33 +68,33 @@ public class VoidInstructionTest {
         io.writeByte(0x0000, 0x7E);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.pc.get());
+        assertEquals(extendedAddress, regs.getPC());
     }
 
     @Test
     public void testJumpToSubroutineSavesPCSetsPCReturnsCorrect() {
-        regs.s.set(0x0200);
-        regs.pc.set(0xBEEF);
-        VoidInstruction.jumpToSubroutine(io, null, new UnsignedWord(0xCAFE));
+        regs.setS(0x0200);
+        regs.setPC(0xBEEF);
+        VoidInstruction.jumpToSubroutine(io, 0, 0xCAFE);
         assertEquals(0xEF, io.readByte(new UnsignedWord(0x01FF)).get());
         assertEquals(0xBE, io.readByte(new UnsignedWord(0x01FE)).get());
-        assertEquals(0xCAFE, regs.pc.get());
+        assertEquals(0xCAFE, regs.getPC());
     }
 
     @Test
     public void testJSRDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0xCA);
+        regs.setDP(0xCA);
         io.writeWord(0x0000, 0x9DFE);
         cpu.executeInstruction();
-        assertEquals(0xCAFE, regs.pc.get());
+        assertEquals(0xCAFE, regs.getPC());
     }
 
     @Test
     public void testJSRIndexedCorrect() throws MalformedInstructionException {
-        regs.y.set(extendedAddress);
+        regs.setY(extendedAddress);
         io.writeWord(0x0000, 0xADA0);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.pc.get());
+        assertEquals(extendedAddress, regs.getPC());
     }
 
     @Test
@@ -102,23 +102,23 @@ public class VoidInstructionTest {
         io.writeByte(0x0000, 0xBD);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.pc.get());
+        assertEquals(extendedAddress, regs.getPC());
     }
 
     @Test
     public void testSWI2Correct() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x103F);
-        io.writeByte(Instruction.SWI2.get(), 0x56);
-        io.writeByte(Instruction.SWI2.next().get(), 0x78);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
-        regs.s.set(0xA000);
-        regs.u.set(0xDEAD);
-        regs.y.set(0xBEEF);
-        regs.x.set(0xCAFE);
-        regs.dp.set(0xAB);
-        regs.b.set(0xCD);
-        regs.a.set(0xEF);
+        io.writeByte(Instruction.SWI2, 0x56);
+        io.writeByte(Instruction.SWI2 + 1, 0x78);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
+        regs.setS(0xA000);
+        regs.setU(0xDEAD);
+        regs.setY(0xBEEF);
+        regs.setX(0xCAFE);
+        regs.setDP(0xAB);
+        regs.setB(0xCD);
+        regs.setA(0xEF);
         cpu.executeInstruction();
         assertEquals(0x02, io.readByte(0x9FFF).get());
         assertEquals(0x00, io.readByte(0x9FFE).get());
@@ -132,22 +132,22 @@ public class VoidInstructionTest {
         assertEquals(0xCD, io.readByte(0x9FF6).get());
         assertEquals(0xEF, io.readByte(0x9FF5).get());
         assertEquals(0x8A, io.readByte(0x9FF4).get());
-//        assertEquals(0x5678, regs.pc.getInt());
+//        assertEquals(0x5678, regs.getPC());
     }
 
     @Test
     public void testSWI3Correct() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x113F);
         io.writeWord(Instruction.SWI3, 0x5678);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
-        regs.s.set(0xA000);
-        regs.u.set(0xDEAD);
-        regs.y.set(0xBEEF);
-        regs.x.set(0xCAFE);
-        regs.dp.set(0xAB);
-        regs.b.set(0xCD);
-        regs.a.set(0xEF);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
+        regs.setS(0xA000);
+        regs.setU(0xDEAD);
+        regs.setY(0xBEEF);
+        regs.setX(0xCAFE);
+        regs.setDP(0xAB);
+        regs.setB(0xCD);
+        regs.setA(0xEF);
         cpu.executeInstruction();
         assertEquals(0x02, io.readByte(0x9FFF).get());
         assertEquals(0x00, io.readByte(0x9FFE).get());
@@ -161,22 +161,22 @@ public class VoidInstructionTest {
         assertEquals(0xCD, io.readByte(0x9FF6).get());
         assertEquals(0xEF, io.readByte(0x9FF5).get());
         assertEquals(0x8A, io.readByte(0x9FF4).get());
-//        assertEquals(0x5678, regs.pc.getInt());
+//        assertEquals(0x5678, regs.getPC());
     }
 
     @Test
     public void testSWICorrect() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x3F);
         io.writeWord(Instruction.SWI3, 0x5678);
-        regs.cc.or(CC_N);
-        regs.cc.or(CC_V);
-        regs.s.set(0xA000);
-        regs.u.set(0xDEAD);
-        regs.y.set(0xBEEF);
-        regs.x.set(0xCAFE);
-        regs.dp.set(0xAB);
-        regs.b.set(0xCD);
-        regs.a.set(0xEF);
+        regs.orCC(CC_N);
+        regs.orCC(CC_V);
+        regs.setS(0xA000);
+        regs.setU(0xDEAD);
+        regs.setY(0xBEEF);
+        regs.setX(0xCAFE);
+        regs.setDP(0xAB);
+        regs.setB(0xCD);
+        regs.setA(0xEF);
         cpu.executeInstruction();
         assertEquals(0x01, io.readByte(0x9FFF).get());
         assertEquals(0x00, io.readByte(0x9FFE).get());
@@ -190,22 +190,22 @@ public class VoidInstructionTest {
         assertEquals(0xCD, io.readByte(0x9FF6).get());
         assertEquals(0xEF, io.readByte(0x9FF5).get());
         assertEquals(0x8A, io.readByte(0x9FF4).get());
-//        assertEquals(0x5678, regs.pc.getInt());
+//        assertEquals(0x5678, regs.getPC());
     }
 
     @Test
     public void testRTSWorksCorrectly() throws MalformedInstructionException {
-        regs.s.set(0x0020);
+        regs.setS(0x0020);
         io.writeByte(0x0000, 0x39);
         io.writeWord(0x0020, 0xBEEF);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.pc.get());
+        assertEquals(0xBEEF, regs.getPC());
     }
 
     @Test
     public void testRTIEverything() throws MalformedInstructionException {
-        regs.cc.or(CC_E);
-        regs.s.set(0x9FF4);
+        regs.orCC(CC_E);
+        regs.setS(0x9FF4);
         io.writeByte(0x9FFF, 0xCC);
         io.writeByte(0x9FFE, 0xBB);
         io.writeByte(0x9FFD, 0xAA);
@@ -220,105 +220,105 @@ public class VoidInstructionTest {
         io.writeByte(0x9FF4, CC_E);
         io.writeByte(0x00, 0x3B);
         cpu.executeInstruction();
-        assertEquals(0x01, regs.a.get());
-        assertEquals(0x02, regs.b.get());
-        assertEquals(0x03, regs.dp.get());
-        assertEquals(CC_E, regs.cc.get());
-        assertEquals(0x5566, regs.x.get());
-        assertEquals(0x7788, regs.y.get());
-        assertEquals(0x99AA, regs.u.get());
-        assertEquals(0xBBCC, regs.pc.get());
+        assertEquals(0x01, regs.getA());
+        assertEquals(0x02, regs.getB());
+        assertEquals(0x03, regs.getDP());
+        assertEquals(CC_E, regs.getCC());
+        assertEquals(0x5566, regs.getX());
+        assertEquals(0x7788, regs.getY());
+        assertEquals(0x99AA, regs.getU());
+        assertEquals(0xBBCC, regs.getPC());
     }
 
     @Test
     public void testRTIPCOnly() throws MalformedInstructionException {
-        regs.s.set(0x9FF3);
+        regs.setS(0x9FF3);
         io.writeByte(0x9FF5, 0xEF);
         io.writeByte(0x9FF4, 0xBE);
         io.writeByte(0x9FF3, 0x00);
         io.writeByte(0x0000, 0x3B);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.pc.get());
+        assertEquals(0xBEEF, regs.getPC());
     }
 
     @Test
     public void testTransferDtoX() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.x.set(0xBEEF);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1F01);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getD());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testTransferXtoD() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
+        regs.setX(0xDEAD);
         regs.setD(0xBEEF);
         io.writeWord(0x0000, 0x1F10);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getX());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testTransferDtoY() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1F02);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getD());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testTransferYtoD() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
+        regs.setY(0xDEAD);
         regs.setD(0xBEEF);
         io.writeWord(0x0000, 0x1F20);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getY());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testTransferDtoU() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1F03);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getD());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testTransferUtoD() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
+        regs.setU(0xDEAD);
         regs.setD(0xBEEF);
         io.writeWord(0x0000, 0x1F30);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getU());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testTransferDtoS() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1F04);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getD());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testTransferStoD() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
+        regs.setS(0xDEAD);
         regs.setD(0xBEEF);
         io.writeWord(0x0000, 0x1F40);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getS());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
@@ -326,8 +326,8 @@ public class VoidInstructionTest {
         regs.setD(0xDEAD);
         io.writeWord(0x0000, 0x1F05);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0xDEAD, regs.getD());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
@@ -336,332 +336,332 @@ public class VoidInstructionTest {
         io.writeWord(0x0000, 0x1F50);
         cpu.executeInstruction();
         /* PC will have advanced */
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0x0002, regs.getD().get());
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0x0002, regs.getD());
     }
 
     @Test
     public void testTransferXtoY() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1F12);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getX());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testTransferYtoX() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
-        regs.x.set(0xBEEF);
+        regs.setY(0xDEAD);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1F21);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getY());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testTransferXtoU() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1F13);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getX());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testTransferUtoX() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
-        regs.x.set(0xBEEF);
+        regs.setU(0xDEAD);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1F31);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getU());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testTransferXtoS() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1F14);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getX());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testTransferStoX() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
-        regs.x.set(0xBEEF);
+        regs.setS(0xDEAD);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1F41);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getS());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testTransferXtoPC() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
+        regs.setX(0xDEAD);
         io.writeWord(0x0000, 0x1F15);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0xDEAD, regs.getX());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testTransferPCtoX() throws MalformedInstructionException {
-        regs.x.set(0xBEEF);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1F51);
         cpu.executeInstruction();
         /* PC will have advanced */
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0x0002, regs.x.get());
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0x0002, regs.getX());
     }
 
     @Test
     public void testTransferYtoU() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setY(0xDEAD);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1F23);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getY());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testTransferUtoY() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setU(0xDEAD);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1F32);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getU());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testTransferYtoS() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setY(0xDEAD);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1F24);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getY());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testTransferStoY() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setS(0xDEAD);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1F42);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getS());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testTransferYtoPC() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
+        regs.setY(0xDEAD);
         io.writeWord(0x0000, 0x1F25);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0xDEAD, regs.getY());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testTransferPCtoY() throws MalformedInstructionException {
-        regs.y.set(0xBEEF);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1F52);
         cpu.executeInstruction();
         /* PC will have advanced */
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0x0002, regs.y.get());
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0x0002, regs.getY());
     }
 
     @Test
     public void testTransferUtoS() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
-        io.regs.s.set(0xBEEF);
+        regs.setU(0xDEAD);
+        io.regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1F34);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getU());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testTransferStoU() throws MalformedInstructionException {
-        io.regs.s.set(0xDEAD);
-        regs.u.set(0xBEEF);
+        io.regs.setS(0xDEAD);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1F43);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getS());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testTransferUtoPC() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
+        regs.setU(0xDEAD);
         io.writeWord(0x0000, 0x1F35);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0xDEAD, regs.getU());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testTransferPCtoU() throws MalformedInstructionException {
-        regs.u.set(0xBEEF);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1F53);
         cpu.executeInstruction();
         /* PC will have advanced */
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0x0002, regs.u.get());
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0x0002, regs.getU());
     }
 
     @Test
     public void testTransferStoPC() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
+        regs.setS(0xDEAD);
         io.writeWord(0x0000, 0x1F45);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0xDEAD, regs.getS());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testTransferPCtoS() throws MalformedInstructionException {
-        regs.s.set(0xBEEF);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1F54);
         cpu.executeInstruction();
         /* PC will have advanced */
-        assertEquals(0x0002, regs.pc.get());
-        assertEquals(0x0002, regs.s.get());
+        assertEquals(0x0002, regs.getPC());
+        assertEquals(0x0002, regs.getS());
     }
 
     @Test
     public void testTransferAtoB() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.b.set(0xBE);
+        regs.setA(0xDE);
+        regs.setB(0xBE);
         io.writeWord(0x0000, 0x1F89);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getA());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testTransferBtoA() throws MalformedInstructionException {
-        regs.b.set(0xDE);
-        regs.a.set(0xBE);
+        regs.setB(0xDE);
+        regs.setA(0xBE);
         io.writeWord(0x0000, 0x1F98);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getA());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testTransferAtoCC() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.cc.set(0xBE);
+        regs.setA(0xDE);
+        regs.setCC(0xBE);
         io.writeWord(0x0000, 0x1F8A);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xDE, regs.getA());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testTransferCCtoA() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
-        regs.a.set(0xBE);
+        regs.setCC(0xDE);
+        regs.setA(0xBE);
         io.writeWord(0x0000, 0x1FA8);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.cc.get());
-        assertEquals(0xDE, regs.a.get());
+        assertEquals(0xDE, regs.getCC());
+        assertEquals(0xDE, regs.getA());
     }
 
     @Test
     public void testTransferAtoDP() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.dp.set(0xBE);
+        regs.setA(0xDE);
+        regs.setDP(0xBE);
         io.writeWord(0x0000, 0x1F8B);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xDE, regs.getA());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testTransferDPtoA() throws MalformedInstructionException {
-        regs.dp.set(0xDE);
-        regs.a.set(0xBE);
+        regs.setDP(0xDE);
+        regs.setA(0xBE);
         io.writeWord(0x0000, 0x1FB8);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.dp.get());
-        assertEquals(0xDE, regs.a.get());
+        assertEquals(0xDE, regs.getDP());
+        assertEquals(0xDE, regs.getA());
     }
 
     @Test
     public void testTransferBtoCC() throws MalformedInstructionException {
-        regs.b.set(0xDE);
-        regs.cc.set(0xBE);
+        regs.setB(0xDE);
+        regs.setCC(0xBE);
         io.writeWord(0x0000, 0x1F9A);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.b.get());
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xDE, regs.getB());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testTransferCCtoB() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
-        regs.b.set(0xBE);
+        regs.setCC(0xDE);
+        regs.setB(0xBE);
         io.writeWord(0x0000, 0x1FA9);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.cc.get());
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getCC());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testTransferBtoDP() throws MalformedInstructionException {
-        regs.b.set(0xDE);
-        regs.dp.set(0xBE);
+        regs.setB(0xDE);
+        regs.setDP(0xBE);
         io.writeWord(0x0000, 0x1F9B);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.b.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xDE, regs.getB());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testTransferDPtoB() throws MalformedInstructionException {
-        regs.dp.set(0xDE);
-        regs.a.set(0xBE);
+        regs.setDP(0xDE);
+        regs.setA(0xBE);
         io.writeWord(0x0000, 0x1FB9);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.dp.get());
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getDP());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testTransferCCtoDP() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
-        regs.dp.set(0xBE);
+        regs.setCC(0xDE);
+        regs.setDP(0xBE);
         io.writeWord(0x0000, 0x1FAB);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.cc.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xDE, regs.getCC());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testTransferDPtoCC() throws MalformedInstructionException {
-        regs.dp.set(0xDE);
-        regs.cc.set(0xBE);
+        regs.setDP(0xDE);
+        regs.setCC(0xBE);
         io.writeWord(0x0000, 0x1FBA);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.dp.get());
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xDE, regs.getDP());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testTransferAtoA() throws MalformedInstructionException {
-        regs.a.set(0xDE);
+        regs.setA(0xDE);
         io.writeWord(0x0000, 0x1F88);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
+        assertEquals(0xDE, regs.getA());
     }
 
     @Test
@@ -669,70 +669,70 @@ public class VoidInstructionTest {
         regs.setD(0xDEAD);
         io.writeWord(0x0000, 0x1F00);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testTransferXtoX() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
+        regs.setX(0xDEAD);
         io.writeWord(0x0000, 0x1F11);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testTransferYtoY() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
+        regs.setY(0xDEAD);
         io.writeWord(0x0000, 0x1F22);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testTransferUtoU() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
+        regs.setU(0xDEAD);
         io.writeWord(0x0000, 0x1F33);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testTransferStoS() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
+        regs.setS(0xDEAD);
         io.writeWord(0x0000, 0x1F44);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testTransferPCtoPC() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x1F55);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testTransferBtoB() throws MalformedInstructionException {
-        regs.b.set(0xDE);
+        regs.setB(0xDE);
         io.writeWord(0x0000, 0x1F99);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testTransferCCtoCC() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
+        regs.setCC(0xDE);
         io.writeWord(0x0000, 0x1FAA);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testTransferDPtoDP() throws MalformedInstructionException {
-        regs.dp.set(0xDE);
+        regs.setDP(0xDE);
         io.writeWord(0x0000, 0x1FBB);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test(expected = RuntimeException.class)
@@ -744,41 +744,41 @@ public class VoidInstructionTest {
     @Test
     public void testExchangeDandX() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.x.set(0xBEEF);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x1E01);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.getD().get());
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xBEEF, regs.getD());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testExchangeDandY() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1E02);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.getD().get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xBEEF, regs.getD());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testExchangeDandU() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1E03);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.getD().get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xBEEF, regs.getD());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testExchangeDandS() throws MalformedInstructionException {
         regs.setD(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1E04);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.getD().get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xBEEF, regs.getD());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
@@ -786,172 +786,172 @@ public class VoidInstructionTest {
         regs.setD(0xDEAD);
         io.writeWord(0x0000, 0x1E05);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.pc.get());
-        assertEquals(0x0002, regs.getD().get());
+        assertEquals(0xDEAD, regs.getPC());
+        assertEquals(0x0002, regs.getD());
     }
 
     @Test
     public void testExchangeXandY() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.y.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x1E12);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.x.get());
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xBEEF, regs.getX());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testExchangeXandU() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1E13);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.x.get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xBEEF, regs.getX());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testExchangeXandS() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setX(0xDEAD);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1E14);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.x.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xBEEF, regs.getX());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testExchangeXandPC() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
+        regs.setX(0xDEAD);
         io.writeWord(0x0000, 0x1E15);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.x.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0x0002, regs.getX());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testExchangeYandU() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
-        regs.u.set(0xBEEF);
+        regs.setY(0xDEAD);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x1E23);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.y.get());
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xBEEF, regs.getY());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testExchangeYandS() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setY(0xDEAD);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1E24);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.y.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xBEEF, regs.getY());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testExchangeYandPC() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
+        regs.setY(0xDEAD);
         io.writeWord(0x0000, 0x1E25);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.y.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0x0002, regs.getY());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testExchangeUandS() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
-        regs.s.set(0xBEEF);
+        regs.setU(0xDEAD);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x1E34);
         cpu.executeInstruction();
-        assertEquals(0xBEEF, regs.u.get());
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xBEEF, regs.getU());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testExchangeUandPC() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
+        regs.setU(0xDEAD);
         io.writeWord(0x0000, 0x1E35);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.u.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0x0002, regs.getU());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testExchangeSandPC() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
+        regs.setS(0xDEAD);
         io.writeWord(0x0000, 0x1E45);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.s.get());
-        assertEquals(0xDEAD, regs.pc.get());
+        assertEquals(0x0002, regs.getS());
+        assertEquals(0xDEAD, regs.getPC());
     }
 
     @Test
     public void testExchangeAandB() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.b.set(0xAD);
+        regs.setA(0xDE);
+        regs.setB(0xAD);
         io.writeWord(0x0000, 0x1E89);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.a.get());
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xAD, regs.getA());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testExchangeAandDP() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.dp.set(0xAD);
+        regs.setA(0xDE);
+        regs.setDP(0xAD);
         io.writeWord(0x0000, 0x1E8B);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.a.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xAD, regs.getA());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testExchangeAandCC() throws MalformedInstructionException {
-        regs.a.set(0xDE);
-        regs.cc.set(0xAD);
+        regs.setA(0xDE);
+        regs.setCC(0xAD);
         io.writeWord(0x0000, 0x1E8A);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.a.get());
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xAD, regs.getA());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testExchangeBandCC() throws MalformedInstructionException {
-        regs.b.set(0xDE);
-        regs.cc.set(0xAD);
+        regs.setB(0xDE);
+        regs.setCC(0xAD);
         io.writeWord(0x0000, 0x1E9A);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.b.get());
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xAD, regs.getB());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testExchangeBandDP() throws MalformedInstructionException {
-        regs.b.set(0xDE);
-        regs.dp.set(0xAD);
+        regs.setB(0xDE);
+        regs.setDP(0xAD);
         io.writeWord(0x0000, 0x1E9B);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.b.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xAD, regs.getB());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testExchangeCCandDP() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
-        regs.dp.set(0xAD);
+        regs.setCC(0xDE);
+        regs.setDP(0xAD);
         io.writeWord(0x0000, 0x1EAB);
         cpu.executeInstruction();
-        assertEquals(0xAD, regs.cc.get());
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xAD, regs.getCC());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test
     public void testExchangeAtoA() throws MalformedInstructionException {
-        regs.a.set(0xDE);
+        regs.setA(0xDE);
         io.writeWord(0x0000, 0x1E88);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.a.get());
+        assertEquals(0xDE, regs.getA());
     }
 
     @Test
@@ -959,70 +959,70 @@ public class VoidInstructionTest {
         regs.setD(0xDEAD);
         io.writeWord(0x0000, 0x1E00);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.getD().get());
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testExchangeXtoX() throws MalformedInstructionException {
-        regs.x.set(0xDEAD);
+        regs.setX(0xDEAD);
         io.writeWord(0x0000, 0x1E11);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.x.get());
+        assertEquals(0xDEAD, regs.getX());
     }
 
     @Test
     public void testExchangeYtoY() throws MalformedInstructionException {
-        regs.y.set(0xDEAD);
+        regs.setY(0xDEAD);
         io.writeWord(0x0000, 0x1E22);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.y.get());
+        assertEquals(0xDEAD, regs.getY());
     }
 
     @Test
     public void testExchangeUtoU() throws MalformedInstructionException {
-        regs.u.set(0xDEAD);
+        regs.setU(0xDEAD);
         io.writeWord(0x0000, 0x1E33);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.u.get());
+        assertEquals(0xDEAD, regs.getU());
     }
 
     @Test
     public void testExchangeStoS() throws MalformedInstructionException {
-        regs.s.set(0xDEAD);
+        regs.setS(0xDEAD);
         io.writeWord(0x0000, 0x1E44);
         cpu.executeInstruction();
-        assertEquals(0xDEAD, regs.s.get());
+        assertEquals(0xDEAD, regs.getS());
     }
 
     @Test
     public void testExchangePCtoPC() throws MalformedInstructionException {
         io.writeWord(0x0000, 0x1E55);
         cpu.executeInstruction();
-        assertEquals(0x0002, regs.pc.get());
+        assertEquals(0x0002, regs.getPC());
     }
 
     @Test
     public void testTExchangeBtoB() throws MalformedInstructionException {
-        regs.b.set(0xDE);
+        regs.setB(0xDE);
         io.writeWord(0x0000, 0x1E99);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.b.get());
+        assertEquals(0xDE, regs.getB());
     }
 
     @Test
     public void testExchangeCCtoCC() throws MalformedInstructionException {
-        regs.cc.set(0xDE);
+        regs.setCC(0xDE);
         io.writeWord(0x0000, 0x1EAA);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.cc.get());
+        assertEquals(0xDE, regs.getCC());
     }
 
     @Test
     public void testExchangeDPtoDP() throws MalformedInstructionException {
-        regs.dp.set(0xDE);
+        regs.setDP(0xDE);
         io.writeWord(0x0000, 0x1EBB);
         cpu.executeInstruction();
-        assertEquals(0xDE, regs.dp.get());
+        assertEquals(0xDE, regs.getDP());
     }
 
     @Test(expected = RuntimeException.class)
@@ -1035,6 +1035,6 @@ public class VoidInstructionTest {
     public void testNopIncrementsPC() throws MalformedInstructionException {
         io.writeByte(0x0000, 0x12);
         cpu.executeInstruction();
-        assertEquals(0x0001, regs.pc.get());
+        assertEquals(0x0001, regs.getPC());
     }
 }
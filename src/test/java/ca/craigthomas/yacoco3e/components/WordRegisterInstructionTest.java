@@ -28,7 +28,7 @@ public class WordRegisterInstructionTest {
         cpu = new CPU(io);
         extendedAddress = 0xC0A0;
         address = new UnsignedWord(0xA000);
-        io.regs.pc.set(0);
+        io.regs.setPC(0);
     }
 
     @After
@@ -39,40 +39,40 @@ public class WordRegisterInstructionTest {
     @Test(expected = MalformedInstructionException.class)
     public void testWordRegisterInstructionThrowsRuntimeExceptionWithUnsupportedRegister() throws MalformedInstructionException {
         WordRegisterInstruction instruction = new WordRegisterInstruction(0, 0, "None", AddressingMode.INHERENT, null, Register.PC);
-        instruction.call(io);
+        instruction.call(io, new DecodeContext());
     }
 
     @Test
     public void testStoreWordRegisterWorksCorrectly() {
-        regs.s.set(0xBEEF);
-        WordRegisterInstruction.storeWordRegister(io, regs.s, null, address, false);
+        regs.setS(0xBEEF);
+        WordRegisterInstruction.storeWordRegister(io, regs.getS(), 0, address.get());
         assertEquals(0xBEEF, io.readWord(address).get());
 
         io.writeWord(address, 0);
-        regs.u.set(0xBEEF);
-        WordRegisterInstruction.storeWordRegister(io, regs.u, null, address, false);
+        regs.setU(0xBEEF);
+        WordRegisterInstruction.storeWordRegister(io, regs.getU(), 0, address.get());
         assertEquals(0xBEEF, io.readWord(address).get());
 
         io.writeWord(address, 0);
-        regs.y.set(0xBEEF);
-        WordRegisterInstruction.storeWordRegister(io, regs.y, null, address, false);
+        regs.setY(0xBEEF);
+        WordRegisterInstruction.storeWordRegister(io, regs.getY(), 0, address.get());
         assertEquals(0xBEEF, io.readWord(address).get());
 
         io.writeWord(address, 0);
-        regs.x.set(new UnsignedWord(0xBEEF));
-        WordRegisterInstruction.storeWordRegister(io, regs.x, null, address, false);
+        regs.setX(0xBEEF);
+        WordRegisterInstruction.storeWordRegister(io, regs.getX(), 0, address.get());
         assertEquals(0xBEEF, io.readWord(address).get());
 
         io.writeWord(address, 0);
         regs.setD(0xBEEF);
-        WordRegisterInstruction.storeWordRegister(io, regs.getD(), null, address, true);
+        WordRegisterInstruction.storeWordRegister(io, regs.getD(), 0, address.get());
         assertEquals(0xBEEF, io.readWord(address).get());
     }
 
     @Test
     public void testStoreWordRegisterDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
-        regs.u.set(0xBEEF);
+        regs.setDP(0x00);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0xDF0A);
         cpu.executeInstruction();
         assertEquals(new UnsignedWord(0xBEEF), io.readWord(0x000A));
@@ -80,8 +80,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testStoreWordRegisterIndexedCorrect() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
-        regs.u.set(0xBEEF);
+        regs.setX(extendedAddress);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0xEF80);
         cpu.executeInstruction();
         assertEquals(new UnsignedWord(0xBEEF), io.readWord(extendedAddress));
@@ -89,7 +89,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testClearExtendedCorrect() throws MalformedInstructionException {
-        regs.u.set(0xBEEF);
+        regs.setU(0xBEEF);
         io.writeByte(0x0000, 0xFF);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
@@ -99,27 +99,27 @@ public class WordRegisterInstructionTest {
     @Test
     public void testStoreWordRegisterSetsZero() {
         io.writeWord(address, 0xA000);
-        regs.s.set(0);
-        WordRegisterInstruction.storeWordRegister(io, regs.s, null, address, false);
+        regs.setS(0);
+        WordRegisterInstruction.storeWordRegister(io, regs.getS(), 0, address.get());
         assertEquals(0, io.readWord(address).get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testStoreWordRegisterSetsNegative() {
-        regs.s.set(0x8100);
-        WordRegisterInstruction.storeWordRegister(io, regs.s, null, address, false);
+        regs.setS(0x8100);
+        WordRegisterInstruction.storeWordRegister(io, regs.getS(), 0, address.get());
         assertEquals(0x8100, io.readWord(address).get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testSTDDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x00);
-        regs.a.set(0xAA);
-        regs.b.set(0xBB);
+        regs.setDP(0x00);
+        regs.setA(0xAA);
+        regs.setB(0xBB);
         io.writeWord(0x0000, 0xDD0A);
         cpu.executeInstruction();
         assertEquals(0xAABB, io.readWord(0x000A).get());
@@ -127,9 +127,9 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTDIndexedCorrect() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
-        regs.a.set(0xAA);
-        regs.b.set(0xBB);
+        regs.setX(extendedAddress);
+        regs.setA(0xAA);
+        regs.setB(0xBB);
         io.writeWord(0x0000, 0xED80);
         cpu.executeInstruction();
         assertEquals(0xAABB, io.readWord(extendedAddress).get());
@@ -137,8 +137,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTDExtendedCorrect() throws MalformedInstructionException {
-        regs.a.set(0xAA);
-        regs.b.set(0xBB);
+        regs.setA(0xAA);
+        regs.setB(0xBB);
         io.writeByte(0x0000, 0xFD);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
@@ -147,7 +147,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTUDirectCorrect() throws MalformedInstructionException {
-        regs.u.set(0x1234);
+        regs.setU(0x1234);
         io.writeWord(0x0000, 0xDF0A);
         cpu.executeInstruction();
         assertEquals(0x1234, io.readWord(0x000A).get());
@@ -155,8 +155,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTUIndexedCorrect() throws MalformedInstructionException {
-        regs.u.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setU(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0xEF80);
         cpu.executeInstruction();
         assertEquals(0x1234, io.readWord(extendedAddress).get());
@@ -164,7 +164,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTUExtendedCorrect() throws MalformedInstructionException {
-        regs.u.set(0x1234);
+        regs.setU(0x1234);
         io.writeByte(0x0000, 0xFF);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
@@ -173,7 +173,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTXDirectCorrect() throws MalformedInstructionException {
-        regs.x.set(0x1234);
+        regs.setX(0x1234);
         io.writeWord(0x0000, 0x9F0A);
         cpu.executeInstruction();
         assertEquals(0x1234, io.readWord(0x000A).get());
@@ -181,8 +181,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTXIndexedCorrect() throws MalformedInstructionException {
-        regs.x.set(0x1234);
-        regs.y.set(extendedAddress);
+        regs.setX(0x1234);
+        regs.setY(extendedAddress);
         io.writeWord(0x0000, 0xAFA0);
         cpu.executeInstruction();
         assertEquals(0x1234, io.readWord(extendedAddress).get());
@@ -190,7 +190,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTXExtendedCorrect() throws MalformedInstructionException {
-        regs.x.set(0x1234);
+        regs.setX(0x1234);
         io.writeByte(0x0000, 0xBF);
         io.writeWord(0x0001, extendedAddress);
         cpu.executeInstruction();
@@ -199,7 +199,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTYDirectCorrect() throws MalformedInstructionException {
-        regs.y.set(0x1234);
+        regs.setY(0x1234);
         io.writeWord(0x0000, 0x109F);
         io.writeByte(0x0002, 0x0A);
         cpu.executeInstruction();
@@ -208,8 +208,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTYIndexedCorrect() throws MalformedInstructionException {
-        regs.y.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setY(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10AF);
         io.writeByte(0x0002, 0x80);
         cpu.executeInstruction();
@@ -218,7 +218,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTYExtendedCorrect() throws MalformedInstructionException {
-        regs.y.set(0x1234);
+        regs.setY(0x1234);
         io.writeWord(0x0000, 0x10BF);
         io.writeWord(0x0002, extendedAddress);
         cpu.executeInstruction();
@@ -227,7 +227,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTSDirectCorrect() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10DF);
         io.writeByte(0x0002, 0x0A);
         cpu.executeInstruction();
@@ -236,8 +236,8 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTSIndexedCorrect() throws MalformedInstructionException {
-        regs.s.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setS(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10EF);
         io.writeByte(0x0002, 0x80);
         cpu.executeInstruction();
@@ -246,7 +246,7 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testSTSExtendedCorrect() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10FF);
         io.writeWord(0x0002, extendedAddress);
         cpu.executeInstruction();
@@ -255,152 +255,152 @@ public class WordRegisterInstructionTest {
 
     @Test
     public void testABXWorksCorrectly() throws MalformedInstructionException {
-        regs.b.set(0x08);
-        regs.x.set(0x0020);
+        regs.setB(0x08);
+        regs.setX(0x0020);
         io.writeByte(0, 0x3A);
         cpu.executeInstruction();
-        assertEquals(0x0028, regs.x.get());
+        assertEquals(0x0028, regs.getX());
     }
 
     @Test
     public void testABXWorksCorrectly1() throws MalformedInstructionException {
-        regs.b.set(0x21);
-        regs.x.set(0x1091);
+        regs.setB(0x21);
+        regs.setX(0x1091);
         io.writeByte(0x0000, 0x3A);
         cpu.executeInstruction();
-        assertEquals(0x10B2, regs.x.get());
+        assertEquals(0x10B2, regs.getX());
     }
 
     @Test
     public void testMULWorksCorrect() throws MalformedInstructionException {
-        regs.a.set(0x4B);
-        regs.b.set(0x0C);
+        regs.setA(0x4B);
+        regs.setB(0x0C);
         io.writeByte(0x0000, 0x3D);
         cpu.executeInstruction();
-        assertEquals(0x0384, regs.getD().get());
-        assertEquals(0x03, regs.a.get());
-        assertEquals(0x84, regs.b.get());
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_C));
+        assertEquals(0x0384, regs.getD());
+        assertEquals(0x03, regs.getA());
+        assertEquals(0x84, regs.getB());
+        assertFalse(regs.isCCMasked(CC_N));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testMULZeroSetZero() throws MalformedInstructionException {
-        regs.a.set(0x2);
-        regs.b.set(0x0);
+        regs.setA(0x2);
+        regs.setB(0x0);
         io.writeByte(0x0000, 0x3D);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x0), regs.getD());
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertTrue(regs.cc.isMasked(CC_Z));
+        assertEquals(0x0, regs.getD());
+        assertFalse(regs.isCCMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLoadWordRegisterSetsZero() {
-        io.regs.u.set(0xFFFF);
-        WordRegisterInstruction.loadWordRegister(io, io.regs.u, new UnsignedWord(0x0000), null, false);
-        assertEquals(0, io.regs.u.get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        io.regs.setU(0xFFFF);
+        io.regs.setU(WordRegisterInstruction.loadWordRegister(io, io.regs.getU(), 0x0000, 0));
+        assertEquals(0, io.regs.getU());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testLoadWordRegisterSetsNegative() {
-        io.regs.u.set(0xFFFF);
-        WordRegisterInstruction.loadWordRegister(io, io.regs.u, new UnsignedWord(0x8100), null, false);
-        assertEquals(0x8100, io.regs.u.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        io.regs.setU(0xFFFF);
+        io.regs.setU(WordRegisterInstruction.loadWordRegister(io, io.regs.getU(), 0x8100, 0));
+        assertEquals(0x8100, io.regs.getU());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testLoadWordRegisterSetsNegativeZero() {
-        io.regs.u.set(0xFFFF);
-        WordRegisterInstruction.loadWordRegister(io, io.regs.u, new UnsignedWord(0x8000), null, false);
-        assertEquals(0x8000, io.regs.u.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
+        io.regs.setU(0xFFFF);
+        io.regs.setU(WordRegisterInstruction.loadWordRegister(io, io.regs.getU(), 0x8000, 0));
+        assertEquals(0x8000, io.regs.getU());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testLDSImmediateCalled() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10CE);
         io.writeWord(0x0002, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.s.get());
+        assertEquals(0xDDDD, regs.getS());
     }
 
     @Test
     public void testLDSDirectCalled() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10DE);
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.s.get());
+        assertEquals(0xDDDD, regs.getS());
     }
 
     @Test
     public void testLDSIndexedCalled() throws MalformedInstructionException {
-        regs.s.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setS(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10EE);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.s.get());
+        assertEquals(0xDDDD, regs.getS());
     }
 
     @Test
     public void testLDSExtendedCalled() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10FE);
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.s.get());
+        assertEquals(0xDDDD, regs.getS());
     }
 
     @Test
     public void testLDYImmediateCalled() throws MalformedInstructionException {
-        regs.y.set(0x1234);
+        regs.setY(0x1234);
         io.writeWord(0x0000, 0x108E);
         io.writeWord(0x0002, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.y.get());
+        assertEquals(0xDDDD, regs.getY());
     }
 
     @Test
     public void testLDYDirectCalled() throws MalformedInstructionException {
-        regs.y.set(0x1234);
+        regs.setY(0x1234);
         io.writeWord(0x0000, 0x109E);
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.y.get());
+        assertEquals(0xDDDD, regs.getY());
     }
 
     @Test
     public void testLDYIndexedCalled() throws MalformedInstructionException {
-        regs.y.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setY(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10AE);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.y.get());
+        assertEquals(0xDDDD, regs.getY());
     }
 
     @Test
     public void testLDYExtendedCalled() throws MalformedInstructionException {
-        regs.s.set(0x1234);
+        regs.setS(0x1234);
         io.writeWord(0x0000, 0x10BE);
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.y.get());
+        assertEquals(0xDDDD, regs.getY());
     }
 
     @Test
@@ -409,7 +409,7 @@ public class WordRegisterInstructionTest {
         io.writeByte(0x0000, 0xCC);
         io.writeWord(0x0001, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.getD().get());
+        assertEquals(0xDDDD, regs.getD());
     }
 
     @Test
@@ -418,17 +418,17 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0000, 0xDC0A);
         io.writeWord(0x000A, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.getD().get());
+        assertEquals(0xDDDD, regs.getD());
     }
 
     @Test
     public void testLDDIndexedCalled() throws MalformedInstructionException {
         regs.setD(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0xEC80);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.getD().get());
+        assertEquals(0xDDDD, regs.getD());
     }
 
     @Test
@@ -438,346 +438,346 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.getD().get());
+        assertEquals(0xDDDD, regs.getD());
     }
 
     @Test
     public void testLDUImmediateCalled() throws MalformedInstructionException {
-        regs.u.set(0x1234);
+        regs.setU(0x1234);
         io.writeByte(0x0000, 0xCE);
         io.writeWord(0x0001, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.u.get());
+        assertEquals(0xDDDD, regs.getU());
     }
 
     @Test
     public void testLDUDirectCalled() throws MalformedInstructionException {
-        regs.u.set(0x1234);
+        regs.setU(0x1234);
         io.writeWord(0x0000, 0xDE0A);
         io.writeWord(0x000A, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.u.get());
+        assertEquals(0xDDDD, regs.getU());
     }
 
     @Test
     public void testLDUIndexedCalled() throws MalformedInstructionException {
-        regs.u.set(0x1234);
-        regs.x.set(extendedAddress);
+        regs.setU(0x1234);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0xEE80);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.u.get());
+        assertEquals(0xDDDD, regs.getU());
     }
 
     @Test
     public void testLDUExtendedCalled() throws MalformedInstructionException {
-        regs.u.set(0x1234);
+        regs.setU(0x1234);
         io.writeByte(0x0000, 0xFE);
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.u.get());
+        assertEquals(0xDDDD, regs.getU());
     }
 
     @Test
     public void testLDXImmediateCalled() throws MalformedInstructionException {
-        regs.x.set(0x1234);
+        regs.setX(0x1234);
         io.writeByte(0x0000, 0x8E);
         io.writeWord(0x0001, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.x.get());
+        assertEquals(0xDDDD, regs.getX());
     }
 
     @Test
     public void testLDXDirectCalled() throws MalformedInstructionException {
-        regs.x.set(0x1234);
+        regs.setX(0x1234);
         io.writeWord(0x0000, 0x9E0A);
         io.writeWord(0x000A, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.x.get());
+        assertEquals(0xDDDD, regs.getX());
     }
 
     @Test
     public void testLDXIndexedCalled() throws MalformedInstructionException {
-        regs.x.set(0x1234);
-        regs.y.set(extendedAddress);
+        regs.setX(0x1234);
+        regs.setY(extendedAddress);
         io.writeWord(0x0000, 0xAEA0);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.x.get());
+        assertEquals(0xDDDD, regs.getX());
     }
 
     @Test
     public void testLDXExtendedCalled() throws MalformedInstructionException {
-        regs.x.set(0x1234);
+        regs.setX(0x1234);
         io.writeByte(0x0000, 0xBE);
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0xDDDD);
         cpu.executeInstruction();
-        assertEquals(0xDDDD, regs.x.get());
+        assertEquals(0xDDDD, regs.getX());
     }
 
     @Test
     public void testCompareWordWorksCorrectly() {
-        io.regs.u.set(0x021A);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0x072E), null, false);
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertFalse(regs.cc.isMasked(CC_V));
-        assertTrue(regs.cc.isMasked(CC_N));
-        assertTrue(regs.cc.isMasked(CC_C));
+        io.regs.setU(0x021A);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0x072E, 0));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertFalse(regs.isCCMasked(CC_V));
+        assertTrue(regs.isCCMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testCompareWordSetsZero() {
-        io.regs.u.set(0x021A);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0x021A), null, false);
-        assertTrue(regs.cc.isMasked(CC_Z));
-        assertFalse(regs.cc.isMasked(CC_N));
+        io.regs.setU(0x021A);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0x021A, 0));
+        assertTrue(regs.isCCMasked(CC_Z));
+        assertFalse(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCompareWordSetsNegative() {
-        io.regs.u.set(0x0001);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0x0002), null, false);
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertTrue(regs.cc.isMasked(CC_N));
+        io.regs.setU(0x0001);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0x0002, 0));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertTrue(regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCompareWordSetsOverflow() {
-        io.regs.u.set(0x8000);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0x7FFE), null, false);
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertTrue(regs.cc.isMasked(CC_V));
-        assertFalse(regs.cc.isMasked(CC_C));
+        io.regs.setU(0x8000);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0x7FFE, 0));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertFalse(regs.isCCMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_V));
+        assertFalse(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testCompareWordSetsOverflow1() {
-        io.regs.u.set(0x8000);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0x7FFF), null, false);
-        assertFalse(regs.cc.isMasked(CC_Z));
-        assertFalse(regs.cc.isMasked(CC_N));
-        assertTrue(regs.cc.isMasked(CC_V));
-        assertFalse(regs.cc.isMasked(CC_C));
+        io.regs.setU(0x8000);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0x7FFF, 0));
+        assertFalse(regs.isCCMasked(CC_Z));
+        assertFalse(regs.isCCMasked(CC_N));
+        assertTrue(regs.isCCMasked(CC_V));
+        assertFalse(regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testCompareWordRegression1() {
-        io.regs.u.set(0xFE00);
-        WordRegisterInstruction.compareWord(io, io.regs.u, new UnsignedWord(0xF800), null, false);
-        assertEquals(0xFE00, io.regs.u.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        io.regs.setU(0xFE00);
+        io.regs.setU(WordRegisterInstruction.compareWord(io, io.regs.getU(), 0xF800, 0));
+        assertEquals(0xFE00, io.regs.getU());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPUImmediateCorrect() throws MalformedInstructionException {
-        regs.u.set(0xFE00);
+        regs.setU(0xFE00);
         io.writeWord(0x0000, 0x1183);
         io.writeWord(0x0002, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPUDirectCorrect() throws MalformedInstructionException {
-        regs.u.set(0xFE00);
+        regs.setU(0xFE00);
         io.writeWord(0x0000, 0x1193);
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPUIndexedCalled() throws MalformedInstructionException {
-        regs.u.set(0xFE00);
-        regs.x.set(extendedAddress);
+        regs.setU(0xFE00);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x11A3);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPUExtendedCalled() throws MalformedInstructionException {
-        regs.u.set(0xFE00);
+        regs.setU(0xFE00);
         io.writeWord(0x0000, 0x11B3);
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPSImmediateCorrect() throws MalformedInstructionException {
-        regs.s.set(0xFE00);
+        regs.setS(0xFE00);
         io.writeWord(0x0000, 0x118C);
         io.writeWord(0x0002, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPSDirectCorrect() throws MalformedInstructionException {
-        regs.s.set(0xFE00);
+        regs.setS(0xFE00);
         io.writeWord(0x0000, 0x119C);
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPSIndexedCalled() throws MalformedInstructionException {
-        regs.s.set(0xFE00);
-        regs.x.set(extendedAddress);
+        regs.setS(0xFE00);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x11AC);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPSExtendedCalled() throws MalformedInstructionException {
-        regs.s.set(0xFE00);
+        regs.setS(0xFE00);
         io.writeWord(0x0000, 0x11BC);
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPYImmediateCorrect() throws MalformedInstructionException {
-        regs.y.set(0xFE00);
+        regs.setY(0xFE00);
         io.writeWord(0x0000, 0x108C);
         io.writeWord(0x0002, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPYDirectCorrect() throws MalformedInstructionException {
-        regs.y.set(0xFE00);
+        regs.setY(0xFE00);
         io.writeWord(0x0000, 0x109C);
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPYIndexedCalled() throws MalformedInstructionException {
-        regs.y.set(0xFE00);
-        regs.x.set(extendedAddress);
+        regs.setY(0xFE00);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10AC);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPYExtendedCalled() throws MalformedInstructionException {
-        regs.y.set(0xFE00);
+        regs.setY(0xFE00);
         io.writeWord(0x0000, 0x10BC);
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPXImmediateCorrect() throws MalformedInstructionException {
-        regs.x.set(0xFE00);
+        regs.setX(0xFE00);
         io.writeByte(0x0000, 0x8C);
         io.writeWord(0x0001, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPXDirectCorrect() throws MalformedInstructionException {
-        regs.x.set(0xFE00);
+        regs.setX(0xFE00);
         io.writeWord(0x0000, 0x9C0A);
         io.writeWord(0x000A, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPXIndexedCalled() throws MalformedInstructionException {
-        regs.x.set(0xFE00);
-        regs.y.set(extendedAddress);
+        regs.setX(0xFE00);
+        regs.setY(extendedAddress);
         io.writeWord(0x0000, 0xACA0);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPXExtendedCalled() throws MalformedInstructionException {
-        regs.x.set(0xFE00);
+        regs.setX(0xFE00);
         io.writeByte(0x0000, 0xBC);
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -786,10 +786,10 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0000, 0x1083);
         io.writeWord(0x0002, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -799,24 +799,24 @@ public class WordRegisterInstructionTest {
         io.writeByte(0x0002, 0x0A);
         io.writeWord(0x000A, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testCMPDIndexedCalled() throws MalformedInstructionException {
         regs.setD(0xFE00);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0x10A3);
         io.writeByte(0x0002, 0x80);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -826,95 +826,95 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0002, extendedAddress);
         io.writeWord(extendedAddress, 0xF800);
         cpu.executeInstruction();
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
     public void testLoadEffectiveAddressXWorksCorrectly() throws MalformedInstructionException {
-        regs.y.set(extendedAddress);
-        regs.x.set(0xBEEF);
+        regs.setY(extendedAddress);
+        regs.setX(0xBEEF);
         io.writeWord(0x0000, 0x30A0);
         io.writeWord(extendedAddress, 0x072E);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.x.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertEquals(extendedAddress, regs.getX());
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLoadEffectiveAddressYWorksCorrectly() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
-        regs.y.set(0xBEEF);
+        regs.setX(extendedAddress);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x3180);
         io.writeWord(extendedAddress, 0x072E);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.y.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertEquals(extendedAddress, regs.getY());
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLoadEffectiveAddressYWorksCorrectlySetsZero() throws MalformedInstructionException {
-        regs.x.set(0x0000);
-        regs.y.set(0xBEEF);
+        regs.setX(0x0000);
+        regs.setY(0xBEEF);
         io.writeWord(0x0000, 0x3180);
         io.writeWord(extendedAddress, 0x072E);
         cpu.executeInstruction();
-        assertEquals(0x0000, regs.y.get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
+        assertEquals(0x0000, regs.getY());
+        assertTrue(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLoadEffectiveAddressSWorksCorrectly() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
-        regs.s.set(0xBEEF);
+        regs.setX(extendedAddress);
+        regs.setS(0xBEEF);
         io.writeWord(0x0000, 0x3280);
         io.writeWord(extendedAddress, 0x072E);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.s.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertEquals(extendedAddress, regs.getS());
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testLoadEffectiveAddressUWorksCorrectly() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
-        regs.u.set(0xBEEF);
+        regs.setX(extendedAddress);
+        regs.setU(0xBEEF);
         io.writeWord(0x0000, 0x3380);
         io.writeWord(extendedAddress, 0x072E);
         cpu.executeInstruction();
-        assertEquals(extendedAddress, regs.u.get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
+        assertEquals(extendedAddress, regs.getU());
+        assertFalse(io.regs.isCCMasked(CC_Z));
     }
 
     @Test
     public void testAddWordWorksCorrectly() {
-        WordRegisterInstruction.addWord(io, new UnsignedWord(0x0101), new UnsignedWord(0x0101), null, true);
-        assertEquals(0x0202, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.addWord(io, 0x0101, 0x0101, 0));
+        assertEquals(0x0202, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testAddWordSetsNegativeOverflow() {
-        WordRegisterInstruction.addWord(io, new UnsignedWord(0x7FFF), new UnsignedWord(0x0001), null, true);
-        assertEquals(0x8000, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.addWord(io, 0x7FFF, 0x0001, 0));
+        assertEquals(0x8000, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testAddWordSetsZeroOverflowCarry() {
-        WordRegisterInstruction.addWord(io, new UnsignedWord(0xFFFF), new UnsignedWord(0x0001), null, true);
-        assertEquals(0x0000, io.regs.getD().get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.addWord(io, 0xFFFF, 0x0001, 0));
+        assertEquals(0x0000, io.regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
@@ -923,11 +923,11 @@ public class WordRegisterInstructionTest {
         io.writeByte(0x0000, 0xC3);
         io.writeWord(0x0001, 0x0001);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x0000), regs.getD());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x0000, regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
@@ -936,25 +936,25 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0000, 0xD30A);
         io.writeWord(0x000A, 0x0001);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x0000), regs.getD());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x0000, regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testAddDIndexedCorrect() throws MalformedInstructionException {
         regs.setD(0xFFFF);
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         io.writeWord(0x0000, 0xE380);
         io.writeWord(extendedAddress, 0x0001);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x0000), regs.getD());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x0000, regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
@@ -964,71 +964,71 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0x0001);
         cpu.executeInstruction();
-        assertEquals(new UnsignedWord(0x0000), regs.getD());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x0000, regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDWorksSetsOverflow() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0x8000), new UnsignedWord(0x7FFF), null, true);
-        assertEquals(0x01, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0x8000, 0x7FFF, 0));
+        assertEquals(0x01, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDWorksSetsCarry() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0x7FFF), new UnsignedWord(0x8000), null, true);
-        assertEquals(0xFFFF, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertTrue(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0x7FFF, 0x8000, 0));
+        assertEquals(0xFFFF, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertTrue(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDWorksCorrectly() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0x6A00), new UnsignedWord(0x2700), null, true);
-        assertEquals(0x4300, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0x6A00, 0x2700, 0));
+        assertEquals(0x4300, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDWorksSetsZero() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0x0001), new UnsignedWord(0x0001), null, true);
-        assertEquals(0x0000, io.regs.getD().get());
-        assertTrue(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0x0001, 0x0001, 0));
+        assertEquals(0x0000, io.regs.getD());
+        assertTrue(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDWorksSetsNegativeSetsCarry() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0x8000), new UnsignedWord(0x8001), null, true);
-        assertEquals(0xFFFF, io.regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertTrue(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_V));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0x8000, 0x8001, 0));
+        assertEquals(0xFFFF, io.regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertTrue(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_V));
     }
 
     @Test
     public void testSubtractDRegression1() {
-        WordRegisterInstruction.subtractWord(io, new UnsignedWord(0xFE00), new UnsignedWord(0xF800), null, true);
-        assertEquals(0x0600, regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
-        assertFalse(io.regs.cc.isMasked(CC_N));
+        io.regs.setD(WordRegisterInstruction.subtractWord(io, 0xFE00, 0xF800, 0));
+        assertEquals(0x0600, regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
+        assertFalse(io.regs.isCCMasked(CC_N));
     }
 
     @Test
@@ -1037,39 +1037,39 @@ public class WordRegisterInstructionTest {
         io.writeByte(0x0000, 0x83);
         io.writeWord(0x0001, 0x7FFF);
         cpu.executeInstruction();
-        assertEquals(0x01, regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x01, regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDDirectCorrect() throws MalformedInstructionException {
-        regs.dp.set(0x10);
+        regs.setDP(0x10);
         regs.setD(0x8000);
         io.writeWord(0x0000, 0x9301);
         io.writeWord(0x1001, 0x7FFF);
         cpu.executeInstruction();
-        assertEquals(0x01, regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x01, regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
     public void testSubtractDIndexedCorrect() throws MalformedInstructionException {
-        regs.x.set(extendedAddress);
+        regs.setX(extendedAddress);
         regs.setD(0x8000);
         io.writeWord(0x0000, 0xA380);
         io.writeWord(extendedAddress, 0x7FFF);
         cpu.executeInstruction();
-        assertEquals(0x01, regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x01, regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 
     @Test
@@ -1079,10 +1079,10 @@ public class WordRegisterInstructionTest {
         io.writeWord(0x0001, extendedAddress);
         io.writeWord(extendedAddress, 0x7FFF);
         cpu.executeInstruction();
-        assertEquals(0x01, regs.getD().get());
-        assertFalse(io.regs.cc.isMasked(CC_Z));
-        assertFalse(io.regs.cc.isMasked(CC_N));
-        assertTrue(io.regs.cc.isMasked(CC_V));
-        assertFalse(io.regs.cc.isMasked(CC_C));
+        assertEquals(0x01, regs.getD());
+        assertFalse(io.regs.isCCMasked(CC_Z));
+        assertFalse(io.regs.isCCMasked(CC_N));
+        assertTrue(io.regs.isCCMasked(CC_V));
+        assertFalse(io.regs.isCCMasked(CC_C));
     }
 }
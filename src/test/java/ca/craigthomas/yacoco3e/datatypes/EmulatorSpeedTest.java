@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.datatypes;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EmulatorSpeedTest
+{
+    @Test
+    public void testEmulatorSpeedMultipliersCorrect() {
+        assertEquals(1, EmulatorSpeed.NORMAL.getMultiplier());
+        assertEquals(2, EmulatorSpeed.DOUBLE.getMultiplier());
+        assertEquals(4, EmulatorSpeed.QUADRUPLE.getMultiplier());
+        assertEquals(8, EmulatorSpeed.OCTUPLE.getMultiplier());
+        assertTrue(EmulatorSpeed.UNCAPPED.isUncapped());
+        assertFalse(EmulatorSpeed.NORMAL.isUncapped());
+    }
+
+    @Test
+    public void testEmulatorSpeedToStringCorrect() {
+        assertEquals("1x", EmulatorSpeed.NORMAL.toString());
+        assertEquals("8x", EmulatorSpeed.OCTUPLE.toString());
+        assertEquals("uncapped", EmulatorSpeed.UNCAPPED.toString());
+    }
+
+    @Test
+    public void testFromStringParsesMultipliers() {
+        assertEquals(EmulatorSpeed.NORMAL, EmulatorSpeed.fromString("1"));
+        assertEquals(EmulatorSpeed.DOUBLE, EmulatorSpeed.fromString("2x"));
+        assertEquals(EmulatorSpeed.QUADRUPLE, EmulatorSpeed.fromString("4"));
+        assertEquals(EmulatorSpeed.OCTUPLE, EmulatorSpeed.fromString("8X"));
+    }
+
+    @Test
+    public void testFromStringParsesUncapped() {
+        assertEquals(EmulatorSpeed.UNCAPPED, EmulatorSpeed.fromString("uncapped"));
+        assertEquals(EmulatorSpeed.UNCAPPED, EmulatorSpeed.fromString("turbo"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testFromStringThrowsOnUnknownSpeed() {
+        EmulatorSpeed.fromString("3");
+    }
+}
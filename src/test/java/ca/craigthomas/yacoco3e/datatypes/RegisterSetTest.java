@@ -7,7 +7,8 @@ package ca.craigthomas.yacoco3e.datatypes;
 import org.junit.Before;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import static ca.craigthomas.yacoco3e.datatypes.RegisterSet.*;
+import static org.junit.Assert.*;
 
 public class RegisterSetTest
 {
@@ -20,28 +21,70 @@ public class RegisterSetTest
 
     @Test
     public void testSetDSetsAAndBCorrectly() {
-        regs.setD(new UnsignedWord(0xDEAD));
-        assertEquals(new UnsignedByte(0xDE), regs.a);
-        assertEquals(new UnsignedByte(0xAD), regs.b);
+        regs.setD(0xDEAD);
+        assertEquals(0xDE, regs.getA());
+        assertEquals(0xAD, regs.getB());
     }
 
     @Test
     public void testAAndBSetsDCorrectly() {
-        regs.a.set(new UnsignedByte(0xDE));
-        regs.b.set(new UnsignedByte(0xAD));
-        assertEquals(new UnsignedWord(0xDEAD), regs.getD());
+        regs.setA(0xDE);
+        regs.setB(0xAD);
+        assertEquals(0xDEAD, regs.getD());
     }
 
     @Test
     public void testRegisterSetToStringWorksCorrectly() {
-        regs.a.set(0x01);
-        regs.b.set(0x02);
-        regs.x.set(0x0003);
-        regs.y.set(0x0004);
-        regs.u.set(0x0005);
-        regs.s.set(0x0006);
-        regs.cc.set(0x07);
-        regs.dp.set(0x08);
+        regs.setA(0x01);
+        regs.setB(0x02);
+        regs.setX(0x0003);
+        regs.setY(0x0004);
+        regs.setU(0x0005);
+        regs.setS(0x0006);
+        regs.setCC(0x07);
+        regs.setDP(0x08);
         assertEquals("PC:$0000 A:$01 B:$02 D:$0102 X:$0003 Y:$0004 U:$0005 S:$0006 CC:$07 DP:$08", regs.toString());
     }
+
+    @Test
+    public void testLazyFlagsResolvedWhenRead() {
+        assertTrue(regs.isLazyFlags());
+        regs.setCC(CC_C | CC_I);
+        regs.setAddFlags8(0x80, 0x80, 0x100);
+        assertEquals(CC_I | CC_Z | CC_V | CC_C, regs.getCC());
+    }
+
+    @Test
+    public void testLazyIncrementKeepsPendingCarry() {
+        regs.setSubtractFlags8(0x00, 0x01, -1);
+        regs.setIncrementFlags8(0x7F, 0x80);
+        assertTrue(regs.isCCMasked(CC_C));
+        assertTrue(regs.isCCMasked(CC_N | CC_V));
+        assertFalse(regs.isCCMasked(CC_Z));
+    }
+
+    @Test
+    public void testSetCCDiscardsPendingFlags() {
+        regs.setLogicFlags16(0);
+        regs.setCC(CC_N);
+        assertEquals(CC_N, regs.getCC());
+    }
+
+    @Test
+    public void testEagerFlagsMatchLazyFlags() {
+        RegisterSet eager = new RegisterSet();
+        eager.setLazyFlags(false);
+        for (int a = 0; a < 256; a++) {
+            for (int b = 0; b < 256; b += 3) {
+                regs.setAddFlags8(a, b, a + b);
+                eager.setAddFlags8(a, b, a + b);
+                assertEquals(eager.getCC(), regs.getCC());
+                regs.setSubtractFlags8(a, b, a - b);
+                eager.setSubtractFlags8(a, b, a - b);
+                regs.orCC(CC_E);
+                eager.orCC(CC_E);
+                assertEquals(eager.getCC(), regs.getCC());
+            }
+        }
+    }
 }
@@ -54,6 +54,20 @@ public class UnsignedWordTest
         assertEquals(0x00FF, result.get());
     }
 
+    @Test
+    public void testHighIntSetsHighByteOnly() {
+        UnsignedWord result = new UnsignedWord(0x1234);
+        result.setHigh(0x1AB);
+        assertEquals(0xAB34, result.get());
+    }
+
+    @Test
+    public void testLowIntSetsLowByteOnly() {
+        UnsignedWord result = new UnsignedWord(0x1234);
+        result.setLow(0x1AB);
+        assertEquals(0x12AB, result.get());
+    }
+
     @Test
     public void testToString() {
         UnsignedWord result = new UnsignedWord(0xABCD);
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import ca.craigthomas.yacoco3e.components.Memory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BatchRunnerTest
+{
+    private File romFile;
+    private File otherRomFile;
+    private File manifestFile;
+
+    private static File writeROM(int value) throws IOException {
+        /* A 32K ROM with a reset vector of $C000 that runs:
+         *
+         *   C000  LDA #value
+         *   C002  STA $0400
+         *   C005  BRA $C005
+         */
+        byte[] rom = new byte[0x8000];
+        byte[] program = {(byte) 0x86, (byte) value, (byte) 0xB7, 0x04, 0x00, 0x20, (byte) 0xFE};
+        System.arraycopy(program, 0, rom, 0x4000, program.length);
+        rom[0x3FFE] = (byte) 0xC0;
+        rom[0x3FFF] = 0x00;
+        File file = File.createTempFile("batch", ".rom");
+        Files.write(file.toPath(), rom);
+        return file;
+    }
+
+    private static BatchJob createJob(String name, String systemROM) {
+        BatchJob job = new BatchJob();
+        job.setName(name);
+        job.setSystemROM(systemROM);
+        job.setCycles(2000L);
+        job.setUntilPC("$C005");
+        return job;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        romFile = writeROM(0x42);
+        otherRomFile = writeROM(0x24);
+        manifestFile = File.createTempFile("batch", ".yml");
+    }
+
+    @After
+    public void tearDown() {
+        romFile.delete();
+        otherRomFile.delete();
+        manifestFile.delete();
+    }
+
+    @Test
+    public void testRunEmptyManifestReturnsNoResults() {
+        BatchRunner runner = new BatchRunner(new BatchManifest(), 2);
+        assertTrue(runner.run().isEmpty());
+    }
+
+    @Test
+    public void testIdenticalJobsProduceIdenticalHashes() {
+        BatchManifest manifest = new BatchManifest();
+        manifest.setSystemROM(romFile.getPath());
+        List<BatchJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            jobs.add(createJob("job" + i, null));
+        }
+        manifest.setJobs(jobs);
+
+        List<BatchResult> results = new BatchRunner(manifest, 4).run();
+        assertEquals(8, results.size());
+        assertTrue(BatchRunner.allSucceeded(results));
+        for (int i = 0; i < 8; i++) {
+            assertEquals("job" + i, results.get(i).getName());
+            assertEquals(results.get(0).getMemoryHash(), results.get(i).getMemoryHash());
+            assertEquals(results.get(0).getScreenHash(), results.get(i).getScreenHash());
+            assertEquals(results.get(0).getCycles(), results.get(i).getCycles());
+        }
+    }
+
+    @Test
+    public void testDifferentJobsProduceDifferentMemoryHashes() {
+        BatchManifest manifest = new BatchManifest();
+        List<BatchJob> jobs = new ArrayList<>();
+        jobs.add(createJob("first", romFile.getPath()));
+        jobs.add(createJob("second", otherRomFile.getPath()));
+        manifest.setJobs(jobs);
+
+        List<BatchResult> results = new BatchRunner(manifest, 2).run();
+        assertTrue(BatchRunner.allSucceeded(results));
+        assertNotEquals(results.get(0).getMemoryHash(), results.get(1).getMemoryHash());
+    }
+
+    @Test
+    public void testMissingSystemROMReportsError() {
+        BatchManifest manifest = new BatchManifest();
+        List<BatchJob> jobs = new ArrayList<>();
+        jobs.add(createJob("missing", null));
+        jobs.add(createJob("present", romFile.getPath()));
+        manifest.setJobs(jobs);
+
+        List<BatchResult> results = new BatchRunner(manifest, 2).run();
+        assertEquals(HeadlessRunner.EXIT_ERROR, results.get(0).getExitCode());
+        assertNull(results.get(0).getMemoryHash());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(BatchRunner.allSucceeded(results));
+    }
+
+    @Test
+    public void testMalformedStopConditionReportsError() {
+        BatchManifest manifest = new BatchManifest();
+        BatchJob job = createJob("bad", romFile.getPath());
+        job.setUntilMemory("$0400");
+        List<BatchJob> jobs = new ArrayList<>();
+        jobs.add(job);
+        manifest.setJobs(jobs);
+
+        List<BatchResult> results = new BatchRunner(manifest, 1).run();
+        assertEquals(HeadlessRunner.EXIT_ERROR, results.get(0).getExitCode());
+    }
+
+    @Test
+    public void testParseManifestReadsJobs() throws IOException {
+        String yaml = "systemROM: " + romFile.getPath() + "\n" +
+                "jobs:\n" +
+                "  - name: boot\n" +
+                "    cycles: 5000\n" +
+                "    untilPC: $C005\n" +
+                "  - name: store\n" +
+                "    untilMemory: $0400=$42\n";
+        Files.write(manifestFile.toPath(), yaml.getBytes());
+
+        BatchManifest manifest = BatchManifest.parseManifest(manifestFile.getPath());
+        assertEquals(romFile.getPath(), manifest.getSystemROM());
+        assertEquals(2, manifest.getJobs().size());
+        assertEquals("boot", manifest.getJobs().get(0).getName());
+        assertEquals(Long.valueOf(5000), manifest.getJobs().get(0).getCycles());
+        assertEquals("$C005", manifest.getJobs().get(0).getUntilPC());
+        assertEquals("$0400=$42", manifest.getJobs().get(1).getUntilMemory());
+
+        List<BatchResult> results = new BatchRunner(manifest, 2).run();
+        assertTrue(BatchRunner.allSucceeded(results));
+    }
+
+    @Test
+    public void testManifestIdleSkipAppliesToEveryJob() throws IOException {
+        String yaml = "systemROM: " + romFile.getPath() + "\n" +
+                "idleSkip: false\n" +
+                "jobs:\n" +
+                "  - name: boot\n" +
+                "    cycles: 1000\n";
+        Files.write(manifestFile.toPath(), yaml.getBytes());
+
+        BatchManifest manifest = BatchManifest.parseManifest(manifestFile.getPath());
+        assertFalse(manifest.isIdleSkip());
+        HeadlessRunner runner = manifest.getJobs().get(0).createRunner(manifest);
+        assertFalse(runner.getMachine().isIdleLoopDetectionEnabled());
+    }
+
+    @Test
+    public void testManifestRAMSizeIsDefaultForJobs() throws IOException {
+        String yaml = "systemROM: " + romFile.getPath() + "\n" +
+                "ramSize: 2M\n" +
+                "jobs:\n" +
+                "  - name: default\n" +
+                "  - name: override\n" +
+                "    ramSize: 128K\n";
+        Files.write(manifestFile.toPath(), yaml.getBytes());
+
+        BatchManifest manifest = BatchManifest.parseManifest(manifestFile.getPath());
+        HeadlessRunner defaultRunner = manifest.getJobs().get(0).createRunner(manifest);
+        HeadlessRunner overrideRunner = manifest.getJobs().get(1).createRunner(manifest);
+        assertEquals(Memory.MEM_2M, defaultRunner.getMachine().getMemory().getRAMSize());
+        assertEquals(Memory.MEM_128K, overrideRunner.getMachine().getMemory().getRAMSize());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvalidManifestRAMSizeThrows() {
+        BatchManifest manifest = new BatchManifest();
+        manifest.setSystemROM(romFile.getPath());
+        manifest.setRamSize("3M");
+        new BatchJob().createRunner(manifest);
+    }
+
+    @Test
+    public void testParseManifestReturnsNullOnMissingFile() {
+        assertNull(BatchManifest.parseManifest("this_file_does_not_exist.yml"));
+    }
+
+    @Test
+    public void testParseManifestReturnsNullOnMalformedYAML() throws IOException {
+        Files.write(manifestFile.toPath(), "jobs: [\n  - name: boot\n".getBytes());
+        assertNull(BatchManifest.parseManifest(manifestFile.getPath()));
+    }
+
+    @Test
+    public void testParseManifestReturnsNullOnUnknownSetting() throws IOException {
+        Files.write(manifestFile.toPath(), "speed: fast\njobs:\n  - name: boot\n".getBytes());
+        assertNull(BatchManifest.parseManifest(manifestFile.getPath()));
+    }
+
+    @Test
+    public void testParseManifestReturnsNullOnWrongShape() throws IOException {
+        Files.write(manifestFile.toPath(), "- just\n- a list\n".getBytes());
+        assertNull(BatchManifest.parseManifest(manifestFile.getPath()));
+        Files.write(manifestFile.toPath(), "jobs: 5\n".getBytes());
+        assertNull(BatchManifest.parseManifest(manifestFile.getPath()));
+    }
+
+    @Test
+    public void testToCSVFormatsResult() {
+        BatchResult result = new BatchResult("test", 0, 100, 5_000_000L, "abc", "def");
+        assertEquals("test,0,100,5,abc,def", result.toCSV());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class HeadlessRunnerTest
+{
+    private File romFile;
+
+    @Before
+    public void setUp() throws IOException {
+        /* A 32K ROM with a reset vector of $C000 that runs:
+         *
+         *   C000  LDA #$42
+         *   C002  STA $0400
+         *   C005  BRA $C005
+         */
+        byte[] rom = new byte[0x8000];
+        byte[] program = {(byte) 0x86, 0x42, (byte) 0xB7, 0x04, 0x00, 0x20, (byte) 0xFE};
+        System.arraycopy(program, 0, rom, 0x4000, program.length);
+        rom[0x3FFE] = (byte) 0xC0;
+        rom[0x3FFF] = 0x00;
+        romFile = File.createTempFile("headless", ".rom");
+        Files.write(romFile.toPath(), rom);
+    }
+
+    @After
+    public void tearDown() {
+        romFile.delete();
+    }
+
+    @Test
+    public void testRunWithoutSystemROMReturnsError() {
+        HeadlessRunner runner = new HeadlessRunner.Builder().build();
+        assertEquals(HeadlessRunner.EXIT_ERROR, runner.run());
+    }
+
+    @Test
+    public void testRunWithNoStopConditionRunsForCycles() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .setMaxCycles(1000)
+                .build();
+        assertEquals(HeadlessRunner.EXIT_SUCCESS, runner.run());
+        assertTrue(runner.getMachine().getTotalCycles() >= 1000);
+    }
+
+    @Test
+    public void testRunStopsWhenPCReached() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .setStopPC(0xC005)
+                .build();
+        assertEquals(HeadlessRunner.EXIT_SUCCESS, runner.run());
+        assertEquals(0xC005, runner.getMachine().getIOController().regs.getPC());
+        assertEquals(0x42, runner.getMachine().getIOController().regs.getA());
+    }
+
+    @Test
+    public void testRunStopsWhenMemoryConditionMet() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .setStopMemory(0x0400, 0x42)
+                .build();
+        assertEquals(HeadlessRunner.EXIT_SUCCESS, runner.run());
+        assertTrue(runner.getMachine().getTotalCycles() < 100);
+    }
+
+    @Test
+    public void testRunReturnsConditionNotMetWhenCyclesExhausted() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .setStopPC(0x1234)
+                .setMaxCycles(1000)
+                .build();
+        assertEquals(HeadlessRunner.EXIT_CONDITION_NOT_MET, runner.run());
+    }
+
+    @Test
+    public void testIdleSkipEnabledByDefault() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .build();
+        assertTrue(runner.getMachine().isIdleLoopDetectionEnabled());
+    }
+
+    @Test
+    public void testSetIdleSkipFalseTurnsOffIdleLoopDetection() {
+        HeadlessRunner runner = new HeadlessRunner.Builder()
+                .setSystemROM(romFile.getPath())
+                .setIdleSkip(false)
+                .setStopPC(0xC005)
+                .build();
+        assertFalse(runner.getMachine().isIdleLoopDetectionEnabled());
+        assertEquals(HeadlessRunner.EXIT_SUCCESS, runner.run());
+        assertEquals(0x42, runner.getMachine().getIOController().regs.getA());
+    }
+
+    @Test
+    public void testParseHexAcceptsPrefixes() {
+        assertEquals(0xC000, HeadlessRunner.parseHex("C000"));
+        assertEquals(0xC000, HeadlessRunner.parseHex("$C000"));
+        assertEquals(0xC000, HeadlessRunner.parseHex("0xc000"));
+    }
+
+    @Test(expected=NumberFormatException.class)
+    public void testParseHexThrowsOnInvalidValue() {
+        HeadlessRunner.parseHex("XYZ");
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2025 Craig Thomas
+ * This project uses an MIT style license - see LICENSE for details.
+ */
+package ca.craigthomas.yacoco3e.runner;
+
+import ca.craigthomas.yacoco3e.datatypes.EmulatorSpeed;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RunnerTest
+{
+    @Test
+    public void testParseSpeedAcceptsValidSpeeds() {
+        assertEquals(EmulatorSpeed.UNCAPPED, Runner.parseSpeed("uncapped"));
+        assertNotNull(Runner.parseSpeed("2x"));
+    }
+
+    @Test
+    public void testParseSpeedReturnsNullForInvalidSpeed() {
+        assertNull(Runner.parseSpeed("3"));
+        assertNull(Runner.parseSpeed("fast"));
+    }
+}